@@ -0,0 +1,29 @@
+package org.example.bidflow.data;
+
+/**
+ * 입찰 거부 사유 코드 (클라이언트가 재시도 여부를 판단하는 기계 판독용 코드)
+ *
+ * retryable = true 인 코드는 같은 경매에 다시 입찰해 볼 수 있는 경우입니다.
+ * (금액 부족은 응답의 minimumBid 이상으로, 서버 오류는 잠시 후 재시도)
+ */
+public enum BidErrorCode {
+    AUTH_REQUIRED(false),           // 인증 토큰 없음
+    TOKEN_EXPIRED(false),           // 토큰 만료 / 유효하지 않음
+    AUCTION_NOT_STARTED(false),     // 경매 시작 전
+    AUCTION_ENDED(false),           // 경매 종료
+    ALREADY_HIGHEST_BIDDER(false),  // 이미 최고 입찰자
+    BID_TOO_LOW(true),              // 현재 최고가 이하
+    BELOW_MIN_INCREMENT(true),      // 최소 입찰 단위 미달
+    BID_REJECTED(false),            // 기타 비즈니스 규칙 위반
+    INTERNAL_ERROR(true);           // 서버 오류
+
+    private final boolean retryable;
+
+    BidErrorCode(boolean retryable) {
+        this.retryable = retryable;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
@@ -6,18 +6,13 @@ import org.example.bidflow.domain.auction.dto.AuctionDetailResponse;
 import org.example.bidflow.domain.auction.dto.AuctionBidDetailResponse;
 import org.example.bidflow.domain.auction.service.AuctionService;
 import org.example.bidflow.global.dto.RsData;
+import org.example.bidflow.global.messaging.sse.AuctionSseHub;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.TimeUnit;
-import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,47 +20,7 @@ import java.util.Set;
 public class AuctionController {
 
     private final AuctionService auctionService;
-
-    @Autowired
-    private SimpMessagingTemplate simpMessagingTemplate;
-
-    @Autowired
-    private RedisTemplate<String, String> redisTemplate;
-
-    @MessageMapping("/auction/participant/join")
-    public void joinParticipant(@Payload Map<String, String> payload) {
-        String auctionId = payload.get("auctionId");
-        String userUUID = payload.get("userUUID");
-        String key = "auction:" + auctionId + ":participant:" + userUUID;
-        redisTemplate.opsForValue().set(key, "true", 2, TimeUnit.MINUTES);
-        broadcastParticipantCount(auctionId);
-    }
-
-    @MessageMapping("/auction/participant/ping")
-    public void pingParticipant(@Payload Map<String, String> payload) {
-        String auctionId = payload.get("auctionId");
-        String userUUID = payload.get("userUUID");
-        String key = "auction:" + auctionId + ":participant:" + userUUID;
-        redisTemplate.opsForValue().set(key, "true", 2, TimeUnit.MINUTES);
-        broadcastParticipantCount(auctionId);
-    }
-
-    @MessageMapping("/auction/participant/leave")
-    public void leaveParticipant(@Payload Map<String, String> payload) {
-        String auctionId = payload.get("auctionId");
-        String userUUID = payload.get("userUUID");
-        String key = "auction:" + auctionId + ":participant:" + userUUID;
-        redisTemplate.delete(key);
-        broadcastParticipantCount(auctionId);
-    }
-
-    private void broadcastParticipantCount(String auctionId) {
-        // SCAN or KEYS to count participants
-        Set<String> keys = redisTemplate.keys("auction:" + auctionId + ":participant:*");
-        int count = (keys != null) ? keys.size() : 0;
-        simpMessagingTemplate.convertAndSend("/sub/auction/" + auctionId,
-                java.util.Collections.singletonMap("participantCount", count));
-    }
+    private final AuctionSseHub auctionSseHub;
 
     @GetMapping
     public ResponseEntity<RsData<List<AuctionCheckResponse>>> getAllAuctions(
@@ -98,4 +53,12 @@ public class AuctionController {
         AuctionBidDetailResponse response = auctionService.getAuctionBidDetail(auctionId);
         return ResponseEntity.ok(response);
     }
+
+    // 관전용 실시간 가격 스트림 (SSE, 읽기 전용 - 입찰은 STOMP 사용)
+    // 재연결 시 브라우저가 보내는 Last-Event-ID 이후 누락분만 전송
+    @GetMapping(value = "/{auctionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAuction(@PathVariable Long auctionId,
+                                    @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return auctionSseHub.subscribe(auctionId, lastEventId);
+    }
 }
\ No newline at end of file
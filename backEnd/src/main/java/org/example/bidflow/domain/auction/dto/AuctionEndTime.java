@@ -0,0 +1,9 @@
+package org.example.bidflow.domain.auction.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 낙찰 일괄 처리 대상 경매 (낙찰 처리에 필요한 종료 시각만 조회, 상품 연관 로딩 없음)
+ */
+public record AuctionEndTime(Long auctionId, LocalDateTime endTime) {
+}
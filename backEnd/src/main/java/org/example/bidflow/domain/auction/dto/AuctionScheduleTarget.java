@@ -0,0 +1,12 @@
+package org.example.bidflow.domain.auction.dto;
+
+import org.example.bidflow.data.AuctionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 복구 대상 경매 (스케줄 등록에 필요한 컬럼만 조회, 상품 / 낙찰자 연관 로딩 없음)
+ */
+public record AuctionScheduleTarget(Long auctionId, AuctionStatus status,
+                                    LocalDateTime startTime, LocalDateTime endTime) {
+}
@@ -17,7 +17,11 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder(toBuilder = true)
-@Table(name = "AUCTION_TABLE")
+@Table(name = "AUCTION_TABLE", indexes = {
+        // 마감이 지난 경매를 상태별로 찾는 스위퍼 / 복구 쿼리용
+        @Index(name = "IDX_AUCTION_STATUS_END_TIME", columnList = "STATUS, END_TIME"),
+        @Index(name = "IDX_AUCTION_STATUS_START_TIME", columnList = "STATUS, START_TIME")
+})
 public class Auction {
 
         @Id
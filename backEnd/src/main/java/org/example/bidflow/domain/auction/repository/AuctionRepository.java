@@ -1,13 +1,19 @@
 package org.example.bidflow.domain.auction.repository;
 
 import org.example.bidflow.data.AuctionStatus;
+import org.example.bidflow.domain.auction.dto.AuctionEndTime;
+import org.example.bidflow.domain.auction.dto.AuctionScheduleTarget;
 import org.example.bidflow.domain.auction.entity.Auction;
 import org.example.bidflow.domain.category.entity.Category;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,11 +35,60 @@ public interface AuctionRepository extends JpaRepository<Auction,Long> {
     @Query("SELECT a FROM Auction a JOIN FETCH a.product p LEFT JOIN FETCH p.category WHERE a.auctionId = :auctionId")
     Optional<Auction> findByAuctionId(Long auctionId);
 
-    // 스케줄 복구를 위해 필요한 경매들 조회 (UPCOMING 또는 ONGOING 상태)
-    @Query("SELECT a FROM Auction a JOIN FETCH a.product p LEFT JOIN FETCH p.category " +
-           "WHERE a.status IN ('UPCOMING', 'ONGOING') " +
-           "AND (a.startTime > :now OR a.endTime > :now)")
-    List<Auction> findAuctionsNeedingSchedule(LocalDateTime now);
+    // 스케줄 복구 대상 경매를 ID 순서로 페이지 조회 (keyset: lastId 이후, 스케줄에 필요한 컬럼만)
+    @Query("SELECT new org.example.bidflow.domain.auction.dto.AuctionScheduleTarget(a.auctionId, a.status, a.startTime, a.endTime) " +
+           "FROM Auction a " +
+           "WHERE a.auctionId > :lastId AND a.status IN ('UPCOMING', 'ONGOING') " +
+           "AND (a.startTime > :now OR a.endTime > :now) " +
+           "ORDER BY a.auctionId")
+    List<AuctionScheduleTarget> findScheduleTargetsAfter(@Param("lastId") Long lastId, @Param("now") LocalDateTime now,
+                                                         Pageable pageable);
+
+    // 시작 시각이 지난 경매 상태 일괄 전환 (복구용)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Auction a SET a.status = :to WHERE a.status = :from AND a.startTime < :now")
+    int updateStatusStartedBefore(@Param("from") AuctionStatus from, @Param("to") AuctionStatus to,
+                                  @Param("now") LocalDateTime now);
+
+    // 종료 시각이 지난 경매 상태 일괄 전환 (복구용)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Auction a SET a.status = :to WHERE a.status = :from AND a.endTime < :now")
+    int updateStatusEndedBefore(@Param("from") AuctionStatus from, @Param("to") AuctionStatus to,
+                                @Param("now") LocalDateTime now);
+
+    // 시작 시각이 지난 UPCOMING 경매 ID 잠금 조회 (다른 노드가 잠근 행은 건너뜀, MySQL 8)
+    @Query(value = "SELECT AUCTION_ID FROM AUCTION_TABLE WHERE STATUS = 'UPCOMING' AND START_TIME <= :now " +
+                   "ORDER BY START_TIME LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockUpcomingStartedBefore(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 종료 시각이 지난 ONGOING 경매 ID 잠금 조회 (다른 노드가 잠근 행은 건너뜀, MySQL 8)
+    @Query(value = "SELECT AUCTION_ID FROM AUCTION_TABLE WHERE STATUS = 'ONGOING' AND END_TIME <= :now " +
+                   "ORDER BY END_TIME LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockOngoingEndedBefore(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 경매 상태 일괄 전환 (현재 상태가 from 인 경매만)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Auction a SET a.status = :to WHERE a.auctionId IN :ids AND a.status = :from")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("from") AuctionStatus from, @Param("to") AuctionStatus to);
+
+    // 종료 시각이 since 이후이고 입찰은 있는데 낙찰자 행이 없는 종료 경매 ID (낙찰 처리 누락 복구용, keyset: lastId 이후)
+    @Query("SELECT a.auctionId FROM Auction a " +
+           "WHERE a.auctionId > :lastId AND a.status = 'FINISHED' AND a.endTime > :since " +
+           "AND NOT EXISTS (SELECT w FROM Winner w WHERE w.auction = a) " +
+           "AND EXISTS (SELECT b FROM Bid b WHERE b.auction = a) " +
+           "ORDER BY a.auctionId")
+    List<Long> findFinishedWithoutWinnerAfter(@Param("lastId") Long lastId, @Param("since") LocalDateTime since,
+                                              Pageable pageable);
+
+    // 낙찰 일괄 처리용 (종료 시각만 조회)
+    @Query("SELECT new org.example.bidflow.domain.auction.dto.AuctionEndTime(a.auctionId, a.endTime) " +
+           "FROM Auction a WHERE a.auctionId IN :ids")
+    List<AuctionEndTime> findEndTimesByIds(@Param("ids") Collection<Long> ids);
+
+    // 종료 시각이 (from, to] 인 진행 중 경매 (종료 전 캐시 준비용)
+    @Query("SELECT a FROM Auction a " +
+           "WHERE a.status = 'ONGOING' AND a.endTime > :from AND a.endTime <= :to")
+    List<Auction> findOngoingEndingBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
 
 
@@ -146,7 +146,7 @@ public class AuctionService {
         LocalDateTime expireTime = auction.getEndTime().plusMinutes(2); // starTime: 12:30, endTime: 12:40 -> 12:42(cause. 여유시간(2분)) => TTL: 12:42까지 유효 => 12:42 이후에는 경매 종료 => 경매 종료시(12:40) Winner 테이블에 저장 => Scheduler 로 처리
         redisCommon.setExpireAt(hashKey, expireTime);
 
-        // 경매 스케줄 등록 (Quartz 기반)
+        // 경매 스케줄 등록 (auction.scheduler.backend: Quartz / 타이밍 휠)
         auctionSchedulerService.scheduleAuction(auction);
 
         // 성공 응답 반환
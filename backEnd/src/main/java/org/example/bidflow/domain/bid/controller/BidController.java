@@ -2,28 +2,30 @@ package org.example.bidflow.domain.bid.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.data.BidErrorCode;
 import org.example.bidflow.domain.auction.dto.AuctionBidRequest;
 import org.example.bidflow.domain.bid.dto.model.response.BidCreateResponse;
 import org.example.bidflow.domain.bid.dto.model.response.BidHistoryResponse;
 import org.example.bidflow.domain.bid.service.BidService;
+import org.example.bidflow.domain.bid.dto.model.response.webSocket.BidErrorResponse;
 import org.example.bidflow.domain.bid.dto.model.response.webSocket.WebSocketResponse;
+import org.example.bidflow.global.app.StompErrorSender;
+import org.example.bidflow.global.app.StompPrincipal;
 import org.example.bidflow.global.dto.RsData;
-import org.example.bidflow.global.utils.CookieUtil;
+import org.example.bidflow.global.messaging.broadcast.ConflatingAuctionBroadcaster;
 import org.example.bidflow.global.utils.JwtProvider;
+import org.example.bidflow.global.utils.VerifiedClaims;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import org.example.bidflow.global.exception.ServiceException;
 
 @Slf4j
@@ -33,46 +35,27 @@ import org.example.bidflow.global.exception.ServiceException;
 public class BidController {
 
     private final BidService bidService;
-    private final SimpMessagingTemplate simpMessagingTemplate;
-    private final CookieUtil cookieUtil;
+    private final StompErrorSender stompErrorSender;
+    private final ConflatingAuctionBroadcaster conflatingAuctionBroadcaster;
     private final JwtProvider jwtProvider;
 
-    // 경매 입찰 컨트롤러 (세션 정보에서 JWT 토큰 추출)
+    // 경매 입찰 컨트롤러 (Handshake 에서 검증된 세션 사용자 사용, 메시지마다 JWT 를 다시 검증하지 않음)
     @MessageMapping("/auction/bid")
     public void createBids(@Payload AuctionBidRequest request, SimpMessageHeaderAccessor headerAccessor) {
         log.info("[WebSocket 입찰] 입찰 메시지 수신 - 경매ID: {}, 금액: {}", 
                 request.getAuctionId(), request.getAmount());
         
         try {
-            // 세션 정보에서 JWT 토큰 추출
-            String token = extractTokenFromSession(headerAccessor);
-            
-            if (token == null) {
-                log.error("[WebSocket 입찰 실패] JWT 토큰을 찾을 수 없습니다. 세션 정보: {}", 
-                        headerAccessor.getSessionAttributes());
-                sendErrorMessage(request.getAuctionId(), "인증 토큰이 없습니다. 다시 로그인해주세요.");
-                return;
-            }
-
-            log.debug("[WebSocket 입찰] JWT 토큰 추출 성공: ");
-
-            // 토큰 유효성 검증
-            if (!jwtProvider.validateToken(token)) {
-                log.error("[WebSocket 입찰 실패] 유효하지 않은 JWT 토큰입니다.");
-                sendErrorMessage(request.getAuctionId(), "인증 토큰이 만료되었습니다. 다시 로그인해주세요.");
+            // 세션 사용자 (만료/폐기 여부는 StompPrincipalInterceptor 에서 이미 확인)
+            if (!(headerAccessor.getUser() instanceof StompPrincipal principal)) {
+                log.error("[WebSocket 입찰 실패] 세션 사용자 정보가 없습니다. 세션: {}", headerAccessor.getSessionId());
+                sendErrorMessage(headerAccessor, BidErrorResponse.of(request.getAuctionId(),
+                        BidErrorCode.AUTH_REQUIRED, "인증 토큰이 없습니다. 다시 로그인해주세요."));
                 return;
             }
 
-            // 토큰에서 사용자 정보 추출
-            String userUUID = jwtProvider.parseUserUUID(token);
-            String nickname = jwtProvider.parseNickname(token);
-
-            if (userUUID == null || nickname == null) {
-                log.error("[WebSocket 입찰 실패] 토큰에서 사용자 정보를 추출할 수 없습니다. userUUID: {}, nickname: {}", 
-                        userUUID, nickname);
-                sendErrorMessage(request.getAuctionId(), "사용자 정보를 확인할 수 없습니다. 다시 로그인해주세요.");
-                return;
-            }
+            String userUUID = principal.getName();
+            String nickname = principal.nickname();
 
             log.info("[WebSocket 입찰] 입찰 요청 수신 - userUUID: {}, nickname: {}, 금액: {}", 
                     userUUID, nickname, request.getAmount());
@@ -88,16 +71,18 @@ public class BidController {
                     .userUUID(userUUID)  // 최고 입찰자의 UUID 포함
                     .build();
 
-            simpMessagingTemplate.convertAndSend("/sub/auction/" + request.getAuctionId(), res);
-            log.info("[WebSocket 입찰] 입찰 브로드캐스트 완료: /sub/auction/{}", request.getAuctionId());
+            // 경매별 최신 가격만 주기적으로 모든 노드의 구독자에게 전달 (병합 + Redis 릴레이, 순번은 입찰 순서)
+            conflatingAuctionBroadcaster.submit(request.getAuctionId(), response.getSequence(), res);
+            log.info("[WebSocket 입찰] 입찰 브로드캐스트 등록 완료: /sub/auction/{}", request.getAuctionId());
             
         } catch (ServiceException e) {
             // 비즈니스 로직 위반 (정상적인 예외)
             log.warn("[WebSocket 입찰 실패] 비즈니스 로직 위반: {}", e.getMsg());
-            sendErrorMessage(request.getAuctionId(), e.getMsg());
+            sendErrorMessage(headerAccessor, BidErrorResponse.from(request.getAuctionId(), e));
         } catch (Exception e) {
             log.error("[WebSocket 입찰 실패] 입찰 처리 중 오류 발생: {}", e.getMessage(), e);
-            sendErrorMessage(request.getAuctionId(), "서버 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+            sendErrorMessage(headerAccessor, BidErrorResponse.of(request.getAuctionId(),
+                    BidErrorCode.INTERNAL_ERROR, "서버 오류가 발생했습니다. 잠시 후 다시 시도해주세요."));
         }
     }
 
@@ -149,12 +134,13 @@ public class BidController {
         log.info("[REST API] 내 입찰 내역 조회 요청");
         
         try {
-            if (token == null || !jwtProvider.validateToken(token)) {
+            VerifiedClaims claims = token != null ? jwtProvider.findVerifiedClaims(token) : null;
+            if (claims == null) {
                 RsData<List<BidHistoryResponse>> rsData = new RsData<>("401", "인증이 필요합니다.", null);
                 return ResponseEntity.status(401).body(rsData);
             }
             
-            String userUUID = jwtProvider.parseUserUUID(token);
+            String userUUID = claims.userUUID();
             if (userUUID == null) {
                 RsData<List<BidHistoryResponse>> rsData = new RsData<>("401", "사용자 정보를 확인할 수 없습니다.", null);
                 return ResponseEntity.status(401).body(rsData);
@@ -182,12 +168,13 @@ public class BidController {
         log.info("[REST API] 내 경매별 입찰 내역 조회 요청 - 경매ID: {}", auctionId);
         
         try {
-            if (token == null || !jwtProvider.validateToken(token)) {
+            VerifiedClaims claims = token != null ? jwtProvider.findVerifiedClaims(token) : null;
+            if (claims == null) {
                 RsData<List<BidHistoryResponse>> rsData = new RsData<>("401", "인증이 필요합니다.", null);
                 return ResponseEntity.status(401).body(rsData);
             }
             
-            String userUUID = jwtProvider.parseUserUUID(token);
+            String userUUID = claims.userUUID();
             if (userUUID == null) {
                 RsData<List<BidHistoryResponse>> rsData = new RsData<>("401", "사용자 정보를 확인할 수 없습니다.", null);
                 return ResponseEntity.status(401).body(rsData);
@@ -208,93 +195,11 @@ public class BidController {
     }
 
     /**
-     * 에러 메시지를 클라이언트에게 전송
+     * 입찰 실패를 입찰한 사용자에게만 전송 (/user/queue/bids)
+     * 경매 구독자 전체(/sub/auction/{id})에는 보내지 않습니다.
      */
-    private void sendErrorMessage(Long auctionId, String errorMessage) {
-        try {
-            log.warn("[WebSocket 입찰 실패] 에러 메시지 전송: {}", errorMessage);
-            
-            WebSocketResponse errorRes = WebSocketResponse.builder()
-                    .message("입찰 실패: " + errorMessage)
-                    .localDateTime(LocalDateTime.now())
-                    .nickname("System")
-                    .currentBid(0)
-                    .userUUID(null)  // 에러 시에는 userUUID 없음
-                    .build();
-
-            simpMessagingTemplate.convertAndSend("/sub/auction/" + auctionId, errorRes);
-            log.info("[WebSocket 오류] 에러 메시지 전송 완료: /sub/auction/{}", auctionId);
-        } catch (Exception e) {
-            log.error("[WebSocket 오류] 에러 메시지 전송 실패: {}", e.getMessage());
-        }
-    }
-
-    /**
-     * 세션 정보에서 JWT 토큰 추출
-     */
-    private String extractTokenFromSession(SimpMessageHeaderAccessor headerAccessor) {
-        try {
-            // 1. 세션 속성에서 토큰 추출
-            Map<String, Object> sessionAttributes = headerAccessor.getSessionAttributes();
-            
-            if (sessionAttributes != null) {
-                Object token = sessionAttributes.get("jwt-token");
-                if (token != null) {
-                    return token.toString();
-                }
-            }
-
-            // 2. 네이티브 헤더에서 토큰 추출
-            Map<String, Object> nativeHeaders = (Map<String, Object>) headerAccessor.getHeader("nativeHeaders");
-            
-            if (nativeHeaders != null) {
-                Object cookieList = nativeHeaders.get("cookie");
-                
-                if (cookieList instanceof List) {
-                    for (Object cookieObj : (List<?>) cookieList) {
-                        String cookie = cookieObj.toString();
-                        
-                        if (cookie.contains("jwt-token=")) {
-                            String[] cookies = cookie.split(";");
-                            for (String c : cookies) {
-                                String trimmedCookie = c.trim();
-                                if (trimmedCookie.startsWith("jwt-token=")) {
-                                    return trimmedCookie.substring("jwt-token=".length());
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-
-            // 3. STOMP 헤더에서 토큰 추출
-            List<String> cookies = headerAccessor.getNativeHeader("cookie");
-            
-            if (cookies != null && !cookies.isEmpty()) {
-                for (String cookieHeader : cookies) {
-                    
-                    if (cookieHeader != null && cookieHeader.contains("jwt-token=")) {
-                        String[] cookieArray = cookieHeader.split(";");
-                        for (String cookie : cookieArray) {
-                            String trimmedCookie = cookie.trim();
-                            if (trimmedCookie.startsWith("jwt-token=")) {
-                                return trimmedCookie.substring("jwt-token=".length());
-                            }
-                        }
-                    }
-                }
-            }
-
-            // 4. 모든 헤더 정보 로깅 (디버깅용)
-            log.warn("[WebSocket 토큰 추출] 모든 방법으로 토큰 추출 실패");
-            log.warn("[WebSocket 토큰 추출] 전체 헤더 정보: {}", headerAccessor.getMessageHeaders());
-            log.warn("[WebSocket 토큰 추출] 세션 ID: {}", headerAccessor.getSessionId());
-            
-            return null;
-            
-        } catch (Exception e) {
-            log.error("[WebSocket] 토큰 추출 중 오류 발생: {}", e.getMessage(), e);
-            return null;
-        }
+    private void sendErrorMessage(SimpMessageHeaderAccessor headerAccessor, BidErrorResponse errorResponse) {
+        log.warn("[WebSocket 입찰 실패] 에러 메시지 전송 - 코드: {}, 메시지: {}", errorResponse.getCode(), errorResponse.getMessage());
+        stompErrorSender.sendBidError(headerAccessor.getSessionId(), headerAccessor.getUser(), errorResponse);
     }
 }
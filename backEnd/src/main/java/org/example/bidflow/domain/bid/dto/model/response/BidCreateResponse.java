@@ -17,9 +17,10 @@ public class BidCreateResponse {
     private final Integer bidAmount;
     private final LocalDateTime bidTime;
     private final String nickname;
+    private final long sequence;    // 최고가 저장 시 함께 발급된 브로드캐스트 순번 (입찰 순서)
 
     // Bid 엔터티에서 BidDto로 변환
-    public static BidCreateResponse from(Bid bid) {
+    public static BidCreateResponse from(Bid bid, long sequence) {
         Auction auction = bid.getAuction();
         return BidCreateResponse.builder()
                 .auctionId(auction.getAuctionId())
@@ -28,6 +29,7 @@ public class BidCreateResponse {
                 .bidAmount(bid.getAmount())
                 .bidTime(bid.getBidTime())
                 .nickname(bid.getUser().getNickname())
+                .sequence(sequence)
                 .build();
     }
 }
@@ -0,0 +1,50 @@
+package org.example.bidflow.domain.bid.dto.model.response.webSocket;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.bidflow.data.BidErrorCode;
+import org.example.bidflow.global.exception.BidRejectedException;
+import org.example.bidflow.global.exception.ServiceException;
+
+import java.time.LocalDateTime;
+
+/**
+ * 입찰 실패 응답 (입찰한 사용자에게만 /user/queue/bids 로 전송)
+ */
+@Getter
+@Builder
+public class BidErrorResponse {
+    private Long auctionId;
+    private BidErrorCode code;      // 거부 사유 코드
+    private String message;         // 사용자 표시용 메시지
+    private boolean retryable;      // 재입찰 가능 여부
+    private Integer minimumBid;     // 재입찰 시 최소 금액 (금액 관련 거부일 때만)
+    private LocalDateTime localDateTime;
+
+    public static BidErrorResponse of(Long auctionId, BidErrorCode code, String message) {
+        return of(auctionId, code, message, null);
+    }
+
+    public static BidErrorResponse of(Long auctionId, BidErrorCode code, String message, Integer minimumBid) {
+        return BidErrorResponse.builder()
+                .auctionId(auctionId)
+                .code(code)
+                .message(message)
+                .retryable(code.isRetryable())
+                .minimumBid(minimumBid)
+                .localDateTime(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 서비스 예외 → 응답 (코드가 없는 예외는 HTTP 상태로 분류)
+     */
+    public static BidErrorResponse from(Long auctionId, ServiceException e) {
+        if (e instanceof BidRejectedException rejected) {
+            return of(auctionId, rejected.getErrorCode(), rejected.getMsg(), rejected.getMinimumBid());
+        }
+        BidErrorCode code = e.getCode() != null && e.getCode().startsWith("5")
+                ? BidErrorCode.INTERNAL_ERROR : BidErrorCode.BID_REJECTED;
+        return of(auctionId, code, e.getMsg());
+    }
+}
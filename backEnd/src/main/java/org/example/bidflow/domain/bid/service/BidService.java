@@ -11,8 +11,13 @@ import org.example.bidflow.domain.bid.entity.Bid;
 import org.example.bidflow.domain.bid.repository.BidRepository;
 import org.example.bidflow.domain.user.entity.User;
 import org.example.bidflow.domain.user.service.UserService;
+import org.example.bidflow.data.BidErrorCode;
 import org.example.bidflow.global.app.RedisCommon;
+import org.example.bidflow.global.app.closing.AuctionClosingCache;
+import org.example.bidflow.global.exception.BidRejectedException;
 import org.example.bidflow.global.exception.ServiceException;
+import org.example.bidflow.global.messaging.replay.AuctionSequence;
+import org.example.bidflow.global.messaging.replay.RedisAuctionSequence;
 import org.example.bidflow.global.utils.JwtProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -22,7 +27,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.example.bidflow.data.AuctionStatus;
 
@@ -35,6 +42,7 @@ public class BidService {
     private final UserService userService;
     private final BidRepository bidRepository;
     private final RedisCommon redisCommon;
+    private final AuctionClosingCache auctionClosingCache;
 
     @Transactional
     public BidCreateResponse createBid(Long auctionId, AuctionBidRequest request, String userUUID) {
@@ -60,15 +68,17 @@ public class BidService {
 
             if (userUUID.equals(highestUserUUID)) {
                 log.warn("[입찰 실패] 동일 사용자 연속 입찰 시도 - userUUID: {}, 경매ID: {}", userUUID, auctionId);
-                throw new ServiceException(HttpStatus.BAD_REQUEST.toString(), "이미 최고 입찰자입니다. 다른 사용자의 입찰을 기다려주세요.");
+                throw new BidRejectedException(BidErrorCode.ALREADY_HIGHEST_BIDDER, "이미 최고 입찰자입니다. 다른 사용자의 입찰을 기다려주세요.");
             }
 
             // 최소 입찰 단위 검증
             validateBidAmount(request.getAmount(), currentBidAmount, auction.getMinBid());
 
-            // Redis에 입찰 정보 갱신
-            redisCommon.putInHash(hashKey, "amount", request.getAmount());
-            redisCommon.putInHash(hashKey, "userUUID", userUUID);
+            // Redis에 입찰 정보 갱신 (최고가 저장과 브로드캐스트 순번 발급을 한 번에 - 순번 = 입찰 저장 순서)
+            Map<String, Object> highestBid = new LinkedHashMap<>();
+            highestBid.put("amount", request.getAmount());
+            highestBid.put("userUUID", userUUID);
+            Long sequence = redisCommon.putInHashAndIncrement(hashKey, highestBid, RedisAuctionSequence.SEQUENCE_FIELD);
             
             log.info("[입찰 갱신] Redis 최고가 갱신 완료 - 경매ID: {}, 이전가격: {}, 새가격: {}, 입찰자: {}", 
                     auctionId, currentBidAmount, request.getAmount(), user.getNickname());
@@ -81,7 +91,7 @@ public class BidService {
             log.info("[입찰 성공] 입찰 처리 완료 - 경매ID: {}, 입찰자: {}, 금액: {}, 처리시간: {}ms", 
                     auctionId, user.getNickname(), request.getAmount(), (endTime - startTime));
 
-            return BidCreateResponse.from(bid);
+            return BidCreateResponse.from(bid, sequence != null ? sequence : AuctionSequence.UNKNOWN);
             
         } catch (ServiceException e) {
             log.error("[입찰 실패] 비즈니스 규칙 위반 - 경매ID: {}, 입찰금액: {}, 오류: {}", 
@@ -140,6 +150,14 @@ public class BidService {
                 auctionId, pageable.getPageNumber());
         
         try {
+            // 종료 직전 경매의 첫 페이지는 캐시에서 응답 (새 입찰 브로드캐스트 시 무효화)
+            Page<BidHistoryResponse> cached = auctionClosingCache.firstPage(auctionId, pageable);
+            if (cached != null) {
+                log.debug("[입찰 내역 페이징 조회] 종료 전 캐시 응답 - 경매ID: {}", auctionId);
+                return cached;
+            }
+            long cacheVersion = auctionClosingCache.firstPageVersion(auctionId);
+
             Auction auction = auctionService.getAuctionWithValidation(auctionId);
             Page<Bid> bidPage = bidRepository.findByAuctionOrderByBidTimeDesc(auction, pageable);
             
@@ -162,6 +180,7 @@ public class BidService {
             
             log.info("[입찰 내역 페이징 조회] 경매 입찰 내역 페이징 조회 완료 - 경매ID: {}, 총 개수: {}, 현재 페이지: {}", 
                     auctionId, responsePage.getTotalElements(), responsePage.getNumber());
+            auctionClosingCache.storeFirstPage(auctionId, pageable, responsePage, cacheVersion);
             
             return responsePage;
             
@@ -255,11 +274,11 @@ public class BidService {
         if (auction.getStatus() == AuctionStatus.UPCOMING) {
             log.warn("[입찰 검증 실패] 경매 시작 전 입찰 시도 - 경매ID: {}, 현재상태: {}, 시작시간: {}",
                     auction.getAuctionId(), auction.getStatus(), auction.getStartTime());
-            throw new ServiceException(HttpStatus.BAD_REQUEST.toString(), "경매가 시작 전입니다.");
+            throw new BidRejectedException(BidErrorCode.AUCTION_NOT_STARTED, "경매가 시작 전입니다.");
         } else if (auction.getStatus() == AuctionStatus.FINISHED) {
             log.warn("[입찰 검증 실패] 경매 종료 후 입찰 시도 - 경매ID: {}, 현재상태: {}, 종료시간: {}",
                     auction.getAuctionId(), auction.getStatus(), auction.getEndTime());
-            throw new ServiceException(HttpStatus.BAD_REQUEST.toString(), "경매가 종료 되었습니다.");
+            throw new BidRejectedException(BidErrorCode.AUCTION_ENDED, "경매가 종료 되었습니다.");
         }
 
         // 경매 상태가 ONGOING인 경우에만 시간 검증 수행
@@ -267,11 +286,11 @@ public class BidService {
             if(now.isBefore(auction.getStartTime())){
                 log.warn("[입찰 검증 실패] 경매 시작 전 입찰 시도 - 경매ID: {}, 현재시간: {}, 시작시간: {}, 상태: {}",
                         auction.getAuctionId(), now, auction.getStartTime(), auction.getStatus());
-                throw new ServiceException(HttpStatus.BAD_REQUEST.toString(), "경매가 시작 전입니다.");
+                throw new BidRejectedException(BidErrorCode.AUCTION_NOT_STARTED, "경매가 시작 전입니다.");
             }else if(now.isAfter(auction.getEndTime())){
                 log.warn("[입찰 검증 실패] 경매 종료 후 입찰 시도 - 경매ID: {}, 현재시간: {}, 종료시간: {}, 상태: {}",
                         auction.getAuctionId(), now, auction.getEndTime(), auction.getStatus());
-                throw new ServiceException(HttpStatus.BAD_REQUEST.toString(), "경매가 종료 되었습니다.");
+                throw new BidRejectedException(BidErrorCode.AUCTION_ENDED, "경매가 종료 되었습니다.");
             }
         }
     }
@@ -284,14 +303,16 @@ public class BidService {
     private void validateBidAmount(Integer newAmount, Integer currentAmount, Integer minBidAmount) {
         if(newAmount <= currentAmount) {
             log.warn("[입찰 검증 실패] 현재 최고가보다 낮은 금액 입찰 - 신규금액: {}, 현재금액: {}", newAmount, currentAmount);
-            throw new ServiceException(HttpStatus.BAD_REQUEST.toString(), "입찰 금액이 현재 최고가보다 낮습니다.");
+            throw new BidRejectedException(BidErrorCode.BID_TOO_LOW, "입찰 금액이 현재 최고가보다 낮습니다.",
+                    currentAmount + minBidAmount);
         }
 
         if(newAmount < (currentAmount + minBidAmount)) {
             log.warn("[입찰 검증 실패] 최소 입찰 단위 미달 - 신규금액: {}, 필요금액: {}", 
                     newAmount, (currentAmount + minBidAmount));
-            throw new ServiceException(HttpStatus.BAD_REQUEST.toString(),
-                    "입찰 금액이 최소 입찰 단위보다 작습니다. 최소 " + (currentAmount + minBidAmount) + "원 이상 입찰해야 합니다.");
+            throw new BidRejectedException(BidErrorCode.BELOW_MIN_INCREMENT,
+                    "입찰 금액이 최소 입찰 단위보다 작습니다. 최소 " + (currentAmount + minBidAmount) + "원 이상 입찰해야 합니다.",
+                    currentAmount + minBidAmount);
         }
     }
 }
\ No newline at end of file
@@ -13,6 +13,7 @@ import org.example.bidflow.domain.user.service.EmailService;
 import org.example.bidflow.global.dto.RsData;
 import org.example.bidflow.global.utils.CookieUtil;
 import org.example.bidflow.global.utils.JwtProvider;
+import org.example.bidflow.global.utils.VerifiedClaims;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -89,14 +90,15 @@ public class UserController {
             }
 
             // 토큰 유효성 검증
-            if (!jwtProvider.validateToken(token)) {
+            VerifiedClaims claims = jwtProvider.findVerifiedClaims(token);
+            if (claims == null) {
                 log.debug("[인증 확인] 토큰이 유효하지 않습니다.");
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(new RsData<>("401", "토큰이 유효하지 않습니다.", null));
             }
 
             // 토큰에서 사용자 정보 추출
-            String userUUID = jwtProvider.parseUserUUID(token);
+            String userUUID = claims.userUUID();
             User user = userService.getUserByUUID(userUUID);
 
             UserSignInResponse userInfo = UserSignInResponse.builder()
@@ -189,11 +191,12 @@ public class UserController {
     @GetMapping("/mypage/auctions")
     public ResponseEntity<RsData<List<UserAuctionHistoryResponse>>> getUserAuctionHistory(HttpServletRequest request) {
         String token = cookieUtil.getJwtFromCookie(request);
-        if (token == null || !jwtProvider.validateToken(token)) {
+        VerifiedClaims claims = token != null ? jwtProvider.findVerifiedClaims(token) : null;
+        if (claims == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(new RsData<>("401", "인증되지 않았습니다.", null));
         }
-        String userUUID = jwtProvider.parseUserUUID(token);
+        String userUUID = claims.userUUID();
         List<UserAuctionHistoryResponse> history = userService.getUserAuctionHistory(userUUID);
         return ResponseEntity.ok(new RsData<>("200", "입찰한 경매 목록 조회 성공", history));
     }
@@ -202,11 +205,12 @@ public class UserController {
     @GetMapping("/mypage/favorites")
     public ResponseEntity<RsData<List<FavoriteResponse>>> getFavorites(HttpServletRequest request) {
         String token = cookieUtil.getJwtFromCookie(request);
-        if (token == null || !jwtProvider.validateToken(token)) {
+        VerifiedClaims claims = token != null ? jwtProvider.findVerifiedClaims(token) : null;
+        if (claims == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(new RsData<>("401", "인증되지 않았습니다.", null));
         }
-        String userUUID = jwtProvider.parseUserUUID(token);
+        String userUUID = claims.userUUID();
         List<FavoriteResponse> favorites = favoriteService.getFavoriteResponses(userUUID);
         return ResponseEntity.ok(new RsData<>("200", "관심목록 조회 성공", favorites));
     }
@@ -215,11 +219,12 @@ public class UserController {
     @PostMapping("/favorites")
     public ResponseEntity<RsData<FavoriteResponse>> addFavorite(HttpServletRequest request, @RequestParam Long auctionId) {
         String token = cookieUtil.getJwtFromCookie(request);
-        if (token == null || !jwtProvider.validateToken(token)) {
+        VerifiedClaims claims = token != null ? jwtProvider.findVerifiedClaims(token) : null;
+        if (claims == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(new RsData<>("401", "인증되지 않았습니다.", null));
         }
-        String userUUID = jwtProvider.parseUserUUID(token);
+        String userUUID = claims.userUUID();
         FavoriteResponse response = FavoriteService.toResponse(favoriteService.addFavorite(userUUID, auctionId));
         return ResponseEntity.ok(new RsData<>("200", "관심 경매 등록 성공", response));
     }
@@ -228,11 +233,12 @@ public class UserController {
     @DeleteMapping("/favorites")
     public ResponseEntity<RsData<String>> removeFavorite(HttpServletRequest request, @RequestParam Long auctionId) {
         String token = cookieUtil.getJwtFromCookie(request);
-        if (token == null || !jwtProvider.validateToken(token)) {
+        VerifiedClaims claims = token != null ? jwtProvider.findVerifiedClaims(token) : null;
+        if (claims == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(new RsData<>("401", "인증되지 않았습니다.", null));
         }
-        String userUUID = jwtProvider.parseUserUUID(token);
+        String userUUID = claims.userUUID();
         favoriteService.removeFavorite(userUUID, auctionId);
         return ResponseEntity.ok(new RsData<>("200", "관심 경매 해제 성공", null));
     }
@@ -65,5 +65,8 @@ public void setProfileImage(String profileImage) {
 public void setEmail(String email) {
     this.email = email;
 }
+public void setPassword(String password) {
+    this.password = password;
+}
 
 }
@@ -3,6 +3,8 @@ package org.example.bidflow.domain.user.repository;
 import org.example.bidflow.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -11,4 +13,5 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmailOrNickname(String email, String nickname);
     Optional<User> findByUserUUID(String userUUID);
     Optional<User> findByEmail(String email);
+    List<User> findAllByUserUUIDIn(Collection<String> userUUIDs);
 }
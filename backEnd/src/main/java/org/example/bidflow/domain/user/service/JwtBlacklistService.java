@@ -1,57 +1,139 @@
 package org.example.bidflow.domain.user.service;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.bidflow.global.app.RedisCommon;
 import org.example.bidflow.global.exception.ServiceException;
+import org.example.bidflow.global.service.TokenRevocationRegistry;
 import org.example.bidflow.global.utils.JwtProvider;
+import org.example.bidflow.global.utils.TokenDigest;
+import org.example.bidflow.global.utils.VerifiedClaims;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * JWT 블랙리스트 (로그아웃한 토큰)
+ *
+ * Redis 키는 원본 토큰 대신 토큰 다이제스트(blacklist:{SHA-256 hex})를 사용하고 값은 "1", TTL 은 토큰 남은 유효 시간입니다.
+ * 요청마다의 확인은 노드 로컬 블룸 필터({@link TokenRevocationRegistry})를 먼저 거쳐, 필터에 있을 때만 Redis 를 조회합니다.
+ * 블룸 필터는 기동 직후와 rebuild-interval-ms 주기로 blacklist:* SCAN 결과로 다시 만듭니다.
+ * 폐기 채널을 다시 구독하면(Redis 재연결) 필터가 버려지고, rebuild-check-ms 안에 다시 만듭니다 (그 사이에는 Redis 로 확인).
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class JwtBlacklistService {
 
     private final RedisCommon redisCommon;
+    private final StringRedisTemplate stringRedisTemplate;
     private static final String BLACKLIST_PREFIX = "blacklist:";
+    private static final int SCAN_COUNT = 1000;
     private final JwtProvider jwtProvider;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     // 블랙리스트에 추가 (로그아웃 처리)
     public void addToBlacklist(String token) {
 
-        Claims claims;
+        VerifiedClaims claims;
 
         try {
-            claims = jwtProvider.parseClaims(token);
+            claims = jwtProvider.verify(token);
         } catch (ExpiredJwtException e) {
             throw new ServiceException(HttpStatus.UNAUTHORIZED.value() + "", "만료된 토큰입니다.");
         } catch (Exception e) {
             throw new ServiceException(HttpStatus.BAD_REQUEST.value() + "", "유효하지 않은 토큰입니다.");
         }
 
-        long expirationTime = claims.getExpiration().getTime();
+        long expirationTime = claims.expiresAtMillis();
         long ttl = expirationTime - System.currentTimeMillis();
-        // 만료 시간 계산 (하루)
         // 이 값은 Redis에 저장된 토큰이 남은 시간만큼 유효하도록 설정
+        if (ttl <= 0) {
+            return; // 검증 직후 만료된 토큰
+        }
 
-        long ttlSeconds = ttl / 1000;
+        String digest = TokenDigest.sha256(token);
+        stringRedisTemplate.opsForValue().set(getKey(digest), "1", Duration.ofMillis(ttl)); // SET EX 한 번으로 저장 + 만료
 
-        String key = getKey(token);
-        redisCommon.putInHash(key, "blacklisted", "true");
-        redisCommon.setExpireAt(key, LocalDateTime.now().plusSeconds(ttlSeconds));
+        // 모든 노드의 블룸 필터 / 연결된 WebSocket 세션에 즉시 반영되도록 폐기 전파
+        tokenRevocationRegistry.revoke(digest, expirationTime);
     }
 
-    public static String getKey(String token) {
-        return BLACKLIST_PREFIX + token;
+    public static String getKey(String tokenDigest) {
+        return BLACKLIST_PREFIX + tokenDigest;
     }
 
-    // 블랙리스트 여부 확인
+    // 블랙리스트 여부 확인 (블룸 필터에 없으면 Redis 조회 생략)
     public boolean isBlacklisted(String token) {
-        String key = getKey(token);
-        return "true".equals(redisCommon.getFromHash(key,"blacklisted",String.class));
+        String digest = TokenDigest.sha256(token);
+        if (!tokenRevocationRegistry.mightBeRevoked(digest)) {
+            return false;
+        }
+        if (tokenRevocationRegistry.isRevoked(digest)) {
+            return true; // 이 노드가 전파받은 폐기 (Redis 확인 불필요)
+        }
+
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(getKey(digest)))) {
+                return true;
+            }
+        } catch (Exception e) {
+            log.error("[JWT 블랙리스트] 블랙리스트 조회 실패 - 오류: {}", e.getMessage(), e);
+            return false;
+        }
+        // 이전 형식(원본 토큰 키 + Hash) 블랙리스트 - 토큰 만료와 함께 사라짐
+        return "true".equals(redisCommon.getFromHash(BLACKLIST_PREFIX + token, "blacklisted", String.class));
     }
 
+    /**
+     * 블룸 필터 재구성 (기동 직후 + 주기 실행, 각 노드에서 실행)
+     * SCAN 으로 블랙리스트 키를 나눠 읽으므로 Redis 를 오래 막지 않으며, 실패하면 기존 필터를 유지합니다.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.blacklist.rebuild-interval-ms:60000}")
+    public void rebuildRevocationFilter() {
+        long epoch = tokenRevocationRegistry.filterEpoch();
+        List<String> digests = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String suffix = cursor.next().substring(BLACKLIST_PREFIX.length());
+                // 이전 형식 키는 원본 토큰이므로 다이제스트로 변환
+                digests.add(isDigest(suffix) ? suffix : TokenDigest.sha256(suffix));
+            }
+        } catch (Exception e) {
+            log.warn("[JWT 블랙리스트] 블룸 필터 재구성 실패 (기존 필터 유지) - 오류: {}", e.getMessage());
+            return;
+        }
+        tokenRevocationRegistry.rebuildFilter(digests, epoch);
+    }
+
+    /**
+     * 폐기 채널 재구독으로 필터가 버려졌으면 바로 재구성 (다음 주기까지 모든 요청이 Redis 를 조회하지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.rebuild-check-ms:1000}")
+    public void rebuildRevocationFilterIfDiscarded() {
+        if (tokenRevocationRegistry.needsFilterRebuild()) {
+            rebuildRevocationFilter();
+        }
+    }
+
+    private static boolean isDigest(String value) {
+        if (value.length() != 64) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.digit(value.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -0,0 +1,139 @@
+package org.example.bidflow.domain.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.global.app.ApplicationExecutors;
+import org.example.bidflow.global.exception.ServiceException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비밀번호 해시 전용 실행기 (BCrypt)
+ *
+ * BCrypt 검증 / 생성은 CPU 를 오래 쓰므로 Tomcat 요청 스레드에서 직접 실행하지 않고 코어 수만큼의 전용 스레드에서 실행합니다.
+ * 로그인이 몰려도 동시에 해시하는 수가 코어 수로 제한되어 입찰 / 조회 요청이 CPU 를 빼앗기지 않습니다.
+ * - 대기열이 가득 차면 즉시 503 으로 거부 (요청 스레드가 해시 대기로 쌓이지 않도록)
+ * - 대기열에서 wait-timeout-ms 안에 끝나지 않으면 503
+ * - 로그인 성공 시 저장된 해시의 cost 가 설정(bcrypt-strength)보다 낮으면 같은 작업에서 새 cost 로 다시 해시
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor hashExecutor;
+    private final long waitTimeoutMillis;
+
+    private final Timer matchTimer;
+    private final Timer encodeTimer;
+    private final Timer upgradeTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          ApplicationExecutors executors,
+                          @Value("${auth.password.threads:0}") int threads,
+                          @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+                          @Value("${auth.password.wait-timeout-ms:5000}") long waitTimeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        // 대기열이 가득 차면 호출 스레드에서 실행하지 않고 거부 (CPU 사용량 상한 유지)
+        this.hashExecutor = executors.create("password-hash-",
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), queueCapacity,
+                new ThreadPoolExecutor.AbortPolicy(), 10);
+
+        this.matchTimer = hashTimer(meterRegistry, "matches");
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.upgradeTimer = hashTimer(meterRegistry, "upgrade");
+        this.rejectedCounter = Counter.builder("auth.password.rejected")
+                .description("해시 대기열이 가득 차거나 대기 시간을 넘어 거부된 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.queue.size", hashExecutor, executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .description("해시 실행을 기다리는 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 검증 (일치하고 저장된 해시의 cost 가 낮으면 새 해시도 함께 반환)
+     */
+    public Verification verify(String rawPassword, String encodedPassword) {
+        return execute(() -> {
+            boolean matched = matchTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+            if (!matched || !passwordEncoder.upgradeEncoding(encodedPassword)) {
+                return new Verification(matched, null);
+            }
+            return new Verification(true, upgradeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+        });
+    }
+
+    /**
+     * 비밀번호 해시 생성 (회원가입)
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = hashExecutor.submit(task);
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            log.warn("[비밀번호 해시] 대기열 초과로 거부 - 대기 중: {}", hashExecutor.getThreadPoolExecutor().getQueue().size());
+            throw busy();
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            log.warn("[비밀번호 해시] 대기 시간 초과로 거부 - 제한: {}ms", waitTimeoutMillis);
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해시 처리 실패", e.getCause());
+        }
+    }
+
+    private static ServiceException busy() {
+        return new ServiceException(HttpStatus.SERVICE_UNAVAILABLE.value() + "", "로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.password.hash")
+                .description("BCrypt 해시 실행 시간 (대기열 대기 제외)")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 검증 결과
+     *
+     * @param matched      비밀번호 일치 여부
+     * @param upgradedHash 설정된 cost 로 다시 만든 해시 (다시 해시할 필요가 없으면 null)
+     */
+    public record Verification(boolean matched, String upgradedHash) {
+    }
+}
@@ -15,7 +15,6 @@ import org.example.bidflow.domain.auction.repository.AuctionRepository;
 import org.example.bidflow.domain.bid.entity.Bid;
 import org.example.bidflow.domain.winner.entity.Winner;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
@@ -31,7 +30,7 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtProvider jwtProvider;
     private final EmailService emailService;
     private final BidRepository bidRepository;
@@ -75,8 +74,8 @@ public class UserService {
             throw new ServiceException(HttpStatus.CONFLICT.value() + "", "이미 사용 중인 이메일 또는 닉네임입니다.");
         }
 
-        // 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        // 비밀번호 암호화 (해시 전용 스레드에서 실행)
+        String encodedPassword = passwordHasher.encode(request.getPassword());
         // User 엔티티 생성
         String userUUID = System.currentTimeMillis() + "-" + UUID.randomUUID();
         User user = User.builder()
@@ -119,14 +118,20 @@ public class UserService {
                     return new ServiceException(HttpStatus.UNAUTHORIZED.value() + "", "이메일 또는 비밀번호가 일치하지 않습니다.");
                 });
 
-        // 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        // 비밀번호 검증 (해시 전용 스레드에서 실행, 몰리면 503)
+        PasswordHasher.Verification verification = passwordHasher.verify(request.getPassword(), user.getPassword());
+        if (!verification.matched()) {
             log.warn("[로그인 실패] 비밀번호 불일치 - 이메일: {}", request.getEmail());
             throw new ServiceException(HttpStatus.UNAUTHORIZED.value() + "", "이메일 또는 비밀번호가 일치하지 않습니다.");
         }
 
         log.debug("[로그인] 비밀번호 검증 성공 - 이메일: {}", request.getEmail());
 
+        // 저장된 해시의 cost 가 설정보다 낮으면 새 해시로 교체 (실패해도 로그인은 진행)
+        if (verification.upgradedHash() != null) {
+            upgradePassword(user, verification.upgradedHash());
+        }
+
         // JWT 토큰 발행 시 포함할 사용자 정보 설정
         Map<String, Object> claims = new HashMap<>();
         claims.put("userUUID", user.getUserUUID());
@@ -142,6 +147,16 @@ public class UserService {
         return UserSignInResponse.from(user, token);
     }
 
+    private void upgradePassword(User user, String upgradedHash) {
+        try {
+            user.setPassword(upgradedHash);
+            userRepository.save(user);
+            log.info("[로그인] 비밀번호 해시 cost 갱신 - userUUID: {}", user.getUserUUID());
+        } catch (Exception e) {
+            log.warn("[로그인] 비밀번호 해시 갱신 실패 - userUUID: {}, 오류: {}", user.getUserUUID(), e.getMessage());
+        }
+    }
+
     public UserPutRequest updateUser(String userUUID, UserPutRequest request) {
         log.info("[사용자 정보 수정] 정보 수정 시도 - userUUID: {}", userUUID);
         
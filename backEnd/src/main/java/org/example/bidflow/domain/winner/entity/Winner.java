@@ -24,8 +24,9 @@ public class Winner {
     @JoinColumn(name = "USER_UUID", nullable = false)
     private User user;
 
+    // 경매당 낙찰자 1명 (낙찰 저장 재실행 / 복구 시 중복 행 방지)
     @OneToOne
-    @JoinColumn(name = "AUCTION_ID", nullable = false)
+    @JoinColumn(name = "AUCTION_ID", nullable = false, unique = true)
     private Auction auction;
 
     @Column(name = "WINNING_BID")
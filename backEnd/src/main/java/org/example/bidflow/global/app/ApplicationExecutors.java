@@ -0,0 +1,112 @@
+package org.example.bidflow.global.app;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ExecutorConfigurationSupport;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컴포넌트 전용 실행기 생성 / 종료 관리
+ *
+ * 비밀번호 해시, 낙찰 처리, Redis 구독 메시지 처리, WebSocket 송신처럼 용도별로 분리해야 하는 스레드는 모두 여기서 만듭니다.
+ * 주기 작업도 지연 한도가 있는 작업(가격 병합 전송, 일괄 전환 등)은 {@link #createScheduler} 로 전용 스레드를 만들어
+ * 다른 @Scheduled 작업(Spring 기본 스케줄러 스레드 1개 공유)에 밀리지 않도록 합니다.
+ * 실행기를 Executor 타입 Bean 으로 등록하면 Spring Boot 의 기본 TaskExecutor(applicationTaskExecutor) /
+ * TaskScheduler 자동 설정이 꺼지므로 Bean 으로 등록하지 않고, 만든 실행기는 애플리케이션 종료 시 이 컴포넌트가 한 번에 종료합니다.
+ * (실행기를 주입받은 컴포넌트보다 나중에 소멸되므로, 소유 컴포넌트의 종료 처리 중에도 작업을 제출할 수 있음)
+ */
+@Slf4j
+@Component
+public class ApplicationExecutors implements DisposableBean {
+
+    private final List<ExecutorConfigurationSupport> executors = new CopyOnWriteArrayList<>();
+
+    /**
+     * 고정 크기 실행기 생성
+     *
+     * @param threadNamePrefix        스레드 이름 접두사 (용도 식별)
+     * @param threads                 스레드 수 (core = max)
+     * @param queueCapacity           대기열 크기 (Integer.MAX_VALUE 이면 제한 없음)
+     * @param rejectedHandler         대기열이 가득 찼을 때 정책
+     * @param awaitTerminationSeconds 종료 시 남은 작업을 기다릴 시간 (0 이면 기다리지 않음)
+     */
+    public ThreadPoolTaskExecutor create(String threadNamePrefix, int threads, int queueCapacity,
+                                         RejectedExecutionHandler rejectedHandler, int awaitTerminationSeconds) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler(rejectedHandler);
+        if (awaitTerminationSeconds > 0) {
+            executor.setWaitForTasksToCompleteOnShutdown(true);
+            executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        }
+        executor.initialize();
+        executors.add(executor);
+        return executor;
+    }
+
+    /**
+     * 전용 주기 작업 스레드 생성 (종료 시 예약된 작업은 취소)
+     *
+     * @param threadNamePrefix 스레드 이름 접두사 (용도 식별)
+     * @param threads          스레드 수
+     */
+    public ThreadPoolTaskScheduler createScheduler(String threadNamePrefix, int threads) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(threads);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setErrorHandler(e -> log.error("[Executors] 주기 작업 실패 - 스레드: {}", Thread.currentThread().getName(), e));
+        scheduler.initialize();
+        executors.add(scheduler);
+        return scheduler;
+    }
+
+    /**
+     * 대기열에 자리가 날 때까지 호출 스레드를 잠시 멈추는 정책
+     *
+     * CallerRunsPolicy 와 달리 호출 스레드에서 직접 실행하지 않으므로 단일 스레드 실행기의 처리 순서가 유지됩니다.
+     * timeoutMillis 안에 자리가 나지 않으면 작업을 버리고 onDrop 을 실행한 뒤 RejectedExecutionException 을 던집니다.
+     *
+     * @param onDrop 작업을 버린 직후 호출 스레드에서 실행 (버린 작업으로 어긋난 상태 무효화 등, 실패해도 무시)
+     */
+    public static RejectedExecutionHandler blockingEnqueue(long timeoutMillis, Runnable onDrop) {
+        return (task, executor) -> {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("실행기 종료됨");
+            }
+            try {
+                if (executor.getQueue().offer(task, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            log.error("[Executors] 대기열 가득 참, 작업 폐기 - 대기 시간: {}ms, 대기 작업 수: {}",
+                    timeoutMillis, executor.getQueue().size());
+            try {
+                onDrop.run();
+            } catch (Exception e) {
+                log.warn("[Executors] 작업 폐기 후 처리 실패 - 오류: {}", e.getMessage());
+            }
+            throw new RejectedExecutionException("대기열 가득 참 (" + timeoutMillis + "ms 대기)");
+        };
+    }
+
+    @Override
+    public void destroy() {
+        for (ExecutorConfigurationSupport executor : executors) {
+            executor.shutdown();
+        }
+        log.info("[Executors] 전용 실행기 종료 - 개수: {}", executors.size());
+    }
+}
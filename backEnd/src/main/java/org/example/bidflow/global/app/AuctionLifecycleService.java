@@ -0,0 +1,169 @@
+package org.example.bidflow.global.app;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.data.AuctionStatus;
+import org.example.bidflow.domain.auction.entity.Auction;
+import org.example.bidflow.domain.auction.repository.AuctionRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 경매 상태 전환 (UPCOMING → ONGOING → FINISHED)
+ *
+ * 마감 스케줄러 구현(Quartz Job / 타이밍 휠)과 관계없이 같은 전환 로직을 사용합니다.
+ * 스위퍼는 경매 단위가 아닌 일괄 전환(startDue / finishDue)을 사용합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionLifecycleService {
+
+    private final AuctionRepository auctionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 경매 시작 처리
+     *
+     * @return 상태가 전환되었으면 true (경매가 없거나 UPCOMING 이 아니면 false)
+     */
+    @Transactional
+    public boolean startAuction(Long auctionId) {
+        Optional<Auction> found = auctionRepository.findById(auctionId);
+        if (found.isEmpty()) {
+            log.warn("[AuctionLifecycle] 경매를 찾을 수 없음 - 경매 ID: {}", auctionId);
+            return false;
+        }
+
+        Auction auction = found.get();
+        if (auction.getStatus() != AuctionStatus.UPCOMING) {
+            log.warn("[AuctionLifecycle] 경매 상태가 UPCOMING이 아님 - 경매 ID: {}, 현재 상태: {}", auctionId, auction.getStatus());
+            return false;
+        }
+
+        auction.setStatus(AuctionStatus.ONGOING);
+        auctionRepository.save(auction);
+        log.info("[AuctionLifecycle] 경매 시작 완료 - 경매 ID: {}, 상품명: {}", auctionId, auction.getProduct().getProductName());
+        return true;
+    }
+
+    /**
+     * 경매 종료 처리 후 종료 이벤트 발행
+     *
+     * @return 상태가 전환되었으면 true (경매가 없거나 ONGOING 이 아니면 false)
+     */
+    @Transactional
+    public boolean endAuction(Long auctionId) {
+        Optional<Auction> found = auctionRepository.findById(auctionId);
+        if (found.isEmpty()) {
+            log.warn("[AuctionLifecycle] 경매를 찾을 수 없음 - 경매 ID: {}", auctionId);
+            return false;
+        }
+
+        Auction auction = found.get();
+        if (auction.getStatus() != AuctionStatus.ONGOING) {
+            log.warn("[AuctionLifecycle] 경매 상태가 ONGOING이 아님 - 경매 ID: {}, 현재 상태: {}", auctionId, auction.getStatus());
+            return false;
+        }
+
+        auction.setStatus(AuctionStatus.FINISHED);
+        auctionRepository.save(auction);
+        log.info("[AuctionLifecycle] 경매 종료 완료 - 경매 ID: {}, 상품명: {}", auctionId, auction.getProduct().getProductName());
+        eventPublisher.publishEvent(new AuctionFinishedEvent(this, auction));
+        log.debug("[AuctionLifecycle] 경매 종료 이벤트 발행 완료 - 경매 ID: {}", auctionId);
+        return true;
+    }
+
+    /**
+     * 서버 시작 시 지난 경매 상태 일괄 수정 (UPDATE 3회, 경매를 메모리에 올리지 않음)
+     * - UPCOMING 인데 종료 시각까지 지남 → FINISHED
+     * - UPCOMING 인데 시작 시각이 지남 → ONGOING
+     * - ONGOING 인데 종료 시각이 지남 → FINISHED
+     *
+     * @return 수정된 경매 수
+     */
+    @Transactional
+    public int recoverPastStatuses(LocalDateTime now) {
+        int upcomingToFinished = auctionRepository.updateStatusEndedBefore(AuctionStatus.UPCOMING, AuctionStatus.FINISHED, now);
+        int upcomingToOngoing = auctionRepository.updateStatusStartedBefore(AuctionStatus.UPCOMING, AuctionStatus.ONGOING, now);
+        int ongoingToFinished = auctionRepository.updateStatusEndedBefore(AuctionStatus.ONGOING, AuctionStatus.FINISHED, now);
+
+        int fixed = upcomingToFinished + upcomingToOngoing + ongoingToFinished;
+        if (fixed > 0) {
+            log.info("[AuctionLifecycle] 경매 상태 자동 수정 완료 - UPCOMING → FINISHED: {}, UPCOMING → ONGOING: {}, ONGOING → FINISHED: {}",
+                    upcomingToFinished, upcomingToOngoing, ongoingToFinished);
+        }
+        return fixed;
+    }
+
+    /**
+     * 낙찰자가 저장되지 않은 종료 경매에 종료 이벤트 다시 발행 (서버 시작 시 복구용)
+     * - 종료 커밋 후 낙찰 처리 전에 노드가 종료된 경매
+     * - recoverPastStatuses 로 이벤트 없이 FINISHED 가 된 경매
+     * 입찰이 없는 경매는 낙찰 처리에서 건너뛰므로 제외하고, since 이후 종료된 경매만 확인합니다.
+     *
+     * @return 이벤트를 다시 발행한 경매 수
+     */
+    public int republishUnsettled(LocalDateTime since, int batchSize) {
+        int republished = 0;
+        Long lastId = 0L;
+        while (true) {
+            List<Long> auctionIds = auctionRepository.findFinishedWithoutWinnerAfter(lastId, since, PageRequest.of(0, batchSize));
+            if (auctionIds.isEmpty()) {
+                break;
+            }
+            eventPublisher.publishEvent(new AuctionsFinishedEvent(this, auctionIds));
+            republished += auctionIds.size();
+            lastId = auctionIds.get(auctionIds.size() - 1);
+            if (auctionIds.size() < batchSize) {
+                break;
+            }
+        }
+        if (republished > 0) {
+            log.info("[AuctionLifecycle] 낙찰 미처리 종료 경매 재처리 - 대상: {}, 기준 종료 시각: {} 이후", republished, since);
+        }
+        return republished;
+    }
+
+    /**
+     * 시작 시각이 지난 UPCOMING 경매 일괄 시작 (잠금 조회 1회 + UPDATE 1회)
+     *
+     * @return 이번 배치에서 잠근 경매 수 (limit 과 같으면 남은 경매가 더 있을 수 있음)
+     */
+    @Transactional
+    public int startDue(LocalDateTime now, int limit) {
+        List<Long> auctionIds = auctionRepository.lockUpcomingStartedBefore(now, limit);
+        if (auctionIds.isEmpty()) {
+            return 0;
+        }
+
+        int updated = auctionRepository.updateStatus(auctionIds, AuctionStatus.UPCOMING, AuctionStatus.ONGOING);
+        log.info("[AuctionLifecycle] 경매 일괄 시작 - 대상: {}, 전환: {}", auctionIds.size(), updated);
+        return auctionIds.size();
+    }
+
+    /**
+     * 종료 시각이 지난 ONGOING 경매 일괄 종료 후 일괄 종료 이벤트 발행 (잠금 조회 1회 + UPDATE 1회)
+     *
+     * @return 이번 배치에서 잠근 경매 수 (limit 과 같으면 남은 경매가 더 있을 수 있음)
+     */
+    @Transactional
+    public int finishDue(LocalDateTime now, int limit) {
+        List<Long> auctionIds = auctionRepository.lockOngoingEndedBefore(now, limit);
+        if (auctionIds.isEmpty()) {
+            return 0;
+        }
+
+        // 잠근 행이므로 상태가 바뀌지 않음 (전환 수 = 잠근 수)
+        int updated = auctionRepository.updateStatus(auctionIds, AuctionStatus.ONGOING, AuctionStatus.FINISHED);
+        log.info("[AuctionLifecycle] 경매 일괄 종료 - 대상: {}, 전환: {}", auctionIds.size(), updated);
+        eventPublisher.publishEvent(new AuctionsFinishedEvent(this, auctionIds));
+        return auctionIds.size();
+    }
+}
@@ -1,75 +1,227 @@
 package org.example.bidflow.global.app;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.bidflow.domain.auction.entity.Auction;
+import org.example.bidflow.domain.auction.repository.AuctionRepository;
 import org.example.bidflow.domain.user.entity.User;
 import org.example.bidflow.domain.user.repository.UserRepository;
-import org.example.bidflow.domain.winner.entity.Winner;
-import org.example.bidflow.domain.winner.repository.WinnerRepository;
-import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.example.bidflow.global.app.closing.AuctionClosingCache;
+import org.example.bidflow.global.messaging.broadcast.ConflatingAuctionBroadcaster;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadPoolExecutor;
 
 
 // 이벤트 수신 및 낙찰자 처리 후 WebSocket 메시지 전송
+// 경매 종료 트랜잭션이 커밋된 뒤 전용 스레드에서 처리하여 Quartz / 휠 / 스위퍼 스레드를 바로 반환한다.
+// 종료 전 캐시(AuctionClosingCache)가 준비된 경매는 경매 / 낙찰자 닉네임 조회를 메모리에서 처리한다.
+// 낙찰 처리는 커밋 이후 메모리 작업이므로 처리 전에 노드가 종료되면 유실된다.
+// 유실된 낙찰은 서버 시작 시 복구(AuctionScheduleInitializer → AuctionLifecycleService.republishUnsettled)가 다시 처리한다.
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class AuctionListenerEvent {
-    private final WinnerRepository winnerRepository;
+    private static final List<String> BID_FIELDS = List.of("amount", "userUUID");
+
+    // 같은 경매의 낙찰자는 한 번만 저장 (WINNER_TABLE.AUCTION_ID 유니크 키, 중복 키 오류로 배치 전체가 실패하지 않도록)
+    private static final String INSERT_WINNER_SQL =
+            "INSERT IGNORE INTO WINNER_TABLE (USER_UUID, AUCTION_ID, WINNING_BID, WIN_TIME) VALUES (?, ?, ?, ?)";
+
     private final UserRepository userRepository;
-    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final AuctionRepository auctionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConflatingAuctionBroadcaster conflatingAuctionBroadcaster;
     private final RedisCommon redisCommon;
+    private final AuctionClosingCache auctionClosingCache;
+    private final ThreadPoolTaskExecutor settlementExecutor;
+
+    public AuctionListenerEvent(UserRepository userRepository,
+                                AuctionRepository auctionRepository,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ConflatingAuctionBroadcaster conflatingAuctionBroadcaster,
+                                RedisCommon redisCommon,
+                                AuctionClosingCache auctionClosingCache,
+                                ApplicationExecutors executors,
+                                @Value("${auction.settlement.threads:2}") int threads,
+                                @Value("${auction.settlement.queue-capacity:1000}") int queueCapacity) {
+        this.userRepository = userRepository;
+        this.auctionRepository = auctionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.conflatingAuctionBroadcaster = conflatingAuctionBroadcaster;
+        this.redisCommon = redisCommon;
+        this.auctionClosingCache = auctionClosingCache;
+        // 종료가 몰리면 큐에 쌓고, 큐가 가득 차면 호출 스레드에서 직접 처리하여 유실 없이 속도를 늦춘다
+        this.settlementExecutor = executors.create("auction-settle-", threads, queueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy(), 30);
+    }
 
-    // 이벤트 발생 시 즉시 실행
-    @EventListener
+    // 경매 종료 커밋 후 실행 (커밋 전에 낙찰자를 저장 / 전송하면 롤백된 종료가 알려질 수 있음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleAuctionFinished(AuctionFinishedEvent event) {
         Auction auction = event.getAuction();
-        Long auctionId= auction.getAuctionId();
-        String key = "auction:" + auction.getAuctionId();
+        settlementExecutor.execute(() -> settleSafely(List.of(new Closed(auction.getAuctionId(), auction.getEndTime()))));
+    }
+
+    // 스위퍼 일괄 종료 이벤트 (Redis 조회 / 사용자 조회 / 낙찰자 저장을 경매 수와 관계없이 한 번씩)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleAuctionsFinished(AuctionsFinishedEvent event) {
+        List<Long> auctionIds = event.getAuctionIds();
+        settlementExecutor.execute(() -> {
+            List<Closed> closed = new ArrayList<>(auctionIds.size());
+            List<Long> uncached = new ArrayList<>();
+            for (Long auctionId : auctionIds) {
+                AuctionClosingCache.ClosingAuction cached = auctionClosingCache.get(auctionId);
+                if (cached != null) {
+                    closed.add(new Closed(auctionId, cached.endTime()));
+                } else {
+                    uncached.add(auctionId);
+                }
+            }
+            if (!uncached.isEmpty()) {
+                auctionRepository.findEndTimesByIds(uncached)
+                        .forEach(auction -> closed.add(new Closed(auction.auctionId(), auction.endTime())));
+            }
+            settleSafely(closed);
+            log.info("[AuctionEvent] 낙찰 일괄 처리 완료 - 종료 경매 수: {}, DB 조회: {}", closed.size(), uncached.size());
+        });
+    }
 
-        // 입찰 정보 확인
-        Integer amount = redisCommon.getFromHash(key, "amount", Integer.class);
-        String userUUID = redisCommon.getFromHash(key, "userUUID", String.class);
+    private void settleSafely(List<Closed> auctions) {
+        try {
+            settle(auctions);
+        } catch (Exception e) {
+            log.error("[AuctionEvent] 낙찰 처리 실패 - 경매 ID: {}",
+                    auctions.stream().map(Closed::auctionId).toList(), e);
+        }
+    }
 
-        if (amount == null) {
-            log.warn("[Scheduler] 입찰 금액 없음, 경매 ID: {}", auctionId);
+    private void settle(List<Closed> auctions) {
+        if (auctions.isEmpty()) {
             return;
         }
 
-        if (userUUID == null) {
-            log.warn("[AuctionEvent] 입찰자 없음 - 경매 ID: {}", auctionId);
+        // 입찰 정보 확인 (파이프라인 1회)
+        List<String> keys = auctions.stream().map(auction -> "auction:" + auction.auctionId()).toList();
+        List<List<String>> bids = redisCommon.getFieldsFromHashes(keys, BID_FIELDS);
+
+        List<Closed> settled = new ArrayList<>(auctions.size());
+        List<Integer> amounts = new ArrayList<>(auctions.size());
+        List<String> userUUIDs = new ArrayList<>(auctions.size());
+        for (int i = 0; i < auctions.size(); i++) {
+            Long auctionId = auctions.get(i).auctionId();
+            Integer amount = redisCommon.fromJson(bids.get(i).get(0), Integer.class);
+            String userUUID = redisCommon.fromJson(bids.get(i).get(1), String.class);
+
+            if (amount == null) {
+                log.warn("[Scheduler] 입찰 금액 없음, 경매 ID: {}", auctionId);
+                continue;
+            }
+
+            if (userUUID == null) {
+                log.warn("[AuctionEvent] 입찰자 없음 - 경매 ID: {}", auctionId);
+                continue;
+            }
+
+            settled.add(auctions.get(i));
+            amounts.add(amount);
+            userUUIDs.add(userUUID);
+        }
+        if (settled.isEmpty()) {
             return;
         }
 
-        Optional<User> userOpt = userRepository.findByUserUUID(userUUID);
-        if (userOpt.isEmpty()) {
-            log.warn("[AuctionEvent] 사용자 없음 - UUID: {}, 경매 ID: {}", userUUID, auctionId);
+        // 낙찰자 닉네임 (종료 전 캐시에 없는 사용자만 조회, 조회되지 않은 사용자는 낙찰 저장 생략)
+        Map<String, String> nicknames = new HashMap<>();
+        Set<String> unresolved = new HashSet<>();
+        for (int i = 0; i < settled.size(); i++) {
+            String nickname = auctionClosingCache.nickname(settled.get(i).auctionId(), userUUIDs.get(i));
+            if (nickname != null) {
+                nicknames.put(userUUIDs.get(i), nickname);
+            } else {
+                unresolved.add(userUUIDs.get(i));
+            }
+        }
+        unresolved.removeAll(nicknames.keySet());
+        if (!unresolved.isEmpty()) {
+            for (User user : userRepository.findAllByUserUUIDIn(unresolved)) {
+                nicknames.put(user.getUserUUID(), user.getNickname());
+            }
+        }
+
+        // 낙찰자 일괄 저장 (IDENTITY 키라 JPA saveAll 은 행마다 INSERT 하므로 JDBC 배치 사용)
+        List<Object[]> rows = new ArrayList<>(settled.size());
+        List<Integer> winnerIndexes = new ArrayList<>(settled.size());
+        for (int i = 0; i < settled.size(); i++) {
+            Closed auction = settled.get(i);
+            if (!nicknames.containsKey(userUUIDs.get(i))) {
+                log.warn("[AuctionEvent] 사용자 없음 - UUID: {}, 경매 ID: {}", userUUIDs.get(i), auction.auctionId());
+                continue;
+            }
+            rows.add(new Object[]{userUUIDs.get(i), auction.auctionId(), amounts.get(i),
+                    auction.endTime() != null ? Timestamp.valueOf(auction.endTime()) : null});
+            winnerIndexes.add(i);
+        }
+        if (rows.isEmpty()) {
             return;
         }
-        User user = userOpt.get();
-
-        // 낙찰자 저장
-        Winner winner = Winner.builder()
-                .winningBid(amount)
-                .winTime(auction.getEndTime())
-                .user(user)
-                .auction(auction)
-                .build();
-        winnerRepository.save(winner);
-        log.info("[AuctionEvent] 낙찰자 저장 - 경매 ID: {}, 금액: {}", auctionId, amount);
-
-        // WebSocket 메시지 전송
-        Map<String, Object> message = new HashMap<>();
-        message.put("auctionId", auctionId);
-        message.put("winnerNickname", user.getNickname());
-        message.put("winningBid", amount);
-        simpMessagingTemplate.convertAndSend("/sub/auction/" + auctionId, message);
-        log.info("[AuctionEvent] WebSocket 전송 완료 - 경매 ID: {}", auctionId);
+        // 커넥션 auto-commit 이 꺼져 있으므로 트랜잭션으로 커밋
+        // rewriteBatchedStatements 배치는 행별 결과가 SUCCESS_NO_INFO(-2)이므로, 이미 저장된 낙찰은 저장 전에 조회하여 제외
+        Set<Long> saved = transactionTemplate.execute(status -> {
+            Set<Long> existing = lockAndFindSettled(rows.stream().map(row -> (Long) row[1]).toList());
+            List<Object[]> newRows = rows.stream().filter(row -> !existing.contains((Long) row[1])).toList();
+            if (!newRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_WINNER_SQL, newRows);
+            }
+            return existing;
+        });
+        log.info("[AuctionEvent] 낙찰자 저장 - 낙찰 수: {}, 이미 저장됨: {}", rows.size() - saved.size(), saved.size());
+
+        // 저장이 끝난 뒤 WebSocket 메시지 전송 (대기 중인 가격 갱신을 먼저 보낸 뒤 병합 없이 전송)
+        for (int n = 0; n < winnerIndexes.size(); n++) {
+            int i = winnerIndexes.get(n);
+            if (saved.contains(settled.get(i).auctionId())) {
+                continue; // 이미 저장된 낙찰 (중복 종료 / 복구 재처리)
+            }
+            Long auctionId = settled.get(i).auctionId();
+            Map<String, Object> message = new HashMap<>();
+            message.put("auctionId", auctionId);
+            message.put("winnerNickname", nicknames.get(userUUIDs.get(i)));
+            message.put("winningBid", amounts.get(i));
+            conflatingAuctionBroadcaster.broadcastFinal(auctionId, message);
+            log.debug("[AuctionEvent] WebSocket 전송 완료 - 경매 ID: {}", auctionId);
+        }
+    }
+
+    // 경매 행을 잠근 뒤 이미 낙찰자가 저장된 경매 ID 조회
+    // (같은 경매를 동시에 처리하는 다른 스레드 / 노드는 커밋까지 대기하므로 조회 결과와 저장이 어긋나지 않음)
+    private Set<Long> lockAndFindSettled(List<Long> auctionIds) {
+        String placeholders = String.join(",", Collections.nCopies(auctionIds.size(), "?"));
+        Object[] args = auctionIds.toArray();
+        jdbcTemplate.queryForList("SELECT AUCTION_ID FROM AUCTION_TABLE WHERE AUCTION_ID IN (" + placeholders + ") FOR UPDATE",
+                Long.class, args);
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT AUCTION_ID FROM WINNER_TABLE WHERE AUCTION_ID IN (" + placeholders + ")", Long.class, args));
+    }
+
+    // 낙찰 처리 대상 (경매 ID, 종료 시각 = 낙찰 시각)
+    private record Closed(Long auctionId, LocalDateTime endTime) {
     }
 }
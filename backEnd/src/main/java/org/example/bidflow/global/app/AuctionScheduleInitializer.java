@@ -1,67 +1,97 @@
 package org.example.bidflow.global.app;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.bidflow.data.AuctionStatus;
-import org.example.bidflow.domain.auction.entity.Auction;
+import org.example.bidflow.domain.auction.dto.AuctionScheduleTarget;
 import org.example.bidflow.domain.auction.repository.AuctionRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
 
+/**
+ * 서버 시작 시 경매 상태 / 스케줄 복구
+ *
+ * 1. 지난 경매 상태는 UPDATE 몇 번으로 일괄 수정 (전체 경매를 메모리에 올리지 않음)
+ * 2. 최근 종료되었는데 낙찰자가 저장되지 않은 경매의 낙찰 처리 재실행 (종료 커밋 후 낙찰 처리 전에 노드가 종료된 경우)
+ * 3. 스케줄이 필요한 경매만 ID 순서 페이지(keyset)로 필요한 컬럼만 조회하고, 페이지 단위로 일괄 등록
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class AuctionScheduleInitializer implements ApplicationRunner {
 
     private final AuctionRepository auctionRepository;
     private final AuctionSchedulerService auctionSchedulerService;
+    private final AuctionLifecycleService auctionLifecycleService;
+    private final int batchSize;
+    private final long settlementLookbackHours;
+
+    public AuctionScheduleInitializer(AuctionRepository auctionRepository,
+                                      AuctionSchedulerService auctionSchedulerService,
+                                      AuctionLifecycleService auctionLifecycleService,
+                                      @Value("${auction.scheduler.recovery-batch-size:1000}") int batchSize,
+                                      @Value("${auction.settlement.recovery-lookback-hours:24}") long settlementLookbackHours) {
+        this.auctionRepository = auctionRepository;
+        this.auctionSchedulerService = auctionSchedulerService;
+        this.auctionLifecycleService = auctionLifecycleService;
+        this.batchSize = batchSize;
+        this.settlementLookbackHours = settlementLookbackHours;
+    }
 
     @Override
-    @Transactional
     public void run(ApplicationArguments args) throws Exception {
         log.info("[AuctionScheduleInitializer] 경매 스케줄 복구 시작");
+        long startedAt = System.currentTimeMillis();
         
         try {
             LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
             
-            // 1. 과거 경매 상태 자동 수정
+            // 1. 과거 경매 상태 자동 수정 (일괄 UPDATE)
             fixPastAuctionStatuses(now);
             
-            // 2. 스케줄이 필요한 경매들 조회
-            List<Auction> auctionsToSchedule = auctionRepository.findAuctionsNeedingSchedule(now);
-            
-            if (auctionsToSchedule.isEmpty()) {
-                log.info("[AuctionScheduleInitializer] 복구할 경매 스케줄이 없습니다.");
-                return;
-            }
-            
-            log.info("[AuctionScheduleInitializer] 복구 대상 경매 수: {}", auctionsToSchedule.size());
+            // 2. 낙찰 처리 누락 경매 재처리 (종료 이벤트 재발행)
+            republishUnsettledAuctions(now);
             
+            // 3. 스케줄이 필요한 경매들을 페이지 단위로 조회 후 일괄 등록
+            int scannedCount = 0;
             int scheduledCount = 0;
-            
-            for (Auction auction : auctionsToSchedule) {
+            Long lastId = 0L;
+            while (true) {
+                List<AuctionScheduleTarget> page = auctionRepository.findScheduleTargetsAfter(
+                        lastId, now, PageRequest.of(0, batchSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+                
+                List<AuctionScheduleTarget> targets = page.stream()
+                        .filter(target -> shouldScheduleAuction(target, now))
+                        .toList();
                 try {
-                    // 미래 시각의 경매만 스케줄 등록
-                    if (shouldScheduleAuction(auction, now)) {
-                        auctionSchedulerService.scheduleAuction(auction);
-                        scheduledCount++;
-                        log.debug("[AuctionScheduleInitializer] 경매 스케줄 복구 완료 - 경매 ID: {}, 상태: {}", 
-                                auction.getAuctionId(), auction.getStatus());
-                    }
+                    scheduledCount += auctionSchedulerService.scheduleAll(targets, now);
                 } catch (Exception e) {
-                    log.error("[AuctionScheduleInitializer] 개별 경매 스케줄 복구 실패 - 경매 ID: {}", 
-                            auction.getAuctionId(), e);
+                    log.error("[AuctionScheduleInitializer] 경매 스케줄 일괄 복구 실패 - 경매 ID: {} ~ {}",
+                            page.get(0).auctionId(), page.get(page.size() - 1).auctionId(), e);
+                }
+                
+                scannedCount += page.size();
+                lastId = page.get(page.size() - 1).auctionId();
+                if (page.size() < batchSize) {
+                    break;
                 }
             }
             
-            log.info("[AuctionScheduleInitializer] 경매 스케줄 복구 완료 - 총 {}개 중 {}개 복구", 
-                    auctionsToSchedule.size(), scheduledCount);
+            if (scannedCount == 0) {
+                log.info("[AuctionScheduleInitializer] 복구할 경매 스케줄이 없습니다.");
+                return;
+            }
+            
+            log.info("[AuctionScheduleInitializer] 경매 스케줄 복구 완료 - 대상 경매 {}개, 등록한 마감 {}개, 소요 {}ms", 
+                    scannedCount, scheduledCount, System.currentTimeMillis() - startedAt);
                     
         } catch (Exception e) {
             log.error("[AuctionScheduleInitializer] 경매 스케줄 복구 중 오류 발생", e);
@@ -69,75 +99,45 @@ public class AuctionScheduleInitializer implements ApplicationRunner {
     }
     
     /**
-     * 과거 경매들의 상태를 자동으로 수정
+     * 과거 경매들의 상태를 일괄 수정
      */
     private void fixPastAuctionStatuses(LocalDateTime now) {
         try {
-            // 모든 경매 조회
-            List<Auction> allAuctions = auctionRepository.findAll();
-            int fixedCount = 0;
-            
-            for (Auction auction : allAuctions) {
-                boolean needsUpdate = false;
-                AuctionStatus newStatus = auction.getStatus();
-                
-                // UPCOMING 상태인데 시작 시간이 지난 경우
-                if (auction.getStatus() == AuctionStatus.UPCOMING && 
-                    auction.getStartTime() != null && 
-                    auction.getStartTime().isBefore(now)) {
-                    
-                    // 종료 시간도 지났으면 FINISHED, 아니면 ONGOING
-                    if (auction.getEndTime() != null && auction.getEndTime().isBefore(now)) {
-                        newStatus = AuctionStatus.FINISHED;
-                    } else {
-                        newStatus = AuctionStatus.ONGOING;
-                    }
-                    needsUpdate = true;
-                }
-                // ONGOING 상태인데 종료 시간이 지난 경우
-                else if (auction.getStatus() == AuctionStatus.ONGOING && 
-                         auction.getEndTime() != null && 
-                         auction.getEndTime().isBefore(now)) {
-                    newStatus = AuctionStatus.FINISHED;
-                    needsUpdate = true;
-                }
-                
-                if (needsUpdate) {
-                    auction.setStatus(newStatus);
-                    auctionRepository.save(auction);
-                    fixedCount++;
-                    log.info("[AuctionScheduleInitializer] 경매 상태 자동 수정 - 경매 ID: {}, {} → {}", 
-                            auction.getAuctionId(), auction.getStatus(), newStatus);
-                }
-            }
-            
-            if (fixedCount > 0) {
-                log.info("[AuctionScheduleInitializer] 경매 상태 자동 수정 완료 - {}개 경매 수정", fixedCount);
-            }
-            
+            auctionLifecycleService.recoverPastStatuses(now);
         } catch (Exception e) {
             log.error("[AuctionScheduleInitializer] 경매 상태 자동 수정 중 오류 발생", e);
         }
     }
     
+    /**
+     * 낙찰자가 저장되지 않은 최근 종료 경매 재처리
+     */
+    private void republishUnsettledAuctions(LocalDateTime now) {
+        try {
+            auctionLifecycleService.republishUnsettled(now.minusHours(settlementLookbackHours), batchSize);
+        } catch (Exception e) {
+            log.error("[AuctionScheduleInitializer] 낙찰 미처리 경매 재처리 중 오류 발생", e);
+        }
+    }
+    
     /**
      * 경매를 스케줄에 등록해야 하는지 판단
      */
-    private boolean shouldScheduleAuction(Auction auction, LocalDateTime now) {
+    private boolean shouldScheduleAuction(AuctionScheduleTarget auction, LocalDateTime now) {
         // UPCOMING 상태이고 시작 시간이 미래인 경우
-        if (auction.getStatus() == AuctionStatus.UPCOMING && 
-            auction.getStartTime() != null && 
-            auction.getStartTime().isAfter(now)) {
+        if (auction.status() == AuctionStatus.UPCOMING && 
+            auction.startTime() != null && 
+            auction.startTime().isAfter(now)) {
             return true;
         }
         
         // ONGOING 상태이고 종료 시간이 미래인 경우
-        if (auction.getStatus() == AuctionStatus.ONGOING && 
-            auction.getEndTime() != null && 
-            auction.getEndTime().isAfter(now)) {
+        if (auction.status() == AuctionStatus.ONGOING && 
+            auction.endTime() != null && 
+            auction.endTime().isAfter(now)) {
             return true;
         }
         
         return false;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package org.example.bidflow.global.app;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+// 스위퍼가 한 번에 종료 처리한 경매들의 이벤트 (낙찰 일괄 처리)
+@Getter
+public class AuctionsFinishedEvent extends ApplicationEvent {
+    private final List<Long> auctionIds;
+
+    public AuctionsFinishedEvent(Object source, List<Long> auctionIds) {
+        super(source);
+        this.auctionIds = auctionIds;
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.bidflow.global.app;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.UUID;
+
+/**
+ * 현재 서버 노드 식별자
+ * Redis Pub/Sub 으로 노드 간 메시지를 주고받을 때 자기 자신이 발행한 메시지를 구분하는 데 사용합니다.
+ * (호스트명 + 기동 시마다 새로 만드는 짧은 난수)
+ */
+@Slf4j
+@Getter
+@Component
+public class NodeIdentity {
+
+    private final String nodeId;
+
+    public NodeIdentity() {
+        this.nodeId = resolveHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        log.info("[Node] 서버 노드 식별자 - nodeId: {}", nodeId);
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -5,7 +5,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -22,6 +26,17 @@ public class RedisCommon {
     private final Gson gson;
     private final Duration timeUnit = Duration.ofSeconds(5);
 
+    /**
+     * KEYS: [해시 키], ARGV: [카운터 필드, 필드1, 값1, 필드2, 값2, ...]
+     * 필드들을 저장하고 같은 원자적 실행 안에서 카운터 필드를 1 증가시켜 반환
+     */
+    private static final RedisScript<Long> PUT_AND_INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            for i = 2, #ARGV, 2 do
+              redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            return redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            """, Long.class);
+
     /*@Value("${spring.data.redis.timeout}")
     private Duration defaultExpireTime;*/
 
@@ -179,6 +194,25 @@ public class RedisCommon {
         }
     }
 
+    // explain: Redis Hash에 여러 필드를 저장하면서 카운터 필드를 원자적으로 1 증가 - 저장 순서를 나타내는 순번 반환 (실패 시 null)
+    public <T> Long putInHashAndIncrement(String key, Map<String, T> values, String counterField) {
+        List<String> args = new ArrayList<>(values.size() * 2 + 1);
+        args.add(counterField);
+        values.forEach((field, value) -> {
+            args.add(field);
+            args.add(gson.toJson(value));
+        });
+
+        try {
+            Long counter = template.execute(PUT_AND_INCREMENT_SCRIPT, List.of(key), args.toArray());
+            log.debug("[Redis 해시 저장] 해시 필드 저장 + 카운터 증가 성공 - Key: {}, 카운터: {}", key, counter);
+            return counter;
+        } catch (Exception e) {
+            log.error("[Redis 오류] 해시 필드 저장 + 카운터 증가 실패 - Key: {}, Fields: {}", key, values.keySet(), e);
+            return null;
+        }
+    }
+
     // explain: Redis Hash에서 특정 필드의 값을 조회. - 특정 속성 조회.
     public <T> T getFromHash(String key, String field, Class<T> clazz) {
         log.debug("[Redis 해시 조회] 해시 필드 조회 시도 - Key: {}, Field: {}, 클래스: {}", key, field, clazz.getSimpleName());
@@ -201,6 +235,48 @@ public class RedisCommon {
         }
     }
 
+    // explain: 여러 Hash 에서 같은 필드들을 파이프라인 한 번으로 조회 - 키 순서대로 필드 값(JSON 문자열, 없으면 null) 목록 반환
+    @SuppressWarnings("unchecked")
+    public List<List<String>> getFieldsFromHashes(List<String> keys, List<String> fields) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        List<Object> hashFields = new ArrayList<>(fields);
+        List<Object> results = template.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> redisOperations = (RedisOperations<String, String>) operations;
+                for (String key : keys) {
+                    redisOperations.opsForHash().multiGet(key, hashFields);
+                }
+                return null;
+            }
+        });
+
+        List<List<String>> values = new ArrayList<>(results.size());
+        for (Object result : results) {
+            List<String> row = new ArrayList<>(fields.size());
+            for (Object value : (List<Object>) result) {
+                row.add(value != null ? value.toString() : null);
+            }
+            values.add(row);
+        }
+        return values;
+    }
+
+    // explain: Redis 에 JSON 으로 저장된 값을 객체로 변환 (getFieldsFromHashes 결과 변환용)
+    public <T> T fromJson(String json, Class<T> clazz) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return gson.fromJson(json, clazz);
+        } catch (Exception e) {
+            log.error("[Redis 오류] 값 변환 실패 - 값: {}, 클래스: {}", json, clazz.getSimpleName(), e);
+            return null;
+        }
+    }
+
     // explain: Redis에 복수개의 데이터를 한 번에 저장
     public <T> void putAllInHash(String key, Map<String, T> entries) {
         Map<Object, Object> mappedEntries = new HashMap<>();
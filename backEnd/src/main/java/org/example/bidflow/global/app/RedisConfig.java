@@ -1,6 +1,8 @@
 package org.example.bidflow.global.app;
 
 
+import org.example.bidflow.global.service.TokenRevocationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,6 +11,7 @@ import org.springframework.data.redis.connection.RedisPassword;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 // Redis 설정을 담당
@@ -24,6 +27,9 @@ public class RedisConfig {
     @Value("${spring.data.redis.password}")
     private String password;
 
+    /** 구독 메시지 대기열이 가득 찼을 때 Lettuce 스레드가 기다리는 최대 시간 (넘으면 메시지 폐기) */
+    private static final long PUBSUB_ENQUEUE_TIMEOUT_MILLIS = 5_000;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
@@ -45,6 +51,24 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    // Redis Pub/Sub 구독 컨테이너 (노드 간 이벤트 전파용, 구독은 각 컴포넌트에서 등록)
+    // 구독 메시지 처리 스레드 (기본값은 메시지마다 새 스레드를 만들고 순서도 보장되지 않음)
+    // 단일 스레드로 처리하여 같은 경매의 가격 갱신이 발행 순서대로 전달되도록 한다.
+    // 대기열이 가득 차면 Lettuce 스레드에서 직접 실행하지 않고(순서가 바뀜) 자리가 날 때까지 잠시 기다린다.
+    // 그래도 버려진 메시지가 토큰 폐기(auth:revoked)였을 수 있으므로, 재구독 때처럼 폐기 블룸 필터를 버리고
+    // 다시 구성될 때까지 HTTP 요청은 Redis 블랙리스트로 확인한다. (폐기 목록은 컴포넌트 간 순환을 피해 지연 조회)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       ApplicationExecutors executors,
+                                                                       ObjectProvider<TokenRevocationRegistry> revocationRegistry) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setTaskExecutor(executors.create("redis-pubsub-", 1, 10_000,
+                ApplicationExecutors.blockingEnqueue(PUBSUB_ENQUEUE_TIMEOUT_MILLIS,
+                        () -> revocationRegistry.ifAvailable(registry -> registry.discardFilter("구독 메시지 폐기"))), 0));
+        return container;
+    }
+
     /*@Bean
     // 이 메서드는 RedisTemplate을 설정하고 반환하는 메서드
     // RedisTemplate<String, String>은 Redis에서 데이터를 저장하고 조회하는 데 사용 여기서는 String 타입의 키와 값
@@ -3,6 +3,7 @@ package org.example.bidflow.global.app;
 import lombok.RequiredArgsConstructor;
 import org.example.bidflow.global.config.OriginConfig;
 import org.example.bidflow.global.filter.JwtAuthenticationFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -24,10 +25,10 @@ public class SecurityConfig {
 
     private final OriginConfig originConfig;
 
-    // 비밀번호 인코더
+    // 비밀번호 인코더 (cost 를 올리면 기존 사용자는 다음 로그인 성공 시 새 cost 로 다시 해시됨)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
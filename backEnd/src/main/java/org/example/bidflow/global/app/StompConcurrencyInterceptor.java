@@ -0,0 +1,74 @@
+package org.example.bidflow.global.app;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.global.service.AdaptiveConcurrencyLimiter;
+import org.example.bidflow.global.service.AdaptiveConcurrencyLimiter.EndpointGroup;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP 입찰 메시지 적응형 동시성 제한 인터셉터
+ *
+ * 입찰은 HTTP 가 아닌 STOMP(/app/auction/bid)로 들어오므로 AdaptiveConcurrencyFilter 를 거치지 않습니다.
+ * clientInboundChannel 의 실행 스레드에서 @MessageMapping 핸들러 직전/직후에 슬롯을 획득/반환합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompConcurrencyInterceptor implements ExecutorChannelInterceptor {
+
+    private static final String BID_DESTINATION = "/app/auction/bid";
+
+    /** beforeHandle 시점의 시각 (afterMessageHandled 에서 처리 시간 계산용) */
+    private static final ThreadLocal<Long> HANDLE_START = new ThreadLocal<>();
+
+    private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+    private final StompErrorSender stompErrorSender;
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        // 인바운드 메시지는 브로커/유저 목적지 핸들러에도 각각 전달되므로 @MessageMapping 핸들러만 대상으로 함
+        if (!isBidMessage(message, handler)) {
+            return message;
+        }
+
+        long start = System.nanoTime();
+        if (!adaptiveConcurrencyLimiter.tryAcquire(EndpointGroup.BID)) {
+            String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+            log.warn("[Adaptive Concurrency] 입찰 메시지 차단 - 세션: {}", sessionId);
+            if (sessionId != null) {
+                stompErrorSender.sendToSession(sessionId, "서버가 혼잡합니다. 잠시 후 다시 시도해주세요.");
+            }
+            return null;
+        }
+        HANDLE_START.set(start);
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (!isBidMessage(message, handler)) {
+            return;
+        }
+        Long start = HANDLE_START.get();
+        if (start != null) {
+            HANDLE_START.remove();
+            adaptiveConcurrencyLimiter.release(EndpointGroup.BID, start);
+        }
+    }
+
+    private boolean isBidMessage(Message<?> message, MessageHandler handler) {
+        if (!(handler instanceof SimpAnnotationMethodMessageHandler)) {
+            return false;
+        }
+        MessageHeaders headers = message.getHeaders();
+        return BID_DESTINATION.equals(SimpMessageHeaderAccessor.getDestination(headers));
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.bidflow.global.app;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.domain.bid.dto.model.response.webSocket.BidErrorResponse;
+import org.example.bidflow.domain.bid.dto.model.response.webSocket.WebSocketResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+
+/**
+ * 인바운드 채널 인터셉터에서 폐기한 STOMP 프레임 / 거부된 입찰에 대해
+ * 해당 세션에게만 에러 프레임을 보내는 헬퍼
+ */
+@Slf4j
+@Component
+public class StompErrorSender {
+
+    /** 개인 에러 큐 */
+    private static final String ERROR_QUEUE = "/queue/errors";
+
+    /** 개인 입찰 결과 큐 (구독 경로: /user/queue/bids) */
+    private static final String BID_QUEUE = "/queue/bids";
+
+    // SimpMessagingTemplate 은 브로커 설정(인터셉터를 등록하는 쪽)에 의존하므로 지연 조회합니다.
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
+
+    public StompErrorSender(ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider) {
+        this.messagingTemplateProvider = messagingTemplateProvider;
+    }
+
+    /**
+     * 세션 단위 에러 전송
+     * Principal 이 없는 세션에도 전달되도록 세션 ID 를 user 로 사용합니다.
+     */
+    public void sendToSession(String sessionId, String errorMessage) {
+        try {
+            WebSocketResponse errorRes = WebSocketResponse.builder()
+                    .message("입찰 실패: " + errorMessage)
+                    .localDateTime(LocalDateTime.now())
+                    .nickname("System")
+                    .currentBid(0)
+                    .userUUID(null)
+                    .build();
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setSessionId(sessionId);
+            accessor.setLeaveMutable(true);
+            messagingTemplateProvider.getObject()
+                    .convertAndSendToUser(sessionId, ERROR_QUEUE, errorRes, accessor.getMessageHeaders());
+        } catch (Exception e) {
+            log.warn("[WebSocket 오류] 세션 에러 프레임 전송 실패 - 세션: {}, 오류: {}", sessionId, e.getMessage());
+        }
+    }
+
+    /**
+     * 입찰 실패 전송 (입찰한 세션에만 전달, 경매 구독자 전체에는 보내지 않음)
+     * Principal 이 있으면 사용자 목적지로, 없으면 세션 ID 를 user 로 사용합니다.
+     */
+    public void sendBidError(String sessionId, Principal user, BidErrorResponse errorResponse) {
+        try {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setSessionId(sessionId);
+            accessor.setLeaveMutable(true);
+            String target = user != null ? user.getName() : sessionId;
+            messagingTemplateProvider.getObject()
+                    .convertAndSendToUser(target, BID_QUEUE, errorResponse, accessor.getMessageHeaders());
+        } catch (Exception e) {
+            log.warn("[WebSocket 오류] 입찰 실패 전송 실패 - 세션: {}, 오류: {}", sessionId, e.getMessage());
+        }
+    }
+}
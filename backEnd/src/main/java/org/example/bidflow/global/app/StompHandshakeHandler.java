@@ -1,10 +1,17 @@
 package org.example.bidflow.global.app;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.domain.user.service.JwtBlacklistService;
+import org.example.bidflow.global.service.PenaltyBox;
+import org.example.bidflow.global.utils.ClientIpUtil;
 import org.example.bidflow.global.utils.CookieUtil;
 import org.example.bidflow.global.utils.JwtProvider;
+import org.example.bidflow.global.utils.TokenDigest;
+import org.example.bidflow.global.utils.VerifiedClaims;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.http.server.ServletServerHttpRequest;
@@ -21,6 +28,8 @@ public class StompHandshakeHandler implements HandshakeInterceptor {
 
     private final JwtProvider jwtProvider;
     private final CookieUtil cookieUtil;
+    private final PenaltyBox penaltyBox;
+    private final JwtBlacklistService jwtBlacklistService;
 
     // Handshake 전 처리 (쿠키 기반 인증 - 기본 검증만)
     @Override
@@ -31,14 +40,23 @@ public class StompHandshakeHandler implements HandshakeInterceptor {
         }
 
         HttpServletRequest httpRequest = servletRequest.getServletRequest();
+
+        // 페널티 박스에 등록된 IP 는 토큰 검증 없이 즉시 거부
+        if (penaltyBox.getRemainingPenaltyMillis(ClientIpUtil.getClientIp(httpRequest)) > 0) {
+            response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            return false;
+        }
+
         String token = extractToken(httpRequest);
+        StompPrincipal principal = token != null ? authenticate(token) : null;
 
-        // 토큰이 있고 유효하면 연결 허용 (세션에 저장)
-        if (token != null && jwtProvider.validateToken(token)) {
+        // 토큰을 한 번만 검증하고, 결과(불변 Principal)를 세션에 저장 (이후 메시지에서는 JWT 를 다시 파싱하지 않음)
+        if (principal != null) {
             log.info("[WebSocket Handshake] 성공 - 쿠키 기반 인증 완료");
-            // 세션 속성에 JWT 토큰 저장
-            attributes.put("jwt-token", token);
-            log.debug("[WebSocket Handshake] JWT 토큰 세션에 저장 완료");
+            attributes.put(StompPrincipal.SESSION_ATTRIBUTE, principal);
+            // STOMP 메시지 사용자별 Rate Limiting 을 위해 사용자 식별자 저장
+            attributes.put(StompRateLimitInterceptor.USER_UUID_ATTRIBUTE, principal.getName());
+            log.debug("[WebSocket Handshake] 세션 사용자 저장 완료 - userUUID: {}", principal.getName());
             return true;
         }
 
@@ -52,6 +70,32 @@ public class StompHandshakeHandler implements HandshakeInterceptor {
         // 추가 로직 필요 시 사용.
     }
 
+    /**
+     * JWT 서명 검증 1회 + 블랙리스트 확인 후 세션 사용자 생성 (실패 시 null)
+     */
+    private StompPrincipal authenticate(String token) {
+        try {
+            VerifiedClaims claims = jwtProvider.verify(token);
+            String userUUID = claims.userUUID();
+            if (userUUID == null) {
+                return null;
+            }
+            if (jwtBlacklistService.isBlacklisted(token)) {
+                log.warn("[WebSocket Handshake] 로그아웃한 토큰으로 연결 시도 - userUUID: {}", userUUID);
+                return null;
+            }
+
+            return new StompPrincipal(userUUID,
+                    claims.nickname(),
+                    claims.role(),
+                    claims.expiresAtMillis(),
+                    TokenDigest.sha256(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("[WebSocket Handshake] 토큰 검증 실패 - 오류: {}", e.getMessage());
+            return null;
+        }
+    }
+
     // Jwt 토큰을 추출하는 메서드 (쿠키 우선)
     private String extractToken(HttpServletRequest request) {
         // 1. 쿠키에서 토큰 추출 (우선순위)
@@ -0,0 +1,32 @@
+package org.example.bidflow.global.app;
+
+import java.security.Principal;
+
+/**
+ * STOMP 세션 사용자 (Handshake 에서 JWT 를 한 번 검증한 결과, 불변)
+ *
+ * 이름은 userUUID 이며 /user/queue/** 개인 목적지는 이 이름으로 세션을 찾습니다.
+ * 메시지마다 JWT 를 다시 파싱하지 않고 만료 시각(ms) 비교와 폐기 목록 조회만 수행합니다.
+ * 원본 토큰 대신 다이제스트만 보관합니다.
+ *
+ * @param name            userUUID
+ * @param nickname        닉네임
+ * @param role            역할 (예: ROLE_USER)
+ * @param expiresAtMillis 토큰 만료 시각 (epoch ms)
+ * @param tokenDigest     토큰 SHA-256 다이제스트 (폐기 여부 조회용)
+ */
+public record StompPrincipal(String name, String nickname, String role,
+                             long expiresAtMillis, String tokenDigest) implements Principal {
+
+    /** Handshake 시 세션 속성에 저장되는 키 */
+    public static final String SESSION_ATTRIBUTE = "stompPrincipal";
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
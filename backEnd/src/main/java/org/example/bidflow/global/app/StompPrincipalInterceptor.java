@@ -0,0 +1,77 @@
+package org.example.bidflow.global.app;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.data.BidErrorCode;
+import org.example.bidflow.domain.bid.dto.model.response.webSocket.BidErrorResponse;
+import org.example.bidflow.global.service.TokenRevocationRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.Map;
+
+/**
+ * STOMP 세션 사용자(Principal) 인터셉터
+ *
+ * - CONNECT: Handshake 에서 JWT 를 검증해 만든 {@link StompPrincipal} 을 세션 사용자로 등록
+ *   (사용자 목적지 /user/queue/bids 로 본인에게만 메시지를 보낼 수 있게 함)
+ * - SEND: JWT 를 다시 파싱하지 않고 만료 시각 비교 + 폐기 목록(메모리) 조회만 수행하여
+ *   만료되었거나 로그아웃된 세션의 메시지를 폐기
+ */
+@Slf4j
+@Component
+public class StompPrincipalInterceptor implements ChannelInterceptor {
+
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final StompErrorSender stompErrorSender;
+
+    public StompPrincipalInterceptor(TokenRevocationRegistry tokenRevocationRegistry,
+                                     StompErrorSender stompErrorSender) {
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.stompErrorSender = stompErrorSender;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(headers);
+
+        if (messageType == SimpMessageType.CONNECT) {
+            registerPrincipal(message);
+            return message;
+        }
+
+        if (messageType == SimpMessageType.MESSAGE
+                && SimpMessageHeaderAccessor.getUser(headers) instanceof StompPrincipal principal
+                && (principal.isExpired(System.currentTimeMillis())
+                    || tokenRevocationRegistry.isRevoked(principal.tokenDigest()))) {
+            String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+            log.warn("[WebSocket] 만료/폐기된 세션의 메시지 폐기 - 세션: {}, userUUID: {}", sessionId, principal.getName());
+            stompErrorSender.sendBidError(sessionId, principal, BidErrorResponse.of(null,
+                    BidErrorCode.TOKEN_EXPIRED, "인증 토큰이 만료되었습니다. 다시 로그인해주세요."));
+            return null;
+        }
+        return message;
+    }
+
+    private void registerPrincipal(Message<?> message) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return;
+        }
+
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        Object principal = attributes != null ? attributes.get(StompPrincipal.SESSION_ATTRIBUTE) : null;
+        if (principal instanceof Principal user) {
+            accessor.setUser(user);
+            log.debug("[WebSocket] 세션 사용자 설정 - 세션: {}, userUUID: {}", accessor.getSessionId(), user.getName());
+        }
+    }
+}
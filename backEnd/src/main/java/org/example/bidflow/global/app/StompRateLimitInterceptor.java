@@ -0,0 +1,179 @@
+package org.example.bidflow.global.app;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.global.config.RateLimitingConfig;
+import org.example.bidflow.global.config.RateLimitingConfig.StompLimit;
+import org.example.bidflow.global.utils.LocalTokenBucket;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * STOMP 인바운드 메시지 Rate Limiting 인터셉터
+ *
+ * RateLimitingFilter 는 /ws 경로를 건너뛰므로, 연결이 수립된 이후의 SEND 프레임은
+ * HTTP 필터의 제한을 받지 않습니다. 이 인터셉터는 clientInboundChannel 에서
+ * 세션별 / 사용자별 인메모리 토큰 버킷으로 메시지 속도를 제한하고,
+ * 초과된 프레임은 BidController 에 도달하기 전에 폐기합니다.
+ *
+ * - 세션 버킷: 세션 ID 기준 (DISCONNECT 시 제거)
+ * - 사용자 버킷: Handshake 시 저장된 userUUID 기준 (여러 탭/연결을 합산)
+ * - 제한된 세션에는 개인 큐(/user/queue/errors)로 에러 프레임 전송 (세션당 1초에 1회)
+ */
+@Slf4j
+@Component
+public class StompRateLimitInterceptor implements ChannelInterceptor {
+
+    /** Handshake 시 세션 속성에 저장되는 사용자 식별자 키 */
+    public static final String USER_UUID_ATTRIBUTE = "userUUID";
+
+    /** 제한 대상 목적지 prefix (애플리케이션으로 라우팅되는 SEND 프레임) */
+    private static final String APP_DESTINATION_PREFIX = "/app/";
+
+    /** 에러 프레임 재전송 최소 간격 */
+    private static final long ERROR_NOTICE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /** 사용자 버킷 유휴 판단 기준 */
+    private static final long USER_BUCKET_IDLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final RateLimitingConfig rateLimitingConfig;
+    private final StompErrorSender stompErrorSender;
+
+    private final Map<String, SessionLimitState> sessionStates = new ConcurrentHashMap<>();
+    private final Map<String, LocalTokenBucket> userBuckets = new ConcurrentHashMap<>();
+
+    private final Counter sessionRejectedCounter;
+    private final Counter userRejectedCounter;
+
+    public StompRateLimitInterceptor(RateLimitingConfig rateLimitingConfig,
+                                     StompErrorSender stompErrorSender,
+                                     MeterRegistry meterRegistry) {
+        this.rateLimitingConfig = rateLimitingConfig;
+        this.stompErrorSender = stompErrorSender;
+        this.sessionRejectedCounter = Counter.builder("websocket.stomp.rate_limited")
+                .description("Rate Limit 으로 폐기된 STOMP 프레임 수")
+                .tag("scope", "session")
+                .register(meterRegistry);
+        this.userRejectedCounter = Counter.builder("websocket.stomp.rate_limited")
+                .description("Rate Limit 으로 폐기된 STOMP 프레임 수")
+                .tag("scope", "user")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(headers);
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+
+        if (messageType == SimpMessageType.DISCONNECT) {
+            if (sessionId != null) {
+                sessionStates.remove(sessionId);
+            }
+            return message;
+        }
+
+        StompLimit limit = rateLimitingConfig.getStompLimit();
+        if (!rateLimitingConfig.isEnabled() || !limit.isEnabled()
+                || messageType != SimpMessageType.MESSAGE || sessionId == null) {
+            return message;
+        }
+
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination == null || !destination.startsWith(APP_DESTINATION_PREFIX)) {
+            return message;
+        }
+
+        long now = System.nanoTime();
+        SessionLimitState state = sessionStates.get(sessionId);
+        if (state == null) {
+            state = sessionStates.computeIfAbsent(sessionId, id -> new SessionLimitState(
+                    new LocalTokenBucket(limit.getMessagesPerSecondPerSession(), limit.getSessionBurst())));
+        }
+
+        if (!state.bucket.tryConsume(now)) {
+            sessionRejectedCounter.increment();
+            log.debug("[STOMP Rate Limit] 세션 제한 초과 - 세션: {}, 목적지: {}", sessionId, destination);
+            notifyRejected(state, sessionId, now);
+            return null;
+        }
+
+        String userUUID = resolveUserUUID(headers);
+        if (userUUID != null) {
+            LocalTokenBucket userBucket = userBuckets.get(userUUID);
+            if (userBucket == null) {
+                userBucket = userBuckets.computeIfAbsent(userUUID, id ->
+                        new LocalTokenBucket(limit.getMessagesPerSecondPerUser(), limit.getUserBurst()));
+            }
+            if (!userBucket.tryConsume(now)) {
+                userRejectedCounter.increment();
+                log.debug("[STOMP Rate Limit] 사용자 제한 초과 - 사용자: {}, 목적지: {}", userUUID, destination);
+                notifyRejected(state, sessionId, now);
+                return null;
+            }
+        }
+
+        return message;
+    }
+
+    /**
+     * 장시간 사용되지 않은 사용자 버킷 정리
+     * 세션 버킷은 DISCONNECT 시점에 제거되므로 사용자 버킷만 주기적으로 정리합니다.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleUserBuckets() {
+        long now = System.nanoTime();
+        int before = userBuckets.size();
+        userBuckets.values().removeIf(bucket -> bucket.isIdle(now, USER_BUCKET_IDLE_NANOS));
+        int evicted = before - userBuckets.size();
+        if (evicted > 0) {
+            log.debug("[STOMP Rate Limit] 유휴 사용자 버킷 정리 - 제거: {}, 남은 버킷: {}", evicted, userBuckets.size());
+        }
+    }
+
+    private String resolveUserUUID(MessageHeaders headers) {
+        Map<String, Object> attributes = SimpMessageHeaderAccessor.getSessionAttributes(headers);
+        if (attributes == null) {
+            return null;
+        }
+        Object userUUID = attributes.get(USER_UUID_ATTRIBUTE);
+        return userUUID instanceof String value ? value : null;
+    }
+
+    /**
+     * 제한된 세션에게만 에러 프레임 전송
+     * 폭주하는 클라이언트에게 매 프레임마다 응답하지 않도록 세션당 1초에 한 번만 전송합니다.
+     */
+    private void notifyRejected(SessionLimitState state, String sessionId, long now) {
+        long last = state.lastNoticeNanos.get();
+        if (now - last < ERROR_NOTICE_INTERVAL_NANOS || !state.lastNoticeNanos.compareAndSet(last, now)) {
+            return;
+        }
+
+        stompErrorSender.sendToSession(sessionId, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    /**
+     * 세션별 제한 상태 (버킷 + 마지막 에러 통지 시각)
+     */
+    private static final class SessionLimitState {
+        private final LocalTokenBucket bucket;
+        private final AtomicLong lastNoticeNanos = new AtomicLong(System.nanoTime() - ERROR_NOTICE_INTERVAL_NANOS);
+
+        private SessionLimitState(LocalTokenBucket bucket) {
+            this.bucket = bucket;
+        }
+    }
+}
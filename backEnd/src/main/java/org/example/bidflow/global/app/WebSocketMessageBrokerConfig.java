@@ -2,11 +2,19 @@ package org.example.bidflow.global.app;
 
 import lombok.RequiredArgsConstructor;
 import org.example.bidflow.global.config.OriginConfig;
+import org.example.bidflow.global.messaging.broadcast.StompFrameFanout;
+import org.example.bidflow.global.messaging.broker.ExactDestinationSubscriptionRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker       // STOMP 사용 명시
@@ -15,14 +23,54 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketMessageBrokerConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandshakeHandler stompHandshakeHandler;
+    private final StompPrincipalInterceptor stompPrincipalInterceptor;
     private final OriginConfig originConfig;
+    private final StompRateLimitInterceptor stompRateLimitInterceptor;
+    private final StompConcurrencyInterceptor stompConcurrencyInterceptor;
+    private final StompFrameFanout stompFrameFanout;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/sub"); // 구독(Subscribe) 경로 (서버 -> 클라이언트 로 메시지 보낼 때)
+        config.enableSimpleBroker("/sub", "/queue"); // 구독(Subscribe) 경로 (서버 -> 클라이언트 로 메시지 보낼 때), /queue 는 개인 메시지용
         config.setApplicationDestinationPrefixes("/app"); // 메시지 보낼 prefix (클라이언트 -> 서버)
     }
+
+    /**
+     * SimpleBroker 구독 저장소를 정확한 목적지 기준 저장소로 교체
+     * (MessageBrokerRegistry 에는 저장소 설정이 없어 생성된 브로커 핸들러에 직접 주입)
+     * 개인 큐 전송과 팬아웃을 끈 경우의 경매 브로드캐스트에만 쓰임 (팬아웃 경로는 StompFrameFanout 의 구독 맵 사용)
+     */
+    @Bean
+    public static BeanPostProcessor exactDestinationSubscriptionRegistryInstaller(
+            @Value("${websocket.broker.exact-destination-registry:true}") boolean enabled) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof SimpleBrokerMessageHandler brokerHandler) {
+                    brokerHandler.setSubscriptionRegistry(new ExactDestinationSubscriptionRegistry());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // CONNECT 시 세션 사용자(Principal) 설정 (/user/queue/** 개인 목적지용)
+        // 연결 이후 SEND 프레임 Rate Limiting (BidController 도달 전에 초과 프레임 폐기)
+        // 입찰 처리 동시성 제한 (과부하 시 적응형 한도 적용)
+        registration.interceptors(stompPrincipalInterceptor, stompRateLimitInterceptor, stompConcurrencyInterceptor);
+    }
     
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 모든 세션에 송신 정책(송신 시간 / 버퍼 한도, 가격 갱신 폐기 / 종료·낙찰 보장 / 느린 세션 종료) 적용
+        // + 경매 브로드캐스트를 사전 인코딩 프레임으로 직접 전송하기 위해 세션 수집
+        // (Spring 의 setSendTimeLimit / setSendBufferSizeLimit 은 설정하지 않음 - 바깥 ConcurrentWebSocketSessionDecorator 는
+        //  안쪽 송신 버퍼가 바로 반환하므로 통과 계층으로만 동작하고, 한도는 websocket.outbound.* 한 곳에서 관리)
+        registration.addDecoratorFactory(stompFrameFanout::decorate);
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // 클라이언트가 연결할 엔드포인트
@@ -0,0 +1,178 @@
+package org.example.bidflow.global.app.closing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.domain.bid.dto.model.response.BidHistoryResponse;
+import org.example.bidflow.global.messaging.broadcast.AuctionDeliveryListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 종료 직전 경매의 노드 로컬 캐시
+ *
+ * 종료 시각이 가까운 경매({@link AuctionPreCloseWarmer} 가 준비)에 한해 다음을 메모리에 보관합니다.
+ * - 종료 시각 (일괄 종료 시 경매 조회 생략)
+ * - 입찰자 닉네임 (낙찰 처리 시 사용자 조회 생략)
+ * - 입찰 내역 첫 페이지 (종료 직후 새로고침 요청)
+ *
+ * 모든 노드가 받는 가격 갱신 브로드캐스트로 입찰자 닉네임을 보관하고 입찰 내역 첫 페이지를 무효화합니다.
+ * 입찰 검증 / 낙찰 금액 / 낙찰자는 여전히 Redis 에서 확정하며, 이 캐시는 그에 딸린 조회만 대신합니다.
+ */
+@Slf4j
+@Component
+public class AuctionClosingCache implements AuctionDeliveryListener {
+
+    /** 입찰 내역 페이징 API 기본 페이지 (BidController @PageableDefault 와 같아야 캐시됨) */
+    public static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by("bidTime"));
+
+    private final ObjectMapper objectMapper;
+
+    /** 경매 ID → 종료 직전 상태 */
+    private final Map<Long, ClosingAuction> auctions = new ConcurrentHashMap<>();
+
+    public AuctionClosingCache(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        Gauge.builder("auction.closing.cached", auctions, Map::size)
+                .description("종료 전 캐시를 준비한 경매 수")
+                .register(meterRegistry);
+    }
+
+    public ClosingAuction get(Long auctionId) {
+        return auctions.get(auctionId);
+    }
+
+    public boolean contains(Long auctionId) {
+        return auctions.containsKey(auctionId);
+    }
+
+    void put(ClosingAuction auction) {
+        auctions.putIfAbsent(auction.auctionId(), auction);
+    }
+
+    /**
+     * 입찰자 닉네임 (캐시에 없으면 null)
+     */
+    public String nickname(Long auctionId, String userUUID) {
+        ClosingAuction auction = auctions.get(auctionId);
+        return auction != null && userUUID != null ? auction.nicknames.get(userUUID) : null;
+    }
+
+    /**
+     * 캐시된 입찰 내역 첫 페이지 (종료 직전 경매의 기본 페이지 요청이 아니거나 무효화되었으면 null)
+     */
+    public Page<BidHistoryResponse> firstPage(Long auctionId, Pageable pageable) {
+        ClosingAuction auction = auctions.get(auctionId);
+        return auction != null && FIRST_PAGE.equals(pageable) ? auction.firstPage : null;
+    }
+
+    /**
+     * 입찰 내역 조회 시작 시점의 무효화 버전 (조회 중 새 입찰이 들어오면 저장하지 않기 위함)
+     */
+    public long firstPageVersion(Long auctionId) {
+        ClosingAuction auction = auctions.get(auctionId);
+        return auction != null ? auction.firstPageVersion : -1;
+    }
+
+    /**
+     * 입찰 내역 첫 페이지 저장 (페이지의 입찰자 닉네임도 함께 보관)
+     * 조회를 시작한 뒤 무효화되었으면(version 불일치) 이전 내역일 수 있으므로 저장하지 않음
+     */
+    public void storeFirstPage(Long auctionId, Pageable pageable, Page<BidHistoryResponse> page, long version) {
+        ClosingAuction auction = auctions.get(auctionId);
+        if (auction == null || !FIRST_PAGE.equals(pageable)) {
+            return;
+        }
+        for (BidHistoryResponse bid : page.getContent()) {
+            if (bid.getBidderUUID() != null && bid.getBidderNickname() != null) {
+                auction.nicknames.put(bid.getBidderUUID(), bid.getBidderNickname());
+            }
+        }
+        synchronized (auction) {
+            if (auction.firstPageVersion == version) {
+                auction.firstPage = page;
+            }
+        }
+    }
+
+    /**
+     * 입찰자 닉네임 보관
+     */
+    public void recordNickname(Long auctionId, String userUUID, String nickname) {
+        ClosingAuction auction = auctions.get(auctionId);
+        if (auction != null && userUUID != null && nickname != null) {
+            auction.nicknames.put(userUUID, nickname);
+        }
+    }
+
+    /**
+     * 가격 갱신 브로드캐스트 수신 (모든 노드) → 입찰자 닉네임 보관, 입찰 내역 첫 페이지 무효화
+     */
+    @Override
+    public void onDelivered(Long auctionId, long sequence, String json) {
+        ClosingAuction auction = auctions.get(auctionId);
+        if (auction == null) {
+            return;
+        }
+        synchronized (auction) {
+            auction.firstPageVersion++;
+            auction.firstPage = null;
+        }
+
+        try {
+            JsonNode node = objectMapper.readTree(json);
+            JsonNode userUUID = node.get("userUUID");
+            JsonNode nickname = node.get("nickname");
+            if (userUUID != null && userUUID.isTextual() && nickname != null && nickname.isTextual()) {
+                recordNickname(auctionId, userUUID.asText(), nickname.asText());
+            }
+        } catch (Exception e) {
+            log.debug("[AuctionClosing] 브로드캐스트 파싱 실패 - 경매 ID: {}, 오류: {}", auctionId, e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 후 유지 시간이 지난 경매 제거
+     *
+     * @return 제거된 경매 수
+     */
+    int evictEndedBefore(LocalDateTime threshold) {
+        int before = auctions.size();
+        auctions.values().removeIf(auction -> auction.endTime().isBefore(threshold));
+        return before - auctions.size();
+    }
+
+    /**
+     * 종료 직전 경매 상태 (종료 시각은 불변, 닉네임 / 첫 페이지는 갱신됨)
+     */
+    public static final class ClosingAuction {
+        private final Long auctionId;
+        private final LocalDateTime endTime;
+
+        private final Map<String, String> nicknames = new ConcurrentHashMap<>();
+        private volatile Page<BidHistoryResponse> firstPage;
+        private volatile long firstPageVersion;
+
+        ClosingAuction(Long auctionId, LocalDateTime endTime) {
+            this.auctionId = auctionId;
+            this.endTime = endTime;
+        }
+
+        public Long auctionId() {
+            return auctionId;
+        }
+
+        public LocalDateTime endTime() {
+            return endTime;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.bidflow.global.app.closing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.domain.auction.entity.Auction;
+import org.example.bidflow.domain.auction.repository.AuctionRepository;
+import org.example.bidflow.domain.bid.service.BidService;
+import org.example.bidflow.domain.user.entity.User;
+import org.example.bidflow.domain.user.repository.UserRepository;
+import org.example.bidflow.global.app.RedisCommon;
+import org.example.bidflow.global.app.closing.AuctionClosingCache.ClosingAuction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 종료 전 준비 단계 (Pre-close warm-up)
+ *
+ * 종료 시각이 lead-ms 이내로 다가온 진행 중 경매를 주기적으로 찾아 {@link AuctionClosingCache} 를 채웁니다.
+ * - 종료 시각 (종료 직전 경매 조회 1회)
+ * - 현재 최고 입찰자의 닉네임 (Redis 파이프라인 1회, 입찰 내역 첫 페이지 + 누락분 사용자 조회 1회)
+ * - 입찰 내역 첫 페이지
+ *
+ * 각 노드가 자기 캐시를 준비해야 하므로 클러스터에서 한 노드만 실행되는 마감 스케줄러가 아닌 노드별 주기 작업으로 실행합니다.
+ * 준비에 실패해도 종료 처리는 기존 조회 경로로 동작합니다. (Fail Open)
+ */
+@Slf4j
+@Component
+public class AuctionPreCloseWarmer {
+
+    private static final List<String> BID_FIELDS = List.of("userUUID");
+
+    private final AuctionRepository auctionRepository;
+    private final UserRepository userRepository;
+    private final BidService bidService;
+    private final RedisCommon redisCommon;
+    private final AuctionClosingCache closingCache;
+    private final long leadMillis;
+    private final long retainMillis;
+
+    public AuctionPreCloseWarmer(AuctionRepository auctionRepository,
+                                 UserRepository userRepository,
+                                 BidService bidService,
+                                 RedisCommon redisCommon,
+                                 AuctionClosingCache closingCache,
+                                 @Value("${auction.closing.lead-ms:60000}") long leadMillis,
+                                 @Value("${auction.closing.retain-ms:300000}") long retainMillis) {
+        this.auctionRepository = auctionRepository;
+        this.userRepository = userRepository;
+        this.bidService = bidService;
+        this.redisCommon = redisCommon;
+        this.closingCache = closingCache;
+        this.leadMillis = leadMillis;
+        this.retainMillis = retainMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${auction.closing.poll-interval-ms:5000}")
+    public void warmUp() {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+
+        int evicted = closingCache.evictEndedBefore(now.minus(retainMillis, ChronoUnit.MILLIS));
+        if (evicted > 0) {
+            log.debug("[AuctionClosing] 종료된 경매 캐시 정리 - 제거: {}", evicted);
+        }
+
+        try {
+            List<Auction> closing = auctionRepository.findOngoingEndingBetween(now, now.plus(leadMillis, ChronoUnit.MILLIS)).stream()
+                    .filter(auction -> !closingCache.contains(auction.getAuctionId()))
+                    .toList();
+            if (closing.isEmpty()) {
+                return;
+            }
+
+            for (Auction auction : closing) {
+                closingCache.put(new ClosingAuction(auction.getAuctionId(), auction.getEndTime()));
+            }
+            for (Auction auction : closing) {
+                warmBidHistory(auction.getAuctionId());
+            }
+            warmLeaderNicknames(closing);
+            log.info("[AuctionClosing] 종료 전 캐시 준비 완료 - 경매 수: {}, 경매 ID: {}",
+                    closing.size(), closing.stream().map(Auction::getAuctionId).toList());
+        } catch (Exception e) {
+            log.warn("[AuctionClosing] 종료 전 캐시 준비 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 최고 입찰자의 닉네임 준비 (입찰 내역에 없는 입찰자만 사용자 조회)
+     */
+    private void warmLeaderNicknames(List<Auction> closing) {
+        List<String> keys = closing.stream().map(auction -> "auction:" + auction.getAuctionId()).toList();
+        List<List<String>> bids = redisCommon.getFieldsFromHashes(keys, BID_FIELDS);
+
+        List<String> userUUIDs = new ArrayList<>(closing.size());
+        Set<String> unresolved = new HashSet<>();
+        for (int i = 0; i < closing.size(); i++) {
+            String userUUID = redisCommon.fromJson(bids.get(i).get(0), String.class);
+            userUUIDs.add(userUUID);
+            if (userUUID != null && closingCache.nickname(closing.get(i).getAuctionId(), userUUID) == null) {
+                unresolved.add(userUUID);
+            }
+        }
+        if (unresolved.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> nicknames = userRepository.findAllByUserUUIDIn(unresolved).stream()
+                .collect(Collectors.toMap(User::getUserUUID, User::getNickname, (a, b) -> a));
+        for (int i = 0; i < closing.size(); i++) {
+            String userUUID = userUUIDs.get(i);
+            if (userUUID == null) {
+                continue; // 아직 입찰 없음
+            }
+            closingCache.recordNickname(closing.get(i).getAuctionId(), userUUID, nicknames.get(userUUID));
+        }
+    }
+
+    /**
+     * 입찰 내역 첫 페이지 준비 (BidService 가 조회 결과를 캐시에 저장)
+     */
+    private void warmBidHistory(Long auctionId) {
+        try {
+            bidService.getBidHistoryByAuctionWithPaging(auctionId, AuctionClosingCache.FIRST_PAGE);
+        } catch (Exception e) {
+            log.warn("[AuctionClosing] 입찰 내역 준비 실패 - 경매 ID: {}, 오류: {}", auctionId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.bidflow.global.app.deadline;
+
+/**
+ * 경매 상태 전환 마감 (경매 ID + 시작 / 종료)
+ *
+ * Redis 정렬 집합 멤버로는 "{타입}:{경매 ID}" (예: END:42) 형식을 사용합니다.
+ */
+public record AuctionDeadline(Long auctionId, Type type) {
+
+    public enum Type {
+        START, END
+    }
+
+    public static AuctionDeadline start(Long auctionId) {
+        return new AuctionDeadline(auctionId, Type.START);
+    }
+
+    public static AuctionDeadline end(Long auctionId) {
+        return new AuctionDeadline(auctionId, Type.END);
+    }
+
+    public String member() {
+        return type.name() + ':' + auctionId;
+    }
+
+    /**
+     * 정렬 집합 멤버 파싱
+     *
+     * @return 형식이 잘못되었으면 null
+     */
+    public static AuctionDeadline parse(String member) {
+        int separator = member != null ? member.indexOf(':') : -1;
+        if (separator <= 0) {
+            return null;
+        }
+        try {
+            return new AuctionDeadline(Long.valueOf(member.substring(separator + 1)),
+                    Type.valueOf(member.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
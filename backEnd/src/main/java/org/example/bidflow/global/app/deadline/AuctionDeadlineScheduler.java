@@ -0,0 +1,32 @@
+package org.example.bidflow.global.app.deadline;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 경매 시작 / 종료 마감 스케줄러
+ *
+ * auction.scheduler.backend 설정으로 구현을 선택합니다.
+ * - quartz (기본): 마감마다 Quartz JDBC Job + Trigger 등록
+ * - timing-wheel: Redis 정렬 집합에 마감을 저장하고, 리더 노드가 메모리 타이밍 휠로 실행
+ * - sweeper: 등록하지 않고 주기마다 마감이 지난 경매를 일괄 전환
+ */
+public interface AuctionDeadlineScheduler {
+
+    /**
+     * 마감 등록 (같은 마감이 이미 있으면 새 시각으로 교체)
+     */
+    void schedule(AuctionDeadline deadline, LocalDateTime fireAt);
+
+    /**
+     * 마감 일괄 등록 (서버 시작 시 복구용, 구현별로 한 번에 저장)
+     */
+    default void scheduleAll(Map<AuctionDeadline, LocalDateTime> deadlines) {
+        deadlines.forEach(this::schedule);
+    }
+
+    /**
+     * 경매의 시작 / 종료 마감 모두 해제
+     */
+    void cancel(Long auctionId);
+}
@@ -0,0 +1,98 @@
+package org.example.bidflow.global.app.deadline;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.global.app.ApplicationExecutors;
+import org.example.bidflow.global.app.AuctionLifecycleService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 경매 상태 스위퍼 (auction.scheduler.backend=sweeper)
+ *
+ * 경매마다 마감을 등록하지 않고, 주기마다 마감이 지난 경매를 상태별로 일괄 전환합니다.
+ * 정각에 경매 2,000개가 끝나도 Job / 트랜잭션 2,000개가 아니라 배치당 잠금 조회 + UPDATE 몇 번으로 처리되고,
+ * 종료된 경매는 배치마다 한 번의 AuctionsFinishedEvent 로 낙찰을 일괄 처리합니다.
+ *
+ * - 경매 테이블(STATUS, START_TIME / END_TIME 인덱스)이 곧 스케줄이므로 등록 / 해제는 하지 않음
+ * - 여러 노드가 동시에 실행해도 FOR UPDATE SKIP LOCKED 로 서로 다른 경매를 나눠 처리
+ * - 전환 지연은 최대 interval-ms
+ * - 한 주기에 처리하는 배치 수는 상태별 max-batches-per-tick 이하 (남은 경매는 다음 주기에 이어서 처리)
+ * - 다른 @Scheduled 작업(Spring 기본 스케줄러 스레드 1개 공유)에 밀리거나 막지 않도록 전용 스케줄러 스레드에서 실행
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auction.scheduler.backend", havingValue = "sweeper")
+public class AuctionLifecycleSweeper implements AuctionDeadlineScheduler {
+
+    private final AuctionLifecycleService auctionLifecycleService;
+    private final ApplicationExecutors executors;
+    private final long intervalMillis;
+    private final int batchSize;
+    private final int maxBatchesPerTick;
+
+    public AuctionLifecycleSweeper(AuctionLifecycleService auctionLifecycleService,
+                                   ApplicationExecutors executors,
+                                   @Value("${auction.scheduler.sweeper.interval-ms:1000}") long intervalMillis,
+                                   @Value("${auction.scheduler.sweeper.batch-size:500}") int batchSize,
+                                   @Value("${auction.scheduler.sweeper.max-batches-per-tick:20}") int maxBatchesPerTick) {
+        this.auctionLifecycleService = auctionLifecycleService;
+        this.executors = executors;
+        this.intervalMillis = intervalMillis;
+        this.batchSize = batchSize;
+        this.maxBatchesPerTick = Math.max(1, maxBatchesPerTick);
+    }
+
+    @PostConstruct
+    public void start() {
+        executors.createScheduler("auction-sweeper-", 1)
+                .scheduleWithFixedDelay(this::sweep, Duration.ofMillis(intervalMillis));
+    }
+
+    @Override
+    public void schedule(AuctionDeadline deadline, LocalDateTime fireAt) {
+        // 경매 테이블의 시작/종료 시각으로 처리 (등록할 것 없음)
+    }
+
+    @Override
+    public void cancel(Long auctionId) {
+        // 경매 테이블의 시작/종료 시각으로 처리 (해제할 것 없음)
+    }
+
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        try {
+            int started = 0;
+            int batch;
+            int batches = 0;
+            do {
+                batch = auctionLifecycleService.startDue(now, batchSize);
+                started += batch;
+            } while (batch == batchSize && ++batches < maxBatchesPerTick);
+            boolean startBacklog = batch == batchSize;
+
+            int finished = 0;
+            batches = 0;
+            do {
+                batch = auctionLifecycleService.finishDue(now, batchSize);
+                finished += batch;
+            } while (batch == batchSize && ++batches < maxBatchesPerTick);
+            boolean finishBacklog = batch == batchSize;
+
+            if (started > 0 || finished > 0) {
+                log.info("[AuctionSweeper] 경매 상태 일괄 전환 완료 - 시작: {}, 종료: {}", started, finished);
+            }
+            if (startBacklog || finishBacklog) {
+                log.warn("[AuctionSweeper] 주기당 배치 한도 도달, 남은 경매는 다음 주기에 처리 - 배치 한도: {}, 배치 크기: {}",
+                        maxBatchesPerTick, batchSize);
+            }
+        } catch (Exception e) {
+            log.error("[AuctionSweeper] 경매 상태 일괄 전환 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package org.example.bidflow.global.app.deadline;
+
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (Hierarchical Timing Wheel)
+ *
+ * 마감 시각을 틱 단위 버킷에 나눠 담아 등록 / 취소를 O(1), 만료 처리를 틱당 O(만료 수)로 수행합니다.
+ * (우선순위 큐처럼 등록할 때마다 정렬 비용이 들지 않음)
+ *
+ * - 레벨 0: 한 칸 = 1틱, 레벨 k: 한 칸 = 2^(bits × k) 틱
+ * - 남은 틱 수에 맞는 가장 낮은 레벨에 등록하고, 상위 레벨 칸의 시각이 되면 하위 레벨로 내려 재배치 (cascade)
+ * - 만료는 마감 틱이 지난 뒤에만 발생 (마감 시각보다 일찍 만료되지 않음, 최대 1틱 지연)
+ *
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 합니다.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int bits;
+    private final int levels;
+    private final long mask;
+
+    /** 최상위 레벨까지 표현 가능한 틱 수 (넘는 마감은 최상위 레벨 마지막 칸에 두었다가 재배치) */
+    private final long maxSpanTicks;
+
+    private final Bucket<T>[][] buckets;
+
+    /** 만료 처리까지 끝난 마지막 틱 */
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int bits, int levels, long startMillis) {
+        if (tickMillis <= 0 || bits <= 0 || levels <= 0 || (long) bits * levels >= Long.SIZE - 1) {
+            throw new IllegalArgumentException("잘못된 타이밍 휠 설정");
+        }
+        this.tickMillis = tickMillis;
+        this.bits = bits;
+        this.levels = levels;
+        this.mask = (1L << bits) - 1;
+        this.maxSpanTicks = 1L << (bits * levels);
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+
+        int wheelSize = 1 << bits;
+        this.buckets = new Bucket[levels][wheelSize];
+        for (int level = 0; level < levels; level++) {
+            for (int slot = 0; slot < wheelSize; slot++) {
+                buckets[level][slot] = new Bucket<>();
+            }
+        }
+    }
+
+    /**
+     * 마감 등록 (이미 지난 마감은 다음 틱에 만료)
+     */
+    public Timeout<T> add(T task, long deadlineMillis) {
+        long deadlineTick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(task, deadlineMillis, deadlineTick);
+        place(timeout);
+        return timeout;
+    }
+
+    /**
+     * 등록 취소
+     *
+     * @return 휠에 남아 있던 마감이면 true (이미 만료 / 취소된 경우 false)
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout == null || timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * 현재 시각까지 틱을 진행하며 만료된 마감을 전달
+     *
+     * @return 만료된 마감 수
+     */
+    public int advanceTo(long nowMillis, Consumer<Timeout<T>> expired) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        int fired = 0;
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                currentTick = targetTick; // 빈 휠은 틱 단위로 진행할 필요 없음
+                break;
+            }
+            long tick = currentTick + 1;
+
+            // 하위 비트가 모두 0 인 레벨까지 상위 → 하위 순서로 재배치
+            int top = 0;
+            while (top + 1 < levels && (tick & ((1L << (bits * (top + 1))) - 1)) == 0) {
+                top++;
+            }
+            currentTick = tick;
+            for (int level = top; level >= 1; level--) {
+                cascade(buckets[level][(int) ((tick >>> (bits * level)) & mask)]);
+            }
+
+            Timeout<T> timeout = buckets[0][(int) (tick & mask)].detach();
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                timeout.next = null;
+                size--;
+                expired.accept(timeout);
+                fired++;
+                timeout = next;
+            }
+        }
+        return fired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void cascade(Bucket<T> bucket) {
+        Timeout<T> timeout = bucket.detach();
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            timeout.next = null;
+            size--;
+            place(timeout);
+            timeout = next;
+        }
+    }
+
+    /**
+     * 남은 틱 수에 맞는 레벨의 칸에 배치 (재배치 중에는 남은 틱이 0 일 수 있으며, 이번 틱의 레벨 0 칸에 들어감)
+     */
+    private void place(Timeout<T> timeout) {
+        long placementTick = Math.min(timeout.deadlineTick, currentTick + maxSpanTicks - 1);
+        long delta = placementTick - currentTick;
+        int level = delta <= mask ? 0 : (63 - Long.numberOfLeadingZeros(delta)) / bits;
+        buckets[level][(int) ((placementTick >>> (bits * level)) & mask)].add(timeout);
+        size++;
+    }
+
+    /**
+     * 등록된 마감 (취소 시 사용)
+     */
+    public static final class Timeout<T> {
+        private final T task;
+        private final long deadlineMillis;
+        private final long deadlineTick;
+
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T task, long deadlineMillis, long deadlineTick) {
+            this.task = task;
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T task() {
+            return task;
+        }
+
+        public long deadlineMillis() {
+            return deadlineMillis;
+        }
+    }
+
+    /**
+     * 한 칸의 마감 목록 (이중 연결 리스트, 취소 시 O(1) 제거)
+     */
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+
+        private void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        private void remove(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        /**
+         * 목록 전체를 떼어 반환 (next 로 순회, 각 항목의 bucket 은 해제됨)
+         */
+        private Timeout<T> detach() {
+            Timeout<T> first = head;
+            head = null;
+            for (Timeout<T> timeout = first; timeout != null; timeout = timeout.next) {
+                timeout.bucket = null;
+                timeout.prev = null;
+            }
+            return first;
+        }
+    }
+}
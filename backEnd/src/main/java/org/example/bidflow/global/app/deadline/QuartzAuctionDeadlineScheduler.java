@@ -0,0 +1,158 @@
+package org.example.bidflow.global.app.deadline;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.global.app.job.AuctionEndJob;
+import org.example.bidflow.global.app.job.AuctionStartJob;
+import org.quartz.*;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.quartz.JobBuilder.newJob;
+import static org.quartz.SimpleScheduleBuilder.simpleSchedule;
+import static org.quartz.TriggerBuilder.newTrigger;
+
+/**
+ * Quartz JDBC 마감 스케줄러 (기본)
+ *
+ * 마감마다 Job + Trigger 를 QRTZ_ 테이블에 저장하고, Quartz 가 DB 를 폴링하여 실행합니다.
+ * 클러스터 모드에서는 QRTZ_LOCKS 행 잠금으로 한 노드만 트리거를 실행합니다.
+ * 행 잠금이 호출 측 트랜잭션에 묶이므로 등록 / 해제는 트랜잭션 안에서 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.scheduler.backend", havingValue = "quartz", matchIfMissing = true)
+public class QuartzAuctionDeadlineScheduler implements AuctionDeadlineScheduler {
+
+    private static final String JOB_GROUP = "auction-jobs";
+    private static final String TRIGGER_GROUP = "auction-triggers";
+
+    private final Scheduler scheduler;
+
+    @Override
+    @Transactional
+    public void schedule(AuctionDeadline deadline, LocalDateTime fireAt) {
+        // 스케줄러에 Job과 Trigger 등록 (같은 Job 이 있으면 교체)
+        try {
+            scheduler.scheduleJob(buildJob(deadline), Set.of(buildTrigger(deadline, fireAt)), true);
+        } catch (SchedulerException e) {
+            throw new IllegalStateException("Quartz 스케줄 등록 실패 - " + deadline.member(), e);
+        }
+    }
+
+    /**
+     * 일괄 등록 (JDBC 저장소에서 트랜잭션 / 잠금 획득 1회)
+     */
+    @Override
+    @Transactional
+    public void scheduleAll(Map<AuctionDeadline, LocalDateTime> deadlines) {
+        Map<JobDetail, Set<? extends Trigger>> jobs = new HashMap<>(deadlines.size() * 2);
+        deadlines.forEach((deadline, fireAt) -> jobs.put(buildJob(deadline), Set.of(buildTrigger(deadline, fireAt))));
+        try {
+            scheduler.scheduleJobs(jobs, true);
+        } catch (SchedulerException e) {
+            throw new IllegalStateException("Quartz 스케줄 일괄 등록 실패 - 마감 수: " + deadlines.size(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void cancel(Long auctionId) {
+        try {
+            scheduler.deleteJob(JobKey.jobKey("auction-start-" + auctionId, JOB_GROUP));
+            scheduler.deleteJob(JobKey.jobKey("auction-end-" + auctionId, JOB_GROUP));
+        } catch (SchedulerException e) {
+            throw new IllegalStateException("Quartz 스케줄 해제 실패 - 경매 ID: " + auctionId, e);
+        }
+    }
+
+    // JobDetail 생성 - Spring Bean Job 사용
+    private JobDetail buildJob(AuctionDeadline deadline) {
+        boolean start = deadline.type() == AuctionDeadline.Type.START;
+        return newJob(start ? AuctionStartJob.class : AuctionEndJob.class)
+                .withIdentity(jobName(deadline), JOB_GROUP)  // Job의 고유 식별자 설정
+                .usingJobData("auctionId", deadline.auctionId())  // Job 실행 시 전달할 데이터 설정
+                .storeDurably()  // Trigger가 없어도 Job을 데이터베이스에 유지하도록 설정
+                .requestRecovery()  // 실행 중 노드가 죽으면 다른 노드가 다시 실행 (상태 전환은 현재 상태를 확인하므로 중복 실행에 안전)
+                .build();
+    }
+
+    // Trigger 생성 - Job을 언제 실행할지 정의
+    private Trigger buildTrigger(AuctionDeadline deadline, LocalDateTime fireAt) {
+        String prefix = deadline.type() == AuctionDeadline.Type.START ? "auction-start-trigger-" : "auction-end-trigger-";
+        return newTrigger()
+                .withIdentity(prefix + deadline.auctionId(), TRIGGER_GROUP)
+                .startAt(Date.from(fireAt.atZone(ZoneId.of("Asia/Seoul")).toInstant()))  // Job 실행 시각 설정
+                .withSchedule(simpleSchedule().withMisfireHandlingInstructionFireNow())  // 밀린 마감은 건너뛰지 않고 즉시 1회 실행
+                .build();
+    }
+
+    private static String jobName(AuctionDeadline deadline) {
+        return (deadline.type() == AuctionDeadline.Type.START ? "auction-start-" : "auction-end-") + deadline.auctionId();
+    }
+
+    /**
+     * 모든 경매 스케줄 해제 (시스템 정리용)
+     */
+    public void unscheduleAllAuctions() {
+        try {
+            scheduler.clear();
+            log.info("[AuctionScheduler] 모든 경매 스케줄 해제 완료");
+        } catch (Exception e) {
+            log.error("[AuctionScheduler] 모든 경매 스케줄 해제 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 특정 경매의 스케줄 정보 조회
+     */
+    public void getAuctionScheduleInfo(Long auctionId) {
+        try {
+            JobDetail startJob = scheduler.getJobDetail(JobKey.jobKey("auction-start-" + auctionId, JOB_GROUP));
+            JobDetail endJob = scheduler.getJobDetail(JobKey.jobKey("auction-end-" + auctionId, JOB_GROUP));
+
+            if (startJob != null) {
+                log.info("[AuctionScheduler] 경매 시작 스케줄 존재 - 경매 ID: {}", auctionId);
+            }
+            if (endJob != null) {
+                log.info("[AuctionScheduler] 경매 종료 스케줄 존재 - 경매 ID: {}", auctionId);
+            }
+
+        } catch (Exception e) {
+            log.error("[AuctionScheduler] 경매 스케줄 정보 조회 중 오류 발생 - 경매 ID: {}", auctionId, e);
+        }
+    }
+
+    /**
+     * 수동으로 경매 시작 Job 실행 (테스트용)
+     */
+    public void triggerAuctionStart(Long auctionId) {
+        try {
+            scheduler.triggerJob(JobKey.jobKey("auction-start-" + auctionId, JOB_GROUP));
+            log.info("[AuctionScheduler] 경매 시작 Job 수동 실행 - 경매 ID: {}", auctionId);
+        } catch (Exception e) {
+            log.error("[AuctionScheduler] 경매 시작 Job 수동 실행 실패 - 경매 ID: {}", auctionId, e);
+        }
+    }
+
+    /**
+     * 수동으로 경매 종료 Job 실행 (테스트용)
+     */
+    public void triggerAuctionEnd(Long auctionId) {
+        try {
+            scheduler.triggerJob(JobKey.jobKey("auction-end-" + auctionId, JOB_GROUP));
+            log.info("[AuctionScheduler] 경매 종료 Job 수동 실행 - 경매 ID: {}", auctionId);
+        } catch (Exception e) {
+            log.error("[AuctionScheduler] 경매 종료 Job 수동 실행 실패 - 경매 ID: {}", auctionId, e);
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package org.example.bidflow.global.app.deadline;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.global.app.AuctionLifecycleService;
+import org.example.bidflow.global.app.NodeIdentity;
+import org.example.bidflow.global.app.deadline.HierarchicalTimingWheel.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타이밍 휠 마감 스케줄러 (auction.scheduler.backend=timing-wheel)
+ *
+ * Quartz 처럼 마감마다 Job / Trigger 행을 만들고 DB 를 폴링하지 않고,
+ * 마감을 Redis 정렬 집합 하나에 저장한 뒤 리더 노드가 메모리 타이밍 휠로 실행합니다.
+ *
+ * - 등록 / 해제: auction:deadlines 에 ZADD / ZREM (멤버 "{타입}:{경매 ID}", 점수 = 마감 시각 epoch ms)
+ * - 리더 선출: auction:deadlines:leader 를 SET NX PX 로 획득하고 주기마다 갱신 (리더만 마감 실행)
+ *   임대 갱신 / 적재는 전용 스레드에서 실행 (공용 @Scheduled 스레드의 DB / Redis 작업에 밀려 임대를 잃지 않도록)
+ * - 적재: 리더가 주기마다 horizon 안의 마감을 정렬 집합에서 읽어 휠에 등록 (다른 노드에서 등록한 마감 포함)
+ * - 실행: 휠에서 만료된 마감의 점수가 그대로일 때만 점수를 now + retry-delay-ms 로 밀어 선점(claim)하고 상태 전환
+ *   (그 사이 해제 / 시각 변경된 마감이나 리더 교체 직후 중복 실행을 막음)
+ * - 완료: 전환이 커밋된 뒤에만 선점한 점수 그대로일 때 정렬 집합에서 제거
+ *   전환 실패 / 프로세스 종료로 완료하지 못한 마감은 선점 점수(retry-delay-ms 뒤)에 현재 리더가 다시 실행
+ *   (선점 시간은 상태 전환 1회보다 충분히 길어야 함, 전환은 상태 확인 후 실행되어 다시 실행되어도 중복 전환되지 않음)
+ *
+ * 리더가 죽으면 임대 만료 후 다른 노드가 리더가 되어 정렬 집합에서 지난 마감부터 이어서 실행합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auction.scheduler.backend", havingValue = "timing-wheel")
+public class TimingWheelAuctionDeadlineScheduler implements AuctionDeadlineScheduler {
+
+    /** 마감 정렬 집합 키 */
+    public static final String DEADLINES_KEY = "auction:deadlines";
+
+    /** 리더 임대 키 */
+    public static final String LEADER_KEY = "auction:deadlines:leader";
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    /** 휠 레벨당 칸 수 = 2^6 = 64, 4레벨 (100ms 틱 기준 약 19일) */
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_LEVELS = 4;
+
+    /**
+     * KEYS: [리더 키], ARGV: [노드 ID, 임대 시간(ms)]
+     * 자신이 리더일 때만 임대 연장
+     */
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS: [리더 키], ARGV: [노드 ID]
+     * 자신이 리더일 때만 임대 반납
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS: [마감 키], ARGV: [멤버, 휠에 등록된 마감 시각(ms), 선점 만료 시각(ms)]
+     * 마감 시각이 그대로일 때만 점수를 선점 만료 시각으로 변경 (해제 / 시각 변경 / 이미 실행 중인 마감이면 0)
+     */
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if score and tonumber(score) == tonumber(ARGV[2]) then
+              redis.call('ZADD', KEYS[1], 'XX', ARGV[3], ARGV[1])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS: [마감 키], ARGV: [멤버, 선점 만료 시각(ms)]
+     * 선점한 점수가 그대로일 때만 제거 (그 사이 다시 등록 / 시각 변경된 마감은 유지)
+     */
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if score and tonumber(score) == tonumber(ARGV[2]) then
+              return redis.call('ZREM', KEYS[1], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AuctionLifecycleService auctionLifecycleService;
+    private final String nodeId;
+    private final long tickMillis;
+    private final long horizonMillis;
+    private final long refillIntervalMillis;
+    private final int refillBatchSize;
+    private final long leaderLeaseMillis;
+    private final long retryDelayMillis;
+    private final Semaphore firePermits;
+    private final Timer fireLag;
+
+    /** 휠과 적재 목록 (wheel 잠금으로 보호) */
+    private final HierarchicalTimingWheel<AuctionDeadline> wheel;
+    private final Map<AuctionDeadline, Timeout<AuctionDeadline>> loaded = new HashMap<>();
+
+    /** 이 시각까지의 마감은 휠에 적재됨 (리더일 때만 의미 있음) */
+    private volatile long loadedUntil;
+    private volatile boolean leader;
+
+    private ScheduledExecutorService ticker;
+    private ScheduledExecutorService leaseRenewer;
+    private final ExecutorService fireExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public TimingWheelAuctionDeadlineScheduler(StringRedisTemplate stringRedisTemplate,
+                                               AuctionLifecycleService auctionLifecycleService,
+                                               NodeIdentity nodeIdentity,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${auction.scheduler.timing-wheel.tick-ms:100}") long tickMillis,
+                                               @Value("${auction.scheduler.timing-wheel.horizon-ms:60000}") long horizonMillis,
+                                               @Value("${auction.scheduler.timing-wheel.refill-interval-ms:1000}") long refillIntervalMillis,
+                                               @Value("${auction.scheduler.timing-wheel.refill-batch-size:10000}") int refillBatchSize,
+                                               @Value("${auction.scheduler.timing-wheel.leader-lease-ms:10000}") long leaderLeaseMillis,
+                                               @Value("${auction.scheduler.timing-wheel.retry-delay-ms:5000}") long retryDelayMillis,
+                                               @Value("${auction.scheduler.timing-wheel.fire-concurrency:8}") int fireConcurrency) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.auctionLifecycleService = auctionLifecycleService;
+        this.nodeId = nodeIdentity.getNodeId();
+        this.tickMillis = tickMillis;
+        this.horizonMillis = horizonMillis;
+        this.refillIntervalMillis = refillIntervalMillis;
+        this.refillBatchSize = refillBatchSize;
+        this.leaderLeaseMillis = leaderLeaseMillis;
+        this.retryDelayMillis = retryDelayMillis;
+        this.firePermits = new Semaphore(fireConcurrency);
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, WHEEL_BITS, WHEEL_LEVELS, System.currentTimeMillis());
+
+        this.fireLag = Timer.builder("auction.scheduler.fire.lag")
+                .description("마감 시각부터 상태 전환 시작까지의 지연")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("auction.scheduler.wheel.size", this, TimingWheelAuctionDeadlineScheduler::wheelSize)
+                .description("이 노드 타이밍 휠에 적재된 마감 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        ticker = Executors.newSingleThreadScheduledExecutor(
+                runnable -> Thread.ofPlatform().name("auction-timing-wheel").daemon().unstarted(runnable));
+        ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        // 리더 임대 갱신 + 적재 (공용 스케줄러 스레드와 분리)
+        leaseRenewer = Executors.newSingleThreadScheduledExecutor(
+                runnable -> Thread.ofPlatform().name("auction-timing-wheel-lease").daemon().unstarted(runnable));
+        leaseRenewer.scheduleWithFixedDelay(this::refill, 0, refillIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("[AuctionDeadline] 타이밍 휠 스케줄러 시작 - 노드: {}, 틱: {}ms", nodeId, tickMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        leaseRenewer.shutdownNow();
+        ticker.shutdownNow();
+        fireExecutor.shutdown();
+        if (leader) {
+            leader = false;
+            try {
+                stringRedisTemplate.execute(RELEASE_SCRIPT, Collections.singletonList(LEADER_KEY), nodeId);
+            } catch (Exception e) {
+                log.warn("[AuctionDeadline] 리더 임대 반납 실패 (임대 만료 후 교체됨) - 오류: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void schedule(AuctionDeadline deadline, LocalDateTime fireAt) {
+        long deadlineMillis = fireAt.atZone(ZONE).toInstant().toEpochMilli();
+        stringRedisTemplate.opsForZSet().add(DEADLINES_KEY, deadline.member(), deadlineMillis);
+
+        // horizon 밖의 마감은 다음 적재 주기에 휠로 들어감
+        if (leader && deadlineMillis <= loadedUntil) {
+            load(deadline, deadlineMillis);
+        }
+    }
+
+    /**
+     * 일괄 등록 (ZADD 1회)
+     */
+    @Override
+    public void scheduleAll(Map<AuctionDeadline, LocalDateTime> deadlines) {
+        if (deadlines.isEmpty()) {
+            return;
+        }
+        Map<AuctionDeadline, Long> deadlineMillis = new HashMap<>(deadlines.size() * 2);
+        Set<TypedTuple<String>> tuples = new HashSet<>(deadlines.size() * 2);
+        deadlines.forEach((deadline, fireAt) -> {
+            long millis = fireAt.atZone(ZONE).toInstant().toEpochMilli();
+            deadlineMillis.put(deadline, millis);
+            tuples.add(TypedTuple.of(deadline.member(), (double) millis));
+        });
+        stringRedisTemplate.opsForZSet().add(DEADLINES_KEY, tuples);
+
+        if (leader) {
+            long until = loadedUntil;
+            deadlineMillis.forEach((deadline, millis) -> {
+                if (millis <= until) {
+                    load(deadline, millis);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void cancel(Long auctionId) {
+        AuctionDeadline start = AuctionDeadline.start(auctionId);
+        AuctionDeadline end = AuctionDeadline.end(auctionId);
+        stringRedisTemplate.opsForZSet().remove(DEADLINES_KEY, start.member(), end.member());
+
+        synchronized (wheel) {
+            wheel.cancel(loaded.remove(start));
+            wheel.cancel(loaded.remove(end));
+        }
+    }
+
+    /**
+     * 리더 임대 획득 / 갱신 후, 리더이면 horizon 안의 마감을 휠에 적재 (임대 갱신 스레드)
+     */
+    void refill() {
+        if (!acquireLeadership()) {
+            if (leader) {
+                leader = false;
+                synchronized (wheel) {
+                    loaded.values().forEach(wheel::cancel);
+                    loaded.clear();
+                }
+                log.warn("[AuctionDeadline] 리더 임대 상실, 휠 비움 - 노드: {}", nodeId);
+            }
+            return;
+        }
+        if (!leader) {
+            leader = true;
+            log.info("[AuctionDeadline] 리더 선출 - 노드: {}", nodeId);
+        }
+
+        try {
+            long until = System.currentTimeMillis() + horizonMillis;
+            Set<TypedTuple<String>> deadlines = stringRedisTemplate.opsForZSet()
+                    .rangeByScoreWithScores(DEADLINES_KEY, Double.NEGATIVE_INFINITY, until, 0, refillBatchSize);
+            long lastScore = until;
+            if (deadlines != null) {
+                for (TypedTuple<String> tuple : deadlines) {
+                    AuctionDeadline deadline = AuctionDeadline.parse(tuple.getValue());
+                    if (deadline == null || tuple.getScore() == null) {
+                        stringRedisTemplate.opsForZSet().remove(DEADLINES_KEY, tuple.getValue());
+                        continue;
+                    }
+                    lastScore = tuple.getScore().longValue();
+                    load(deadline, lastScore);
+                }
+                if (deadlines.size() < refillBatchSize) {
+                    lastScore = until;
+                }
+            }
+            // 배치가 가득 찼으면(밀린 마감이 많으면) 읽은 지점까지만 적재된 것으로 간주
+            loadedUntil = lastScore;
+        } catch (Exception e) {
+            log.warn("[AuctionDeadline] 마감 적재 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    int wheelSize() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    private boolean acquireLeadership() {
+        try {
+            if (leader) {
+                Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT, Collections.singletonList(LEADER_KEY),
+                        nodeId, String.valueOf(leaderLeaseMillis));
+                if (renewed != null && renewed == 1L) {
+                    return true;
+                }
+            }
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(LEADER_KEY, nodeId, Duration.ofMillis(leaderLeaseMillis)));
+        } catch (Exception e) {
+            log.warn("[AuctionDeadline] 리더 임대 확인 실패 - 오류: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 휠에 등록 (같은 마감이 같은 시각으로 이미 있으면 무시, 시각이 바뀌었으면 교체)
+     */
+    private void load(AuctionDeadline deadline, long deadlineMillis) {
+        synchronized (wheel) {
+            Timeout<AuctionDeadline> existing = loaded.get(deadline);
+            if (existing != null) {
+                if (existing.deadlineMillis() == deadlineMillis) {
+                    return;
+                }
+                wheel.cancel(existing);
+            }
+            loaded.put(deadline, wheel.add(deadline, deadlineMillis));
+        }
+    }
+
+    /**
+     * 틱 진행 (타이밍 휠 스레드)
+     */
+    private void advance() {
+        if (!leader) {
+            return;
+        }
+        try {
+            List<Timeout<AuctionDeadline>> expired = new ArrayList<>();
+            synchronized (wheel) {
+                wheel.advanceTo(System.currentTimeMillis(), expired::add);
+                for (Timeout<AuctionDeadline> timeout : expired) {
+                    loaded.remove(timeout.task(), timeout);
+                }
+            }
+            for (Timeout<AuctionDeadline> timeout : expired) {
+                fireExecutor.execute(() -> fire(timeout.task(), timeout.deadlineMillis()));
+            }
+        } catch (Exception e) {
+            log.error("[AuctionDeadline] 타이밍 휠 진행 중 오류 발생", e);
+        }
+    }
+
+    private void fire(AuctionDeadline deadline, long deadlineMillis) {
+        try {
+            firePermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            // 선점: 점수를 선점 만료 시각으로 밀어 둠 (완료 전에 죽으면 그 시각에 다시 실행)
+            long leaseUntil = System.currentTimeMillis() + retryDelayMillis;
+            Long claimed = stringRedisTemplate.execute(CLAIM_SCRIPT, Collections.singletonList(DEADLINES_KEY),
+                    deadline.member(), String.valueOf(deadlineMillis), String.valueOf(leaseUntil));
+            if (claimed == null || claimed != 1L) {
+                return; // 해제 / 시각 변경 / 다른 노드에서 이미 실행 중
+            }
+
+            fireLag.record(Math.max(0, System.currentTimeMillis() - deadlineMillis), TimeUnit.MILLISECONDS);
+            if (deadline.type() == AuctionDeadline.Type.START) {
+                auctionLifecycleService.startAuction(deadline.auctionId());
+            } else {
+                auctionLifecycleService.endAuction(deadline.auctionId());
+            }
+            complete(deadline, leaseUntil);
+        } catch (Exception e) {
+            // 선점 점수가 남아 있으므로 선점 만료 시각에 다시 실행됨
+            log.error("[AuctionDeadline] 마감 실행 실패, {}ms 후 재시도 - 마감: {}", retryDelayMillis, deadline.member(), e);
+        } finally {
+            firePermits.release();
+        }
+    }
+
+    /**
+     * 상태 전환 커밋 후 마감 제거 (선점 점수가 그대로일 때만)
+     */
+    private void complete(AuctionDeadline deadline, long leaseUntil) {
+        Long removed;
+        try {
+            removed = stringRedisTemplate.execute(COMPLETE_SCRIPT, Collections.singletonList(DEADLINES_KEY),
+                    deadline.member(), String.valueOf(leaseUntil));
+        } catch (Exception e) {
+            // 선점 만료 후 다시 실행되지만 상태 확인으로 전환 없이 끝남
+            log.warn("[AuctionDeadline] 마감 완료 처리 실패 - 마감: {}, 오류: {}", deadline.member(), e.getMessage());
+            return;
+        }
+        if (removed != null && removed == 1L) {
+            // 적재 주기에 선점 시각으로 다시 올라온 휠 항목 정리
+            synchronized (wheel) {
+                Timeout<AuctionDeadline> reloaded = loaded.get(deadline);
+                if (reloaded != null && reloaded.deadlineMillis() == leaseUntil) {
+                    wheel.cancel(loaded.remove(deadline));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package org.example.bidflow.global.aspect;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import lombok.Getter;
+import org.example.bidflow.global.annotation.RateLimit;
+import org.example.bidflow.global.config.RedisRateLimitingConfig.RateLimitKeyBuilder;
+import org.example.bidflow.global.service.RateLimitingService.RateLimitResult;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.expression.spel.SpelMessage;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.ast.VariableReference;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @RateLimit 메서드별 불변 설정 (애플리케이션 시작 시 한 번 생성)
+ *
+ * 요청마다 반복되던 작업을 미리 끝내 둡니다.
+ * - 메서드 이름, Redis 키 접두사, 에러 상세 정보 → 문자열/맵으로 미리 생성
+ * - 버킷 설정 → BucketConfiguration 미리 생성
+ * - 커스텀 키 표현식 → IMMEDIATE 모드 SpEL 로 파싱 (두 번째 평가부터 바이트코드로 실행)
+ *   파라미터 하나만 참조하는 표현식(#auctionId)은 SpEL 없이 인자를 바로 꺼내는 추출기로 대체
+ * - 파라미터 이름 → 표현식이 참조하는 파라미터의 인덱스만 저장
+ *
+ * 호출 시점의 비용은 레지스트리 조회 + 키 문자열 생성입니다.
+ */
+public final class RateLimitDescriptor {
+
+    /** IMMEDIATE 모드 SpEL 파서 (표현식은 평가 직후 바로 컴파일) */
+    private static final SpelExpressionParser COMPILING_PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, RateLimitDescriptor.class.getClassLoader()));
+
+    /** 변수를 사용하지 않는 표현식용 공유 평가 컨텍스트 (루트 객체는 평가 시 전달) */
+    private static final EvaluationContext SHARED_CONTEXT = new StandardEvaluationContext();
+
+    /** 메서드 파라미터 외에 키 표현식에서 #변수로 사용할 수 있는 이름 */
+    private static final Set<String> CONTEXT_VARIABLES = Set.of("request", "ip", "userAgent", "user", "authorities");
+
+    /** 로그/에러 응답용 메서드 이름 (예: AuctionController.getAuction(..)) */
+    @Getter
+    private final String methodName;
+
+    /** 제한 초과 시 에러 메시지 */
+    @Getter
+    private final String message;
+
+    /** 미리 생성된 버킷 설정 */
+    @Getter
+    private final BucketConfiguration bucketConfiguration;
+
+    /** 제한 초과 예외에 포함되는 고정 상세 정보 */
+    private final Map<String, Object> errorDetails;
+
+    private final String keyPrefix;
+    private final KeyExtractor keyExtractor;
+
+    private RateLimitDescriptor(String methodName, RateLimit rateLimit, String keyPrefix, KeyExtractor keyExtractor) {
+        this.methodName = methodName;
+        this.message = rateLimit.message();
+        this.bucketConfiguration = BucketConfiguration.builder()
+                .addLimit(Bandwidth.simple(rateLimit.requests(), Duration.of(rateLimit.window(), rateLimit.unit())))
+                .build();
+        this.errorDetails = Map.of(
+                "method", methodName,
+                "limit", rateLimit.requests(),
+                "window", rateLimit.window() + " " + rateLimit.unit().name());
+        this.keyPrefix = keyPrefix;
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * 메서드와 어노테이션으로 설정 생성
+     * 잘못된 설정(CUSTOM 인데 표현식이 없음, 알 수 없는 변수 참조 등)은 시작 시점에 예외로 드러납니다.
+     */
+    public static RateLimitDescriptor create(Method method, RateLimit rateLimit, ParameterNameDiscoverer discoverer) {
+        String methodName = method.getDeclaringClass().getSimpleName() + "." + method.getName() + "(..)";
+
+        return switch (rateLimit.keyType()) {
+            case IP_ONLY -> new RateLimitDescriptor(methodName, rateLimit,
+                    RateLimitKeyBuilder.buildMethodKeyPrefix(methodName, "ip"), RateLimitKeyRoot::getIp);
+            case USER_ONLY -> new RateLimitDescriptor(methodName, rateLimit,
+                    RateLimitKeyBuilder.buildMethodKeyPrefix(methodName, "user"), root -> {
+                        String user = root.getUser();
+                        if (user == null) {
+                            throw new IllegalStateException("USER_ONLY Rate Limiting requires authenticated user");
+                        }
+                        return user;
+                    });
+            case IP_AND_USER -> new RateLimitDescriptor(methodName, rateLimit,
+                    RateLimitKeyBuilder.buildMethodKeyPrefix(methodName, "composite"), root -> {
+                        String user = root.getUser();
+                        return user != null ? user : root.getIp();
+                    });
+            case CUSTOM -> new RateLimitDescriptor(methodName, rateLimit,
+                    RateLimitKeyBuilder.buildMethodKeyPrefix(methodName, "custom"),
+                    createCustomExtractor(method, rateLimit.keyExpression(), discoverer));
+        };
+    }
+
+    /**
+     * 호출 인자로 Redis 키 생성
+     */
+    public String resolveKey(Object[] args) {
+        return keyPrefix + keyExtractor.extract(new RateLimitKeyRoot(args));
+    }
+
+    /**
+     * 제한 초과 예외용 상세 정보 (고정 정보 + 재시도 가능 시간)
+     */
+    public Map<String, Object> createErrorDetails(RateLimitResult result) {
+        Map<String, Object> details = new HashMap<>(errorDetails);
+        details.put("retryAfterSeconds", result.getRetryAfter() != null ? result.getRetryAfter().getSeconds() : 0);
+        return details;
+    }
+
+    private static KeyExtractor createCustomExtractor(Method method, String keyExpression,
+                                                      ParameterNameDiscoverer discoverer) {
+        if (!StringUtils.hasText(keyExpression)) {
+            throw new IllegalArgumentException("CUSTOM key type requires keyExpression - " + method);
+        }
+
+        SpelExpression expression = COMPILING_PARSER.parseRaw(unwrapTemplate(keyExpression));
+        Map<String, Integer> parameterIndexes = parameterIndexes(method, discoverer);
+
+        // 파라미터 하나만 참조하는 표현식은 SpEL 평가 없이 인자를 바로 사용
+        if (expression.getAST() instanceof VariableReference reference) {
+            Integer index = parameterIndexes.get(variableName(reference));
+            if (index != null) {
+                int argIndex = index;
+                return root -> String.valueOf(root.getArgs()[argIndex]);
+            }
+        }
+
+        Set<String> referenced = new LinkedHashSet<>();
+        collectVariables(expression.getAST(), referenced);
+
+        String[] names = referenced.toArray(new String[0]);
+        int[] indexes = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            Integer index = parameterIndexes.get(names[i]);
+            if (index == null && !CONTEXT_VARIABLES.contains(names[i])) {
+                throw new IllegalArgumentException("Unknown variable #" + names[i] + " in keyExpression - " + method);
+            }
+            indexes[i] = index != null ? index : -1;
+        }
+        return new SpelKeyExtractor(expression, names, indexes);
+    }
+
+    /**
+     * 템플릿 형식(#{...})으로 작성된 표현식도 허용
+     */
+    private static String unwrapTemplate(String keyExpression) {
+        String trimmed = keyExpression.trim();
+        if (trimmed.startsWith("#{") && trimmed.endsWith("}")) {
+            return trimmed.substring(2, trimmed.length() - 1);
+        }
+        return trimmed;
+    }
+
+    /**
+     * 파라미터 이름 → 인덱스 (실제 이름과 p0 / a0 / arg0 별칭)
+     */
+    private static Map<String, Integer> parameterIndexes(Method method, ParameterNameDiscoverer discoverer) {
+        Map<String, Integer> indexes = new HashMap<>();
+        String[] names = discoverer.getParameterNames(method);
+        for (int i = 0; i < method.getParameterCount(); i++) {
+            if (names != null && names[i] != null) {
+                indexes.put(names[i], i);
+            }
+            indexes.put("p" + i, i);
+            indexes.put("a" + i, i);
+            indexes.put("arg" + i, i);
+        }
+        return indexes;
+    }
+
+    private static void collectVariables(SpelNode node, Set<String> names) {
+        if (node instanceof VariableReference reference) {
+            String name = variableName(reference);
+            if (!"this".equals(name) && !"root".equals(name)) {
+                names.add(name);
+            }
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            collectVariables(node.getChild(i), names);
+        }
+    }
+
+    private static String variableName(VariableReference reference) {
+        return reference.toStringAST().substring(1); // "#name" → "name"
+    }
+
+    /**
+     * 호출 인자로 키 식별자를 만드는 추출기
+     */
+    @FunctionalInterface
+    interface KeyExtractor {
+        String extract(RateLimitKeyRoot root);
+    }
+
+    /**
+     * 컴파일된 SpEL 표현식 기반 추출기
+     * 표현식이 실제로 참조하는 변수만 평가 컨텍스트에 등록합니다.
+     */
+    private static final class SpelKeyExtractor implements KeyExtractor {
+        private final SpelExpression expression;
+        private final String[] variableNames;
+        private final int[] parameterIndexes;
+
+        private SpelKeyExtractor(SpelExpression expression, String[] variableNames, int[] parameterIndexes) {
+            this.expression = expression;
+            this.variableNames = variableNames;
+            this.parameterIndexes = parameterIndexes;
+        }
+
+        @Override
+        public String extract(RateLimitKeyRoot root) {
+            EvaluationContext context = createContext(root);
+            Object value;
+            try {
+                value = expression.getValue(context, root);
+            } catch (SpelEvaluationException e) {
+                if (e.getMessageCode() != SpelMessage.EXCEPTION_RUNNING_COMPILED_EXPRESSION) {
+                    throw e;
+                }
+                // 컴파일된 코드가 실행 중 실패하면 (인자 타입이 달라진 경우 등) 인터프리터로 되돌려 재평가
+                expression.revertToInterpreted();
+                value = expression.getValue(context, root);
+            }
+            return String.valueOf(value);
+        }
+
+        private EvaluationContext createContext(RateLimitKeyRoot root) {
+            if (variableNames.length == 0) {
+                return SHARED_CONTEXT;
+            }
+
+            StandardEvaluationContext context = new StandardEvaluationContext(root);
+            for (int i = 0; i < variableNames.length; i++) {
+                context.setVariable(variableNames[i], parameterIndexes[i] >= 0
+                        ? root.getArgs()[parameterIndexes[i]]
+                        : contextVariable(variableNames[i], root));
+            }
+            return context;
+        }
+
+        private static Object contextVariable(String name, RateLimitKeyRoot root) {
+            return switch (name) {
+                case "request" -> root.getRequest();
+                case "ip" -> root.getIp();
+                case "userAgent" -> root.getUserAgent();
+                case "user" -> root.getUser();
+                case "authorities" -> root.getAuthorities();
+                default -> null;
+            };
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.bidflow.global.aspect;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.global.annotation.RateLimit;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @RateLimit 메서드 설정 레지스트리
+ *
+ * 모든 싱글톤 빈이 생성된 뒤 애플리케이션 패키지의 빈을 한 번 훑어 @RateLimit 메서드의
+ * {@link RateLimitDescriptor} 를 미리 만들어 둡니다.
+ * 프록시 방식 차이로 스캔에서 빠진 메서드는 첫 호출 시 한 번만 생성하여 캐시합니다.
+ */
+@Slf4j
+@Component
+public class RateLimitDescriptorRegistry implements SmartInitializingSingleton {
+
+    /** 스캔 대상 패키지 (프레임워크 빈은 제외) */
+    private static final String BASE_PACKAGE = "org.example.bidflow.";
+
+    private final ApplicationContext applicationContext;
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<Method, RateLimitDescriptor> descriptors = new ConcurrentHashMap<>();
+
+    public RateLimitDescriptorRegistry(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String beanName : applicationContext.getBeanDefinitionNames()) {
+            Class<?> beanType = applicationContext.getType(beanName, false);
+            if (beanType == null) {
+                continue;
+            }
+
+            Class<?> userClass = ClassUtils.getUserClass(beanType);
+            if (!userClass.getName().startsWith(BASE_PACKAGE)) {
+                continue;
+            }
+
+            Map<Method, RateLimit> annotated = MethodIntrospector.selectMethods(userClass,
+                    (MethodIntrospector.MetadataLookup<RateLimit>) method ->
+                            AnnotatedElementUtils.findMergedAnnotation(method, RateLimit.class));
+            annotated.forEach((method, rateLimit) ->
+                    descriptors.put(method, RateLimitDescriptor.create(method, rateLimit, parameterNameDiscoverer)));
+        }
+
+        log.info("[Rate Limiting AOP] @RateLimit 메서드 설정 생성 완료 - 메서드 수: {}", descriptors.size());
+    }
+
+    /**
+     * 메서드 설정 조회 (없으면 생성 후 캐시)
+     */
+    public RateLimitDescriptor getDescriptor(Method method, RateLimit rateLimit) {
+        RateLimitDescriptor descriptor = descriptors.get(method);
+        if (descriptor == null) {
+            descriptor = descriptors.computeIfAbsent(method,
+                    m -> RateLimitDescriptor.create(m, rateLimit, parameterNameDiscoverer));
+        }
+        return descriptor;
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.bidflow.global.aspect;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.example.bidflow.global.utils.ClientIpUtil;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * @RateLimit 키 생성 시 사용하는 호출 단위 정보
+ *
+ * SpEL 키 표현식의 루트 객체로도 사용되며 (request, ip, user, userAgent, authorities, args),
+ * 요청/인증 정보는 표현식이 실제로 참조할 때만 조회합니다.
+ * SpEL 컴파일러가 바이트코드로 접근할 수 있도록 public 클래스 / public getter 로 유지합니다.
+ */
+public final class RateLimitKeyRoot {
+
+    private final Object[] args;
+
+    private HttpServletRequest request;
+    private boolean requestResolved;
+
+    public RateLimitKeyRoot(Object[] args) {
+        this.args = args;
+    }
+
+    public Object[] getArgs() {
+        return args;
+    }
+
+    /**
+     * 현재 HTTP 요청 (요청 스레드가 아니면 null)
+     */
+    public HttpServletRequest getRequest() {
+        if (!requestResolved) {
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            request = attributes instanceof ServletRequestAttributes servletAttributes
+                    ? servletAttributes.getRequest() : null;
+            requestResolved = true;
+        }
+        return request;
+    }
+
+    /**
+     * 클라이언트 IP (요청 정보가 없으면 "unknown")
+     */
+    public String getIp() {
+        HttpServletRequest current = getRequest();
+        return current != null ? ClientIpUtil.getClientIp(current) : "unknown";
+    }
+
+    public String getUserAgent() {
+        HttpServletRequest current = getRequest();
+        return current != null ? current.getHeader("User-Agent") : null;
+    }
+
+    /**
+     * 인증된 사용자 식별자 (미인증 / 익명 사용자면 null)
+     */
+    public String getUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !"anonymousUser".equals(authentication.getName())) {
+            return authentication.getName();
+        }
+        return null;
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getAuthorities() : List.of();
+    }
+}
@@ -46,6 +46,24 @@ public class RateLimitingConfig {
      */
     private UserBasedLimit userLimit = new UserBasedLimit();
 
+    /**
+     * STOMP 메시지 제한 설정
+     * WebSocket 연결 이후 /app 으로 전송되는 SEND 프레임에 적용되는 인메모리 제한
+     */
+    private StompLimit stompLimit = new StompLimit();
+
+    /**
+     * 적응형 동시성 제한 설정
+     * 고정된 요청 수 제한과 달리, 지연 시간 / DB 커넥션 대기 / Redis 지연을 보고 동시 처리 한도를 조절
+     */
+    private AdaptiveConcurrency adaptiveConcurrency = new AdaptiveConcurrency();
+
+    /**
+     * Burst 방지(페널티 박스) 설정
+     * 짧은 시간 안에 반복해서 제한에 걸린 IP 를 노드 로컬 메모리에서 일정 시간 즉시 차단
+     */
+    private BurstProtection burstProtection = new BurstProtection();
+
     public RateLimitingConfig() {
         initializeDefaultLimits();
     }
@@ -128,6 +146,17 @@ public class RateLimitingConfig {
         userLimit.setAuthenticatedUserRequestsPerHour(5000);   // 시간당 5000회
     }
 
+    /**
+     * Rate Limiting 알고리즘
+     * 규칙(IP / 사용자 / API)별로 선택 가능
+     */
+    public enum RateLimitAlgorithm {
+        /** Bucket4j 분산 토큰 버킷 (Redis CAS, 정확하지만 단일 키 경합 시 재시도 비용 큼) */
+        TOKEN_BUCKET,
+        /** 근사 슬라이딩 윈도우 카운터 (Lua 1회 왕복, 경합에 강함) */
+        SLIDING_WINDOW
+    }
+
     /**
      * IP 기반 Rate Limiting 설정 클래스
      * 클라이언트 IP 주소를 기준으로 한 요청 제한 정책
@@ -152,6 +181,9 @@ public class RateLimitingConfig {
         
         /** 시간 단위 시간 윈도우 크기 */
         private Duration windowSizeHour = Duration.ofHours(1);
+
+        /** 적용 알고리즘 (NAT 뒤 다수 사용자처럼 단일 IP 키 경합이 심하면 SLIDING_WINDOW 권장) */
+        private RateLimitAlgorithm algorithm = RateLimitAlgorithm.TOKEN_BUCKET;
     }
 
     /**
@@ -182,6 +214,9 @@ public class RateLimitingConfig {
         /** 이 API 제한 활성화 여부 */
         private boolean enabled = true;
 
+        /** 적용 알고리즘 */
+        private RateLimitAlgorithm algorithm = RateLimitAlgorithm.TOKEN_BUCKET;
+
         /**
          * API 제한 설정 생성자 (3단계 제한)
          * 
@@ -245,6 +280,95 @@ public class RateLimitingConfig {
         
         /** 시간 단위 시간 윈도우 크기 */
         private Duration windowSizeHour = Duration.ofHours(1);
+
+        /** 적용 알고리즘 */
+        private RateLimitAlgorithm algorithm = RateLimitAlgorithm.TOKEN_BUCKET;
+    }
+
+    /**
+     * STOMP 메시지 Rate Limiting 설정 클래스
+     * 세션별 / 사용자별 토큰 버킷 (노드 로컬 메모리에서 동작)
+     */
+    @Data
+    public static class StompLimit {
+        /** STOMP 메시지 제한 활성화 여부 */
+        private boolean enabled = true;
+
+        /** 세션당 초당 허용 메시지 수 */
+        private double messagesPerSecondPerSession = 5;
+
+        /** 세션당 버스트 허용 개수 */
+        private int sessionBurst = 10;
+
+        /** 사용자당 초당 허용 메시지 수 (여러 연결 합산) */
+        private double messagesPerSecondPerUser = 10;
+
+        /** 사용자당 버스트 허용 개수 */
+        private int userBurst = 20;
+    }
+
+    /**
+     * 적응형 동시성 제한(AIMD) 설정 클래스
+     * 엔드포인트 그룹별 동시 처리 한도를 과부하 신호에 따라 늘리고(가산) 줄입니다(승산).
+     */
+    @Data
+    public static class AdaptiveConcurrency {
+        /** 적응형 동시성 제한 활성화 여부 */
+        private boolean enabled = true;
+
+        /** 그룹별 초기 동시 처리 한도 */
+        private int initialLimit = 50;
+
+        /** 그룹별 최소 동시 처리 한도 (이 이하로는 줄이지 않음) */
+        private int minLimit = 2;
+
+        /** 그룹별 최대 동시 처리 한도 */
+        private int maxLimit = 200;
+
+        /** 과부하 시 한도에 곱하는 감소 비율 (Multiplicative Decrease) */
+        private double decreaseRatio = 0.7;
+
+        /** 정상 시 주기마다 늘리는 한도 (Additive Increase) */
+        private int increaseStep = 2;
+
+        /** 과부하로 판단하는 DB 커넥션 대기 스레드 수 */
+        private int pendingConnectionThreshold = 1;
+
+        /** 과부하로 판단하는 Redis 명령 지연 (ms) */
+        private long redisLatencyThresholdMs = 20;
+    }
+
+    /**
+     * Burst 방지(페널티 박스) 설정 클래스
+     * detectionWindowSeconds 안에 strikeThreshold 번 이상 거부된 IP 를 penaltySeconds 동안 차단합니다.
+     * 차단 목록은 Redis Pub/Sub 으로 다른 노드에 전파됩니다.
+     */
+    @Data
+    public static class BurstProtection {
+        /** Burst 방지 활성화 여부 */
+        private boolean enabled = true;
+
+        /** 엄격 모드 (차단 임계값을 절반으로 낮춤) */
+        private boolean strictMode = false;
+
+        /** 거부 횟수를 집계하는 윈도우 (초) */
+        private int detectionWindowSeconds = 5;
+
+        /** 윈도우 안에서 차단으로 이어지는 거부 횟수 */
+        private int strikeThreshold = 5;
+
+        /** 차단 유지 시간 (초) */
+        private int penaltySeconds = 60;
+
+        /** 노드당 최대 차단 IP 수 (메모리 상한) */
+        private int maxEntries = 100_000;
+
+        /**
+         * 엄격 모드를 반영한 실제 차단 임계값
+         */
+        public int getEffectiveStrikeThreshold() {
+            return strictMode ? Math.max(1, strikeThreshold / 2) : strikeThreshold;
+        }
     }
 
     /**
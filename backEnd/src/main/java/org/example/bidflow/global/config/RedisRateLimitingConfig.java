@@ -143,6 +143,18 @@ public class RedisRateLimitingConfig {
             return KEY_PREFIX + API_PREFIX + safeApiPath + ":" + identifier + ":" + timeWindow;
         }
 
+        /**
+         * 메서드 레벨(@RateLimit) Rate Limiting 키 접두사 생성
+         * 접두사는 애플리케이션 시작 시 메서드별로 한 번만 만들고, 요청마다 식별자만 이어 붙입니다.
+         *
+         * @param methodName 메서드 이름 (예: "AuctionController.getAuction(..)")
+         * @param strategy 키 생성 전략 ("ip", "user", "composite", "custom")
+         * @return 메서드 Rate Limiting 키 접두사 (예: "rate_limit:method:AuctionController.getAuction(..):ip:")
+         */
+        public static String buildMethodKeyPrefix(String methodName, String strategy) {
+            return KEY_PREFIX + "method:" + methodName + ":" + strategy + ":";
+        }
+
         /**
          * 복합 키 생성 (IP + API)
          * IP 주소와 API 경로를 조합한 복합적인 Rate Limiting 키 생성
@@ -0,0 +1,31 @@
+package org.example.bidflow.global.exception;
+
+import org.example.bidflow.data.BidErrorCode;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 입찰 거부 예외 (거부 사유 코드와 재입찰 가능 최소 금액 포함)
+ */
+public class BidRejectedException extends ServiceException {
+
+    private final BidErrorCode errorCode;
+    private final Integer minimumBid;
+
+    public BidRejectedException(BidErrorCode errorCode, String message) {
+        this(errorCode, message, null);
+    }
+
+    public BidRejectedException(BidErrorCode errorCode, String message, Integer minimumBid) {
+        super(HttpStatus.BAD_REQUEST.toString(), message);
+        this.errorCode = errorCode;
+        this.minimumBid = minimumBid;
+    }
+
+    public BidErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    public Integer getMinimumBid() {
+        return minimumBid;
+    }
+}
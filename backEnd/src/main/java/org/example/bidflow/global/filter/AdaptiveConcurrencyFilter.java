@@ -0,0 +1,81 @@
+package org.example.bidflow.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.global.service.AdaptiveConcurrencyLimiter;
+import org.example.bidflow.global.service.AdaptiveConcurrencyLimiter.EndpointGroup;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 적응형 동시성 제한(Load Shedding) 필터
+ * 엔드포인트 그룹별 동시 처리 한도를 넘는 요청은 503 으로 즉시 거절합니다.
+ * 과부하 시 조회/내역/마이페이지 그룹의 한도가 먼저 줄어들어 입찰/인증 처리 여력을 확보합니다.
+ */
+@Slf4j
+@Component
+@Order(3) // RateLimitingFilter 다음에 실행 -> 요청 수 제한을 통과한 요청만 동시성 슬롯을 사용
+@RequiredArgsConstructor
+public class AdaptiveConcurrencyFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+        return "OPTIONS".equalsIgnoreCase(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        EndpointGroup group = EndpointGroup.resolve(request.getMethod(), request.getRequestURI());
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        if (!adaptiveConcurrencyLimiter.tryAcquire(group)) {
+            handleOverloaded(response, group);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            adaptiveConcurrencyLimiter.release(group, start);
+        }
+    }
+
+    private void handleOverloaded(HttpServletResponse response, EndpointGroup group) throws IOException {
+        log.warn("[Adaptive Concurrency] 요청 차단 - 그룹: {}, 한도: {}, 처리 중: {}",
+                group, adaptiveConcurrencyLimiter.getLimit(group), adaptiveConcurrencyLimiter.getInflight(group));
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value()); // HTTP 503 상태 코드
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Retry-After", "1");
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", "서버가 혼잡합니다. 잠시 후 다시 시도해주세요.");
+        errorResponse.put("errorType", "SERVER_OVERLOADED");
+        errorResponse.put("endpointGroup", group.name());
+        errorResponse.put("timestamp", String.valueOf(System.currentTimeMillis()));
+
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.bidflow.global.filter;
+
+import org.example.bidflow.data.Role;
+import org.example.bidflow.global.utils.VerifiedClaims;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JWT 필터가 SecurityContext 에 등록하는 불변 인증 객체
+ *
+ * 검증된 클레임({@link VerifiedClaims})에서 바로 만들며, UserDetails / UsernamePasswordAuthenticationToken 을
+ * 요청마다 새로 만들지 않습니다. 권한 목록은 역할별로 미리 만든 불변 List 를 공유합니다.
+ * getName() 은 이전과 같이 토큰 subject(이메일)를 반환합니다. (Rate Limiting 사용자 식별자)
+ *
+ * @param name     토큰 subject (이메일)
+ * @param userUUID 사용자 UUID
+ * @param role     권한 문자열 (ROLE_USER / ROLE_ADMIN)
+ */
+public record JwtAuthentication(String name, String userUUID, String role) implements Authentication {
+
+    private static final List<GrantedAuthority> USER_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_" + Role.USER.name()));
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_" + Role.ADMIN.name()));
+
+    public static JwtAuthentication from(VerifiedClaims claims) {
+        return new JwtAuthentication(claims.subject(), claims.userUUID(), claims.role());
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        if (role == null) {
+            return List.of();
+        }
+        if (role.equals(USER_AUTHORITIES.get(0).getAuthority())) {
+            return USER_AUTHORITIES;
+        }
+        if (role.equals(ADMIN_AUTHORITIES.get(0).getAuthority())) {
+            return ADMIN_AUTHORITIES;
+        }
+        return List.of(new SimpleGrantedAuthority(role)); // 정의되지 않은 역할 (드묾)
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null; // 토큰 원문은 보관하지 않음
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return name;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        throw new IllegalArgumentException("JwtAuthentication 은 불변 객체입니다.");
+    }
+}
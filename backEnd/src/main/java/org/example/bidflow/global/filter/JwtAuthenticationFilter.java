@@ -13,18 +13,23 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.bidflow.domain.user.service.JwtBlacklistService;
 import org.example.bidflow.global.exception.ServiceException;
+import org.example.bidflow.global.messaging.sse.AuctionSseHub;
+import org.example.bidflow.global.service.PenaltyBox;
+import org.example.bidflow.global.utils.ClientIpUtil;
 import org.example.bidflow.global.utils.CookieUtil;
 import org.example.bidflow.global.utils.JwtProvider;
+import org.example.bidflow.global.utils.VerifiedClaims;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.http.server.PathContainer;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.core.annotation.Order;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import java.io.IOException;
+import java.util.List;
 
 @Slf4j
 @Component
@@ -32,15 +37,27 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // 공개 조회 API (GET, SecurityConfig permitAll) - 컨트롤러가 로그인 사용자를 쓰지 않음
+    private static final List<PathPattern> PUBLIC_READ_PATTERNS = List.of(
+            "/api/auctions",
+            "/api/auctions/{auctionId}",
+            "/api/auctions/{auctionId}/bid-detail",
+            "/api/auctions/{auctionId}/bids",
+            "/api/auctions/{auctionId}/bids/paging",
+            "/api/categories",
+            "/api/categories/{categoryId}"
+    ).stream().map(PathPatternParser.defaultInstance::parse).toList();
+
     private final JwtProvider jwtProvider;
     private final JwtBlacklistService jwtBlacklistService;
     private final CookieUtil cookieUtil;
+    private final PenaltyBox penaltyBox;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
         String path = request.getRequestURI();
-        // WebSocket 연결 경로는 JWT 필터에서 제외
-        return path.startsWith("/ws");
+        // WebSocket 연결 경로 / 관전 SSE 스트림(인증 불필요)은 JWT 필터에서 제외
+        return path.startsWith("/ws") || AuctionSseHub.isStreamPath(path);
     }
 
     @Override
@@ -48,8 +65,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
+        // 페널티 박스에 등록된 IP 는 토큰 파싱/블랙리스트 조회를 생략 (RateLimitingFilter 에서 거부)
+        if (penaltyBox.isPenalized(ClientIpUtil.getClientIp(request))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         String token = resolveToken(request);
 
+        // 공개 조회는 토큰이 잘못되어도 익명으로 처리하고 블랙리스트 조회를 생략
+        // (인증 정보는 Rate Limiting 사용자 식별자로만 쓰이므로 검증 캐시로 설정만 해 둠)
+        if (token != null && isPublicRead(request)) {
+            VerifiedClaims claims = jwtProvider.findVerifiedClaims(token);
+            if (claims != null) {
+                SecurityContextHolder.getContext().setAuthentication(JwtAuthentication.from(claims));
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         if (token != null) {
             try {
                 // 블랙리스트 확인
@@ -58,26 +92,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     throw new ServiceException(HttpStatus.UNAUTHORIZED.value() + "", "로그아웃한 토큰으로 접근할 수 없습니다.");
                 }
 
-                // 토큰 유효성 검사
-                if (jwtProvider.validateToken(token)) {
-                    // 토큰에서 필요한 정보 추출
-                    String username = jwtProvider.getUsername(token);
-                    String role = jwtProvider.parseRole(token);  // 👉 role 추출
-                    log.debug("[JWT 필터] 토큰 검증 성공 - 사용자: {}, 역할: {}", username, role);
-
-                    // 직접 UserDetails 생성
-                    UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
-                            .username(username)
-                            .password("") // 비밀번호는 인증에 필요하지 않음
-                            .authorities(new SimpleGrantedAuthority(role)) // 권한 설정
-                            .build();
-
-                    // 인증 객체 생성
-                    UsernamePasswordAuthenticationToken authenticationToken =
-                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-
-                    // SecurityContextHolder에 인증 정보 등록
-                    SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+                // 토큰 유효성 검사 (서명 검증 1회, 같은 토큰의 이후 요청은 검증 캐시 사용)
+                VerifiedClaims claims = jwtProvider.findVerifiedClaims(token);
+                if (claims != null) {
+                    log.debug("[JWT 필터] 토큰 검증 성공 - 사용자: {}, 역할: {}", claims.subject(), claims.role());
+
+                    // 검증된 클레임으로 불변 인증 객체를 만들어 SecurityContextHolder에 등록 (역할별 권한 목록 공유)
+                    SecurityContextHolder.getContext().setAuthentication(JwtAuthentication.from(claims));
                 } else {
                     log.warn("[JWT 필터] 토큰 유효성 검증 실패: {}", token.substring(0, Math.min(20, token.length())));
                     throw new ServiceException(HttpStatus.UNAUTHORIZED.value() + "", "유효하지 않은 토큰입니다.");
@@ -109,6 +130,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private static boolean isPublicRead(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) {
+            return false;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (PathPattern pattern : PUBLIC_READ_PATTERNS) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     // 쿠키에서 토큰 추출 (기존 Authorization 헤더도 호환성을 위해 유지)
     private String resolveToken(HttpServletRequest request) {
         // 1. 쿠키에서 토큰 추출 (우선순위)
@@ -8,8 +8,11 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.bidflow.global.config.RateLimitingConfig;
+import org.example.bidflow.global.messaging.sse.AuctionSseHub;
+import org.example.bidflow.global.service.PenaltyBox;
 import org.example.bidflow.global.service.RateLimitingService;
 import org.example.bidflow.global.service.RateLimitingService.RateLimitResult;
+import org.example.bidflow.global.utils.ClientIpUtil;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -34,6 +37,9 @@ public class RateLimitingFilter extends OncePerRequestFilter {
 
     /** Rate Limiting 핵심 서비스 - 실제 제한 검사 로직 담당 */
     private final RateLimitingService rateLimitingService;
+
+    /** 반복 위반 IP 노드 로컬 차단 목록 - Redis 검사 전에 확인 */
+    private final PenaltyBox penaltyBox;
     
     /** JSON 직렬화/역직렬화 - 에러 응답 생성용 */
     private final ObjectMapper objectMapper;
@@ -64,6 +70,7 @@ public class RateLimitingFilter extends OncePerRequestFilter {
 
     /**
      * Rate Limiting 핵심 처리 로직
+     * 0. 페널티 박스 확인 (차단된 IP 는 Redis 검사 없이 즉시 거부)
      * 1. IP 기반 제한 검사 2. 사용자 기반 제한 검사 3. API별 제한 검사를 순차적으로 수행
      * 4. 성공 응답에 Rate Limit 정보 추가
      */
@@ -80,11 +87,19 @@ public class RateLimitingFilter extends OncePerRequestFilter {
             clientIp = getClientIpAddress(request);
             requestUri = request.getRequestURI(); // 요청된 API 경로
             
+            // 0. 페널티 박스 확인 (반복 위반 IP 는 메모리 조회 한 번으로 거부)
+            long penaltyMillis = penaltyBox.getRemainingPenaltyMillis(clientIp);
+            if (penaltyMillis > 0) {
+                handlePenalized(response, penaltyMillis);
+                return;
+            }
+
             log.debug("[Rate Limiting] 요청 검사 시작 - IP: {}, URI: {}", clientIp, requestUri);
 
             // 1. IP 기반 제한 검사 (모든 요청에 적용되는 기본 제한)
             RateLimitResult ipResult = rateLimitingService.checkIpLimit(clientIp);
             if (!ipResult.isAllowed()) {
+                penaltyBox.recordRejection(clientIp);
                 handleRateLimitExceeded(response, ipResult, "IP", clientIp);
                 return;
             }
@@ -94,6 +109,7 @@ public class RateLimitingFilter extends OncePerRequestFilter {
             if (userUUID != null) {
                 RateLimitResult userResult = rateLimitingService.checkUserLimit(userUUID);
                 if (!userResult.isAllowed()) {
+                    penaltyBox.recordRejection(clientIp);
                     handleRateLimitExceeded(response, userResult, "USER", userUUID);
                     return;
                 }
@@ -103,6 +119,7 @@ public class RateLimitingFilter extends OncePerRequestFilter {
             String identifier = userUUID != null ? userUUID : clientIp;
             RateLimitResult apiResult = rateLimitingService.checkApiLimit(requestUri, identifier);
             if (!apiResult.isAllowed()) {
+                penaltyBox.recordRejection(clientIp);
                 handleRateLimitExceeded(response, apiResult, "API", requestUri);
                 return;
             }
@@ -121,7 +138,8 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         }
 
         // Rate Limiting 통과 시 ResponseWrapper로 감싸서 성공 응답에 토큰 정보 추가
-        if (finalResult != null && finalResult.isAllowed()) {
+        // (SSE 스트림은 응답 본문을 버퍼링하면 이벤트가 전달되지 않으므로 제외 - 연결 시도 자체는 제한 대상)
+        if (finalResult != null && finalResult.isAllowed() && !AuctionSseHub.isStreamPath(requestUri)) {
             RateLimitResponseWrapper responseWrapper = new RateLimitResponseWrapper(response, objectMapper, finalResult, requestUri);
             filterChain.doFilter(request, responseWrapper);
             responseWrapper.copyBodyToResponse();
@@ -140,38 +158,9 @@ public class RateLimitingFilter extends OncePerRequestFilter {
      * @return 클라이언트의 실제 IP 주소
      */
     private String getClientIpAddress(HttpServletRequest request) {
-        // X-Forwarded-For 헤더 확인 (ALB, 프록시 환경)
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty() && !"unknown".equalsIgnoreCase(xForwardedFor)) {
-            // 첫 번째 IP가 실제 클라이언트 IP
-            log.info("추출한 IP 주소(X-Forwarded-For 헤더 - ALB, 프록시 환경) {}", xForwardedFor.split(",")[0].trim());
-            return xForwardedFor.split(",")[0].trim();
-        }
-
-        // X-Real-IP 헤더 확인 (Nginx 프록시에서 주로 사용)
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty() && !"unknown".equalsIgnoreCase(xRealIp)) {
-            log.info("추출한 IP 주소(X-Real-IP 헤더 - Nginx 프록시) {}", xRealIp);
-            return xRealIp;
-        }
-
-        // X-Forwarded 헤더 확인 (일반적인 프록시 환경)
-        String xForwarded = request.getHeader("X-Forwarded");
-        if (xForwarded != null && !xForwarded.isEmpty() && !"unknown".equalsIgnoreCase(xForwarded)) {
-            log.info("추출한 IP 주소(X-Forwarded 헤더 - 일반적인 프록시) {}", xForwarded);
-            return xForwarded;
-        }
-
-        // Forwarded-For 헤더 확인 (표준 RFC 7239)
-        String forwardedFor = request.getHeader("Forwarded-For");
-        if (forwardedFor != null && !forwardedFor.isEmpty() && !"unknown".equalsIgnoreCase(forwardedFor)) {
-            log.info("추출한 IP 주소(Forwarded-For 헤더 - 표준 RFC 7239) {}", forwardedFor);
-            return forwardedFor;
-        }
-
-        // 모든 프록시 헤더가 없으면 기본 remote address 사용
-        log.info("추출한 IP 주소(기본 remote address - 프록시 헤더 없음) {}", request.getRemoteAddr());
-        return request.getRemoteAddr();
+        String clientIp = ClientIpUtil.getClientIp(request);
+        log.debug("[Rate Limiting] 추출한 클라이언트 IP: {}", clientIp);
+        return clientIp;
     }
 
     /**
@@ -197,6 +186,24 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         return null;
     }
 
+    /**
+     * 페널티 박스 차단 응답 처리
+     * 차단된 IP 는 요청마다 반복되므로 로그와 상세 정보 없이 고정된 짧은 응답만 반환
+     *
+     * @param penaltyMillis 남은 차단 시간 (ms)
+     */
+    private void handlePenalized(HttpServletResponse response, long penaltyMillis) throws IOException {
+        long retryAfterSeconds = (penaltyMillis + 999) / 1000;
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setHeader("X-RateLimit-Limit-Type", "PENALTY");
+        response.getWriter().write("{\"error\":\"반복된 요청 한도 초과로 일시적으로 차단되었습니다.\","
+                + "\"errorType\":\"RATE_LIMIT_EXCEEDED\",\"limitType\":\"PENALTY\","
+                + "\"retryAfterSeconds\":" + retryAfterSeconds + "}");
+    }
+
     /**
      * Rate Limit 초과 시 응답 처리
      * HTTP 429 상태 코드와 함께 상세한 에러 정보를 JSON으로 반환
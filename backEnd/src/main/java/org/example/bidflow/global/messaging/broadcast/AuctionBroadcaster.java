@@ -0,0 +1,210 @@
+package org.example.bidflow.global.messaging.broadcast;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.global.app.NodeIdentity;
+import org.example.bidflow.global.messaging.dto.MessagePayload;
+import org.example.bidflow.global.messaging.listener.MessageListener;
+import org.example.bidflow.global.messaging.publisher.MessagePublisher;
+import org.example.bidflow.global.messaging.replay.AuctionReplayBuffer;
+import org.example.bidflow.global.messaging.replay.AuctionSequence;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 경매 브로드캐스트 릴레이 (다중 노드 STOMP 팬아웃)
+ *
+ * SimpleBroker 는 노드 메모리 안에서만 동작하므로, ALB 뒤에 여러 인스턴스가 있으면
+ * 노드 A 에서 처리된 입찰은 노드 A 에 연결된 구독자에게만 전달됩니다.
+ *
+ * - 발행 노드: 로컬 구독자에게 즉시 전달한 뒤, 경매별 Redis 채널(auction:broadcast:{id})로 한 번 발행
+ * - 수신 노드: 자기 노드의 로컬 구독자에게만 다시 전달 (다시 발행하지 않음)
+ * - 자기 자신이 발행한 메시지는 sender(nodeId)로 걸러내어 중복 전달 방지
+ *
+ * 페이로드는 발행 노드에서 한 번만 JSON 으로 직렬화하고, 모든 노드는 그 바이트를 그대로 전달합니다.
+ * 가격 갱신은 입찰 저장 시 함께 발급된 순번(입찰 순서)을, 종료 / 낙찰 메시지는 같은 순번 공간에서 새로 발급한 순번
+ * ({@link AuctionSequence})을 STOMP 헤더(seq)로 전달하고,
+ * 모든 노드는 전달한 메시지를 재전송 버퍼({@link AuctionReplayBuffer})에 보관합니다. (재연결 시 누락분 재전송용)
+ * 로컬 전달 시 {@link AuctionDeliveryListener}(SSE 관전 스트림 등)에도 같은 JSON 을 넘깁니다.
+ * 로컬 전달은 {@link StompFrameFanout} 이 켜져 있으면 사전 인코딩된 STOMP 프레임으로,
+ * 꺼져 있으면 SimpleBroker 로 전달합니다.
+ * Redis 발행 실패 시에도 로컬 전달은 유지됩니다. (Fail Open)
+ */
+@Slf4j
+@Component
+public class AuctionBroadcaster implements MessageListener {
+
+    /** 경매별 브로드캐스트 채널 접두사 */
+    public static final String CHANNEL_PREFIX = "auction:broadcast:";
+
+    /** 이벤트 타입 (가격 갱신 - 느린 세션에서는 최신 프레임으로 대체 가능) */
+    public static final String EVENT_TYPE = "AUCTION_BROADCAST";
+
+    /** 이벤트 타입 (종료 / 낙찰 - 반드시 전달) */
+    public static final String GUARANTEED_EVENT_TYPE = "AUCTION_BROADCAST_GUARANTEED";
+
+    /** 경매 구독 목적지 접두사 */
+    private static final String DESTINATION_PREFIX = "/sub/auction/";
+
+    /** 브로드캐스트 순번 STOMP 헤더 */
+    public static final String SEQUENCE_HEADER = "seq";
+
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final StompFrameFanout stompFrameFanout;
+    private final MessagePublisher<MessagePayload> messagePublisher;
+    private final ObjectMapper objectMapper;
+    private final AuctionSequence auctionSequence;
+    private final AuctionReplayBuffer replayBuffer;
+    private final List<AuctionDeliveryListener> deliveryListeners;
+    private final String nodeId;
+
+    public AuctionBroadcaster(SimpMessagingTemplate simpMessagingTemplate,
+                              StompFrameFanout stompFrameFanout,
+                              MessagePublisher<MessagePayload> messagePublisher,
+                              ObjectMapper objectMapper,
+                              AuctionSequence auctionSequence,
+                              AuctionReplayBuffer replayBuffer,
+                              List<AuctionDeliveryListener> deliveryListeners,
+                              NodeIdentity nodeIdentity) {
+        this.simpMessagingTemplate = simpMessagingTemplate;
+        this.stompFrameFanout = stompFrameFanout;
+        this.messagePublisher = messagePublisher;
+        this.objectMapper = objectMapper;
+        this.auctionSequence = auctionSequence;
+        this.replayBuffer = replayBuffer;
+        this.deliveryListeners = deliveryListeners;
+        this.nodeId = nodeIdentity.getNodeId();
+    }
+
+    /**
+     * 경매 구독자 전체(모든 노드)에게 가격 갱신 브로드캐스트 (재전송 버퍼 보관)
+     * 송신이 밀린 세션에서는 같은 구독의 최신 프레임으로 대체될 수 있습니다.
+     *
+     * @param sequence 입찰 저장 시 함께 발급된 순번 (전송 시점에 새로 발급하지 않음, 알 수 없으면 {@link AuctionSequence#UNKNOWN})
+     */
+    public void broadcast(Long auctionId, long sequence, Object payload) {
+        broadcast(auctionId, sequence, payload, true);
+    }
+
+    /**
+     * 경매 구독자 전체(모든 노드)에게 반드시 전달할 메시지 브로드캐스트 (경매 종료, 낙찰자 발표, 순번 새로 발급)
+     */
+    public void broadcastGuaranteed(Long auctionId, Object payload) {
+        broadcast(auctionId, auctionSequence.next(auctionId), payload, false);
+    }
+
+    private void broadcast(Long auctionId, long sequence, Object payload, boolean conflatable) {
+        String destination = DESTINATION_PREFIX + auctionId;
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("[Broadcast] 페이로드 직렬화 실패 - 경매 ID: {}, 오류: {}", auctionId, e.getMessage());
+            return;
+        }
+
+        replayBuffer.append(auctionId, sequence, json);
+        deliverLocal(auctionId, destination, json, sequence, conflatable);
+
+        try {
+            messagePublisher.publish(CHANNEL_PREFIX + auctionId, new MessagePayload(
+                    conflatable ? EVENT_TYPE : GUARANTEED_EVENT_TYPE, nodeId, json, destination, sequence));
+        } catch (Exception e) {
+            log.warn("[Broadcast] Redis 발행 실패 (로컬 구독자에게만 전달됨) - 경매 ID: {}, 오류: {}", auctionId, e.getMessage());
+        }
+    }
+
+    /**
+     * 이 노드의 구독자에게만 전달 (노드마다 같은 값을 각자 계산하는 메시지용, Redis 발행 없음)
+     * 순번을 붙이지 않으며 재전송 대상도 아닙니다.
+     */
+    public void broadcastLocal(Long auctionId, Object payload) {
+        try {
+            deliverLocal(auctionId, DESTINATION_PREFIX + auctionId, objectMapper.writeValueAsString(payload),
+                    AuctionSequence.UNKNOWN, true);
+        } catch (JsonProcessingException e) {
+            log.error("[Broadcast] 페이로드 직렬화 실패 - 경매 ID: {}, 오류: {}", auctionId, e.getMessage());
+        }
+    }
+
+    @Override
+    public String getTopic() {
+        return CHANNEL_PREFIX + "*";
+    }
+
+    /**
+     * 다른 노드에서 발행한 브로드캐스트를 로컬 구독자에게 전달
+     */
+    @Override
+    public void handleMessage(MessagePayload payload) {
+        boolean conflatable = EVENT_TYPE.equals(payload.getEventType());
+        if ((!conflatable && !GUARANTEED_EVENT_TYPE.equals(payload.getEventType()))
+                || nodeId.equals(payload.getSender())) {
+            return; // 자기 노드에서 이미 로컬 전달한 메시지
+        }
+        if (payload.getDestination() == null || !(payload.getData() instanceof String json)) {
+            log.warn("[Broadcast] 잘못된 릴레이 메시지 - 발신 노드: {}", payload.getSender());
+            return;
+        }
+
+        long sequence = payload.getSequence() != null ? payload.getSequence() : AuctionSequence.UNKNOWN;
+        Long auctionId = parseAuctionId(payload.getDestination());
+        if (auctionId != null) {
+            replayBuffer.append(auctionId, sequence, json);
+        }
+        deliverLocal(auctionId, payload.getDestination(), json, sequence, conflatable);
+    }
+
+    /**
+     * 이미 직렬화된 JSON 을 로컬 구독자에게 전달 (메시지 변환 생략)
+     */
+    private void deliverLocal(Long auctionId, String destination, String json, long sequence, boolean conflatable) {
+        if (auctionId != null) {
+            notifyDeliveryListeners(auctionId, sequence, json);
+        }
+
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        if (stompFrameFanout.isEnabled()) {
+            stompFrameFanout.broadcast(destination, body, MimeTypeUtils.APPLICATION_JSON_VALUE, sequence, conflatable);
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        if (sequence > AuctionSequence.UNKNOWN) {
+            accessor.setNativeHeader(SEQUENCE_HEADER, Long.toString(sequence));
+        }
+        accessor.setLeaveMutable(true);
+        simpMessagingTemplate.send(destination,
+                MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+    }
+
+    private void notifyDeliveryListeners(Long auctionId, long sequence, String json) {
+        for (AuctionDeliveryListener listener : deliveryListeners) {
+            try {
+                listener.onDelivered(auctionId, sequence, json);
+            } catch (Exception e) {
+                log.warn("[Broadcast] 로컬 전달 훅 처리 실패 - 경매 ID: {}, 오류: {}", auctionId, e.getMessage());
+            }
+        }
+    }
+
+    private static Long parseAuctionId(String destination) {
+        if (!destination.startsWith(DESTINATION_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.bidflow.global.messaging.broadcast;
+
+/**
+ * 경매 브로드캐스트의 로컬 전달 훅
+ *
+ * {@link AuctionBroadcaster} 가 이 노드의 STOMP 구독자에게 전달할 때마다 같은 직렬화 결과로 호출됩니다.
+ * (SSE 관전 스트림 등 STOMP 이외의 로컬 전달 경로용, 호출 스레드를 막지 않아야 함)
+ */
+public interface AuctionDeliveryListener {
+
+    /**
+     * @param sequence 경매별 브로드캐스트 순번 (순번이 없는 메시지는 0)
+     * @param json     직렬화된 페이로드
+     */
+    void onDelivered(Long auctionId, long sequence, String json);
+}
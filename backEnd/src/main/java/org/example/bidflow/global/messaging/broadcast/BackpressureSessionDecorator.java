@@ -0,0 +1,308 @@
+package org.example.bidflow.global.messaging.broadcast;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 송신 정책이 적용된 WebSocket 세션 ({@link OutboundBackpressurePolicy})
+ *
+ * 호출 스레드는 프레임을 버퍼에 적재만 하고 바로 반환하며, 실제 전송은 송신 전용 스레드
+ * ({@link OutboundBackpressurePolicy#getWriter()})가 세션당 하나의 작업으로 버퍼를 비우면서 순서대로 처리합니다.
+ * 따라서 TCP 송신 버퍼가 가득 찬 세션이 있어도 브로드캐스트 / Redis 구독 스레드는 막히지 않습니다.
+ * 프레임마다 병합 가능 여부를 구분합니다.
+ *
+ * - {@link #sendConflatable}: 같은 병합 키(구독)의 대기 프레임이 있으면 교체, 한도 초과 시 오래된 것부터 폐기
+ *   (교체 / 폐기된 가격 갱신은 seq 가 건너뛰어 보일 수 있으며, 최신 프레임이 현재 상태를 담고 있음)
+ * - {@link #sendMessage}: 반드시 전달 (Spring STOMP 제어 프레임, 개인 큐, 종료 / 낙찰 메시지)
+ *
+ * 반드시 전달할 프레임만으로 한도를 넘거나, 전송 하나가 시간 한도를 넘거나, 만성적으로 폐기가 발생하면
+ * {@link SessionLimitExceededException} 을 던지고 이후 프레임은 받지 않습니다. (호출 측에서 {@link #closeAsync} 로 종료)
+ * 송신 시간 한도는 다음 프레임 적재 시점과 정책의 송신 감시 스레드에서 확인합니다.
+ * 감시 스레드가 한도를 넘긴 세션을 닫으면 막혀 있던 소켓 쓰기가 실패하여 송신 스레드가 다른 세션에 반환됩니다.
+ * 종료(close)는 송신 스레드가 모두 막혀 있어도 실행되도록 종료 전용 스레드({@link OutboundBackpressurePolicy#getCloser()})에서 처리합니다.
+ */
+@Slf4j
+public class BackpressureSessionDecorator extends WebSocketSessionDecorator {
+
+    private final OutboundBackpressurePolicy policy;
+
+    /** 송신 대기 프레임 (buffer 잠금으로 보호) */
+    private final Deque<Outbound> buffer = new ArrayDeque<>();
+
+    /** 병합 키 → 대기 중인 프레임 */
+    private final Map<Object, Outbound> pendingByKey = new HashMap<>();
+
+    private long bufferedBytes;
+    private long dropWindowStart;
+    private int dropsInWindow;
+
+    /** 버퍼를 비우는 송신 작업이 예약 / 실행 중인지 (buffer 잠금으로 보호, 세션당 최대 1개) */
+    private boolean flushScheduled;
+
+    private volatile long sendStartTime;
+    private volatile boolean limitExceeded;
+
+    public BackpressureSessionDecorator(WebSocketSession delegate, OutboundBackpressurePolicy policy) {
+        super(delegate);
+        this.policy = policy;
+    }
+
+    /**
+     * 반드시 전달할 프레임
+     */
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        enqueue(message, null);
+    }
+
+    /**
+     * 병합 가능한 프레임 (같은 conflationKey 의 대기 프레임은 이 프레임으로 교체)
+     */
+    public void sendConflatable(WebSocketMessage<?> message, Object conflationKey) throws IOException {
+        enqueue(message, conflationKey);
+    }
+
+    public long getBufferedBytes() {
+        synchronized (buffer) {
+            return bufferedBytes;
+        }
+    }
+
+    /**
+     * 연결 종료 시 대기 프레임 정리 (메트릭 반영)
+     */
+    public void release() {
+        limitExceeded = true;
+        clearBuffer();
+    }
+
+    /**
+     * 종료 전용 스레드에서 세션 종료 (막힌 전송이 있는 세션의 close 가 호출 스레드 / 송신 스레드를 붙잡지 않도록)
+     */
+    public void closeAsync(CloseStatus status) {
+        try {
+            policy.getCloser().execute(() -> closeQuietly(status));
+        } catch (RejectedExecutionException e) {
+            closeQuietly(status); // 애플리케이션 종료 중
+        }
+    }
+
+    /**
+     * 진행 중인 전송이 송신 시간 한도를 넘었으면 세션 종료 (정책의 송신 감시 스레드에서 호출)
+     */
+    void closeIfSendStalled(long now) {
+        long start = sendStartTime;
+        if (start > 0 && now - start > policy.getSendTimeLimitMillis()
+                && markExceeded("송신 시간 한도 초과 (" + policy.getSendTimeLimitMillis() + " ms)")) {
+            closeAsync(CloseStatus.SESSION_NOT_RELIABLE);
+        }
+    }
+
+    private void enqueue(WebSocketMessage<?> message, Object conflationKey) throws IOException {
+        if (limitExceeded) {
+            return; // 종료 처리 중인 세션
+        }
+
+        String exceededReason;
+        boolean schedule = false;
+        synchronized (buffer) {
+            Outbound pending = conflationKey != null ? pendingByKey.get(conflationKey) : null;
+            if (pending != null) {
+                adjustBuffered(message.getPayloadLength() - pending.message.getPayloadLength());
+                pending.message = message;
+                policy.recordConflated();
+                countDrop();
+            } else {
+                Outbound outbound = new Outbound(message, conflationKey);
+                buffer.add(outbound);
+                if (conflationKey != null) {
+                    pendingByKey.put(conflationKey, outbound);
+                }
+                adjustBuffered(message.getPayloadLength());
+            }
+            exceededReason = trimToLimit();
+            if (exceededReason == null && !flushScheduled) {
+                flushScheduled = true;
+                schedule = true;
+            }
+        }
+        if (exceededReason != null) {
+            exceed(exceededReason);
+        }
+
+        if (schedule) {
+            scheduleFlush();
+        } else {
+            checkSendTime();
+        }
+    }
+
+    /**
+     * 버퍼 한도를 넘으면 오래된 병합 가능 프레임부터 폐기 (buffer 잠금 상태에서 호출)
+     *
+     * @return 세션을 종료해야 하면 사유, 아니면 null
+     */
+    private String trimToLimit() {
+        Iterator<Outbound> iterator = buffer.iterator();
+        while (bufferedBytes > policy.getBufferSizeLimitBytes() && iterator.hasNext()) {
+            Outbound outbound = iterator.next();
+            if (outbound.conflationKey == null) {
+                continue;
+            }
+            iterator.remove();
+            pendingByKey.remove(outbound.conflationKey);
+            adjustBuffered(-outbound.message.getPayloadLength());
+            policy.recordOverflowDropped();
+            countDrop();
+        }
+
+        if (bufferedBytes > policy.getBufferSizeLimitBytes()) {
+            return "송신 버퍼 한도 초과 (" + bufferedBytes + " bytes)";
+        }
+        if (dropsInWindow > policy.getSlowSessionDropThreshold()) {
+            return "만성 지연 (" + dropsInWindow + " 프레임 폐기)";
+        }
+        return null;
+    }
+
+    private void scheduleFlush() throws SessionLimitExceededException {
+        try {
+            policy.getWriter().execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            exceed("송신 스레드 사용 불가");
+        }
+    }
+
+    /**
+     * 송신 스레드에서 버퍼를 빌 때까지 전송 (버퍼가 비면 예약 상태를 해제하고 종료)
+     */
+    private void flush() {
+        policy.drainStarted(this);
+        try {
+            while (!limitExceeded) {
+                WebSocketMessage<?> message = pollOrFinish();
+                if (message == null) {
+                    return;
+                }
+                sendStartTime = System.currentTimeMillis();
+                try {
+                    getDelegate().sendMessage(message);
+                } finally {
+                    sendStartTime = 0;
+                }
+            }
+        } catch (Exception e) {
+            // 연결 끊김 등 전송 실패 - 이후 프레임은 받지 않고 세션 종료
+            log.debug("[WebSocket Outbound] 전송 실패, 세션 종료 - 세션: {}, 오류: {}", getId(), e.getMessage());
+            release();
+            closeAsync(CloseStatus.SESSION_NOT_RELIABLE);
+        } finally {
+            policy.drainFinished(this);
+        }
+    }
+
+    private WebSocketMessage<?> pollOrFinish() {
+        synchronized (buffer) {
+            Outbound outbound = buffer.poll();
+            if (outbound == null) {
+                flushScheduled = false;
+                return null;
+            }
+            if (outbound.conflationKey != null) {
+                pendingByKey.remove(outbound.conflationKey);
+            }
+            adjustBuffered(-outbound.message.getPayloadLength());
+            return outbound.message;
+        }
+    }
+
+    private void checkSendTime() throws SessionLimitExceededException {
+        long start = sendStartTime;
+        if (start > 0 && System.currentTimeMillis() - start > policy.getSendTimeLimitMillis()) {
+            exceed("송신 시간 한도 초과 (" + policy.getSendTimeLimitMillis() + " ms)");
+        }
+    }
+
+    private void exceed(String reason) throws SessionLimitExceededException {
+        markExceeded(reason);
+        throw new SessionLimitExceededException(reason, CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    /**
+     * 한도 초과 처리 (이후 프레임은 받지 않음, 적재 스레드와 감시 스레드가 동시에 판단해도 한 번만 기록)
+     *
+     * @return 이번 호출에서 처음 초과 처리했으면 true
+     */
+    private boolean markExceeded(String reason) {
+        synchronized (buffer) {
+            if (limitExceeded) {
+                return false;
+            }
+            limitExceeded = true;
+        }
+        clearBuffer();
+        policy.recordSlowDisconnect();
+        log.warn("[WebSocket Outbound] 느린 세션 종료 - 세션: {}, 사유: {}", getId(), reason);
+        return true;
+    }
+
+    private void closeQuietly(CloseStatus status) {
+        try {
+            getDelegate().close(status);
+        } catch (Exception ignored) {
+            // 이미 닫힌 세션
+        }
+    }
+
+    private void clearBuffer() {
+        synchronized (buffer) {
+            buffer.clear();
+            pendingByKey.clear();
+            adjustBuffered(-bufferedBytes);
+        }
+    }
+
+    /** buffer 잠금 상태에서 호출 */
+    private void adjustBuffered(long delta) {
+        if (delta == 0) {
+            return;
+        }
+        bufferedBytes += delta;
+        policy.recordBuffered(bufferedBytes, delta);
+    }
+
+    /** buffer 잠금 상태에서 호출 (윈도우 안의 폐기 수 집계) */
+    private void countDrop() {
+        long now = System.currentTimeMillis();
+        if (now - dropWindowStart > policy.getSlowSessionWindowMillis()) {
+            dropWindowStart = now;
+            dropsInWindow = 0;
+        }
+        dropsInWindow++;
+    }
+
+    /**
+     * 대기 프레임 (병합 시 message 만 교체)
+     */
+    private static final class Outbound {
+        private WebSocketMessage<?> message;
+        private final Object conflationKey;
+
+        private Outbound(WebSocketMessage<?> message, Object conflationKey) {
+            this.message = message;
+            this.conflationKey = conflationKey;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package org.example.bidflow.global.messaging.broadcast;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.global.app.ApplicationExecutors;
+import org.example.bidflow.global.messaging.replay.AuctionSequence;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 경매별 가격 갱신 병합 브로드캐스터 (Conflation)
+ *
+ * 입찰이 몰리는 경매에서 관전자에게 필요한 것은 중간 가격이 아니라 최신 가격입니다.
+ * 입찰 성공 시 바로 전송하지 않고 경매별 최신 상태만 보관해 두었다가,
+ * 주기(flush-interval-ms)마다 경매당 최대 한 번만 {@link AuctionBroadcaster} 로 전송합니다.
+ *
+ * - 전송 프레임 수 / 직렬화 횟수: 입찰 빈도와 무관하게 경매당 초당 (1000 / flush-interval-ms) 회 이하
+ * - 종료 / 낙찰 메시지: {@link #broadcastFinal} 로 대기 중인 갱신을 먼저 보낸 뒤 즉시 전송 (병합·유실 없음)
+ * - 종료 메시지 이후 도착한 가격 갱신(종료 직전에 수락된 입찰 등)은 버림 (경매별 종료 표시를 잠시 보관)
+ * - 가격 갱신은 입찰 저장 시 발급된 순번과 함께 보관하여 그대로 전송 (전송 시점이 아니라 입찰 순서)
+ *   이미 보관 / 전송한 것보다 순번이 낮은 갱신(늦게 도착한 이전 입찰)은 최신 상태가 아니므로 병합 폐기
+ * - 한동안 갱신이 없는 경매의 슬롯은 주기 작업에서 정리
+ *
+ * 슬롯 상태(pending)는 짧게 잠그고 교체만 하며, Redis 발행은 잠금을 놓은 뒤 경매별 발행 잠금 안에서 실행합니다.
+ * 입찰 스레드는 발행 잠금을 기다리지 않으므로 Redis 지연이 입찰 처리로 번지지 않고,
+ * 발행 잠금으로 같은 경매의 주기 전송과 종료 메시지 순서는 유지됩니다.
+ *
+ * 주기 전송은 @Scheduled(Spring 기본 스케줄러 스레드 1개를 다른 주기 작업과 공유)가 아니라 전용 스케줄러 스레드에서 실행하여,
+ * 다른 주기 작업이 막혀도 가격 갱신 지연이 flush-interval-ms 근처로 유지되도록 합니다.
+ */
+@Slf4j
+@Component
+public class ConflatingAuctionBroadcaster {
+
+    /** 갱신이 없는 경매 슬롯 정리 기준 (ms) */
+    private static final long IDLE_EVICT_MILLIS = 60_000;
+
+    /** 종료 메시지 이후 늦은 가격 갱신을 버리는 기간 (ms) */
+    private static final long FINISHED_RETAIN_MILLIS = 10 * 60_000;
+
+    private final AuctionBroadcaster auctionBroadcaster;
+    private final ApplicationExecutors executors;
+    private final boolean enabled;
+    private final long flushIntervalMillis;
+
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    /** 종료 메시지를 보낸 경매 ID → 종료 시각 */
+    private final Map<Long, Long> finishedAt = new ConcurrentHashMap<>();
+
+    private final Counter conflatedCounter;
+    private final Counter flushedCounter;
+    private final Counter lateCounter;
+
+    public ConflatingAuctionBroadcaster(AuctionBroadcaster auctionBroadcaster,
+                                        MeterRegistry meterRegistry,
+                                        ApplicationExecutors executors,
+                                        @Value("${websocket.broadcast.conflation-enabled:true}") boolean enabled,
+                                        @Value("${websocket.broadcast.flush-interval-ms:100}") long flushIntervalMillis) {
+        this.auctionBroadcaster = auctionBroadcaster;
+        this.executors = executors;
+        this.enabled = enabled;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.conflatedCounter = Counter.builder("websocket.broadcast.conflated")
+                .description("최신 상태로 덮어써져 전송되지 않은 가격 갱신 수")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("websocket.broadcast.flushed")
+                .description("병합 후 실제로 전송된 가격 갱신 수")
+                .register(meterRegistry);
+        this.lateCounter = Counter.builder("websocket.broadcast.late_after_final")
+                .description("종료 메시지 이후 도착해 버려진 가격 갱신 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.broadcast.pending_auctions", slots, Map::size)
+                .description("병합 슬롯을 가진 경매 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전용 스케줄러 스레드에서 주기 전송 시작
+     */
+    @PostConstruct
+    public void start() {
+        executors.createScheduler("ws-broadcast-flush-", 1)
+                .scheduleAtFixedRate(this::flush, Duration.ofMillis(flushIntervalMillis));
+    }
+
+    /**
+     * 가격 갱신 제출 (다음 flush 에서 최신 값만 전송)
+     *
+     * @param sequence 입찰 저장 시 함께 발급된 순번 (알 수 없으면 {@link AuctionSequence#UNKNOWN})
+     */
+    public void submit(Long auctionId, long sequence, Object payload) {
+        if (finishedAt.containsKey(auctionId)) {
+            dropLate(auctionId);
+            return;
+        }
+        if (!enabled) {
+            auctionBroadcaster.broadcast(auctionId, sequence, payload);
+            return;
+        }
+
+        while (true) {
+            Slot slot = slots.computeIfAbsent(auctionId, id -> new Slot());
+            synchronized (slot) {
+                if (slot.retired) {
+                    continue; // 정리 중인 슬롯 → 새 슬롯으로 재시도
+                }
+                if (finishedAt.containsKey(auctionId)) {
+                    // 종료 메시지 직후 새로 만든 슬롯 → 정리하고 버림
+                    slot.retired = true;
+                    slots.remove(auctionId, slot);
+                    dropLate(auctionId);
+                    return;
+                }
+                if (sequence > AuctionSequence.UNKNOWN && sequence <= Math.max(slot.pendingSequence, slot.takenSequence)) {
+                    conflatedCounter.increment(); // 더 최근 입찰이 이미 보관 / 전송됨
+                    return;
+                }
+                if (slot.pending != null) {
+                    conflatedCounter.increment();
+                }
+                slot.pending = payload;
+                slot.pendingSequence = sequence;
+                slot.lastUpdatedAt = System.currentTimeMillis();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 반드시 전달되어야 하는 메시지 (경매 종료, 낙찰자 발표)
+     * 대기 중인 가격 갱신을 먼저 전송하여 순서를 보장한 뒤 병합 없이 즉시 전송합니다.
+     */
+    public void broadcastFinal(Long auctionId, Object payload) {
+        // 종료 표시를 슬롯 정리보다 먼저 기록 (이후 submit 은 새 슬롯을 만들어도 버려짐)
+        finishedAt.put(auctionId, System.currentTimeMillis());
+        Slot slot = slots.remove(auctionId);
+        if (slot == null) {
+            auctionBroadcaster.broadcastGuaranteed(auctionId, payload);
+            return;
+        }
+
+        slot.publishLock.lock();
+        try {
+            Pending pending;
+            synchronized (slot) {
+                slot.retired = true;
+                pending = takePending(slot);
+            }
+            publish(auctionId, pending);
+            auctionBroadcaster.broadcastGuaranteed(auctionId, payload);
+        } finally {
+            slot.publishLock.unlock();
+        }
+    }
+
+    /**
+     * 경매별 최신 상태 전송 (경매당 주기마다 최대 1회, 전용 스케줄러 스레드에서 호출)
+     */
+    public void flush() {
+        long now = System.currentTimeMillis();
+        if (!finishedAt.isEmpty()) {
+            finishedAt.values().removeIf(finished -> now - finished > FINISHED_RETAIN_MILLIS);
+        }
+        if (slots.isEmpty()) {
+            return;
+        }
+
+        slots.forEach((auctionId, slot) -> {
+            // 종료 메시지 전송 중인 슬롯은 건너뜀 (대기 갱신은 broadcastFinal 이 먼저 전송)
+            if (!slot.publishLock.tryLock()) {
+                return;
+            }
+            try {
+                Pending pending;
+                synchronized (slot) {
+                    pending = takePending(slot);
+                    if (pending == null && now - slot.lastUpdatedAt > IDLE_EVICT_MILLIS) {
+                        slot.retired = true;
+                        slots.remove(auctionId, slot);
+                    }
+                }
+                publish(auctionId, pending);
+            } finally {
+                slot.publishLock.unlock();
+            }
+        });
+    }
+
+    /** 슬롯 잠금(synchronized) 상태에서 호출 - 대기 중인 최신 갱신을 꺼내고 비움 */
+    private static Pending takePending(Slot slot) {
+        if (slot.pending == null) {
+            return null;
+        }
+        Pending pending = new Pending(slot.pending, slot.pendingSequence);
+        slot.takenSequence = Math.max(slot.takenSequence, slot.pendingSequence);
+        slot.pending = null;
+        slot.pendingSequence = AuctionSequence.UNKNOWN;
+        return pending;
+    }
+
+    /** 발행 잠금 상태, 슬롯 잠금 밖에서 호출 (Redis 발행 중에도 입찰 스레드는 submit 가능) */
+    private void publish(Long auctionId, Pending pending) {
+        if (pending == null) {
+            return;
+        }
+
+        try {
+            auctionBroadcaster.broadcast(auctionId, pending.sequence(), pending.payload());
+            flushedCounter.increment();
+        } catch (Exception e) {
+            log.error("[Broadcast] 병합된 가격 갱신 전송 실패 - 경매 ID: {}, 오류: {}", auctionId, e.getMessage());
+        }
+    }
+
+    private void dropLate(Long auctionId) {
+        lateCounter.increment();
+        log.debug("[Broadcast] 종료 이후 가격 갱신 버림 - 경매 ID: {}", auctionId);
+    }
+
+    /**
+     * 경매별 병합 슬롯 (최신 페이로드 1개와 그 입찰 순번)
+     * 상태(pending / retired)는 슬롯 자체로 잠그고, 발행 순서는 publishLock 으로 보장합니다.
+     */
+    private static final class Slot {
+        private final ReentrantLock publishLock = new ReentrantLock();
+        private Object pending;
+        private long pendingSequence;
+        /** 이 슬롯에서 전송하려고 꺼낸 가장 높은 순번 */
+        private long takenSequence;
+        private long lastUpdatedAt = System.currentTimeMillis();
+        private boolean retired;
+    }
+
+    /** 전송할 가격 갱신과 입찰 순번 */
+    private record Pending(Object payload, long sequence) {
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.bidflow.global.messaging.broadcast;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.example.bidflow.global.app.ApplicationExecutors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WebSocket 세션 송신 정책 (느린 클라이언트 격리)
+ *
+ * 모바일 등 느린 연결 하나가 송신 버퍼를 무한히 키우거나 송신 스레드를 오래 붙잡지 않도록
+ * 모든 세션을 {@link BackpressureSessionDecorator} 로 감싸 다음 정책을 적용합니다.
+ *
+ * - 세션별 송신 시간 / 버퍼 크기 한도 (send-time-limit-ms, buffer-size-limit-bytes)
+ * - 병합 가능한 가격 갱신: 같은 구독의 대기 프레임은 최신 프레임으로 교체, 한도 초과 시 오래된 것부터 폐기
+ * - 반드시 전달할 메시지(종료 / 낙찰 / 개인 큐 / STOMP 제어 프레임): 폐기하지 않음, 이것만으로 한도를 넘으면 세션 종료
+ * - 만성적으로 느린 세션: 윈도우 안에서 폐기가 임계값을 넘으면 세션 종료 (재연결 시 스냅샷으로 복구)
+ * - 실제 소켓 쓰기는 송신 전용 스레드(writer-threads)에서 실행 (브로드캐스트 스레드는 적재만 하고 반환)
+ * - 송신 감시 스레드가 송신 시간 한도를 넘긴 전송을 찾아 세션 종료 (막힌 소켓이 송신 스레드를 계속 붙잡지 않도록)
+ * - 세션 종료는 송신 스레드와 분리된 종료 전용 스레드(closer-threads)에서 실행 (막힌 송신 스레드 뒤에서 대기하지 않도록)
+ *
+ * 메트릭: 폐기 프레임 수(사유별), 느린 세션 종료 수, 전체 대기 바이트, 세션별 대기 바이트 분포
+ * (세션 ID 태그는 카디널리티가 커서 사용하지 않고 분포(max / 백분위)로 기록)
+ */
+@Component
+public class OutboundBackpressurePolicy {
+
+    @Getter
+    private final int sendTimeLimitMillis;
+    @Getter
+    private final int bufferSizeLimitBytes;
+    @Getter
+    private final int slowSessionDropThreshold;
+    @Getter
+    private final long slowSessionWindowMillis;
+
+    /** 세션 버퍼를 비우는 송신 스레드 (세션당 동시에 최대 1개 작업) */
+    private final ThreadPoolTaskExecutor writer;
+
+    /** 세션 종료 스레드 (막힌 세션의 close 가 송신 스레드 / 호출 스레드를 붙잡지 않도록 분리) */
+    private final ThreadPoolTaskExecutor closer;
+
+    /** 버퍼를 비우는 중인 세션 (송신 감시 대상) */
+    private final Set<BackpressureSessionDecorator> draining = ConcurrentHashMap.newKeySet();
+
+    private final Counter conflatedCounter;
+    private final Counter overflowDroppedCounter;
+    private final Counter slowDisconnectCounter;
+    private final DistributionSummary sessionBufferedBytes;
+    private final AtomicLong totalBufferedBytes = new AtomicLong();
+
+    public OutboundBackpressurePolicy(MeterRegistry meterRegistry,
+                                      ApplicationExecutors executors,
+                                      @Value("${websocket.outbound.send-time-limit-ms:10000}") int sendTimeLimitMillis,
+                                      @Value("${websocket.outbound.buffer-size-limit-bytes:524288}") int bufferSizeLimitBytes,
+                                      @Value("${websocket.outbound.slow-session-drop-threshold:100}") int slowSessionDropThreshold,
+                                      @Value("${websocket.outbound.slow-session-window-ms:30000}") long slowSessionWindowMillis,
+                                      @Value("${websocket.outbound.writer-threads:0}") int writerThreads,
+                                      @Value("${websocket.outbound.closer-threads:2}") int closerThreads) {
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.bufferSizeLimitBytes = bufferSizeLimitBytes;
+        this.slowSessionDropThreshold = slowSessionDropThreshold;
+        this.slowSessionWindowMillis = slowSessionWindowMillis;
+        // 막힌 소켓 쓰기는 송신 스레드 하나만 붙잡음 (대기열은 세션당 작업 1개라 세션 수 이내)
+        this.writer = executors.create("ws-outbound-",
+                writerThreads > 0 ? writerThreads : Runtime.getRuntime().availableProcessors() * 2, Integer.MAX_VALUE,
+                new ThreadPoolExecutor.AbortPolicy(), 0);
+        this.closer = executors.create("ws-outbound-close-", closerThreads, Integer.MAX_VALUE,
+                new ThreadPoolExecutor.AbortPolicy(), 0);
+        // 송신 시간 한도의 1/4 주기로 확인 (한도를 넘긴 전송은 최대 1.25배 안에 종료)
+        executors.createScheduler("ws-outbound-watchdog-", 1)
+                .scheduleWithFixedDelay(this::closeStalledSends, Duration.ofMillis(Math.max(10, sendTimeLimitMillis / 4)));
+
+        this.conflatedCounter = Counter.builder("websocket.outbound.dropped")
+                .tag("reason", "conflated")
+                .description("같은 구독의 최신 프레임으로 교체되어 전송되지 않은 프레임 수")
+                .register(meterRegistry);
+        this.overflowDroppedCounter = Counter.builder("websocket.outbound.dropped")
+                .tag("reason", "overflow")
+                .description("세션 버퍼 한도 초과로 폐기된 가격 갱신 프레임 수")
+                .register(meterRegistry);
+        this.slowDisconnectCounter = Counter.builder("websocket.outbound.slow_disconnects")
+                .description("송신 한도 초과 / 만성 지연으로 종료된 세션 수")
+                .register(meterRegistry);
+        this.sessionBufferedBytes = DistributionSummary.builder("websocket.outbound.session_buffered_bytes")
+                .description("프레임 적재 시점의 세션별 송신 대기 바이트")
+                .baseUnit("bytes")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.buffered_bytes", totalBufferedBytes, AtomicLong::get)
+                .description("전체 세션의 송신 대기 바이트")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 세션에 송신 정책 적용
+     */
+    public BackpressureSessionDecorator decorate(WebSocketSession session) {
+        return new BackpressureSessionDecorator(session, this);
+    }
+
+    /**
+     * 송신 스레드 (세션 버퍼 비우기 / 느린 세션 종료)
+     */
+    Executor getWriter() {
+        return writer;
+    }
+
+    /**
+     * 종료 스레드 (세션 close)
+     */
+    Executor getCloser() {
+        return closer;
+    }
+
+    void drainStarted(BackpressureSessionDecorator session) {
+        draining.add(session);
+    }
+
+    void drainFinished(BackpressureSessionDecorator session) {
+        draining.remove(session);
+    }
+
+    // 송신 시간 한도를 넘긴 전송이 있는 세션 종료 (소켓이 닫히면 막힌 쓰기가 실패하며 송신 스레드가 반환됨)
+    private void closeStalledSends() {
+        if (draining.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (BackpressureSessionDecorator session : draining) {
+            session.closeIfSendStalled(now);
+        }
+    }
+
+    void recordConflated() {
+        conflatedCounter.increment();
+    }
+
+    void recordOverflowDropped() {
+        overflowDroppedCounter.increment();
+    }
+
+    void recordSlowDisconnect() {
+        slowDisconnectCounter.increment();
+    }
+
+    void recordBuffered(long sessionBytes, long delta) {
+        totalBufferedBytes.addAndGet(delta);
+        if (delta > 0) {
+            sessionBufferedBytes.record(sessionBytes);
+        }
+    }
+}
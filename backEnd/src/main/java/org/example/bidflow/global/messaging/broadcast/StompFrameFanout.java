@@ -0,0 +1,296 @@
+package org.example.bidflow.global.messaging.broadcast;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사전 인코딩된 STOMP MESSAGE 프레임 팬아웃
+ *
+ * SimpleBroker 경로는 구독 세션마다 메시지를 복사하고 헤더를 만들고 StompEncoder 로 다시 인코딩합니다.
+ * 이 경로는 경매 구독(/sub/auction/**)에 한해 다음과 같이 동작합니다.
+ *
+ * - 본문: 호출 측에서 한 번 직렬화한 JSON 바이트를 그대로 사용
+ * - 프레임: MESSAGE 프레임 전체(헤더 + 본문 + NULL)를 한 번만 바이트 배열로 인코딩
+ *   STOMP 는 구독마다 subscription 헤더가 다르므로, 구독 ID 종류별로 한 번만 인코딩하고
+ *   같은 구독 ID 를 쓰는 세션(stomp.js 의 sub-0 등)은 같은 프레임 인스턴스를 공유
+ * - 전송: 세션별 송신 버퍼({@link BackpressureSessionDecorator})에 공유 프레임을 그대로 적재만 하고 반환
+ *   (소켓 쓰기는 송신 전용 스레드에서 처리하므로 느린 세션 하나가 다른 경매 / 세션 전송을 막지 않음)
+ *   가격 갱신은 구독 단위로 병합 가능 프레임으로, 종료 / 낙찰 메시지는 반드시 전달할 프레임으로 적재
+ *
+ * 세션은 WebSocketHandler 데코레이터에서, 구독 정보는 STOMP 구독 이벤트에서 수집합니다.
+ * 세션 송신 정책(한도 / 폐기 / 느린 세션 종료)은 팬아웃 사용 여부와 관계없이 모든 세션에 적용됩니다.
+ * 재연결 시 스냅샷 / 누락분은 {@link #sendToSubscription} 으로 해당 구독에만 전송합니다.
+ * 송신 정책에 따라 종료 대상이 된 느린 세션은 종료합니다.
+ */
+@Slf4j
+@Component
+public class StompFrameFanout {
+
+    /** 팬아웃 대상 목적지 접두사 */
+    public static final String DESTINATION_PREFIX = "/sub/auction/";
+
+    /** 구독 이벤트 처리 순서 - 재개 처리(AuctionResumeHandler)보다 먼저 구독을 등록해야 그 사이 브로드캐스트가 누락되지 않음 */
+    public static final int SUBSCRIBE_ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    private static final byte LF = '\n';
+
+    private final boolean enabled;
+    private final OutboundBackpressurePolicy outboundPolicy;
+
+    /** 세션 ID → 송신 정책이 적용된 세션 */
+    private final Map<String, BackpressureSessionDecorator> sessions = new ConcurrentHashMap<>();
+
+    /** 목적지 → (세션 ID + 구독 ID → 구독) */
+    private final Map<String, Map<String, Subscription>> subscriptionsByDestination = new ConcurrentHashMap<>();
+
+    /** 세션 ID → (구독 ID → 목적지), 구독 해제 / 연결 종료 시 역조회용 */
+    private final Map<String, Map<String, String>> destinationsBySession = new ConcurrentHashMap<>();
+
+    /** message-id 헤더 (노드 접두사 + 순번) */
+    private final String messageIdPrefix = UUID.randomUUID().toString().substring(0, 8) + "-";
+    private final AtomicLong messageIdSequence = new AtomicLong();
+
+    public StompFrameFanout(@Value("${websocket.broadcast.pre-encoded-frames:true}") boolean enabled,
+                            OutboundBackpressurePolicy outboundPolicy) {
+        this.enabled = enabled;
+        this.outboundPolicy = outboundPolicy;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * WebSocket 핸들러 데코레이터 (세션을 송신 정책이 적용된 버퍼로 감싸 등록)
+     * Spring 의 STOMP 처리와 팬아웃 전송이 같은 송신 버퍼를 거치므로 세션 단위 전송 순서가 보장됩니다.
+     * SubProtocolWebSocketHandler 는 이 세션을 ConcurrentWebSocketSessionDecorator 로 한 번 더 감싸지만,
+     * 안쪽 버퍼가 적재 후 바로 반환하므로 바깥 버퍼에는 프레임이 쌓이지 않습니다. (송신 한도는 이 버퍼 한 곳에서만 적용)
+     */
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                BackpressureSessionDecorator buffered = outboundPolicy.decorate(session);
+                sessions.put(session.getId(), buffered);
+                super.afterConnectionEstablished(buffered);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                BackpressureSessionDecorator buffered = sessions.get(session.getId());
+                if (buffered != null) {
+                    buffered.release();
+                }
+                removeSession(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * 직렬화된 본문을 목적지 구독자 전체에게 전송
+     *
+     * @param sequence    경매별 브로드캐스트 순번 (0 이하이면 seq 헤더 생략)
+     * @param conflatable 가격 갱신처럼 느린 세션에서 최신 프레임으로 대체해도 되는 메시지인지 여부
+     * @return 구독자 수 (0 이면 전송 대상 없음)
+     */
+    public int broadcast(String destination, byte[] body, String contentType, long sequence, boolean conflatable) {
+        Map<String, Subscription> subscriptions = subscriptionsByDestination.get(destination);
+        if (subscriptions == null || subscriptions.isEmpty()) {
+            return 0;
+        }
+
+        String messageId = messageIdPrefix + messageIdSequence.incrementAndGet();
+        Map<String, TextMessage> frames = new HashMap<>(4);
+        int delivered = 0;
+
+        for (Subscription subscription : subscriptions.values()) {
+            BackpressureSessionDecorator session = sessions.get(subscription.sessionId());
+            if (session == null) {
+                continue;
+            }
+
+            TextMessage frame = frames.computeIfAbsent(subscription.subscriptionId(),
+                    id -> new TextMessage(encodeFrame(destination, id, messageId, contentType, sequence, body)));
+            try {
+                if (conflatable) {
+                    session.sendConflatable(frame, subscription);
+                } else {
+                    session.sendMessage(frame);
+                }
+                delivered++;
+            } catch (Exception e) {
+                // 송신 정책 한도 초과 / 이미 닫힌 세션
+                log.warn("[WebSocket Fanout] 프레임 전송 실패, 세션 종료 - 세션: {}, 오류: {}",
+                        subscription.sessionId(), e.getMessage());
+                session.closeAsync(CloseStatus.SESSION_NOT_RELIABLE);
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * 한 세션의 한 구독에만 전송 (재연결 스냅샷 / 누락분 재전송용)
+     *
+     * @return 전송 여부 (세션이 없거나 전송 실패 시 false)
+     */
+    public boolean sendToSubscription(String sessionId, String subscriptionId, String destination,
+                                      byte[] body, String contentType, long sequence) {
+        BackpressureSessionDecorator session = sessions.get(sessionId);
+        if (session == null) {
+            return false;
+        }
+
+        String messageId = messageIdPrefix + messageIdSequence.incrementAndGet();
+        try {
+            session.sendMessage(new TextMessage(
+                    encodeFrame(destination, subscriptionId, messageId, contentType, sequence, body)));
+            return true;
+        } catch (Exception e) {
+            log.warn("[WebSocket Fanout] 프레임 전송 실패, 세션 종료 - 세션: {}, 오류: {}", sessionId, e.getMessage());
+            session.closeAsync(CloseStatus.SESSION_NOT_RELIABLE);
+            return false;
+        }
+    }
+
+    /**
+     * STOMP MESSAGE 프레임 인코딩 (STOMP 1.2, 헤더 값 이스케이프 적용)
+     */
+    static byte[] encodeFrame(String destination, String subscriptionId, String messageId,
+                              String contentType, long sequence, byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length + 160);
+        writeLine(out, "MESSAGE");
+        writeHeader(out, "destination", destination);
+        writeHeader(out, "content-type", contentType);
+        writeHeader(out, "subscription", subscriptionId);
+        writeHeader(out, "message-id", messageId);
+        if (sequence > 0) {
+            writeHeader(out, AuctionBroadcaster.SEQUENCE_HEADER, Long.toString(sequence));
+        }
+        writeHeader(out, "content-length", Integer.toString(body.length));
+        out.write(LF);
+        out.write(body, 0, body.length);
+        out.write(0);
+        return out.toByteArray();
+    }
+
+    @EventListener
+    @Order(SUBSCRIBE_ORDER)
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (destination == null || sessionId == null || subscriptionId == null
+                || !destination.startsWith(DESTINATION_PREFIX)) {
+            return;
+        }
+
+        subscriptionsByDestination.computeIfAbsent(destination, key -> new ConcurrentHashMap<>())
+                .put(sessionId + ":" + subscriptionId, new Subscription(sessionId, subscriptionId));
+        destinationsBySession.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                .put(subscriptionId, destination);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        Map<String, String> destinations = destinationsBySession.get(sessionId);
+        String destination = destinations != null ? destinations.remove(subscriptionId) : null;
+        if (destination != null) {
+            removeSubscription(destination, sessionId, subscriptionId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        removeSession(event.getSessionId());
+    }
+
+    private void removeSession(String sessionId) {
+        sessions.remove(sessionId);
+        Map<String, String> destinations = destinationsBySession.remove(sessionId);
+        if (destinations != null) {
+            destinations.forEach((subscriptionId, destination) ->
+                    removeSubscription(destination, sessionId, subscriptionId));
+        }
+    }
+
+    private void removeSubscription(String destination, String sessionId, String subscriptionId) {
+        subscriptionsByDestination.computeIfPresent(destination, (key, subscriptions) -> {
+            subscriptions.remove(sessionId + ":" + subscriptionId);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+
+    private static void writeLine(ByteArrayOutputStream out, String line) {
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        out.write(bytes, 0, bytes.length);
+        out.write(LF);
+    }
+
+    private static void writeHeader(ByteArrayOutputStream out, String name, String value) {
+        writeLine(out, name + ":" + escape(value));
+    }
+
+    /**
+     * STOMP 1.2 헤더 값 이스케이프 (\ → \\, \n → \n, \r → \r, : → \c)
+     */
+    private static String escape(String value) {
+        StringBuilder sb = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement = switch (c) {
+                case '\\' -> "\\\\";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                case ':' -> "\\c";
+                default -> null;
+            };
+            if (replacement != null && sb == null) {
+                sb = new StringBuilder(value.length() + 8).append(value, 0, i);
+            }
+            if (sb != null) {
+                if (replacement != null) {
+                    sb.append(replacement);
+                } else {
+                    sb.append(c);
+                }
+            }
+        }
+        return sb != null ? sb.toString() : value;
+    }
+
+    /**
+     * 세션의 구독 (세션 ID, STOMP 구독 ID)
+     */
+    private record Subscription(String sessionId, String subscriptionId) {
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.bidflow.global.messaging.broker;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.broker.AbstractSubscriptionRegistry;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 정확한 목적지 문자열 기준 STOMP 구독 저장소 (SimpleBroker 용)
+ *
+ * DefaultSubscriptionRegistry 는 구독 목적지 패턴(/sub/**) 매칭을 지원하기 위해
+ * 목적지 캐시를 두고 구독 / 구독 해제마다 캐시를 갱신합니다.
+ * 이 서비스의 구독 목적지는 항상 정확한 경로(/sub/auction/{id}, /queue/bids-user{세션})이므로
+ * 목적지 → 구독자 맵 한 번의 조회로 대상을 찾습니다.
+ *
+ * - 구독 / 구독 해제: 해당 목적지의 구독자 맵만 수정 (O(1)), 다른 목적지에는 영향 없음
+ * - 조회: 목적지별 읽기 전용 스냅샷(세션 → 구독 ID 목록)을 반환
+ *   스냅샷은 구독 변경 후 첫 조회에서 한 번만 다시 만들어 이후 브로드캐스트가 공유 (복사 후 교체)
+ *   대량 재연결 시 구독마다 전체를 복사하지 않도록 변경 시점이 아닌 조회 시점에 만듭니다.
+ *
+ * 패턴 구독과 selector 헤더는 지원하지 않습니다. (패턴 문자열도 정확한 목적지로 취급)
+ *
+ * 적용 범위: SimpleBroker 를 거치는 전송만 이 저장소로 대상을 찾습니다.
+ * - 개인 큐(/queue/bids-user{세션}, /user/queue/**) 전송
+ * - 사전 인코딩 팬아웃을 끈 경우(websocket.broadcast.pre-encoded-frames=false)의 경매 브로드캐스트
+ * 팬아웃이 켜져 있으면 경매 브로드캐스트(/sub/auction/**)는 {@link org.example.bidflow.global.messaging.broadcast.StompFrameFanout}
+ * 이 자체 구독 맵으로 전송하므로, 경매 구독은 여기에도 등록되지만 브로드캐스트 조회에는 쓰이지 않습니다.
+ */
+public class ExactDestinationSubscriptionRegistry extends AbstractSubscriptionRegistry {
+
+    private static final MultiValueMap<String, String> NO_SUBSCRIPTIONS =
+            CollectionUtils.unmodifiableMultiValueMap(new LinkedMultiValueMap<>());
+
+    /** 목적지 → 구독자 */
+    private final Map<String, DestinationSubscriptions> destinations = new ConcurrentHashMap<>();
+
+    /** 세션 ID → (구독 ID → 목적지), 구독 해제 / 연결 종료 시 역조회용 */
+    private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    protected void addSubscriptionInternal(String sessionId, String subscriptionId,
+                                           String destination, Message<?> message) {
+        String previous = sessions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(subscriptionId, destination);
+        if (previous != null && !previous.equals(destination)) {
+            removeFromDestination(previous, sessionId, subscriptionId);
+        }
+
+        destinations.compute(destination, (key, subscriptions) -> {
+            DestinationSubscriptions current = subscriptions != null ? subscriptions : new DestinationSubscriptions();
+            current.add(sessionId, subscriptionId);
+            return current;
+        });
+    }
+
+    @Override
+    protected void removeSubscriptionInternal(String sessionId, String subscriptionId, Message<?> message) {
+        Map<String, String> subscriptions = sessions.get(sessionId);
+        String destination = subscriptions != null ? subscriptions.remove(subscriptionId) : null;
+        if (destination != null) {
+            removeFromDestination(destination, sessionId, subscriptionId);
+        }
+    }
+
+    @Override
+    public void unregisterAllSubscriptions(String sessionId) {
+        Map<String, String> subscriptions = sessions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.forEach((subscriptionId, destination) ->
+                    removeFromDestination(destination, sessionId, subscriptionId));
+        }
+    }
+
+    @Override
+    protected MultiValueMap<String, String> findSubscriptionsInternal(String destination, Message<?> message) {
+        DestinationSubscriptions subscriptions = destinations.get(destination);
+        return subscriptions != null ? subscriptions.snapshot() : NO_SUBSCRIPTIONS;
+    }
+
+    /**
+     * 구독이 있는 목적지 수
+     */
+    public int getDestinationCount() {
+        return destinations.size();
+    }
+
+    private void removeFromDestination(String destination, String sessionId, String subscriptionId) {
+        destinations.computeIfPresent(destination, (key, subscriptions) ->
+                subscriptions.remove(sessionId, subscriptionId) ? null : subscriptions);
+    }
+
+    /**
+     * 한 목적지의 구독자 (변경과 스냅샷 생성은 같은 락으로 직렬화, 조회는 만들어 둔 스냅샷을 락 없이 반환)
+     */
+    private static final class DestinationSubscriptions {
+
+        /** 세션 ID → 구독 ID 목록 */
+        private final Map<String, Set<String>> subscriptionsBySession = new HashMap<>();
+
+        /** 조회용 스냅샷 (구독 변경 시 null 로 무효화) */
+        private volatile MultiValueMap<String, String> snapshot;
+
+        private synchronized void add(String sessionId, String subscriptionId) {
+            if (subscriptionsBySession.computeIfAbsent(sessionId, id -> new LinkedHashSet<>(2)).add(subscriptionId)) {
+                snapshot = null;
+            }
+        }
+
+        /**
+         * @return 구독자가 더 이상 없으면 true
+         */
+        private synchronized boolean remove(String sessionId, String subscriptionId) {
+            Set<String> subscriptionIds = subscriptionsBySession.get(sessionId);
+            if (subscriptionIds != null && subscriptionIds.remove(subscriptionId)) {
+                if (subscriptionIds.isEmpty()) {
+                    subscriptionsBySession.remove(sessionId);
+                }
+                snapshot = null;
+            }
+            return subscriptionsBySession.isEmpty();
+        }
+
+        private MultiValueMap<String, String> snapshot() {
+            MultiValueMap<String, String> current = snapshot;
+            if (current != null) {
+                return current;
+            }
+            synchronized (this) {
+                if (snapshot == null) {
+                    LinkedMultiValueMap<String, String> copy = new LinkedMultiValueMap<>(subscriptionsBySession.size());
+                    subscriptionsBySession.forEach((sessionId, subscriptionIds) ->
+                            copy.put(sessionId, List.copyOf(subscriptionIds)));
+                    snapshot = CollectionUtils.unmodifiableMultiValueMap(copy);
+                }
+                return snapshot;
+            }
+        }
+    }
+}
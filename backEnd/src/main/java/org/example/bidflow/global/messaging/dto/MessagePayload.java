@@ -11,4 +11,6 @@ public class MessagePayload {
     private String eventType;  // 이벤트 타입 (예: AUCTION_BID, USER_SIGNUP 등)
     private String sender;      // 발신자 정보
     private Object data;       // JSON 형태 데이터
+    private String destination; // 수신 노드에서 전달할 대상 (예: STOMP 목적지 /sub/auction/1)
+    private Long sequence;      // 경매별 브로드캐스트 순번 (순번이 없는 메시지는 null)
 }
@@ -8,5 +8,18 @@ import org.example.bidflow.global.messaging.dto.MessagePayload;
  */
 
 public interface MessageListener {
+    /**
+     * 구독할 토픽(채널)명
+     * '*' 를 포함하면 패턴 구독 (예: auction:broadcast:*)
+     */
+    String getTopic();
+
     void handleMessage(MessagePayload payload);
+
+    /**
+     * 토픽 구독 완료 (재연결 후 재구독 포함)
+     * 연결이 끊긴 동안 발행된 메시지는 전달되지 않으므로, 놓치면 안 되는 상태는 여기서 다시 맞춥니다.
+     */
+    default void onSubscribed() {
+    }
 }
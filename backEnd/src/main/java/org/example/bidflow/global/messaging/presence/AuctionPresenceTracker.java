@@ -0,0 +1,306 @@
+package org.example.bidflow.global.messaging.presence;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.global.app.ApplicationExecutors;
+import org.example.bidflow.global.app.NodeIdentity;
+import org.example.bidflow.global.messaging.broadcast.AuctionBroadcaster;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경매 참여자 수 집계 (STOMP 구독 이벤트 기반)
+ *
+ * 클라이언트 ping / 사용자별 Redis 키 / KEYS 조회 없이 구독 상태에서 참여자 수를 계산합니다.
+ *
+ * - 로컬: /sub/auction/{id} 구독 / 구독 해제 / 연결 종료 이벤트로 노드 내 경매별 참여자(userUUID) 집계
+ *   같은 사용자의 여러 탭은 한 명으로 계산
+ * - 노드 간: 주기마다 Redis 해시 auction:presence:{id} 에 자기 노드 필드({nodeId} → {인원}|{갱신 시각})를 기록하고
+ *   모든 노드 필드를 합산 (갱신이 끊긴 노드 필드는 제외 후 삭제)
+ * - 전송: 합산 값이 바뀐 경매만, 이 노드의 구독자에게만 전달 (노드마다 같은 값을 각자 계산하므로 릴레이 불필요)
+ *
+ * 주기 작업은 전용 스케줄러 스레드에서 실행하고, 모든 경매의 기록 / 만료 갱신 / 조회를 파이프라인 한 번으로 보냅니다.
+ * (경매 수와 무관하게 주기당 왕복 1회, 갱신이 끊긴 노드 필드가 있을 때만 삭제 파이프라인 1회 추가)
+ * Redis 장애 시 해당 주기의 집계/전송만 건너뜁니다. (Fail Open)
+ */
+@Slf4j
+@Component
+public class AuctionPresenceTracker {
+
+    /** 노드별 참여자 수 해시 키 접두사 */
+    public static final String PRESENCE_KEY_PREFIX = "auction:presence:";
+
+    private static final String DESTINATION_PREFIX = "/sub/auction/";
+    private static final char SEPARATOR = '|';
+
+    /** 이 주기 횟수 이상 갱신되지 않은 노드 필드는 종료된 노드로 간주 */
+    private static final int STALE_INTERVALS = 3;
+
+    private final AuctionBroadcaster auctionBroadcaster;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ApplicationExecutors executors;
+    private final String nodeId;
+    private final long publishIntervalMillis;
+
+    /** 세션 ID → (구독 ID → 경매 ID) */
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    /** 세션 ID → 참여자 식별자 (Principal 이름, 없으면 세션 ID) */
+    private final Map<String, String> sessionParticipants = new ConcurrentHashMap<>();
+
+    /** 경매 ID → (참여자 → 구독 수), 이 노드 기준 */
+    private final Map<Long, Map<String, Integer>> localParticipants = new ConcurrentHashMap<>();
+
+    /** 경매 ID → 마지막으로 전송한 전체 참여자 수 */
+    private final Map<Long, Long> lastBroadcastCounts = new ConcurrentHashMap<>();
+
+    /** Redis 에 자기 노드 필드를 기록해 둔 경매 (로컬 인원이 0 이 되면 필드 삭제) */
+    private final Set<Long> reportedAuctions = ConcurrentHashMap.newKeySet();
+
+    public AuctionPresenceTracker(AuctionBroadcaster auctionBroadcaster,
+                                  StringRedisTemplate stringRedisTemplate,
+                                  ApplicationExecutors executors,
+                                  NodeIdentity nodeIdentity,
+                                  @Value("${websocket.presence.publish-interval-ms:2000}") long publishIntervalMillis) {
+        this.auctionBroadcaster = auctionBroadcaster;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.executors = executors;
+        this.nodeId = nodeIdentity.getNodeId();
+        this.publishIntervalMillis = publishIntervalMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        executors.createScheduler("presence-publish-", 1)
+                .scheduleAtFixedRate(this::publishCounts, Duration.ofMillis(publishIntervalMillis));
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long auctionId = parseAuctionId(accessor.getDestination());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (auctionId == null || sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        String participant = sessionParticipants.computeIfAbsent(sessionId,
+                id -> participantOf(event.getUser(), id));
+        Long previous = sessionSubscriptions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(subscriptionId, auctionId);
+        if (previous != null) {
+            leave(previous, participant);
+        }
+        join(auctionId, participant);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        Map<String, Long> subscriptions = sessionSubscriptions.get(sessionId);
+        Long auctionId = subscriptions != null ? subscriptions.remove(subscriptionId) : null;
+        String participant = sessionParticipants.get(sessionId);
+        if (auctionId != null && participant != null) {
+            leave(auctionId, participant);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        // 연결 종료 이벤트는 중복 발생할 수 있으므로 세션 정보를 먼저 제거한 쪽만 처리
+        Map<String, Long> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        String participant = sessionParticipants.remove(event.getSessionId());
+        if (subscriptions == null || participant == null) {
+            return;
+        }
+        subscriptions.values().forEach(auctionId -> leave(auctionId, participant));
+    }
+
+    /**
+     * 이 노드의 경매별 참여자 수
+     */
+    public int getLocalCount(Long auctionId) {
+        Map<String, Integer> participants = localParticipants.get(auctionId);
+        return participants != null ? participants.size() : 0;
+    }
+
+    /**
+     * 자기 노드 인원 기록 → 노드 합산 → 바뀐 경매만 로컬 구독자에게 전송 (전용 스케줄러 스레드에서 호출)
+     */
+    public void publishCounts() {
+        Set<Long> auctionIds = new HashSet<>(localParticipants.keySet());
+        auctionIds.addAll(reportedAuctions);
+        if (auctionIds.isEmpty()) {
+            return;
+        }
+
+        // 이 노드 인원이 있는 경매는 기록 + 만료 갱신 + 전체 조회, 없는 경매는 필드만 정리 (전송 대상 없음)
+        long now = System.currentTimeMillis();
+        Map<Long, Integer> active = new LinkedHashMap<>();
+        List<Long> emptied = new ArrayList<>();
+        for (Long auctionId : auctionIds) {
+            int localCount = getLocalCount(auctionId);
+            if (localCount > 0) {
+                active.put(auctionId, localCount);
+            } else {
+                emptied.add(auctionId);
+            }
+        }
+
+        List<Object> results;
+        try {
+            results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                    // 모든 노드가 비정상 종료되어도 키가 남지 않도록 만료 갱신
+                    Duration ttl = Duration.ofMillis(publishIntervalMillis * STALE_INTERVALS * 2);
+                    active.forEach((auctionId, localCount) -> {
+                        String key = PRESENCE_KEY_PREFIX + auctionId;
+                        redis.opsForHash().put(key, nodeId, localCount + String.valueOf(SEPARATOR) + now);
+                        redis.expire(key, ttl);
+                        redis.opsForHash().entries(key);
+                    });
+                    emptied.forEach(auctionId -> redis.opsForHash().delete(PRESENCE_KEY_PREFIX + auctionId, nodeId));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("[Presence] 참여자 수 집계 실패 - 경매 수: {}, 오류: {}", auctionIds.size(), e.getMessage());
+            return;
+        }
+
+        emptied.forEach(auctionId -> {
+            reportedAuctions.remove(auctionId);
+            lastBroadcastCounts.remove(auctionId);
+        });
+        if (results.size() < active.size() * 3) {
+            log.warn("[Presence] 파이프라인 응답 수 불일치 - 기대: {}, 실제: {}", active.size() * 3, results.size());
+            return;
+        }
+
+        Map<String, List<Object>> staleFields = new HashMap<>();
+        int index = 0;
+        for (Long auctionId : active.keySet()) {
+            Object fields = results.get(index + 2); // put, expire, entries 순서
+            index += 3;
+            reportedAuctions.add(auctionId);
+            if (!(fields instanceof Map<?, ?> nodeCounts)) {
+                continue;
+            }
+
+            long total = sumNodeCounts(PRESENCE_KEY_PREFIX + auctionId, nodeCounts, now, staleFields);
+            Long previous = lastBroadcastCounts.put(auctionId, total);
+            if (previous == null || previous != total) {
+                try {
+                    auctionBroadcaster.broadcastLocal(auctionId, Collections.singletonMap("participantCount", total));
+                } catch (Exception e) {
+                    log.warn("[Presence] 참여자 수 전송 실패 - 경매 ID: {}, 오류: {}", auctionId, e.getMessage());
+                }
+            }
+        }
+        deleteStaleFields(staleFields);
+    }
+
+    /**
+     * 노드 필드 합산 (갱신이 끊긴 노드 필드는 제외하고 삭제 대상으로 모음)
+     */
+    private long sumNodeCounts(String key, Map<?, ?> nodeCounts, long now, Map<String, List<Object>> staleFields) {
+        long staleBefore = now - publishIntervalMillis * STALE_INTERVALS;
+        long total = 0;
+        for (Map.Entry<?, ?> entry : nodeCounts.entrySet()) {
+            String value = String.valueOf(entry.getValue());
+            int separator = value.indexOf(SEPARATOR);
+            try {
+                if (separator <= 0 || Long.parseLong(value.substring(separator + 1)) < staleBefore) {
+                    staleFields.computeIfAbsent(key, k -> new ArrayList<>()).add(entry.getKey());
+                    continue;
+                }
+                total += Long.parseLong(value.substring(0, separator));
+            } catch (NumberFormatException e) {
+                staleFields.computeIfAbsent(key, k -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 갱신이 끊긴 노드 필드를 파이프라인 한 번으로 삭제
+     */
+    private void deleteStaleFields(Map<String, List<Object>> staleFields) {
+        if (staleFields.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                    staleFields.forEach((key, fields) -> redis.opsForHash().delete(key, fields.toArray()));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("[Presence] 종료된 노드 필드 정리 실패 - 경매 수: {}, 오류: {}", staleFields.size(), e.getMessage());
+        }
+    }
+
+    private void join(Long auctionId, String participant) {
+        localParticipants.compute(auctionId, (id, participants) -> {
+            Map<String, Integer> current = participants != null ? participants : new ConcurrentHashMap<>();
+            current.merge(participant, 1, Integer::sum);
+            return current;
+        });
+    }
+
+    private void leave(Long auctionId, String participant) {
+        localParticipants.computeIfPresent(auctionId, (id, participants) -> {
+            participants.computeIfPresent(participant, (key, count) -> count > 1 ? count - 1 : null);
+            return participants.isEmpty() ? null : participants;
+        });
+    }
+
+    private static String participantOf(Principal user, String sessionId) {
+        return user != null && user.getName() != null ? user.getName() : sessionId;
+    }
+
+    private static Long parseAuctionId(String destination) {
+        if (destination == null || !destination.startsWith(DESTINATION_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
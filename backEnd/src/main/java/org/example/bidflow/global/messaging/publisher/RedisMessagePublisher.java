@@ -1,31 +1,37 @@
 package org.example.bidflow.global.messaging.publisher;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.bidflow.global.messaging.dto.MessagePayload;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 /**
  * Redis Pub/Sub 기반 구현체
+ * RedisTemplate 의 값 직렬화가 문자열이므로, 메시지는 JSON 문자열로 변환하여 발행합니다.
  */
-
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisMessagePublisher implements MessagePublisher<MessagePayload> {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
 
     @Override
     public void publish(String topic, MessagePayload payload) {
         String json = convertToJson(payload);
-        redisTemplate.convertAndSend(topic, payload);
+        redisTemplate.convertAndSend(topic, json);
     }
 
     // 직렬화
     private String convertToJson(MessagePayload messagePayload) {
-//        ObjectMapper objectMapper = new ObjectMapper();
-//        return objectMapper.convertValue(messagePayload, String.class);
-        return messagePayload.toString();
+        try {
+            return objectMapper.writeValueAsString(messagePayload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("메시지 직렬화 실패 - eventType: " + messagePayload.getEventType(), e);
+        }
     }
-}
\ No newline at end of file
+}
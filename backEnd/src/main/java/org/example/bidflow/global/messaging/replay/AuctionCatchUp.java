@@ -0,0 +1,115 @@
+package org.example.bidflow.global.messaging.replay;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.global.app.RedisCommon;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재연결 시 따라잡기 (누락분 또는 스냅샷) 계산
+ *
+ * STOMP 재구독(last-seq 헤더)과 SSE 재연결(Last-Event-ID 헤더)이 같은 규칙을 사용합니다.
+ *
+ * - 누락분: 마지막으로 받은 순번 이후 메시지가 재전송 버퍼에 모두 남아 있으면 그 목록
+ *   (버퍼에 없더라도 그 사이 브로드캐스트가 없었으면 빈 목록)
+ * - 스냅샷: 메모리(Redis) 상태로 만든 한 건
+ *   {"type":"SNAPSHOT","auctionId","currentBid","userUUID","seq"}
+ *
+ * 스냅샷의 순번과 상태는 경매 상태 해시에서 한 번에(HMGET) 읽으므로 seq 는 정확히 그 상태를 만든 입찰의 순번이며,
+ * 클라이언트는 seq 이하의 브로드캐스트를 무시하면 됩니다.
+ * Redis 장애 시 스냅샷 값이 비어 있을 수 있으며, 이 경우 클라이언트는 기존 REST 조회로 대체합니다. (Fail Open)
+ */
+@Slf4j
+@Component
+public class AuctionCatchUp {
+
+    private static final List<String> SNAPSHOT_FIELDS =
+            List.of("amount", "userUUID", RedisAuctionSequence.SEQUENCE_FIELD);
+
+    private final AuctionReplayBuffer replayBuffer;
+    private final AuctionSequence auctionSequence;
+    private final RedisCommon redisCommon;
+    private final ObjectMapper objectMapper;
+
+    public AuctionCatchUp(AuctionReplayBuffer replayBuffer,
+                          AuctionSequence auctionSequence,
+                          RedisCommon redisCommon,
+                          ObjectMapper objectMapper) {
+        this.replayBuffer = replayBuffer;
+        this.auctionSequence = auctionSequence;
+        this.redisCommon = redisCommon;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * lastSequence 이후 누락분
+     *
+     * @return 누락분 (없으면 빈 목록), 스냅샷이 필요하면 null
+     */
+    public List<AuctionReplayBuffer.Entry> missedSince(Long auctionId, long lastSequence) {
+        List<AuctionReplayBuffer.Entry> missed = replayBuffer.since(auctionId, lastSequence);
+        if (missed != null) {
+            return missed;
+        }
+
+        // 이 노드 버퍼에 없으면, 그 사이 브로드캐스트가 없었는지만 확인
+        long current = auctionSequence.current(auctionId);
+        if (current == AuctionSequence.UNKNOWN || current > lastSequence) {
+            return null;
+        }
+        return List.of();
+    }
+
+    /**
+     * 현재 상태 스냅샷 (직렬화 실패 시 null)
+     */
+    public AuctionReplayBuffer.Entry snapshot(Long auctionId) {
+        // 최고가와 순번을 같은 시점에 읽음 (입찰 저장과 순번 증가는 원자적)
+        List<String> values = Arrays.asList(null, null, null);
+        try {
+            List<List<String>> rows = redisCommon.getFieldsFromHashes(
+                    List.of(RedisAuctionSequence.AUCTION_KEY_PREFIX + auctionId), SNAPSHOT_FIELDS);
+            if (!rows.isEmpty()) {
+                values = rows.get(0);
+            }
+        } catch (Exception e) {
+            log.warn("[Resume] 스냅샷 상태 조회 실패 (빈 스냅샷 전송) - 경매 ID: {}, 오류: {}", auctionId, e.getMessage());
+        }
+        Long storedSequence = redisCommon.fromJson(values.get(2), Long.class);
+        long sequence = storedSequence != null ? storedSequence : AuctionSequence.UNKNOWN;
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("type", "SNAPSHOT");
+        snapshot.put("auctionId", auctionId);
+        snapshot.put("currentBid", redisCommon.fromJson(values.get(0), Integer.class));
+        snapshot.put("userUUID", redisCommon.fromJson(values.get(1), String.class));
+        snapshot.put("seq", sequence);
+
+        try {
+            return new AuctionReplayBuffer.Entry(sequence, objectMapper.writeValueAsString(snapshot));
+        } catch (JsonProcessingException e) {
+            log.error("[Resume] 스냅샷 직렬화 실패 - 경매 ID: {}, 오류: {}", auctionId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 재연결 헤더 값(last-seq / Last-Event-ID) 파싱 (없거나 잘못된 값이면 null)
+     */
+    public static Long parseSequence(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.bidflow.global.messaging.replay;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 경매별 최근 브로드캐스트 재전송 버퍼 (노드 로컬)
+ *
+ * 각 노드는 자기 구독자에게 전달한 순번 있는 브로드캐스트(직렬화된 JSON)를 경매마다 최근 N 개까지 보관합니다.
+ * 재연결한 클라이언트가 마지막으로 받은 순번을 보내면, 그 이후 메시지가 버퍼에 모두 남아 있을 때만
+ * 누락분을 돌려주고, 그렇지 않으면 스냅샷으로 대체하도록 null 을 반환합니다.
+ *
+ * 릴레이 메시지는 노드 간 도착 순서가 바뀔 수 있으므로 순번 기준 정렬 맵으로 보관합니다.
+ * 병합된 입찰의 순번은 전송되지 않으므로 순번 사이의 빈 곳은 누락이 아닙니다.
+ * 대신 버퍼가 빠짐없이 보관하기 시작한 순번(처음 보관한 순번, 밀려난 순번 + 1)을 기록해 재전송 가능 여부를 판단합니다.
+ */
+@Slf4j
+@Component
+public class AuctionReplayBuffer {
+
+    /** 마지막 브로드캐스트 이후 이 시간이 지난 경매 버퍼는 제거 */
+    private static final long IDLE_EVICT_MILLIS = 10 * 60 * 1000L;
+
+    private final int capacity;
+
+    /** 경매 ID → 버퍼 */
+    private final Map<Long, Buffer> buffers = new ConcurrentHashMap<>();
+
+    public AuctionReplayBuffer(@Value("${websocket.replay.buffer-size:256}") int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * 전달한 브로드캐스트 보관 (순번이 없는 메시지는 보관하지 않음)
+     */
+    public void append(Long auctionId, long sequence, String json) {
+        if (sequence <= AuctionSequence.UNKNOWN) {
+            return;
+        }
+
+        Buffer buffer = buffers.computeIfAbsent(auctionId, id -> new Buffer());
+        synchronized (buffer) {
+            if (sequence < buffer.coveredFrom && buffer.evicted) {
+                return; // 이미 밀려난 구간에 늦게 도착한 릴레이
+            }
+            buffer.entries.put(sequence, json);
+            buffer.coveredFrom = Math.min(buffer.coveredFrom, sequence);
+            while (buffer.entries.size() > capacity) {
+                buffer.coveredFrom = buffer.entries.pollFirstEntry().getKey() + 1;
+                buffer.evicted = true;
+            }
+        }
+        buffer.lastAppendedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * lastSequence 이후의 누락 메시지 (순번 오름차순)
+     *
+     * @return 누락분 (없으면 빈 목록), 버퍼만으로 누락 없이 채울 수 없으면 null
+     */
+    public List<Entry> since(Long auctionId, long lastSequence) {
+        Buffer buffer = buffers.get(auctionId);
+        if (buffer == null || buffer.entries.isEmpty()) {
+            return null;
+        }
+
+        if (buffer.coveredFrom > lastSequence + 1) {
+            return null; // 버퍼에서 이미 밀려났거나 보관 전에 전달된 구간이 있음
+        }
+
+        Map<Long, String> missed = buffer.entries.tailMap(lastSequence, false);
+        if (missed.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Entry> result = new ArrayList<>(missed.size());
+        missed.forEach((sequence, json) -> result.add(new Entry(sequence, json)));
+        return result;
+    }
+
+    /**
+     * 브로드캐스트가 끊긴 경매 버퍼 정리
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        long idleBefore = System.currentTimeMillis() - IDLE_EVICT_MILLIS;
+        int before = buffers.size();
+        buffers.values().removeIf(buffer -> buffer.lastAppendedAt < idleBefore);
+        int evicted = before - buffers.size();
+        if (evicted > 0) {
+            log.debug("[Replay Buffer] 유휴 경매 버퍼 정리 - 제거: {}, 남은 경매: {}", evicted, buffers.size());
+        }
+    }
+
+    /**
+     * 보관된 브로드캐스트 (순번, 직렬화된 JSON)
+     */
+    public record Entry(long sequence, String json) {
+    }
+
+    private static final class Buffer {
+        private final ConcurrentSkipListMap<Long, String> entries = new ConcurrentSkipListMap<>();
+        private volatile long lastAppendedAt = System.currentTimeMillis();
+
+        /** 이 순번부터는 이 노드에 전달된 브로드캐스트가 모두 보관됨 */
+        private volatile long coveredFrom = Long.MAX_VALUE;
+
+        /** 용량 초과로 밀려난 항목이 있는지 (이후에는 coveredFrom 이전 순번을 보관하지 않음) */
+        private boolean evicted;
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.bidflow.global.messaging.replay;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.global.app.ApplicationExecutors;
+import org.example.bidflow.global.messaging.broadcast.AuctionBroadcaster;
+import org.example.bidflow.global.messaging.broadcast.StompFrameFanout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 경매 구독 시 스냅샷 / 누락분 재전송 (스냅샷 + 순번 재개 프로토콜)
+ *
+ * 재연결한 클라이언트가 REST(bid-detail, bids)를 다시 호출하지 않도록 구독 시점에 필요한 상태만 보냅니다.
+ *
+ * - SUBSCRIBE 에 last-seq 헤더가 있고 그 이후 메시지가 재전송 버퍼에 모두 남아 있으면: 누락분만 순서대로 재전송
+ * - 그 외 (첫 구독 / 버퍼에서 밀려난 구간 / 다른 노드로 재연결): 스냅샷 한 건 전송 ({@link AuctionCatchUp})
+ *
+ * 사전 인코딩 팬아웃이 켜져 있으면 해당 구독(/sub/auction/{id})으로 직접, 꺼져 있으면 /user/queue/auction 으로 보냅니다.
+ *
+ * 처리 순서: 팬아웃 구독 등록({@link StompFrameFanout#SUBSCRIBE_ORDER}) → 재개 처리 (이 리스너는 가장 나중)
+ * 순번 / 스냅샷 조회는 Redis 를 거치므로 WebSocket I/O 스레드가 아닌 재개 전용 스레드에서 처리합니다.
+ *
+ * 클라이언트 계약 (seq 기준 순서 / 중복 제거):
+ * - seq 는 경매 상태 해시에 입찰이 최고가로 저장된 순서 (저장과 같은 원자적 실행에서 발급, 전송 노드 / 시점과 무관)
+ *   종료 / 낙찰 메시지는 같은 순번 공간에서 마지막 입찰 이후에 발급되므로 항상 가격 갱신보다 큼
+ * - 병합으로 전송되지 않은 입찰의 순번은 건너뛰므로 seq 는 연속이 아님 (빈 곳은 누락이 아니며 다시 요청하지 않음)
+ * - 구독이 먼저 등록되므로 구독 직후의 브로드캐스트는 누락되지 않지만, 재개 메시지(누락분 / 스냅샷)보다 먼저 도착할 수 있음
+ *   노드마다 전송 주기가 달라 이전 입찰의 갱신이 더 늦게 도착할 수도 있음
+ * - 클라이언트는 경매별로 마지막으로 적용한 seq 를 보관하고, seq 가 그 이하인 메시지는 무시
+ *   (가격 갱신과 스냅샷은 그 seq 시점의 전체 상태이므로 더 오래된 메시지를 건너뛰어도 최신 상태가 유지됨)
+ * - 스냅샷의 seq 는 스냅샷 상태를 만든 입찰의 순번 (상태와 같은 해시에서 한 번에 읽음)
+ * - seq 헤더가 없는 메시지(순번 저장소 장애)는 항상 적용
+ * - 입찰 내역처럼 중간 메시지가 모두 필요한 화면은 기존 REST(bids) 조회를 사용
+ */
+@Slf4j
+@Component
+public class AuctionResumeHandler {
+
+    /** 클라이언트가 마지막으로 받은 순번 (SUBSCRIBE 헤더) */
+    public static final String LAST_SEQUENCE_HEADER = "last-seq";
+
+    /** 팬아웃이 꺼져 있을 때의 개인 큐 (구독 경로: /user/queue/auction) */
+    private static final String RESUME_QUEUE = "/queue/auction";
+
+    private final StompFrameFanout stompFrameFanout;
+    private final AuctionCatchUp auctionCatchUp;
+    // SimpMessagingTemplate 은 브로커 설정에 의존하므로 지연 조회합니다.
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
+    private final Executor resumeExecutor;
+
+    public AuctionResumeHandler(StompFrameFanout stompFrameFanout,
+                                AuctionCatchUp auctionCatchUp,
+                                ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider,
+                                ApplicationExecutors executors,
+                                @Value("${websocket.replay.resume-threads:2}") int threads,
+                                @Value("${websocket.replay.resume-queue-capacity:10000}") int queueCapacity) {
+        this.stompFrameFanout = stompFrameFanout;
+        this.auctionCatchUp = auctionCatchUp;
+        this.messagingTemplateProvider = messagingTemplateProvider;
+        // 대량 재연결로 대기열이 가득 차면 호출 스레드에서 처리 (재개 메시지 유실 없이 구독 처리 속도를 늦춤)
+        this.resumeExecutor = executors.create("auction-resume-", threads, queueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy(), 0);
+    }
+
+    @EventListener
+    @Order // 가장 나중 (팬아웃 구독 등록 이후)
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        Long auctionId = parseAuctionId(destination);
+        if (auctionId == null || sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        Target target = new Target(sessionId, subscriptionId, destination);
+        Long lastSequence = AuctionCatchUp.parseSequence(accessor.getFirstNativeHeader(LAST_SEQUENCE_HEADER));
+        resumeExecutor.execute(() -> {
+            try {
+                resume(auctionId, target, lastSequence);
+            } catch (Exception e) {
+                // 재개 실패 시 클라이언트는 기존 REST 조회로 대체 (Fail Open)
+                log.warn("[Resume] 재개 처리 실패 - 경매 ID: {}, 세션: {}, 오류: {}",
+                        auctionId, target.sessionId(), e.getMessage());
+            }
+        });
+    }
+
+    private void resume(Long auctionId, Target target, Long lastSequence) {
+        if (lastSequence != null) {
+            List<AuctionReplayBuffer.Entry> missed = auctionCatchUp.missedSince(auctionId, lastSequence);
+            if (missed != null) {
+                for (AuctionReplayBuffer.Entry entry : missed) {
+                    if (!send(target, entry)) {
+                        return; // 세션 종료 / 전송 실패
+                    }
+                }
+                log.debug("[Resume] 누락분 재전송 - 경매 ID: {}, last-seq: {}, 건수: {}",
+                        auctionId, lastSequence, missed.size());
+                return;
+            }
+        }
+
+        AuctionReplayBuffer.Entry snapshot = auctionCatchUp.snapshot(auctionId);
+        if (snapshot != null) {
+            send(target, snapshot);
+        }
+    }
+
+    private boolean send(Target target, AuctionReplayBuffer.Entry entry) {
+        byte[] body = entry.json().getBytes(StandardCharsets.UTF_8);
+        if (stompFrameFanout.isEnabled()) {
+            return stompFrameFanout.sendToSubscription(target.sessionId(), target.subscriptionId(),
+                    target.destination(), body, MimeTypeUtils.APPLICATION_JSON_VALUE, entry.sequence());
+        }
+
+        try {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setSessionId(target.sessionId());
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            if (entry.sequence() > AuctionSequence.UNKNOWN) {
+                accessor.setNativeHeader(AuctionBroadcaster.SEQUENCE_HEADER, Long.toString(entry.sequence()));
+            }
+            accessor.setLeaveMutable(true);
+            messagingTemplateProvider.getObject()
+                    .convertAndSendToUser(target.sessionId(), RESUME_QUEUE, body, accessor.getMessageHeaders());
+            return true;
+        } catch (Exception e) {
+            log.warn("[Resume] 재개 메시지 전송 실패 - 세션: {}, 오류: {}", target.sessionId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static Long parseAuctionId(String destination) {
+        if (destination == null || !destination.startsWith(StompFrameFanout.DESTINATION_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(StompFrameFanout.DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 재개 메시지를 받을 구독 (세션 ID, STOMP 구독 ID, 목적지)
+     */
+    private record Target(String sessionId, String subscriptionId, String destination) {
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.bidflow.global.messaging.replay;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 경매별 브로드캐스트 순번 발급기
+ *
+ * 순번은 경매마다 1 부터 단조 증가하며, 모든 노드가 같은 순번 공간을 사용해야 합니다.
+ * 가격 갱신의 순번은 입찰을 저장할 때 함께 발급되어 병합을 거쳐 그대로 전달되므로 ({@link RedisAuctionSequence})
+ * 이 발급기는 입찰이 아닌 브로드캐스트(종료 / 낙찰)에만 사용합니다. 병합된 입찰 때문에 전달되는 순번은 연속이 아닐 수 있습니다.
+ * 발급 실패 시 {@link #UNKNOWN} 을 반환하고, 해당 메시지는 순번 없이 전달됩니다. (Fail Open)
+ */
+public interface AuctionSequence {
+
+    /** 순번을 알 수 없음 (발급 실패 / 아직 브로드캐스트 없음) */
+    long UNKNOWN = 0L;
+
+    /**
+     * 다음 순번 발급 (입찰이 아닌 브로드캐스트용)
+     */
+    long next(Long auctionId);
+
+    /**
+     * 마지막으로 발급된 순번 (없으면 {@link #UNKNOWN})
+     */
+    long current(Long auctionId);
+
+    /**
+     * 노드 메모리 순번 (단일 노드 / 테스트용)
+     */
+    static AuctionSequence local() {
+        Map<Long, AtomicLong> sequences = new ConcurrentHashMap<>();
+        return new AuctionSequence() {
+            @Override
+            public long next(Long auctionId) {
+                return sequences.computeIfAbsent(auctionId, id -> new AtomicLong()).incrementAndGet();
+            }
+
+            @Override
+            public long current(Long auctionId) {
+                AtomicLong sequence = sequences.get(auctionId);
+                return sequence != null ? sequence.get() : UNKNOWN;
+            }
+        };
+    }
+}
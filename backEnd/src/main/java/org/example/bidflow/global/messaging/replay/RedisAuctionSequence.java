@@ -0,0 +1,75 @@
+package org.example.bidflow.global.messaging.replay;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 경매 상태 해시(auction:{id})의 seq 필드 기반 경매별 순번
+ *
+ * 입찰은 최고가(amount / userUUID)를 저장하는 같은 원자적 실행 안에서 seq 를 증가시킵니다.
+ * ({@link org.example.bidflow.global.app.RedisCommon#putInHashAndIncrement})
+ * 따라서 순번은 어느 노드가 언제 전송했는지가 아니라 입찰이 최고가로 저장된 순서를 나타내며,
+ * 병합으로 전송되지 않은 입찰의 순번은 비어 있을 수 있습니다.
+ *
+ * 이 클래스의 {@link #next} 는 입찰이 아닌 브로드캐스트(종료 / 낙찰)용이며 같은 필드를 증가시킵니다.
+ * 상태 해시가 이미 만료된 뒤 발급하면 필드만 남지 않도록 만료 시간을 설정합니다.
+ */
+@Slf4j
+@Component
+public class RedisAuctionSequence implements AuctionSequence {
+
+    /** 경매 상태 해시 키 접두사 */
+    public static final String AUCTION_KEY_PREFIX = "auction:";
+
+    /** 순번 필드 (경매 상태 해시 안) */
+    public static final String SEQUENCE_FIELD = "seq";
+
+    private static final Duration SEQUENCE_TTL = Duration.ofDays(1);
+
+    /**
+     * KEYS: [경매 상태 해시 키], ARGV: [순번 필드, 만료 시간(초)]
+     * 순번을 1 증가시키고, 만료 시간이 없는 키(만료 후 다시 생성됨)에만 만료 시간 설정
+     */
+    private static final RedisScript<Long> NEXT_SCRIPT = new DefaultRedisScript<>("""
+            local sequence = redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            if redis.call('TTL', KEYS[1]) < 0 then
+              redis.call('EXPIRE', KEYS[1], ARGV[2])
+            end
+            return sequence
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisAuctionSequence(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    public long next(Long auctionId) {
+        try {
+            Long sequence = stringRedisTemplate.execute(NEXT_SCRIPT, List.of(AUCTION_KEY_PREFIX + auctionId),
+                    SEQUENCE_FIELD, Long.toString(SEQUENCE_TTL.toSeconds()));
+            return sequence != null ? sequence : UNKNOWN;
+        } catch (Exception e) {
+            log.warn("[Broadcast Seq] 순번 발급 실패 (순번 없이 전달) - 경매 ID: {}, 오류: {}", auctionId, e.getMessage());
+            return UNKNOWN;
+        }
+    }
+
+    @Override
+    public long current(Long auctionId) {
+        try {
+            Object value = stringRedisTemplate.opsForHash().get(AUCTION_KEY_PREFIX + auctionId, SEQUENCE_FIELD);
+            return value != null ? Long.parseLong(value.toString()) : UNKNOWN;
+        } catch (Exception e) {
+            log.warn("[Broadcast Seq] 순번 조회 실패 - 경매 ID: {}, 오류: {}", auctionId, e.getMessage());
+            return UNKNOWN;
+        }
+    }
+}
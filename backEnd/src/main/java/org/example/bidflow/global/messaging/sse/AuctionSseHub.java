@@ -0,0 +1,267 @@
+package org.example.bidflow.global.messaging.sse;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.global.messaging.broadcast.AuctionDeliveryListener;
+import org.example.bidflow.global.messaging.replay.AuctionCatchUp;
+import org.example.bidflow.global.messaging.replay.AuctionReplayBuffer;
+import org.example.bidflow.global.messaging.replay.AuctionSequence;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 경매 관전용 SSE 허브 (읽기 전용 스트림, /api/auctions/{id}/stream)
+ *
+ * 입찰하지 않는 관전자는 STOMP 세션(Handshake JWT 검증, 구독 관리) 대신 SSE 로 가격 갱신만 받습니다.
+ *
+ * - 경매별 구독자 집합 하나를 공유하고, 브로드캐스트마다 SSE 이벤트 바이트를 한 번만 인코딩해 모든 구독자에게 전달
+ *   (id: 경매별 순번, data: 브로드캐스트 JSON)
+ * - 구독자마다 제한된 송신 큐 + 가상 스레드 송신기를 두어, 느린 클라이언트가 브로드캐스트 스레드를 막지 않음
+ *   (큐가 가득 찬 구독자는 종료하며, 브라우저 EventSource 가 Last-Event-ID 로 자동 재연결)
+ * - 재연결 시 Last-Event-ID 이후 누락분 또는 스냅샷을 먼저 보낸 뒤 실시간 이벤트로 전환 ({@link AuctionCatchUp})
+ * - 프록시(ALB) 유휴 연결 종료를 막기 위해 주기적으로 주석 이벤트(heartbeat) 전송
+ *
+ * 요청 스레드는 연결 직후 반환되며(비동기 서블릿), 연결을 유지하는 동안 점유하는 것은 가상 스레드뿐입니다.
+ */
+@Slf4j
+@Component
+public class AuctionSseHub implements AuctionDeliveryListener {
+
+    /** 관전 스트림 경로 접미사 (/api/auctions/{id}/stream) */
+    public static final String STREAM_PATH_PREFIX = "/api/auctions/";
+    public static final String STREAM_PATH_SUFFIX = "/stream";
+
+    private static final MediaType EVENT_MEDIA_TYPE = MediaType.APPLICATION_OCTET_STREAM;
+    private static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final AuctionCatchUp auctionCatchUp;
+    private final long emitterTimeoutMillis;
+    private final int queueSize;
+
+    /** 경매 ID → 구독자 */
+    private final Map<Long, Set<Subscriber>> subscribersByAuction = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public AuctionSseHub(AuctionCatchUp auctionCatchUp,
+                         MeterRegistry meterRegistry,
+                         @Value("${sse.auction.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+                         @Value("${sse.auction.queue-size:64}") int queueSize) {
+        this.auctionCatchUp = auctionCatchUp;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.queueSize = Math.max(1, queueSize);
+        Gauge.builder("sse.auction.subscribers", subscriberCount, AtomicInteger::get)
+                .description("SSE 관전 스트림 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 관전 스트림 경로 여부 (응답 버퍼링 / JWT 파싱 제외 대상)
+     */
+    public static boolean isStreamPath(String uri) {
+        return uri != null && uri.startsWith(STREAM_PATH_PREFIX) && uri.endsWith(STREAM_PATH_SUFFIX);
+    }
+
+    /**
+     * 관전 스트림 구독
+     *
+     * @param lastEventId 재연결 시 브라우저가 보내는 Last-Event-ID (마지막으로 받은 순번)
+     */
+    public SseEmitter subscribe(Long auctionId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(auctionId, emitter, queueSize);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // 먼저 등록해 따라잡기 계산 중 도착한 이벤트도 보관한 뒤, 따라잡기 이후 순번만 이어서 전송
+        subscribersByAuction.computeIfAbsent(auctionId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+        subscriber.start();
+        subscriber.finishCatchUp(catchUp(auctionId, lastEventId));
+
+        log.debug("[SSE] 관전 스트림 연결 - 경매 ID: {}, Last-Event-ID: {}", auctionId, lastEventId);
+        return emitter;
+    }
+
+    @Override
+    public void onDelivered(Long auctionId, long sequence, String json) {
+        Set<Subscriber> subscribers = subscribersByAuction.get(auctionId);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        Frame frame = new Frame(sequence, encodeEvent(sequence, json));
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offerLive(frame);
+        }
+    }
+
+    /**
+     * 유휴 연결 유지용 주석 이벤트
+     */
+    @Scheduled(fixedDelayString = "${sse.auction.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        if (subscriberCount.get() == 0) {
+            return;
+        }
+        Frame heartbeat = new Frame(AuctionSequence.UNKNOWN, Set.of(
+                new ResponseBodyEmitter.DataWithMediaType(HEARTBEAT, EVENT_MEDIA_TYPE)));
+        subscribersByAuction.values().forEach(subscribers -> subscribers.forEach(s -> s.offerLive(heartbeat)));
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private List<Frame> catchUp(Long auctionId, String lastEventId) {
+        Long lastSequence = AuctionCatchUp.parseSequence(lastEventId);
+        if (lastSequence != null) {
+            List<AuctionReplayBuffer.Entry> missed = auctionCatchUp.missedSince(auctionId, lastSequence);
+            if (missed != null) {
+                List<Frame> frames = new ArrayList<>(missed.size());
+                missed.forEach(entry -> frames.add(new Frame(entry.sequence(), encodeEvent(entry.sequence(), entry.json()))));
+                return frames;
+            }
+        }
+
+        AuctionReplayBuffer.Entry snapshot = auctionCatchUp.snapshot(auctionId);
+        return snapshot != null
+                ? List.of(new Frame(snapshot.sequence(), encodeEvent(snapshot.sequence(), snapshot.json())))
+                : List.of();
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.stop()) {
+            return; // 이미 정리됨
+        }
+        subscriberCount.decrementAndGet();
+        subscribersByAuction.computeIfPresent(subscriber.auctionId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * SSE 이벤트 인코딩 (id: 순번, data: JSON 한 줄)
+     * 브로드캐스트 JSON 은 줄바꿈 없이 직렬화되므로 data 필드 하나로 충분합니다.
+     */
+    static Set<ResponseBodyEmitter.DataWithMediaType> encodeEvent(long sequence, String json) {
+        StringBuilder sb = new StringBuilder(json.length() + 32);
+        if (sequence > AuctionSequence.UNKNOWN) {
+            sb.append("id:").append(sequence).append('\n');
+        }
+        sb.append("data:").append(json).append("\n\n");
+        return Set.of(new ResponseBodyEmitter.DataWithMediaType(
+                sb.toString().getBytes(StandardCharsets.UTF_8), EVENT_MEDIA_TYPE));
+    }
+
+    /**
+     * 인코딩된 이벤트 (모든 구독자가 같은 인스턴스를 공유)
+     */
+    private record Frame(long sequence, Set<ResponseBodyEmitter.DataWithMediaType> data) {
+    }
+
+    /**
+     * 구독자 (제한된 송신 큐 + 가상 스레드 송신기)
+     */
+    private final class Subscriber {
+        private final Long auctionId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Frame> queue;
+
+        /** 따라잡기 전송 전까지 도착한 실시간 이벤트 (null 이면 실시간 전송 중) */
+        private List<Frame> pending = new ArrayList<>();
+        private volatile boolean stopped;
+        private Thread writer;
+
+        private Subscriber(Long auctionId, SseEmitter emitter, int queueSize) {
+            this.auctionId = auctionId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+        }
+
+        private void start() {
+            writer = Thread.ofVirtual().name("sse-auction-" + auctionId).start(this::drain);
+        }
+
+        private synchronized void offerLive(Frame frame) {
+            if (pending != null) {
+                pending.add(frame);
+                return;
+            }
+            enqueue(frame);
+        }
+
+        private synchronized void finishCatchUp(List<Frame> catchUp) {
+            long lastSequence = AuctionSequence.UNKNOWN;
+            for (Frame frame : catchUp) {
+                enqueue(frame);
+                lastSequence = Math.max(lastSequence, frame.sequence());
+            }
+            for (Frame frame : pending) {
+                // 따라잡기에 이미 포함된 순번은 제외 (순번 없는 이벤트는 그대로 전달)
+                if (frame.sequence() == AuctionSequence.UNKNOWN || frame.sequence() > lastSequence) {
+                    enqueue(frame);
+                }
+            }
+            pending = null;
+        }
+
+        private void enqueue(Frame frame) {
+            if (stopped) {
+                return;
+            }
+            if (!queue.offer(frame)) {
+                log.warn("[SSE] 송신 큐 초과, 연결 종료 - 경매 ID: {}", auctionId);
+                remove(this);
+                emitter.complete();
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!stopped) {
+                    Frame frame = queue.take();
+                    emitter.send(frame.data());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                // 클라이언트 연결 종료 (컨테이너가 onError / onCompletion 을 호출)
+                log.debug("[SSE] 이벤트 전송 실패 - 경매 ID: {}, 오류: {}", auctionId, e.getMessage());
+                remove(this);
+            }
+        }
+
+        /**
+         * @return 이번 호출에서 종료 처리했으면 true
+         */
+        private boolean stop() {
+            synchronized (this) {
+                if (stopped) {
+                    return false;
+                }
+                stopped = true;
+            }
+            if (writer != null) {
+                writer.interrupt();
+            }
+            return true;
+        }
+    }
+}
@@ -1,20 +1,107 @@
 package org.example.bidflow.global.messaging.subscriber;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.example.bidflow.global.messaging.dto.MessagePayload;
+import org.example.bidflow.global.messaging.listener.MessageListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Redis Pub/Sub 구독 구현체
+ * 등록된 MessageListener 들의 토픽을 구독하고, 수신한 JSON 을 MessagePayload 로 변환하여 전달합니다.
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class RedisMessageSubscriber implements MessageSubscriber<MessagePayload> {
 
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Map<String, List<MessageListener>> listenersByTopic;
+
+    public RedisMessageSubscriber(RedisMessageListenerContainer listenerContainer, ObjectMapper objectMapper,
+                                  List<MessageListener> listeners) {
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.listenersByTopic = listeners.stream()
+                .collect(Collectors.groupingBy(MessageListener::getTopic));
+    }
+
+    @PostConstruct
+    public void subscribeAll() {
+        listenersByTopic.keySet().forEach(this::subscribe);
+    }
+
     @Override
     public void subscribe(String topic) {
-
+        Topic redisTopic = topic.contains("*") ? new PatternTopic(topic) : new ChannelTopic(topic);
+        listenerContainer.addMessageListener(new TopicListener(topic), redisTopic);
+        log.info("[Redis 구독] 토픽 구독 등록 - 토픽: {}", topic);
     }
 
     @Override
     public void onMessage(String topic, MessagePayload payload) {
-        System.out.println("Redis 구독 메시지 수신: " + payload);
+        for (MessageListener listener : listenersByTopic.getOrDefault(topic, List.of())) {
+            try {
+                listener.handleMessage(payload);
+            } catch (Exception e) {
+                log.error("[Redis 구독] 메시지 처리 실패 - 토픽: {}, 이벤트: {}, 오류: {}",
+                        topic, payload.getEventType(), e.getMessage(), e);
+            }
+        }
+    }
+
+    // 구독(재연결 후 재구독 포함) 완료 알림 전달
+    private void onSubscribed(String topic) {
+        log.info("[Redis 구독] 토픽 구독 완료 - 토픽: {}", topic);
+        for (MessageListener listener : listenersByTopic.getOrDefault(topic, List.of())) {
+            try {
+                listener.onSubscribed();
+            } catch (Exception e) {
+                log.error("[Redis 구독] 구독 완료 처리 실패 - 토픽: {}, 오류: {}", topic, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 토픽별 Redis 리스너 (메시지 수신 + 구독 완료 알림)
+     * 리스너 컨테이너는 연결 복구 후 다시 구독할 때도 SubscriptionListener 로 구독 완료를 알립니다.
+     */
+    private final class TopicListener implements org.springframework.data.redis.connection.MessageListener, SubscriptionListener {
+
+        private final String topic;
+
+        private TopicListener(String topic) {
+            this.topic = topic;
+        }
+
+        @Override
+        public void onMessage(Message message, byte[] pattern) {
+            try {
+                RedisMessageSubscriber.this.onMessage(topic, objectMapper.readValue(message.getBody(), MessagePayload.class));
+            } catch (Exception e) {
+                log.warn("[Redis 구독] 메시지 변환 실패 - 토픽: {}, 오류: {}", topic, e.getMessage());
+            }
+        }
+
+        @Override
+        public void onChannelSubscribed(byte[] channel, long count) {
+            onSubscribed(topic);
+        }
+
+        @Override
+        public void onPatternSubscribed(byte[] pattern, long count) {
+            onSubscribed(topic);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,246 @@
+package org.example.bidflow.global.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.global.config.RateLimitingConfig;
+import org.example.bidflow.global.config.RateLimitingConfig.AdaptiveConcurrency;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 적응형 동시성 제한기 (AIMD)
+ *
+ * application.yml 의 고정 요청 수 제한(IP 10회/초, 사용자 20회/초)은 시스템이 실제로 포화되었는지와 무관하게 동작합니다.
+ * 이 제한기는 엔드포인트 그룹별 "동시에 처리 중인 요청 수" 한도를 두고, 1초마다 과부하 신호를 보고 한도를 조절합니다.
+ *
+ * - 신호: 그룹별 평균 처리 시간, DB 커넥션 대기 스레드 수, Redis 명령 지연 (SystemLoadMonitor)
+ * - 정상: 한도를 increaseStep 만큼 증가 (Additive Increase)
+ * - 과부하: 한도에 decreaseRatio 를 곱해 감소 (Multiplicative Decrease)
+ *
+ * 우선순위가 낮은 그룹(조회/내역/마이페이지)은 시스템 신호만으로도 먼저 줄어들고,
+ * 인증 그룹은 낮은 그룹이 최소 한도까지 줄어든 뒤에야, 입찰 그룹은 자기 지연이 목표를 넘을 때만 줄어듭니다.
+ */
+@Slf4j
+@Service
+public class AdaptiveConcurrencyLimiter {
+
+    private final RateLimitingConfig rateLimitingConfig;
+    private final SystemLoadMonitor systemLoadMonitor;
+    private final Map<EndpointGroup, GroupState> states = new EnumMap<>(EndpointGroup.class);
+
+    public AdaptiveConcurrencyLimiter(RateLimitingConfig rateLimitingConfig, SystemLoadMonitor systemLoadMonitor,
+                                      MeterRegistry meterRegistry) {
+        this.rateLimitingConfig = rateLimitingConfig;
+        this.systemLoadMonitor = systemLoadMonitor;
+
+        int initialLimit = rateLimitingConfig.getAdaptiveConcurrency().getInitialLimit();
+        for (EndpointGroup group : EndpointGroup.values()) {
+            GroupState state = new GroupState(initialLimit, Counter.builder("adaptive.concurrency.rejected")
+                    .description("적응형 동시성 제한으로 차단된 요청 수")
+                    .tag("group", group.name())
+                    .register(meterRegistry));
+            states.put(group, state);
+
+            Gauge.builder("adaptive.concurrency.limit", state, s -> s.limit)
+                    .description("엔드포인트 그룹별 현재 동시 처리 한도")
+                    .tag("group", group.name())
+                    .register(meterRegistry);
+            Gauge.builder("adaptive.concurrency.inflight", state, s -> s.inflight.get())
+                    .description("엔드포인트 그룹별 처리 중인 요청 수")
+                    .tag("group", group.name())
+                    .register(meterRegistry);
+            Gauge.builder("adaptive.concurrency.latency", state, s -> s.lastAverageLatencyMillis)
+                    .description("엔드포인트 그룹별 직전 주기 평균 처리 시간 ms")
+                    .tag("group", group.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 처리 슬롯 획득 시도
+     * 성공 시 반드시 {@link #release(EndpointGroup, long)} 를 호출해야 합니다.
+     *
+     * @return 획득 성공 여부 (false 면 요청을 차단)
+     */
+    public boolean tryAcquire(EndpointGroup group) {
+        GroupState state = states.get(group);
+        if (!rateLimitingConfig.isEnabled() || !rateLimitingConfig.getAdaptiveConcurrency().isEnabled()) {
+            // 비활성화 상태에서도 처리 중 요청 수와 지연은 집계 (모니터링 및 재활성화 대비)
+            state.inflight.incrementAndGet();
+            return true;
+        }
+
+        while (true) {
+            int current = state.inflight.get();
+            if (current >= state.limit) {
+                state.rejectedCounter.increment();
+                return false;
+            }
+            if (state.inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 처리 슬롯 반환 및 처리 시간 기록
+     *
+     * @param startNanos tryAcquire 직전 {@link System#nanoTime()} 값
+     */
+    public void release(EndpointGroup group, long startNanos) {
+        GroupState state = states.get(group);
+        state.inflight.decrementAndGet();
+        state.latencySumNanos.add(System.nanoTime() - startNanos);
+        state.latencyCount.increment();
+    }
+
+    /**
+     * AIMD 한도 조절 (1초 주기)
+     */
+    @Scheduled(fixedRate = 1000)
+    public void adjustLimits() {
+        AdaptiveConcurrency config = rateLimitingConfig.getAdaptiveConcurrency();
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        int pending = systemLoadMonitor.getPendingConnections();
+        long redisLatencyMillis = systemLoadMonitor.getRedisLatencyMillis();
+        boolean systemOverloaded = pending >= config.getPendingConnectionThreshold()
+                || redisLatencyMillis >= config.getRedisLatencyThresholdMs();
+
+        // 낮은 우선순위 그룹을 모두 최소 한도까지 줄였는지 (줄일 여지가 남았다면 상위 그룹은 유지)
+        boolean lowPriorityExhausted = true;
+        for (EndpointGroup group : EndpointGroup.values()) {
+            if (group.getPriority() == Priority.LOW && states.get(group).limit > config.getMinLimit()) {
+                lowPriorityExhausted = false;
+                break;
+            }
+        }
+
+        for (EndpointGroup group : EndpointGroup.values()) {
+            GroupState state = states.get(group);
+            long count = state.latencyCount.sumThenReset();
+            long sumNanos = state.latencySumNanos.sumThenReset();
+            long averageLatencyMillis = count > 0 ? TimeUnit.NANOSECONDS.toMillis(sumNanos / count) : 0;
+            state.lastAverageLatencyMillis = averageLatencyMillis;
+
+            boolean latencyExceeded = averageLatencyMillis > group.getTargetLatencyMillis();
+            boolean decrease = switch (group.getPriority()) {
+                case LOW -> systemOverloaded || latencyExceeded;
+                case NORMAL -> latencyExceeded || (systemOverloaded && lowPriorityExhausted);
+                case HIGH -> latencyExceeded && systemOverloaded;
+            };
+
+            int previous = state.limit;
+            if (decrease) {
+                state.limit = Math.max(config.getMinLimit(), (int) (previous * config.getDecreaseRatio()));
+            } else if (!systemOverloaded || group.getPriority() == Priority.HIGH) {
+                state.limit = Math.min(config.getMaxLimit(), previous + config.getIncreaseStep());
+            }
+
+            if (state.limit != previous && decrease) {
+                log.warn("[Adaptive Concurrency] 한도 감소 - 그룹: {}, {} -> {}, 평균 지연: {}ms, DB 대기: {}, Redis 지연: {}ms",
+                        group, previous, state.limit, averageLatencyMillis, pending, redisLatencyMillis);
+            }
+        }
+    }
+
+    /**
+     * 그룹별 현재 한도 조회 (모니터링용)
+     */
+    public int getLimit(EndpointGroup group) {
+        return states.get(group).limit;
+    }
+
+    /**
+     * 그룹별 처리 중인 요청 수 조회 (모니터링용)
+     */
+    public int getInflight(EndpointGroup group) {
+        return states.get(group).inflight.get();
+    }
+
+    /**
+     * 차단 우선순위 (LOW 부터 차단)
+     */
+    public enum Priority {
+        HIGH, NORMAL, LOW
+    }
+
+    /**
+     * 엔드포인트 그룹
+     * 목표 지연 시간은 그룹의 정상 처리 시간 기준입니다. (인증은 BCrypt 비용 포함)
+     */
+    @Getter
+    public enum EndpointGroup {
+        /** 입찰 (STOMP /app/auction/bid) */
+        BID(Priority.HIGH, 200),
+        /** 로그인 / 회원가입 / 인증 코드 */
+        AUTH(Priority.NORMAL, 500),
+        /** 경매 목록 / 상세 / 카테고리 조회 */
+        LISTING(Priority.LOW, 300),
+        /** 입찰 내역 / 낙찰 내역 조회 */
+        HISTORY(Priority.LOW, 300),
+        /** 마이페이지 / 찜 / 사용자 정보 */
+        MYPAGE(Priority.LOW, 300);
+
+        private final Priority priority;
+        private final long targetLatencyMillis;
+
+        EndpointGroup(Priority priority, long targetLatencyMillis) {
+            this.priority = priority;
+            this.targetLatencyMillis = targetLatencyMillis;
+        }
+
+        /**
+         * HTTP 요청 경로로 엔드포인트 그룹 결정
+         *
+         * @return 해당 그룹, 제한 대상이 아니면 null
+         */
+        public static EndpointGroup resolve(String method, String uri) {
+            if (uri.startsWith("/api/auth/")) {
+                if (uri.startsWith("/api/auth/mypage") || uri.startsWith("/api/auth/favorites")
+                        || uri.startsWith("/api/auth/users")) {
+                    return MYPAGE;
+                }
+                return AUTH;
+            }
+            if (uri.startsWith("/api/auctions")) {
+                if (uri.contains("/bids") || uri.endsWith("/winner")) {
+                    return HISTORY;
+                }
+                return "GET".equalsIgnoreCase(method) ? LISTING : null;
+            }
+            if (uri.startsWith("/api/categories") && "GET".equalsIgnoreCase(method)) {
+                return LISTING;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 그룹별 제한 상태
+     */
+    private static final class GroupState {
+        private final AtomicInteger inflight = new AtomicInteger();
+        private final LongAdder latencySumNanos = new LongAdder();
+        private final LongAdder latencyCount = new LongAdder();
+        private final Counter rejectedCounter;
+        private volatile int limit;
+        private volatile long lastAverageLatencyMillis;
+
+        private GroupState(int initialLimit, Counter rejectedCounter) {
+            this.limit = initialLimit;
+            this.rejectedCounter = rejectedCounter;
+        }
+    }
+}
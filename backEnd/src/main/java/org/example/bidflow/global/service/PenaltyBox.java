@@ -0,0 +1,235 @@
+package org.example.bidflow.global.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.global.app.NodeIdentity;
+import org.example.bidflow.global.config.RateLimitingConfig;
+import org.example.bidflow.global.config.RateLimitingConfig.BurstProtection;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 페널티 박스 (노드 로컬 차단 목록)
+ *
+ * Burst 감지 윈도우 안에서 반복해서 Rate Limit 에 걸린 IP 를 일정 시간 동안 메모리에서 바로 차단합니다.
+ * 차단된 IP 의 요청은 JWT 파싱, 블랙리스트 조회, Redis 버킷 검사 없이 Map 조회 한 번으로 거부됩니다.
+ *
+ * - 차단 목록: IP → 차단 만료 시각(ms), 만료된 항목은 조회 시점 또는 주기적 정리에서 제거
+ * - 노드 간 공유: 차단 시 Redis 채널로 발행하고, 다른 노드는 구독하여 자기 목록에 추가
+ * - Redis 장애 시에도 로컬 차단은 계속 동작 (Fail Open: 전파만 생략)
+ */
+@Slf4j
+@Service
+public class PenaltyBox implements MessageListener {
+
+    /** 차단 이벤트 전파 채널 */
+    public static final String PENALTY_CHANNEL = "rate-limit:penalty";
+
+    /** 메시지 필드 구분자 (IPv6 주소에 ':' 가 포함되므로 사용하지 않음) */
+    private static final char SEPARATOR = '|';
+
+    private final RateLimitingConfig rateLimitingConfig;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String nodeId;
+
+    private final Map<String, Long> penalties = new ConcurrentHashMap<>();
+    private final Map<String, StrikeWindow> strikes = new ConcurrentHashMap<>();
+
+    private final Counter blockedCounter;
+    private final Counter penalizedCounter;
+
+    public PenaltyBox(RateLimitingConfig rateLimitingConfig,
+                      StringRedisTemplate stringRedisTemplate,
+                      RedisMessageListenerContainer listenerContainer,
+                      NodeIdentity nodeIdentity,
+                      MeterRegistry meterRegistry) {
+        this.rateLimitingConfig = rateLimitingConfig;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.nodeId = nodeIdentity.getNodeId();
+        this.blockedCounter = Counter.builder("rate_limit.penalty_box.blocked")
+                .description("페널티 박스로 즉시 거부된 요청 수")
+                .register(meterRegistry);
+        this.penalizedCounter = Counter.builder("rate_limit.penalty_box.penalized")
+                .description("이 노드에서 페널티 박스에 등록한 IP 수")
+                .register(meterRegistry);
+        Gauge.builder("rate_limit.penalty_box.size", penalties, Map::size)
+                .description("현재 차단 중인 IP 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(PENALTY_CHANNEL));
+    }
+
+    /**
+     * 차단 남은 시간 조회 후 거부 집계 (요청을 실제로 거부하는 지점에서 호출)
+     *
+     * @return 남은 차단 시간(ms), 차단 대상이 아니면 0
+     */
+    public long getRemainingPenaltyMillis(String ip) {
+        long remaining = lookup(ip);
+        if (remaining > 0) {
+            blockedCounter.increment();
+        }
+        return remaining;
+    }
+
+    /**
+     * 차단 여부 조회 (거부 집계 없음, 후속 필터가 거부하는 경우의 사전 확인용)
+     */
+    public boolean isPenalized(String ip) {
+        return lookup(ip) > 0;
+    }
+
+    /**
+     * Rate Limit 거부 기록
+     * 감지 윈도우 안에서 거부 횟수가 임계값에 도달하면 차단 목록에 등록하고 다른 노드에 전파합니다.
+     */
+    public void recordRejection(String ip) {
+        if (ip == null || !isEnabled()) {
+            return;
+        }
+
+        BurstProtection config = rateLimitingConfig.getBurstProtection();
+        long now = System.currentTimeMillis();
+        long windowMillis = config.getDetectionWindowSeconds() * 1000L;
+
+        // compute 는 키 단위로 원자적으로 실행되므로 StrikeWindow 필드를 직접 갱신해도 안전
+        StrikeWindow window = strikes.compute(ip, (key, current) -> {
+            if (current == null || now - current.startedAt >= windowMillis) {
+                return new StrikeWindow(now);
+            }
+            current.count++;
+            return current;
+        });
+
+        if (window.count < config.getEffectiveStrikeThreshold() || !strikes.remove(ip, window)) {
+            return;
+        }
+
+        long until = now + config.getPenaltySeconds() * 1000L;
+        if (penalize(ip, until)) {
+            penalizedCounter.increment();
+            log.warn("[Penalty Box] IP 차단 - IP: {}, 거부 횟수: {}회/{}초, 차단 시간: {}초",
+                    ip, window.count, config.getDetectionWindowSeconds(), config.getPenaltySeconds());
+            publish(ip, until);
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 차단 이벤트 수신
+     * 메시지 형식: {ip}|{차단 만료 시각 ms}|{발행 노드}
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int first = body.indexOf(SEPARATOR);
+        int second = body.indexOf(SEPARATOR, first + 1);
+        if (first <= 0 || second <= first) {
+            log.warn("[Penalty Box] 잘못된 차단 이벤트 형식 - 메시지: {}", body);
+            return;
+        }
+
+        if (nodeId.equals(body.substring(second + 1))) {
+            return; // 자기 자신이 발행한 이벤트
+        }
+
+        try {
+            String ip = body.substring(0, first);
+            long until = Long.parseLong(body.substring(first + 1, second));
+            if (until > System.currentTimeMillis() && penalize(ip, until)) {
+                log.info("[Penalty Box] 다른 노드의 차단 이벤트 반영 - IP: {}", ip);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("[Penalty Box] 잘못된 차단 만료 시각 - 메시지: {}", body);
+        }
+    }
+
+    /**
+     * 만료된 차단 항목과 오래된 거부 기록 정리
+     */
+    @Scheduled(fixedDelay = 10_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        long windowMillis = rateLimitingConfig.getBurstProtection().getDetectionWindowSeconds() * 1000L;
+        penalties.values().removeIf(until -> until <= now);
+        strikes.values().removeIf(window -> now - window.startedAt >= windowMillis);
+    }
+
+    /**
+     * 차단 목록 등록 (이미 더 긴 차단이 있으면 유지)
+     * 최대 항목 수를 넘으면 만료 항목을 먼저 정리하고, 그래도 가득 차 있으면 등록하지 않습니다.
+     *
+     * @return 새로 등록되었거나 차단 시간이 늘어났으면 true
+     */
+    private boolean penalize(String ip, long until) {
+        if (!penalties.containsKey(ip) && penalties.size() >= rateLimitingConfig.getBurstProtection().getMaxEntries()) {
+            long now = System.currentTimeMillis();
+            penalties.values().removeIf(expiry -> expiry <= now);
+            if (penalties.size() >= rateLimitingConfig.getBurstProtection().getMaxEntries()) {
+                log.warn("[Penalty Box] 차단 목록이 가득 차 등록을 생략합니다 - IP: {}, 크기: {}", ip, penalties.size());
+                return false;
+            }
+        }
+
+        long applied = penalties.merge(ip, until, Math::max);
+        return applied == until;
+    }
+
+    private long lookup(String ip) {
+        if (ip == null || penalties.isEmpty() || !isEnabled()) {
+            return 0;
+        }
+
+        Long until = penalties.get(ip);
+        if (until == null) {
+            return 0;
+        }
+
+        long remaining = until - System.currentTimeMillis();
+        if (remaining <= 0) {
+            penalties.remove(ip, until);
+            return 0;
+        }
+        return remaining;
+    }
+
+    private void publish(String ip, long until) {
+        try {
+            stringRedisTemplate.convertAndSend(PENALTY_CHANNEL, ip + SEPARATOR + until + SEPARATOR + nodeId);
+        } catch (Exception e) {
+            log.warn("[Penalty Box] 차단 이벤트 전파 실패 (로컬 차단만 적용) - IP: {}, 오류: {}", ip, e.getMessage());
+        }
+    }
+
+    private boolean isEnabled() {
+        return rateLimitingConfig.isEnabled() && rateLimitingConfig.getBurstProtection().isEnabled();
+    }
+
+    /**
+     * IP 별 거부 횟수 집계 윈도우
+     */
+    private static final class StrikeWindow {
+        private final long startedAt;
+        private int count = 1;
+
+        private StrikeWindow(long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.bidflow.global.config.RateLimitingConfig;
+import org.example.bidflow.global.config.RateLimitingConfig.RateLimitAlgorithm;
 import org.example.bidflow.global.config.RedisRateLimitingConfig.RateLimitKeyBuilder;
 import org.springframework.stereotype.Service;
 
@@ -31,6 +32,9 @@ public class RateLimitingService {
     
     /** Rate Limiting 설정 - 제한 정책 및 임계값 관리 */
     private final RateLimitingConfig rateLimitingConfig;
+
+    /** 근사 슬라이딩 윈도우 카운터 - 규칙별 algorithm 이 SLIDING_WINDOW 일 때 사용 */
+    private final SlidingWindowRateLimiter slidingWindowRateLimiter;
     
 
     /**
@@ -44,6 +48,18 @@ public class RateLimitingService {
             return RateLimitResult.allowed();
         }
 
+        RateLimitingConfig.IpBasedLimit ipLimit = rateLimitingConfig.getDefaultIpLimit();
+        if (ipLimit.getAlgorithm() == RateLimitAlgorithm.SLIDING_WINDOW) {
+            return checkSlidingWindow(
+                new String[]{RateLimitKeyBuilder.buildIpKey(ipAddress, "second"),
+                             RateLimitKeyBuilder.buildIpKey(ipAddress, "minute"),
+                             RateLimitKeyBuilder.buildIpKey(ipAddress, "hour")},
+                new int[]{ipLimit.getRequestsPerSecond(), ipLimit.getRequestsPerMinute(), ipLimit.getRequestsPerHour()},
+                new Duration[]{ipLimit.getWindowSizeSecond(), ipLimit.getWindowSizeMinute(), ipLimit.getWindowSizeHour()},
+                null, "IP", ipAddress
+            );
+        }
+
         try {
             // 1단계: 초당 제한 검사 (최우선 - Burst Attack 완전 차단)
             String secondKey = RateLimitKeyBuilder.buildIpKey(ipAddress, "second");
@@ -108,6 +124,20 @@ public class RateLimitingService {
             return RateLimitResult.allowed();
         }
 
+        RateLimitingConfig.UserBasedLimit userLimit = rateLimitingConfig.getUserLimit();
+        if (userLimit.getAlgorithm() == RateLimitAlgorithm.SLIDING_WINDOW) {
+            return checkSlidingWindow(
+                new String[]{RateLimitKeyBuilder.buildUserKey(userUUID, "second"),
+                             RateLimitKeyBuilder.buildUserKey(userUUID, "minute"),
+                             RateLimitKeyBuilder.buildUserKey(userUUID, "hour")},
+                new int[]{userLimit.getAuthenticatedUserRequestsPerSecond(),
+                          userLimit.getAuthenticatedUserRequestsPerMinute(),
+                          userLimit.getAuthenticatedUserRequestsPerHour()},
+                new Duration[]{userLimit.getWindowSizeSecond(), userLimit.getWindowSizeMinute(), userLimit.getWindowSizeHour()},
+                null, "USER", userUUID
+            );
+        }
+
         try {
             // 1단계: 초당 제한 검사 (Burst Attack 방지)
             String secondKey = RateLimitKeyBuilder.buildUserKey(userUUID, "second");
@@ -181,6 +211,17 @@ public class RateLimitingService {
                 apiPath, identifier, apiLimit.getRequestsPerSecond(), 
                 apiLimit.getRequestsPerMinute(), apiLimit.getRequestsPerHour());
 
+        if (apiLimit.getAlgorithm() == RateLimitAlgorithm.SLIDING_WINDOW) {
+            return checkSlidingWindow(
+                new String[]{RateLimitKeyBuilder.buildApiKey(apiPath, identifier, "second"),
+                             RateLimitKeyBuilder.buildApiKey(apiPath, identifier, "minute"),
+                             RateLimitKeyBuilder.buildApiKey(apiPath, identifier, "hour")},
+                new int[]{apiLimit.getRequestsPerSecond(), apiLimit.getRequestsPerMinute(), apiLimit.getRequestsPerHour()},
+                new Duration[]{apiLimit.getWindowSizeSecond(), apiLimit.getWindowSizeMinute(), apiLimit.getWindowSizeHour()},
+                apiLimit, "API", apiPath
+            );
+        }
+
         try {
             // 버킷 생성
             String secondKey = RateLimitKeyBuilder.buildApiKey(apiPath, identifier, "second");
@@ -296,6 +337,42 @@ public class RateLimitingService {
         }
     }
 
+    /**
+     * 메서드 레벨(@RateLimit) 요청 제한 검사
+     * 버킷 설정은 애플리케이션 시작 시 메서드별로 미리 만들어 둔 것을 그대로 사용
+     *
+     * @param key 메서드 Rate Limiting 키
+     * @param configuration 미리 생성된 버킷 설정
+     */
+    public RateLimitResult checkMethodLimit(String key, BucketConfiguration configuration) {
+        if (!rateLimitingConfig.isEnabled()) {
+            return RateLimitResult.allowed();
+        }
+        return checkLimit(key, () -> configuration);
+    }
+
+    /**
+     * 슬라이딩 윈도우 제한 검사 (초/분/시간을 Lua 스크립트 1회로 검사)
+     * 토큰 버킷과 동일한 RateLimitResult 를 반환하며, 오류 시 요청을 허용 (Fail Open)
+     */
+    private RateLimitResult checkSlidingWindow(String[] keys, int[] limits, Duration[] windows,
+                                               RateLimitingConfig.ApiLimit appliedLimit, String limitType,
+                                               String identifier) {
+        try {
+            RateLimitResult result = slidingWindowRateLimiter.check(keys, limits, windows, appliedLimit, limitType);
+            if (!result.isAllowed()) {
+                log.warn("[Rate Limiting] 슬라이딩 윈도우 제한 초과 - 타입: {}, 식별자: {}, 남은 요청: 초({}) 분({}) 시간({})",
+                        limitType, identifier, result.getSecondRemainingTokens(),
+                        result.getMinuteRemainingTokens(), result.getHourRemainingTokens());
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("[Rate Limiting] 슬라이딩 윈도우 검사 중 오류 발생 - 타입: {}, 식별자: {}, 오류: {}",
+                    limitType, identifier, e.getMessage(), e);
+            return RateLimitResult.allowed();
+        }
+    }
+
     /**
      * 공통 제한 검사 로직
      * Redis 기반 분산 토큰 버킷을 사용하여 실제 Rate Limiting 검사 수행
@@ -0,0 +1,120 @@
+package org.example.bidflow.global.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.global.config.RateLimitingConfig;
+import org.example.bidflow.global.service.RateLimitingService.RateLimitResult;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 근사 슬라이딩 윈도우 카운터 (Sliding Window Counter)
+ *
+ * Bucket4j 의 Redis CAS 방식은 "읽기 → 계산 → 조건부 쓰기" 를 낙관적 재시도로 반복하므로,
+ * 하나의 키에 요청이 몰리면(NAT 뒤의 동일 IP 등) 재시도가 폭증합니다.
+ * 이 구현은 초/분/시간 3개 윈도우를 Lua 스크립트 한 번(왕복 1회)으로 원자적으로 검사하고 증가시킵니다.
+ *
+ * 추정 요청 수 = 이전 윈도우 카운트 × (현재 윈도우에서 남은 비율) + 현재 윈도우 카운트
+ * 윈도우 경계에서 고정 윈도우처럼 2배 버스트가 허용되지 않으면서, 키당 정수 카운터 2개만 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlidingWindowRateLimiter {
+
+    /**
+     * KEYS: [윈도우1 현재 키, 윈도우1 이전 키, 윈도우2 현재 키, 윈도우2 이전 키, ...]
+     * ARGV: [현재 시각(ms), 윈도우1 제한, 윈도우1 크기(ms), 윈도우2 제한, 윈도우2 크기(ms), ...]
+     * 반환: [허용 여부(1/0), 재시도 대기(ms), 윈도우1 남은 수, 윈도우2 남은 수, ...]
+     *
+     * 모든 윈도우가 허용할 때만 카운터를 증가시킵니다. (거부된 요청은 카운트하지 않음)
+     */
+    private static final RedisScript<List> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local windows = #KEYS / 2
+            local allowed = 1
+            local retryAfter = 0
+            local result = {0, 0}
+            for i = 1, windows do
+              local limit = tonumber(ARGV[2 * i])
+              local window = tonumber(ARGV[2 * i + 1])
+              local current = tonumber(redis.call('GET', KEYS[2 * i - 1]) or '0')
+              local previous = tonumber(redis.call('GET', KEYS[2 * i]) or '0')
+              local elapsed = now % window
+              local estimated = previous * ((window - elapsed) / window) + current
+              if estimated + 1 > limit then
+                allowed = 0
+                local wait = window - elapsed
+                if current + 1 <= limit and previous > 0 then
+                  wait = math.ceil(window * (1 - (limit - current - 1) / previous)) - elapsed
+                end
+                if wait > retryAfter then
+                  retryAfter = wait
+                end
+                result[2 + i] = math.max(0, math.floor(limit - estimated))
+              else
+                result[2 + i] = math.max(0, math.floor(limit - estimated - 1))
+              end
+            end
+            if allowed == 1 then
+              for i = 1, windows do
+                local window = tonumber(ARGV[2 * i + 1])
+                redis.call('INCR', KEYS[2 * i - 1])
+                redis.call('PEXPIRE', KEYS[2 * i - 1], window * 2)
+              end
+            end
+            result[1] = allowed
+            result[2] = retryAfter
+            return result
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 초/분/시간 3단계 슬라이딩 윈도우 검사
+     *
+     * @param baseKeys 윈도우별 기본 키 (초, 분, 시간 순서)
+     * @param limits 윈도우별 허용 요청 수
+     * @param windows 윈도우별 크기
+     * @param appliedLimit 결과에 포함할 API 제한 설정 (IP/사용자 제한이면 null)
+     * @param limitType 제한 타입 (IP, USER, API)
+     */
+    public RateLimitResult check(String[] baseKeys, int[] limits, Duration[] windows,
+                                 RateLimitingConfig.ApiLimit appliedLimit, String limitType) {
+        long now = System.currentTimeMillis();
+        String[] keys = new String[baseKeys.length * 2];
+        String[] args = new String[1 + baseKeys.length * 2];
+        args[0] = String.valueOf(now);
+
+        for (int i = 0; i < baseKeys.length; i++) {
+            long windowMillis = windows[i].toMillis();
+            long windowStart = now - (now % windowMillis);
+            keys[2 * i] = baseKeys[i] + ":sw:" + windowStart;
+            keys[2 * i + 1] = baseKeys[i] + ":sw:" + (windowStart - windowMillis);
+            args[1 + 2 * i] = String.valueOf(limits[i]);
+            args[2 + 2 * i] = String.valueOf(windowMillis);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Long> result = stringRedisTemplate.execute(SLIDING_WINDOW_SCRIPT, List.of(keys), (Object[]) args);
+        if (result == null || result.size() < 2 + baseKeys.length) {
+            log.warn("[Rate Limiting] 슬라이딩 윈도우 스크립트 결과가 올바르지 않습니다 - Key: {}", baseKeys[0]);
+            return RateLimitResult.allowed();
+        }
+
+        long second = result.get(2);
+        long minute = baseKeys.length > 1 ? result.get(3) : second;
+        long hour = baseKeys.length > 2 ? result.get(4) : minute;
+
+        if (result.get(0) == 1L) {
+            return RateLimitResult.allowed(second, minute, hour, appliedLimit, limitType);
+        }
+        return RateLimitResult.rejected(Duration.ofMillis(Math.max(1, result.get(1))),
+                second, minute, hour, appliedLimit, limitType);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.bidflow.global.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시스템 과부하 신호 수집기
+ * 적응형 동시성 제한(AdaptiveConcurrencyLimiter)의 입력으로 사용할 신호를 주기적으로 측정합니다.
+ *
+ * - DB: HikariCP 커넥션을 기다리는 스레드 수 (getThreadsAwaitingConnection)
+ * - Redis: PING 명령 왕복 지연 시간
+ *
+ * 요청 경로에서는 측정하지 않고, 마지막 측정값(volatile)만 읽도록 하여 오버헤드를 없앱니다.
+ */
+@Slf4j
+@Component
+public class SystemLoadMonitor {
+
+    private final DataSource dataSource;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /** 마지막으로 측정된 DB 커넥션 대기 스레드 수 */
+    private volatile int pendingConnections;
+
+    /** 마지막으로 측정된 Redis PING 지연 (마이크로초) */
+    private volatile long redisLatencyMicros;
+
+    public SystemLoadMonitor(DataSource dataSource, StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.stringRedisTemplate = stringRedisTemplate;
+
+        Gauge.builder("adaptive.concurrency.signal.db.pending", this, monitor -> monitor.pendingConnections)
+                .description("DB 커넥션 대기 스레드 수 (적응형 동시성 제한 신호)")
+                .register(meterRegistry);
+        Gauge.builder("adaptive.concurrency.signal.redis.latency", this, monitor -> monitor.redisLatencyMicros / 1000.0)
+                .description("Redis PING 지연 시간 ms (적응형 동시성 제한 신호)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 과부하 신호 측정 (1초 주기)
+     */
+    @Scheduled(fixedRate = 1000)
+    public void sample() {
+        pendingConnections = samplePendingConnections();
+        redisLatencyMicros = sampleRedisLatencyMicros();
+    }
+
+    public int getPendingConnections() {
+        return pendingConnections;
+    }
+
+    public long getRedisLatencyMillis() {
+        return TimeUnit.MICROSECONDS.toMillis(redisLatencyMicros);
+    }
+
+    private int samplePendingConnections() {
+        if (!(dataSource instanceof HikariDataSource hikariDataSource)) {
+            return 0;
+        }
+        HikariPoolMXBean poolMXBean = hikariDataSource.getHikariPoolMXBean();
+        return poolMXBean != null ? poolMXBean.getThreadsAwaitingConnection() : 0;
+    }
+
+    private long sampleRedisLatencyMicros() {
+        long start = System.nanoTime();
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) RedisConnection::ping);
+            return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        } catch (Exception e) {
+            // Redis 장애는 과부하 신호로 보지 않음 (Rate Limiting 과 동일한 Fail Open 정책)
+            log.warn("[System Load] Redis 지연 측정 실패: {}", e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package org.example.bidflow.global.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.bidflow.global.app.NodeIdentity;
+import org.example.bidflow.global.messaging.dto.MessagePayload;
+import org.example.bidflow.global.messaging.listener.MessageListener;
+import org.example.bidflow.global.messaging.publisher.MessagePublisher;
+import org.example.bidflow.global.utils.DigestBloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰 폐기 목록 (노드 로컬, Redis Pub/Sub 으로 전파)
+ *
+ * WebSocket 세션은 연결 시 한 번만 토큰을 검증하므로, 연결 이후 로그아웃된 토큰은
+ * 메시지마다 Redis 블랙리스트를 조회하지 않고 이 목록(메모리 Map)으로 확인합니다.
+ *
+ * - 로그아웃 시: 토큰 다이제스트 → 만료 시각을 등록하고 채널(auth:revoked)로 발행
+ * - 다른 노드: 구독하여 자기 목록에 추가 (자기 자신이 발행한 메시지는 무시)
+ * - 토큰 만료 시각이 지난 항목은 주기적으로 정리 (만료된 토큰은 어차피 거부됨)
+ *
+ * 노드 기동 이전에 폐기된 토큰은 이 목록에 없으므로 연결 시점에는 Redis 블랙리스트를 함께 확인합니다.
+ *
+ * HTTP 요청의 블랙리스트 확인용으로 전체 폐기 토큰의 블룸 필터도 함께 유지합니다.
+ * - Redis 블랙리스트 전체(SCAN)로 주기적으로 다시 만들고, 그 사이 폐기는 위 전파 경로로 추가
+ * - 필터에 없는 토큰(대부분의 요청)은 Redis 조회를 생략하고, 필터에 있으면 Redis 로 확정 (오탐 가능)
+ * - 첫 구성 전(또는 SCAN 실패 시)에는 모든 토큰을 "있을 수 있음"으로 답해 기존처럼 Redis 로 확인
+ * - 폐기 채널을 다시 구독하면(Redis 재연결) 끊긴 동안의 전파를 놓쳤을 수 있으므로 필터를 버리고 재구성 전까지 Redis 로 확인
+ * - 구독 메시지 대기열이 가득 차 메시지가 버려진 경우도 같음 (RedisConfig, 버려진 메시지가 폐기 이벤트였을 수 있음)
+ */
+@Slf4j
+@Service
+public class TokenRevocationRegistry implements MessageListener {
+
+    /** 토큰 폐기 전파 채널 */
+    public static final String REVOCATION_CHANNEL = "auth:revoked";
+
+    /** 이벤트 타입 */
+    public static final String EVENT_TYPE = "TOKEN_REVOKED";
+
+    /** 메시지 필드 구분자 ({다이제스트}|{만료 시각 ms}) */
+    private static final char SEPARATOR = '|';
+
+    private final MessagePublisher<MessagePayload> messagePublisher;
+    private final String nodeId;
+
+    private final long bloomExpectedEntries;
+    private final double bloomFalsePositiveRate;
+
+    /** 토큰 다이제스트 → 토큰 만료 시각(ms) */
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    /** 전체 폐기 토큰 블룸 필터 (null 이면 아직 구성 전 또는 재구독으로 폐기됨) */
+    private volatile DigestBloomFilter revokedFilter;
+
+    /** 폐기 채널 구독 횟수 (재구성 중 재구독이 일어나면 그 재구성 결과는 버림) */
+    private long filterEpoch;
+
+    public TokenRevocationRegistry(MessagePublisher<MessagePayload> messagePublisher,
+                                   NodeIdentity nodeIdentity,
+                                   @Value("${jwt.blacklist.bloom-expected-entries:100000}") long bloomExpectedEntries,
+                                   @Value("${jwt.blacklist.bloom-false-positive-rate:0.001}") double bloomFalsePositiveRate) {
+        this.messagePublisher = messagePublisher;
+        this.nodeId = nodeIdentity.getNodeId();
+        this.bloomExpectedEntries = bloomExpectedEntries;
+        this.bloomFalsePositiveRate = bloomFalsePositiveRate;
+    }
+
+    /**
+     * 토큰 폐기 등록 후 다른 노드에 전파
+     */
+    public void revoke(String tokenDigest, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return; // 이미 만료된 토큰
+        }
+
+        add(tokenDigest, expiresAtMillis);
+        try {
+            messagePublisher.publish(REVOCATION_CHANNEL,
+                    new MessagePayload(EVENT_TYPE, nodeId, tokenDigest + SEPARATOR + expiresAtMillis, null, null));
+        } catch (Exception e) {
+            log.warn("[Token Revocation] 폐기 이벤트 발행 실패 (이 노드에만 반영됨) - 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 폐기된 토큰 여부 (메모리 조회만 수행)
+     */
+    public boolean isRevoked(String tokenDigest) {
+        if (tokenDigest == null || revoked.isEmpty()) {
+            return false;
+        }
+        Long expiresAt = revoked.get(tokenDigest);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 폐기되었을 수 있는 토큰인지 (false 이면 확실히 폐기되지 않음, true 이면 Redis 블랙리스트로 확인 필요)
+     */
+    public boolean mightBeRevoked(String tokenDigest) {
+        DigestBloomFilter filter = revokedFilter;
+        return filter == null || filter.mightContain(tokenDigest);
+    }
+
+    /**
+     * 블룸 필터 재구성이 필요한지 (아직 구성 전이거나 재구독으로 버려짐)
+     */
+    public boolean needsFilterRebuild() {
+        return revokedFilter == null;
+    }
+
+    /**
+     * 재구성 시작 시점의 구독 횟수 (SCAN 전에 읽어 rebuildFilter 에 전달)
+     */
+    public synchronized long filterEpoch() {
+        return filterEpoch;
+    }
+
+    /**
+     * 블룸 필터 교체 (현재 구독 기준)
+     */
+    public void rebuildFilter(Collection<String> tokenDigests) {
+        rebuildFilter(tokenDigests, filterEpoch());
+    }
+
+    /**
+     * 블룸 필터 교체 (Redis 블랙리스트 전체 다이제스트로 새로 구성, 만료되어 사라진 토큰은 제외됨)
+     * 구성 중 전파된 폐기가 빠지지 않도록 교체 후 메모리 목록을 다시 추가합니다.
+     * SCAN 이후 폐기 채널을 다시 구독했다면 그 사이 폐기가 빠졌을 수 있으므로 교체하지 않습니다.
+     *
+     * @param epoch SCAN 시작 전에 읽은 filterEpoch()
+     * @return 필터를 교체했으면 true
+     */
+    public boolean rebuildFilter(Collection<String> tokenDigests, long epoch) {
+        DigestBloomFilter filter = new DigestBloomFilter(
+                Math.max(bloomExpectedEntries, tokenDigests.size() * 2L), bloomFalsePositiveRate);
+        tokenDigests.forEach(filter::put);
+        synchronized (this) {
+            if (epoch != filterEpoch) {
+                log.info("[Token Revocation] 재구성 중 폐기 채널 재구독, 구성 결과 폐기 - 폐기 토큰: {}", tokenDigests.size());
+                return false;
+            }
+            revokedFilter = filter;
+        }
+        revoked.keySet().forEach(filter::put);
+        log.info("[Token Revocation] 블랙리스트 필터 구성 완료 - 폐기 토큰: {}, 비트: {}, 해시: {}",
+                tokenDigests.size(), filter.bitCount(), filter.hashCount());
+        return true;
+    }
+
+    @Override
+    public String getTopic() {
+        return REVOCATION_CHANNEL;
+    }
+
+    /**
+     * 폐기 채널 (재)구독 완료
+     * 구독이 끊긴 동안 다른 노드의 폐기 전파를 놓쳤을 수 있으므로 필터를 버리고,
+     * JwtBlacklistService 가 다시 구성할 때까지 모든 토큰을 Redis 블랙리스트로 확인합니다.
+     */
+    @Override
+    public void onSubscribed() {
+        discardFilter("폐기 채널 구독");
+    }
+
+    /**
+     * 폐기 전파를 놓쳤을 수 있을 때 블룸 필터를 버림 (재구독, 구독 메시지 폐기)
+     * 진행 중인 재구성 결과도 버리고, 다음 재구성 전까지 모든 토큰을 Redis 블랙리스트로 확인합니다.
+     */
+    public void discardFilter(String reason) {
+        synchronized (this) {
+            filterEpoch++;
+            revokedFilter = null;
+        }
+        log.info("[Token Revocation] 블랙리스트 필터 폐기, 재구성 대기 - 사유: {}", reason);
+    }
+
+    /**
+     * 다른 노드에서 발행한 폐기 이벤트 수신
+     */
+    @Override
+    public void handleMessage(MessagePayload payload) {
+        if (!EVENT_TYPE.equals(payload.getEventType()) || nodeId.equals(payload.getSender())) {
+            return; // 자기 노드에서 이미 반영한 이벤트
+        }
+
+        String data = String.valueOf(payload.getData());
+        int separator = data.indexOf(SEPARATOR);
+        if (separator <= 0) {
+            log.warn("[Token Revocation] 잘못된 폐기 이벤트 형식 - 발신 노드: {}", payload.getSender());
+            return;
+        }
+
+        try {
+            long expiresAt = Long.parseLong(data.substring(separator + 1));
+            if (expiresAt > System.currentTimeMillis()) {
+                add(data.substring(0, separator), expiresAt);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("[Token Revocation] 잘못된 만료 시각 - 발신 노드: {}", payload.getSender());
+        }
+    }
+
+    /**
+     * 토큰 만료 시각이 지난 항목 정리
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    // 메모리 목록과 블룸 필터에 함께 등록 (목록 먼저: 필터 교체 시 목록에서 다시 추가됨)
+    private void add(String tokenDigest, long expiresAtMillis) {
+        revoked.merge(tokenDigest, expiresAtMillis, Math::max);
+        DigestBloomFilter filter = revokedFilter;
+        if (filter != null) {
+            filter.put(tokenDigest);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.bidflow.global.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 클라이언트 IP 추출 유틸리티
+ * 프록시, 로드밸런서 환경을 고려하여 실제 클라이언트 IP 를 추출합니다.
+ * 모든 요청 경로(HTTP 필터, WebSocket Handshake)에서 같은 기준으로 IP 를 식별하기 위해 사용합니다.
+ */
+public final class ClientIpUtil {
+
+    private static final String[] IP_HEADERS = {
+            "X-Forwarded-For", // ALB, 프록시 환경 (첫 번째 IP 가 실제 클라이언트)
+            "X-Real-IP",       // Nginx 프록시
+            "X-Forwarded",     // 일반적인 프록시
+            "Forwarded-For"    // 표준 RFC 7239
+    };
+
+    private ClientIpUtil() {
+    }
+
+    /**
+     * 클라이언트 IP 주소 추출
+     * 프록시 헤더가 없으면 remote address 를 사용합니다.
+     */
+    public static String getClientIp(HttpServletRequest request) {
+        for (String header : IP_HEADERS) {
+            String value = request.getHeader(header);
+            if (value != null && !value.isEmpty() && !"unknown".equalsIgnoreCase(value)) {
+                int comma = value.indexOf(',');
+                return (comma >= 0 ? value.substring(0, comma) : value).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.bidflow.global.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 프로세스 내부(In-Memory) 블룸 필터 - {@link TokenDigest} 다이제스트 전용
+ *
+ * "확실히 없음" 또는 "있을 수도 있음"만 답하므로, 없다고 답한 항목은 원격 저장소(Redis) 확인을 생략할 수 있습니다.
+ * 입력이 이미 SHA-256 hex 이므로 별도 해시 없이 앞 128비트를 두 개의 64비트 해시로 사용하고
+ * (Kirsch-Mitzenmacher 이중 해싱) k 개의 비트 위치를 계산합니다.
+ *
+ * 항목 삭제는 지원하지 않으므로, 만료된 항목을 덜어내려면 새 필터를 만들어 교체합니다.
+ * 비트 설정은 CAS 로 처리되어 여러 스레드가 동시에 추가 / 조회해도 안전합니다.
+ */
+public final class DigestBloomFilter {
+
+    /** 비트 배열 (long 하나에 64비트) */
+    private final AtomicLongArray words;
+
+    /** 전체 비트 수 */
+    private final long bitCount;
+
+    /** 항목당 해시 함수 수 */
+    private final int hashCount;
+
+    /**
+     * @param expectedEntries   예상 항목 수 (넘으면 오탐률이 점점 높아짐)
+     * @param falsePositiveRate 목표 오탐률 (0 ~ 1)
+     */
+    public DigestBloomFilter(long expectedEntries, double falsePositiveRate) {
+        if (expectedEntries <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedEntries 는 0보다 크고 falsePositiveRate 는 0과 1 사이여야 합니다.");
+        }
+        // m = -n ln p / (ln 2)^2, k = m / n * ln 2
+        long bits = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEntries * Math.log(2)));
+    }
+
+    /**
+     * 다이제스트 추가
+     */
+    public void put(String digest) {
+        long h1 = hash(digest, 0);
+        long h2 = hash(digest, 16) | 1; // 홀수로 만들어 비트 위치가 한쪽으로 몰리지 않도록
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            long mask = 1L << bit;
+            int index = (int) (bit >>> 6);
+            long word = words.get(index);
+            while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                word = words.get(index);
+            }
+        }
+    }
+
+    /**
+     * 다이제스트가 추가되었을 수 있는지 (false 이면 확실히 추가된 적 없음)
+     */
+    public boolean mightContain(String digest) {
+        long h1 = hash(digest, 0);
+        long h2 = hash(digest, 16) | 1; // 홀수로 만들어 비트 위치가 한쪽으로 몰리지 않도록
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    // hex 16자(64비트)를 부호 없는 long 으로 해석
+    private static long hash(String digest, int offset) {
+        return Long.parseUnsignedLong(digest, offset, offset + 16, 16);
+    }
+}
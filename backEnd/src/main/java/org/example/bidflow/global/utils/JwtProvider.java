@@ -1,13 +1,18 @@
 package org.example.bidflow.global.utils;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+@Slf4j
 @Component
 public class JwtProvider {
 
@@ -17,8 +22,25 @@ public class JwtProvider {
     @Value("${jwt.expiration-time}")
     private Long EXPIRATION_TIME;
 
+    // 노드당 검증 결과 캐시 최대 항목 수 (가득 차면 만료 항목 정리 후에도 가득 찬 경우 캐시 없이 검증만 수행)
+    @Value("${jwt.claims-cache.max-entries:10000}")
+    private int claimsCacheMaxEntries;
+
+    // 캐시가 가득 찼을 때 만료 항목 전체 정리(O(n)) 최소 간격 (그 사이의 저장 요청은 정리 없이 생략)
+    @Value("${jwt.claims-cache.purge-interval-ms:1000}")
+    private long claimsCachePurgeIntervalMillis;
+
     private SecretKey secretKey; // 지연 초기화를 위해 final 제거
 
+    // 불변 / 스레드 안전한 파서를 한 번만 생성해 재사용
+    private volatile JwtParser jwtParser;
+
+    // 토큰 다이제스트 → 검증된 클레임 (토큰 만료 시각까지만 유효, 원본 토큰은 보관하지 않음)
+    private final Map<String, VerifiedClaims> verifiedClaims = new ConcurrentHashMap<>();
+
+    // 가득 찬 캐시를 마지막으로 정리한 시각 (정리는 간격당 한 스레드만 수행)
+    private final AtomicLong lastFullPurgeAt = new AtomicLong();
+
     // SecretKey 지연 초기화 메서드
     private SecretKey getSecretKey() {
         if (secretKey == null) {
@@ -27,6 +49,16 @@ public class JwtProvider {
         return secretKey;
     }
 
+    // JwtParser 지연 초기화 메서드
+    private JwtParser getParser() {
+        if (jwtParser == null) {
+            jwtParser = Jwts.parser()
+                    .verifyWith(getSecretKey()) // secretKey로 JWT 서명 검증
+                    .build();
+        }
+        return jwtParser;
+    }
+
     // JWT 토큰을 생성하는 메서드
     public String generateToken(Map<String, Object> claims, String email) {
         return Jwts.builder()
@@ -41,49 +73,102 @@ public class JwtProvider {
     // JWT 파싱
     public Claims parseClaims(String token) {
 
-        // Jwts.parser()를 사용하여 JWT 파싱
-        return Jwts.parser()
-                .verifyWith(getSecretKey()) // secretKey로 JWT 서명 검증
-                .build() // 빌드하여 실제 파서 객체 생성
+        // 재사용 파서로 JWT 파싱 (검증 캐시를 거치지 않음)
+        return getParser()
                 .parseSignedClaims(token) // 서명된 JWT를 파싱하여 claims를 추출
                 .getPayload(); // JWT에서 payload (실제 데이터)를 반환
     }
 
+    /**
+     * 검증된 클레임 조회 (같은 토큰은 노드당 만료 시각까지 한 번만 서명 검증)
+     * 만료 / 서명 오류 등 검증 실패 시 JwtException 을 그대로 던지며, 실패 결과는 캐시하지 않음
+     */
+    public VerifiedClaims verify(String token) {
+        long now = System.currentTimeMillis();
+        String digest = TokenDigest.sha256(token);
+        VerifiedClaims cached = verifiedClaims.get(digest);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            verifiedClaims.remove(digest, cached);
+        }
+
+        Claims claims = parseClaims(token); // 만료된 토큰은 ExpiredJwtException
+        Date expiration = claims.getExpiration();
+        VerifiedClaims verified = new VerifiedClaims(claims.getSubject(),
+                claims.get("userUUID", String.class),
+                claims.get("nickname", String.class),
+                claims.get("role", String.class),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+        if (expiration != null) {
+            cache(digest, verified, now); // 만료 시각이 없는 토큰은 캐시 수명을 정할 수 없으므로 매번 검증
+        }
+        return verified;
+    }
+
+    /**
+     * 검증된 클레임 조회 (검증 실패 시 null)
+     */
+    public VerifiedClaims findVerifiedClaims(String token) {
+        try {
+            return verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     // userUUID 직접 반환
     public String parseUserUUID(String token) {
-        return parseClaims(token).get("userUUID", String.class); // 자동으로 userUUID 파싱
+        return verify(token).userUUID();
     }
 
     // nickname 직접 반환
     public String parseNickname(String token) {
-        return parseClaims(token).get("nickname", String.class); // 자동으로 nickname 파싱
+        return verify(token).nickname();
     }
 
     public String parseRole(String token) {
-        return parseClaims(token).get("role", String.class);
+        return verify(token).role();
     }
 
 
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
-        try {
-            // JWT의 유효성을 검증하는 메서드
-            // Jwts.parser()로 토큰 파싱 및 서명 검증을 진행`
-            // secretKey로 JWT 서명을 검증하여 유효한 토큰인지 확인
-            Jwts.parser()
-                    .verifyWith(getSecretKey()) // SecretKey 검증
-                    .build() // 빌드하여 실제 파서 객체 생성
-                    .parseSignedClaims(token); // JWT 파싱 및 서명 검증`
-
-            return true; // 검증 성공 (유효한 토큰)
-        } catch (JwtException | IllegalArgumentException e) {
-            // 예외 발생 시 잘못된 토큰, 만료된 토큰 등
-            return false; // 검증 실패 (잘못된 토큰)
-        }
+        // 잘못된 토큰, 만료된 토큰 등은 false (검증 성공 결과는 캐시되어 이후 조회는 서명 검증 생략)
+        return findVerifiedClaims(token) != null;
     }
 
     // JWT에서 username (subject) 추출
     public String getUsername(String token) {
-        return parseClaims(token).getSubject();
+        return verify(token).subject();
+    }
+
+    /**
+     * 토큰 만료 시각이 지난 검증 캐시 항목 정리
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpiredClaims() {
+        long now = System.currentTimeMillis();
+        verifiedClaims.values().removeIf(claims -> claims.isExpired(now));
+    }
+
+    /**
+     * 검증 캐시 저장
+     * 최대 항목 수를 넘으면 만료 항목을 먼저 정리하고, 그래도 가득 차 있으면 저장하지 않습니다.
+     * 정리는 purge-interval-ms 마다 한 번만 수행합니다. (가득 찬 상태에서 캐시 미스마다 전체 순회하지 않도록)
+     */
+    private void cache(String digest, VerifiedClaims claims, long now) {
+        if (verifiedClaims.size() >= claimsCacheMaxEntries) {
+            long lastPurge = lastFullPurgeAt.get();
+            if (now - lastPurge >= claimsCachePurgeIntervalMillis && lastFullPurgeAt.compareAndSet(lastPurge, now)) {
+                verifiedClaims.values().removeIf(cached -> cached.isExpired(now));
+            }
+            if (verifiedClaims.size() >= claimsCacheMaxEntries) {
+                log.debug("[JWT] 검증 캐시가 가득 차 저장을 생략합니다 - 크기: {}", verifiedClaims.size());
+                return;
+            }
+        }
+        verifiedClaims.put(digest, claims);
     }
 }
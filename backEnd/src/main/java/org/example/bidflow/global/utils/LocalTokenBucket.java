@@ -0,0 +1,73 @@
+package org.example.bidflow.global.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로세스 내부(In-Memory) 토큰 버킷
+ * Redis 왕복 없이 메시지 단위의 빠른 제한이 필요한 곳(STOMP 인바운드 채널 등)에서 사용합니다.
+ *
+ * GCRA(Generic Cell Rate Algorithm) 방식으로 구현되어 있어
+ * 토큰 수 대신 "다음 토큰이 이론적으로 도착하는 시각(TAT)" 하나만 관리합니다.
+ * 따라서 소비 시점에 객체 할당이 없고, CAS 한 번으로 동시성 처리가 끝납니다.
+ */
+public final class LocalTokenBucket {
+
+    /** 토큰 1개가 보충되는 간격 (나노초) */
+    private final long emissionIntervalNanos;
+
+    /** 버스트 허용량 (capacity 개의 토큰을 한 번에 소비할 수 있는 시간 폭) */
+    private final long burstToleranceNanos;
+
+    /** 이론적 도착 시각 (Theoretical Arrival Time) */
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param permitsPerSecond 초당 보충되는 토큰 수
+     * @param capacity 버킷 최대 용량 (버스트 허용 개수)
+     */
+    public LocalTokenBucket(double permitsPerSecond, int capacity) {
+        if (permitsPerSecond <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond 와 capacity 는 0보다 커야 합니다.");
+        }
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * 토큰 1개 소비 시도
+     *
+     * @return 소비 성공 여부
+     */
+    public boolean tryConsume() {
+        return tryConsume(System.nanoTime());
+    }
+
+    /**
+     * 지정한 시각 기준으로 토큰 1개 소비 시도 (테스트 및 시각 재사용용)
+     *
+     * @param nowNanos {@link System#nanoTime()} 기준 현재 시각
+     * @return 소비 성공 여부
+     */
+    public boolean tryConsume(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = Math.max(tat, nowNanos);
+            if (base - nowNanos > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(tat, base + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 마지막 사용 이후 지정 시간 이상 지났는지 여부 (유휴 버킷 정리용)
+     * 버킷이 가득 찬 상태로 idleNanos 이상 유지되었다면 제거해도 동작에 차이가 없습니다.
+     */
+    public boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - theoreticalArrival.get() > idleNanos;
+    }
+}
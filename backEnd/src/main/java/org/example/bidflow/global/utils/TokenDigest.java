@@ -0,0 +1,29 @@
+package org.example.bidflow.global.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 다이제스트 유틸리티
+ * 원본 JWT 문자열을 메모리/Redis 메시지에 보관하지 않고 토큰을 식별하기 위해 SHA-256 해시(hex)를 사용합니다.
+ */
+public final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    /**
+     * 토큰의 SHA-256 다이제스트 (소문자 hex, 64자)
+     */
+    public static String sha256(String token) {
+        try {
+            // MessageDigest 는 스레드 안전하지 않으므로 호출마다 생성 (생성 비용은 작음)
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.bidflow.global.utils;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임 (불변)
+ * 검증 캐시에 보관되어 여러 요청 / 스레드가 공유하므로 필요한 값만 복사해 둡니다.
+ *
+ * @param subject         이메일 (subject)
+ * @param userUUID        사용자 UUID
+ * @param nickname        닉네임
+ * @param role            권한 (ROLE_USER / ROLE_ADMIN)
+ * @param expiresAtMillis 토큰 만료 시각 (ms)
+ */
+public record VerifiedClaims(String subject, String userUUID, String nickname, String role, long expiresAtMillis) {
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
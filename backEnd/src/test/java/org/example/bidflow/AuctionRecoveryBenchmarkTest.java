@@ -0,0 +1,292 @@
+package org.example.bidflow;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 서버 시작 시 경매 상태 / 스케줄 복구 벤치마크 테스트 클래스
+ *
+ * 목적:
+ * - 종료된 경매가 100만 개 쌓인 상태에서 AuctionScheduleInitializer 복구 시간을 기존 방식과 비교
+ *   · 기존: findAll() 로 전체 경매 적재 (행마다 상품 / 낙찰자 조회) → 행마다 상태 판단 후 UPDATE → 스케줄 대상 조회
+ *   · 개선: 상태 전환 UPDATE 3회 → 스케줄 대상만 ID 순서 페이지(keyset)로 필요한 컬럼만 조회
+ *
+ * 측정 방법:
+ * - H2 인메모리 DB (MySQL 모드)에 경매 / 상품 / 낙찰자 테이블과 운영과 같은 (STATUS, 시각) 인덱스를 만들고 JDBC 로 두 방식 실행
+ * - 두 방식의 상태 수정 건수 / 스케줄 대상 수 / 최종 상태 분포가 같은지 확인
+ *
+ * ⚠️ 중요: JPA 영속성 컨텍스트 / 네트워크 왕복 비용은 포함하지 않으므로 실제 MySQL 에서는 기존 방식의 차이가 더 큽니다.
+ * 실제 서비스 / 리포지토리 쿼리의 결과는 AuctionRecoveryTest 에서 확인하며, 이 벤치마크는 ./gradlew benchmark 로만 실행됩니다.
+ */
+public class AuctionRecoveryBenchmarkTest {
+
+    private static final int HISTORICAL_AUCTIONS = 1_000_000; // 종료되어 낙찰자까지 저장된 경매
+    private static final int STALE_AUCTIONS = 2_000;          // 서버가 꺼져 있는 동안 시작 / 종료 시각이 지난 경매
+    private static final int ACTIVE_AUCTIONS = 5_000;         // 스케줄 복구 대상 경매
+    private static final int BATCH_SIZE = 1_000;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Tag("benchmark")
+    @Test
+    public void benchmarkStartupRecovery() throws Exception {
+        System.out.println("🚀 서버 시작 복구 벤치마크 시작...");
+        System.out.printf("   종료 경매: %,d, 상태 수정 대상: %,d, 스케줄 대상: %,d%n",
+                HISTORICAL_AUCTIONS, STALE_AUCTIONS, ACTIVE_AUCTIONS);
+
+        RecoveryResult legacy;
+        try (Connection connection = open("recovery-legacy")) {
+            populate(connection);
+            legacy = legacyRecovery(connection);
+        }
+
+        RecoveryResult bulk;
+        try (Connection connection = open("recovery-bulk")) {
+            populate(connection);
+            bulk = bulkRecovery(connection);
+        }
+
+        System.out.printf("📊 기존 (전체 적재 + 행 단위 UPDATE): %,d ms (적재 행 %,d, 추가 조회 %,d회)%n",
+                legacy.elapsedMillis, legacy.loadedRows, legacy.extraQueries);
+        System.out.printf("📊 개선 (일괄 UPDATE + keyset 조회): %,d ms (적재 행 %,d, 페이지 조회 %,d회)%n",
+                bulk.elapsedMillis, bulk.loadedRows, bulk.extraQueries);
+
+        assertEquals(STALE_AUCTIONS, legacy.fixed, "기존 방식 상태 수정 건수");
+        assertEquals(legacy.fixed, bulk.fixed, "상태 수정 건수가 같아야 합니다.");
+        assertEquals(legacy.scheduled, bulk.scheduled, "스케줄 대상 수가 같아야 합니다.");
+        assertEquals(legacy.statusCounts, bulk.statusCounts, "복구 후 상태 분포가 같아야 합니다.");
+        System.out.println("✅ 서버 시작 복구 벤치마크 완료!");
+    }
+
+    /**
+     * 기존 방식: 하나의 트랜잭션에서 전체 경매를 엔티티처럼 적재 (EAGER 상품 / 낙찰자 조회 포함) 후 행 단위 처리
+     */
+    private RecoveryResult legacyRecovery(Connection connection) throws Exception {
+        long start = System.nanoTime();
+        connection.setAutoCommit(false);
+
+        List<Object[]> auctions = new ArrayList<>();
+        long extraQueries = 0;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT AUCTION_ID, PRODUCT_ID, START_PRICE, MIN_BID, START_TIME, END_TIME, STATUS FROM AUCTION_TABLE");
+             PreparedStatement product = connection.prepareStatement(
+                     "SELECT PRODUCT_ID, PRODUCT_NAME FROM PRODUCT_TABLE WHERE PRODUCT_ID = ?");
+             PreparedStatement winner = connection.prepareStatement(
+                     "SELECT WINNER_ID, WINNING_BID FROM WINNER_TABLE WHERE AUCTION_ID = ?")) {
+            while (rs.next()) {
+                long auctionId = rs.getLong(1);
+                Object[] row = {auctionId, rs.getLong(2), rs.getInt(3), rs.getInt(4),
+                        rs.getTimestamp(5).toLocalDateTime(), rs.getTimestamp(6).toLocalDateTime(), rs.getString(7), null, null};
+                row[7] = fetchFirst(product, (Long) row[1]);
+                row[8] = fetchFirst(winner, auctionId);
+                extraQueries += 2;
+                auctions.add(row);
+            }
+        }
+
+        int fixed = 0;
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE AUCTION_TABLE SET STATUS = ? WHERE AUCTION_ID = ?")) {
+            for (Object[] auction : auctions) {
+                String status = (String) auction[6];
+                LocalDateTime startTime = (LocalDateTime) auction[4];
+                LocalDateTime endTime = (LocalDateTime) auction[5];
+                String newStatus = null;
+                if ("UPCOMING".equals(status) && startTime.isBefore(NOW)) {
+                    newStatus = endTime.isBefore(NOW) ? "FINISHED" : "ONGOING";
+                } else if ("ONGOING".equals(status) && endTime.isBefore(NOW)) {
+                    newStatus = "FINISHED";
+                }
+                if (newStatus != null) {
+                    update.setString(1, newStatus);
+                    update.setLong(2, (Long) auction[0]);
+                    update.executeUpdate();
+                    fixed++;
+                }
+            }
+        }
+
+        int scheduled = 0;
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT a.AUCTION_ID, a.STATUS, a.START_TIME, a.END_TIME, p.PRODUCT_NAME FROM AUCTION_TABLE a " +
+                "JOIN PRODUCT_TABLE p ON p.PRODUCT_ID = a.PRODUCT_ID " +
+                "WHERE a.STATUS IN ('UPCOMING', 'ONGOING') AND (a.START_TIME > ? OR a.END_TIME > ?)")) {
+            select.setTimestamp(1, Timestamp.valueOf(NOW));
+            select.setTimestamp(2, Timestamp.valueOf(NOW));
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    if (shouldSchedule(rs.getString(2), rs.getTimestamp(3), rs.getTimestamp(4))) {
+                        scheduled++;
+                    }
+                }
+            }
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return new RecoveryResult(elapsedMillis, auctions.size(), extraQueries, fixed, scheduled, statusCounts(connection));
+    }
+
+    /**
+     * 개선 방식: AuctionLifecycleService.recoverPastStatuses + AuctionRepository.findScheduleTargetsAfter 와 같은 SQL
+     */
+    private RecoveryResult bulkRecovery(Connection connection) throws Exception {
+        long start = System.nanoTime();
+
+        connection.setAutoCommit(false);
+        int fixed = bulkUpdate(connection, "UPDATE AUCTION_TABLE SET STATUS = 'FINISHED' WHERE STATUS = 'UPCOMING' AND END_TIME < ?")
+                + bulkUpdate(connection, "UPDATE AUCTION_TABLE SET STATUS = 'ONGOING' WHERE STATUS = 'UPCOMING' AND START_TIME < ?")
+                + bulkUpdate(connection, "UPDATE AUCTION_TABLE SET STATUS = 'FINISHED' WHERE STATUS = 'ONGOING' AND END_TIME < ?");
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        int scheduled = 0;
+        long loadedRows = 0;
+        long pages = 0;
+        long lastId = 0;
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT AUCTION_ID, STATUS, START_TIME, END_TIME FROM AUCTION_TABLE " +
+                "WHERE AUCTION_ID > ? AND STATUS IN ('UPCOMING', 'ONGOING') AND (START_TIME > ? OR END_TIME > ?) " +
+                "ORDER BY AUCTION_ID LIMIT ?")) {
+            while (true) {
+                select.setLong(1, lastId);
+                select.setTimestamp(2, Timestamp.valueOf(NOW));
+                select.setTimestamp(3, Timestamp.valueOf(NOW));
+                select.setInt(4, BATCH_SIZE);
+                int pageSize = 0;
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        lastId = rs.getLong(1);
+                        if (shouldSchedule(rs.getString(2), rs.getTimestamp(3), rs.getTimestamp(4))) {
+                            scheduled++;
+                        }
+                        pageSize++;
+                    }
+                }
+                pages++;
+                loadedRows += pageSize;
+                if (pageSize < BATCH_SIZE) {
+                    break;
+                }
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return new RecoveryResult(elapsedMillis, loadedRows, pages, fixed, scheduled, statusCounts(connection));
+    }
+
+    private static Connection open(String name) throws Exception {
+        return DriverManager.getConnection("jdbc:h2:mem:" + name + ";MODE=MySQL", "sa", "");
+    }
+
+    /**
+     * 테스트 데이터 생성
+     * - 1 ~ H: 종료 + 낙찰자 있음 (FINISHED)
+     * - 이후 절반: 종료 시각이 지난 ONGOING, 나머지 절반: 시작 시각이 지난 UPCOMING (진행 중으로 전환 후 종료 스케줄 대상)
+     * - 마지막: 시작 전 UPCOMING (시작 스케줄 대상)
+     */
+    private static void populate(Connection connection) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE PRODUCT_TABLE (PRODUCT_ID BIGINT PRIMARY KEY, PRODUCT_NAME VARCHAR(100))");
+            statement.execute("CREATE TABLE AUCTION_TABLE (AUCTION_ID BIGINT PRIMARY KEY, PRODUCT_ID BIGINT, " +
+                    "START_PRICE INT, MIN_BID INT, START_TIME TIMESTAMP, END_TIME TIMESTAMP, STATUS VARCHAR(20))");
+            statement.execute("CREATE TABLE WINNER_TABLE (WINNER_ID BIGINT PRIMARY KEY, AUCTION_ID BIGINT, WINNING_BID INT)");
+            statement.execute("CREATE INDEX IDX_AUCTION_STATUS_END_TIME ON AUCTION_TABLE (STATUS, END_TIME)");
+            statement.execute("CREATE INDEX IDX_AUCTION_STATUS_START_TIME ON AUCTION_TABLE (STATUS, START_TIME)");
+            statement.execute("CREATE INDEX IDX_WINNER_AUCTION ON WINNER_TABLE (AUCTION_ID)");
+        }
+
+        int total = HISTORICAL_AUCTIONS + STALE_AUCTIONS + ACTIVE_AUCTIONS;
+        int ongoingFrom = HISTORICAL_AUCTIONS + 1;
+        int upcomingFrom = ongoingFrom + STALE_AUCTIONS / 2;
+        int activeFrom = HISTORICAL_AUCTIONS + STALE_AUCTIONS + 1;
+
+        execute(connection, "INSERT INTO PRODUCT_TABLE SELECT X, CONCAT('상품-', X) FROM SYSTEM_RANGE(1, " + total + ")");
+        insertAuctions(connection, 1, HISTORICAL_AUCTIONS, -60 * 24 * 30, 60, "FINISHED");
+        execute(connection, "INSERT INTO WINNER_TABLE SELECT X, X, 5000 FROM SYSTEM_RANGE(1, " + HISTORICAL_AUCTIONS + ")");
+        insertAuctions(connection, ongoingFrom, upcomingFrom - 1, -120, 60, "ONGOING");
+        insertAuctions(connection, upcomingFrom, activeFrom - 1, -30, 60, "UPCOMING");
+        insertAuctions(connection, activeFrom, total, 10, 60, "UPCOMING");
+    }
+
+    /**
+     * [from, to] 범위의 경매 생성 (시작 = NOW + startOffsetMinutes - (ID % 1000)분, 종료 = 시작 + durationMinutes)
+     * 지난 경매는 ID 에 따라 과거로 퍼지고, 시작 전 경매는 startOffsetMinutes 이후에 시작하도록 부호를 맞춤
+     */
+    private static void insertAuctions(Connection connection, int from, int to,
+                                       int startOffsetMinutes, int durationMinutes, String status) throws Exception {
+        String spread = startOffsetMinutes < 0 ? "- MOD(X, 1000)" : "+ MOD(X, 1000)";
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO AUCTION_TABLE SELECT X, X, 1000, 100, " +
+                "DATEADD(MINUTE, " + startOffsetMinutes + " " + spread + ", CAST(? AS TIMESTAMP)), " +
+                "DATEADD(MINUTE, " + (startOffsetMinutes + durationMinutes) + " " + spread + ", CAST(? AS TIMESTAMP)), ? " +
+                "FROM SYSTEM_RANGE(" + from + ", " + to + ")")) {
+            insert.setTimestamp(1, Timestamp.valueOf(NOW));
+            insert.setTimestamp(2, Timestamp.valueOf(NOW));
+            insert.setString(3, status);
+            insert.executeUpdate();
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+        }
+    }
+
+    private static int bulkUpdate(Connection connection, String sql) throws Exception {
+        try (PreparedStatement update = connection.prepareStatement(sql)) {
+            update.setTimestamp(1, Timestamp.valueOf(NOW));
+            return update.executeUpdate();
+        }
+    }
+
+    private static Object fetchFirst(PreparedStatement statement, long id) throws Exception {
+        statement.setLong(1, id);
+        try (ResultSet rs = statement.executeQuery()) {
+            return rs.next() ? rs.getObject(2) : null;
+        }
+    }
+
+    /** AuctionScheduleInitializer.shouldScheduleAuction 과 같은 조건 */
+    private static boolean shouldSchedule(String status, Timestamp startTime, Timestamp endTime) {
+        if ("UPCOMING".equals(status)) {
+            return startTime != null && startTime.toLocalDateTime().isAfter(NOW);
+        }
+        if ("ONGOING".equals(status)) {
+            return endTime != null && endTime.toLocalDateTime().isAfter(NOW);
+        }
+        return false;
+    }
+
+    private static Map<String, Long> statusCounts(Connection connection) throws Exception {
+        Map<String, Long> counts = new TreeMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT STATUS, COUNT(*) FROM AUCTION_TABLE GROUP BY STATUS")) {
+            while (rs.next()) {
+                counts.put(rs.getString(1), rs.getLong(2));
+            }
+        }
+        return counts;
+    }
+
+    private record RecoveryResult(long elapsedMillis, long loadedRows, long extraQueries,
+                                  int fixed, int scheduled, Map<String, Long> statusCounts) {
+    }
+}
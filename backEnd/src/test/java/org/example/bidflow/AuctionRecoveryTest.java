@@ -0,0 +1,177 @@
+package org.example.bidflow;
+
+import org.example.bidflow.data.AuctionStatus;
+import org.example.bidflow.data.Role;
+import org.example.bidflow.domain.auction.dto.AuctionScheduleTarget;
+import org.example.bidflow.domain.auction.entity.Auction;
+import org.example.bidflow.domain.auction.repository.AuctionRepository;
+import org.example.bidflow.domain.bid.entity.Bid;
+import org.example.bidflow.domain.product.entity.Product;
+import org.example.bidflow.domain.user.entity.User;
+import org.example.bidflow.domain.winner.entity.Winner;
+import org.example.bidflow.global.app.AuctionLifecycleService;
+import org.example.bidflow.global.app.AuctionsFinishedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * 서버 시작 시 경매 상태 / 스케줄 / 낙찰 복구 테스트 클래스
+ *
+ * 목적:
+ * - AuctionScheduleInitializer 가 사용하는 실제 복구 쿼리(AuctionLifecycleService.recoverPastStatuses,
+ *   AuctionRepository.findScheduleTargetsAfter, AuctionLifecycleService.republishUnsettled)의 결과 확인
+ *
+ * 측정 방법:
+ * - H2 인메모리 DB 에 상태별 경매를 몇 개씩 저장하고, 운영과 같은 JPA 매핑 / JPQL 로 복구 실행
+ * - 상태 전환 결과, keyset 페이지로 모은 스케줄 대상, 입찰은 있는데 낙찰자 없는 종료 경매 이벤트를 기대값과 비교
+ *
+ * ⚠️ 중요: 100만 건 규모 복구 시간 비교는 AuctionRecoveryBenchmarkTest (./gradlew benchmark) 에서 측정합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+public class AuctionRecoveryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    private final List<Object> published = new ArrayList<>();
+    private AuctionLifecycleService lifecycleService;
+
+    private Long settledId;          // 종료 + 낙찰자 있음
+    private Long oldFinishedId;      // 조회 범위 이전에 종료, 낙찰자 없음
+    private Long ongoingEndedId;     // ONGOING, 종료 시각 지남 → FINISHED (입찰 있음)
+    private Long noBidEndedId;       // ONGOING, 종료 시각 지남 → FINISHED (입찰 없음, 낙찰 재처리 제외)
+    private Long upcomingStartedId;  // UPCOMING, 시작 시각 지남 → ONGOING (종료 스케줄 대상)
+    private Long upcomingEndedId;    // UPCOMING, 종료 시각까지 지남 → FINISHED (입찰 있음)
+    private Long upcomingId;         // UPCOMING, 시작 전 (시작 스케줄 대상)
+    private Long ongoingId;          // ONGOING, 종료 전 (종료 스케줄 대상)
+
+    @BeforeEach
+    void setUp() {
+        lifecycleService = new AuctionLifecycleService(auctionRepository, published::add);
+
+        User winner = entityManager.persist(User.builder()
+                .userUUID("winner-uuid")
+                .email("winner@example.com")
+                .nickname("winner")
+                .password("password")
+                .role(Role.USER)
+                .build());
+
+        settledId = auction(NOW.minusHours(3), NOW.minusHours(2), AuctionStatus.FINISHED);
+        entityManager.persist(Winner.builder()
+                .user(winner)
+                .auction(entityManager.find(Auction.class, settledId))
+                .winningBid(5000)
+                .winTime(NOW.minusHours(2))
+                .build());
+        oldFinishedId = auction(NOW.minusDays(10), NOW.minusDays(9), AuctionStatus.FINISHED);
+        ongoingEndedId = auction(NOW.minusHours(2), NOW.minusHours(1), AuctionStatus.ONGOING);
+        noBidEndedId = auction(NOW.minusHours(2), NOW.minusHours(1), AuctionStatus.ONGOING);
+        upcomingStartedId = auction(NOW.minusMinutes(30), NOW.plusMinutes(30), AuctionStatus.UPCOMING);
+        upcomingEndedId = auction(NOW.minusHours(2), NOW.minusHours(1), AuctionStatus.UPCOMING);
+        upcomingId = auction(NOW.plusMinutes(10), NOW.plusMinutes(70), AuctionStatus.UPCOMING);
+        ongoingId = auction(NOW.minusMinutes(10), NOW.plusMinutes(50), AuctionStatus.ONGOING);
+        bid(ongoingEndedId, winner);
+        bid(upcomingEndedId, winner);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void recoversPastStatuses() {
+        System.out.println("🚀 지난 경매 상태 복구 테스트 시작...");
+
+        int fixed = lifecycleService.recoverPastStatuses(NOW);
+
+        assertEquals(4, fixed, "상태 수정 건수");
+        assertEquals(AuctionStatus.FINISHED, status(ongoingEndedId));
+        assertEquals(AuctionStatus.FINISHED, status(noBidEndedId));
+        assertEquals(AuctionStatus.ONGOING, status(upcomingStartedId));
+        assertEquals(AuctionStatus.FINISHED, status(upcomingEndedId), "종료 시각까지 지난 UPCOMING 은 바로 FINISHED");
+        assertEquals(AuctionStatus.UPCOMING, status(upcomingId));
+        assertEquals(AuctionStatus.ONGOING, status(ongoingId));
+        assertEquals(AuctionStatus.FINISHED, status(settledId));
+        System.out.println("✅ 지난 경매 상태 복구 테스트 완료");
+    }
+
+    @Test
+    public void pagesScheduleTargetsById() {
+        System.out.println("🚀 스케줄 대상 keyset 페이지 조회 테스트 시작...");
+        lifecycleService.recoverPastStatuses(NOW);
+
+        List<Long> targetIds = new ArrayList<>();
+        int pages = 0;
+        Long lastId = 0L;
+        while (true) {
+            List<AuctionScheduleTarget> page = auctionRepository.findScheduleTargetsAfter(
+                    lastId, NOW, PageRequest.of(0, PAGE_SIZE));
+            pages++;
+            page.forEach(target -> targetIds.add(target.auctionId()));
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            lastId = page.get(page.size() - 1).auctionId();
+        }
+
+        System.out.printf("   스케줄 대상: %s (페이지 %d회)%n", targetIds, pages);
+        assertEquals(List.of(upcomingStartedId, upcomingId, ongoingId), targetIds, "ID 순서로 중복 / 누락 없이 조회");
+        System.out.println("✅ 스케줄 대상 keyset 페이지 조회 테스트 완료");
+    }
+
+    @Test
+    public void republishesFinishedAuctionsWithoutWinner() {
+        System.out.println("🚀 낙찰 미처리 경매 재처리 테스트 시작...");
+        lifecycleService.recoverPastStatuses(NOW);
+
+        int republished = lifecycleService.republishUnsettled(NOW.minusDays(1), 1);
+
+        List<Long> auctionIds = new ArrayList<>();
+        for (Object event : published) {
+            auctionIds.addAll(assertInstanceOf(AuctionsFinishedEvent.class, event).getAuctionIds());
+        }
+        System.out.printf("   재처리 대상: %s (이벤트 %d개)%n", auctionIds, published.size());
+        assertEquals(2, republished);
+        assertEquals(List.of(ongoingEndedId, upcomingEndedId), auctionIds, "낙찰자 있는 경매 / 입찰 없는 경매 / 조회 범위 이전 경매 제외");
+        System.out.println("✅ 낙찰 미처리 경매 재처리 테스트 완료");
+    }
+
+    private Long auction(LocalDateTime startTime, LocalDateTime endTime, AuctionStatus status) {
+        Product product = entityManager.persist(Product.builder()
+                .productName("상품")
+                .build());
+        return entityManager.persist(Auction.builder()
+                .product(product)
+                .startPrice(1000)
+                .minBid(100)
+                .startTime(startTime)
+                .endTime(endTime)
+                .status(status)
+                .build()).getAuctionId();
+    }
+
+    private void bid(Long auctionId, User user) {
+        entityManager.persist(Bid.createBid(entityManager.find(Auction.class, auctionId), user, 2000, NOW.minusHours(1).minusMinutes(30)));
+    }
+
+    private AuctionStatus status(Long auctionId) {
+        return auctionRepository.findById(auctionId).orElseThrow().getStatus();
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.bidflow;
+
+import org.example.bidflow.global.app.deadline.AuctionDeadline;
+import org.example.bidflow.global.app.deadline.HierarchicalTimingWheel;
+import org.example.bidflow.global.app.deadline.HierarchicalTimingWheel.Timeout;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
+import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.impl.matchers.GroupMatcher;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Properties;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.quartz.JobBuilder.newJob;
+import static org.quartz.TriggerBuilder.newTrigger;
+
+/**
+ * 경매 마감 스케줄러 벤치마크 테스트 클래스
+ *
+ * 목적:
+ * - 경매 시작/종료 마감 100만 개의 등록 / 실행 처리량을 타이밍 휠과 다른 방식으로 비교
+ *   · 계층형 타이밍 휠 (auction.scheduler.backend=timing-wheel 의 메모리 구조)
+ *   · 이진 힙 (PriorityQueue, ScheduledThreadPoolExecutor / DelayQueue 와 같은 구조)
+ *   · Quartz RAMJobStore (마감마다 JobDetail + Trigger 생성, JDBC 저장소는 여기에 DB INSERT 가 추가됨)
+ *
+ * 측정 방법:
+ * - 24시간 범위에 무작위로 분포한 마감을 등록한 뒤 가상 시각을 1초씩 진행하며 만료 처리
+ * - 만료된 마감이 마감 시각보다 일찍 실행되지 않았는지, 취소한 마감이 실행되지 않았는지 확인
+ *
+ * ⚠️ 중요: Redis / DB 없이 메모리 구조만 측정합니다. (Redis ZADD / 리더 적재 비용은 포함하지 않음)
+ */
+public class AuctionSchedulerBenchmarkTest {
+
+    private static final int DEADLINES = 1_000_000;
+    private static final int QUARTZ_DEADLINES = 100_000;
+    private static final long RANGE_MILLIS = 24L * 60 * 60 * 1000;
+    private static final long STEP_MILLIS = 1_000;
+    private static final long TICK_MILLIS = 100;
+
+    /**
+     * 타이밍 휠: 100만 마감 등록 / 10% 취소 / 24시간 진행하며 만료
+     */
+    @Tag("benchmark")
+    @Test
+    public void benchmarkTimingWheel() {
+        System.out.println("🚀 타이밍 휠 마감 벤치마크 시작...");
+        System.out.printf("   마감 수: %,d, 범위: 24시간, 틱: %dms%n", DEADLINES, TICK_MILLIS);
+
+        long start = 0;
+        long[] deadlines = randomDeadlines(start, DEADLINES);
+        HierarchicalTimingWheel<AuctionDeadline> wheel = new HierarchicalTimingWheel<>(TICK_MILLIS, 6, 4, start);
+        List<Timeout<AuctionDeadline>> timeouts = new ArrayList<>(DEADLINES);
+
+        long scheduleStart = System.nanoTime();
+        for (int i = 0; i < DEADLINES; i++) {
+            timeouts.add(wheel.add(AuctionDeadline.end((long) i), deadlines[i]));
+        }
+        long scheduleNanos = System.nanoTime() - scheduleStart;
+
+        // 10% 취소 (경매 수정 / 삭제)
+        int cancelled = 0;
+        for (int i = 0; i < DEADLINES; i += 10) {
+            if (wheel.cancel(timeouts.get(i))) {
+                cancelled++;
+            }
+        }
+        assertEquals(DEADLINES - cancelled, wheel.size());
+
+        long[] fired = {0};
+        long[] early = {0};
+        long[] cancelledFired = {0};
+        long fireStart = System.nanoTime();
+        for (long now = start + STEP_MILLIS; now <= start + RANGE_MILLIS + STEP_MILLIS; now += STEP_MILLIS) {
+            long current = now;
+            wheel.advanceTo(now, timeout -> {
+                fired[0]++;
+                if (timeout.deadlineMillis() > current) {
+                    early[0]++;
+                }
+                if (timeout.task().auctionId() % 10 == 0) {
+                    cancelledFired[0]++;
+                }
+            });
+        }
+        long fireNanos = System.nanoTime() - fireStart;
+
+        System.out.printf("📊 등록: %,d ms (%,.0f ops/s)%n", scheduleNanos / 1_000_000, DEADLINES / (scheduleNanos / 1e9));
+        System.out.printf("📊 만료: %,d ms (%,.0f ops/s, 1초 단계 %,d회)%n",
+                fireNanos / 1_000_000, fired[0] / (fireNanos / 1e9), RANGE_MILLIS / STEP_MILLIS + 1);
+
+        assertEquals(DEADLINES - cancelled, fired[0], "취소하지 않은 마감은 모두 한 번씩 만료되어야 합니다.");
+        assertEquals(0, early[0], "마감 시각보다 일찍 만료되면 안 됩니다.");
+        assertEquals(0, cancelledFired[0], "취소한 마감은 만료되면 안 됩니다.");
+        assertEquals(0, wheel.size());
+        System.out.println("✅ 타이밍 휠 마감 벤치마크 완료!");
+    }
+
+    /**
+     * 이진 힙 비교 (등록 O(log n), 만료 O(log n))
+     */
+    @Tag("benchmark")
+    @Test
+    public void benchmarkBinaryHeap() {
+        System.out.println("🚀 이진 힙(PriorityQueue) 마감 벤치마크 시작...");
+
+        long start = 0;
+        long[] deadlines = randomDeadlines(start, DEADLINES);
+        PriorityQueue<long[]> heap = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+
+        long scheduleStart = System.nanoTime();
+        for (int i = 0; i < DEADLINES; i++) {
+            heap.add(new long[]{deadlines[i], i});
+        }
+        long scheduleNanos = System.nanoTime() - scheduleStart;
+
+        long fired = 0;
+        long fireStart = System.nanoTime();
+        for (long now = start + STEP_MILLIS; now <= start + RANGE_MILLIS + STEP_MILLIS; now += STEP_MILLIS) {
+            while (!heap.isEmpty() && heap.peek()[0] <= now) {
+                heap.poll();
+                fired++;
+            }
+        }
+        long fireNanos = System.nanoTime() - fireStart;
+
+        System.out.printf("📊 등록: %,d ms (%,.0f ops/s)%n", scheduleNanos / 1_000_000, DEADLINES / (scheduleNanos / 1e9));
+        System.out.printf("📊 만료: %,d ms (%,.0f ops/s)%n", fireNanos / 1_000_000, fired / (fireNanos / 1e9));
+        assertEquals(DEADLINES, fired);
+        System.out.println("✅ 이진 힙 마감 벤치마크 완료!");
+    }
+
+    /**
+     * Quartz RAMJobStore 등록 비용 (JDBC 저장소는 Job / Trigger 마다 INSERT 가 추가로 발생)
+     */
+    @Tag("benchmark")
+    @Test
+    public void benchmarkQuartzRamJobStoreScheduling() throws Exception {
+        System.out.println("🚀 Quartz RAMJobStore 등록 벤치마크 시작...");
+        System.out.printf("   마감 수: %,d%n", QUARTZ_DEADLINES);
+
+        Properties properties = new Properties();
+        properties.setProperty(StdSchedulerFactory.PROP_SCHED_INSTANCE_NAME, "AuctionSchedulerBenchmark");
+        properties.setProperty("org.quartz.jobStore.class", "org.quartz.simpl.RAMJobStore");
+        properties.setProperty("org.quartz.threadPool.threadCount", "1");
+        Scheduler scheduler = new StdSchedulerFactory(properties).getScheduler();
+
+        try {
+            long base = System.currentTimeMillis() + RANGE_MILLIS;
+            long[] deadlines = randomDeadlines(base, QUARTZ_DEADLINES);
+
+            long scheduleStart = System.nanoTime();
+            for (int i = 0; i < QUARTZ_DEADLINES; i++) {
+                scheduler.scheduleJob(
+                        newJob(NoopJob.class).withIdentity("auction-end-" + i, "auction-jobs").storeDurably().build(),
+                        newTrigger().withIdentity("auction-end-trigger-" + i, "auction-triggers")
+                                .startAt(new Date(deadlines[i])).build());
+            }
+            long scheduleNanos = System.nanoTime() - scheduleStart;
+
+            System.out.printf("📊 등록: %,d ms (%,.0f ops/s)%n",
+                    scheduleNanos / 1_000_000, QUARTZ_DEADLINES / (scheduleNanos / 1e9));
+            assertEquals(QUARTZ_DEADLINES, scheduler.getJobKeys(GroupMatcher.anyJobGroup()).size());
+        } finally {
+            scheduler.shutdown(false);
+        }
+        System.out.println("✅ Quartz RAMJobStore 등록 벤치마크 완료!");
+    }
+
+    /** 고정 시드로 [start, start + 24시간) 범위의 마감 생성 (매 실행 동일 분포) */
+    private static long[] randomDeadlines(long start, int count) {
+        Random random = new Random(42);
+        long[] deadlines = new long[count];
+        for (int i = 0; i < count; i++) {
+            deadlines[i] = start + 1 + (long) (random.nextDouble() * RANGE_MILLIS);
+        }
+        return deadlines;
+    }
+
+    public static class NoopJob implements Job {
+        @Override
+        public void execute(JobExecutionContext context) {
+        }
+    }
+}
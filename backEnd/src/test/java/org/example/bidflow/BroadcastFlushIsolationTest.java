@@ -0,0 +1,118 @@
+package org.example.bidflow;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.bidflow.global.app.ApplicationExecutors;
+import org.example.bidflow.global.app.NodeIdentity;
+import org.example.bidflow.global.messaging.broadcast.AuctionBroadcaster;
+import org.example.bidflow.global.messaging.broadcast.ConflatingAuctionBroadcaster;
+import org.example.bidflow.global.messaging.broadcast.StompFrameFanout;
+import org.example.bidflow.global.messaging.replay.AuctionReplayBuffer;
+import org.example.bidflow.global.messaging.replay.AuctionSequence;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 가격 갱신 병합 전송(flush) 스케줄 분리 테스트 클래스
+ *
+ * 목적:
+ * - 다른 @Scheduled 작업이 Spring 기본 스케줄러 스레드(1개 공유)를 붙잡고 있어도
+ *   ConflatingAuctionBroadcaster 의 주기 전송 지연이 flush 주기 근처로 유지되는지 확인
+ *
+ * 측정 방법:
+ * - @EnableScheduling 컨텍스트에 기본 스케줄러 스레드를 막는 주기 작업과 병합 브로드캐스터를 함께 등록
+ * - 막힌 작업이 실행 중인 동안 가격 갱신을 제출하고, 로컬 전달까지 걸린 시간(flush 지연)의 최대값을 기록
+ *
+ * ⚠️ 중요: Redis 없이 로컬 전달만 사용합니다. (기본 test 에서 실행)
+ */
+public class BroadcastFlushIsolationTest {
+
+    private static final long FLUSH_INTERVAL_MS = 50;
+    private static final long MAX_LAG_MS = FLUSH_INTERVAL_MS * 10;
+    private static final int UPDATES = 20;
+    private static final long AUCTION_ID = 1L;
+
+    @Test
+    public void flushKeepsRunningWhileSharedSchedulerIsBlocked() throws Exception {
+        System.out.println("🚀 병합 전송 스케줄 분리 테스트 시작...");
+
+        BlockingQueue<Long> deliveredAt = new LinkedBlockingQueue<>();
+        MessageChannel localBroker = (message, timeout) -> deliveredAt.add(System.nanoTime());
+        ApplicationExecutors executors = new ApplicationExecutors();
+        AuctionSequence sequence = AuctionSequence.local();
+        AuctionBroadcaster broadcaster = new AuctionBroadcaster(new SimpMessagingTemplate(localBroker),
+                new StompFrameFanout(false, null), (topic, message) -> { }, new ObjectMapper(),
+                sequence, new AuctionReplayBuffer(16), List.of(), new NodeIdentity());
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.register(SchedulingConfig.class);
+            context.registerBean(ConflatingAuctionBroadcaster.class, () -> new ConflatingAuctionBroadcaster(
+                    broadcaster, new SimpleMeterRegistry(), executors, true, FLUSH_INTERVAL_MS));
+            context.refresh();
+
+            BlockingJob blockingJob = context.getBean(BlockingJob.class);
+            assertTrue(blockingJob.entered.await(5, TimeUnit.SECONDS), "기본 스케줄러 스레드를 막는 작업이 시작되지 않았습니다.");
+            ConflatingAuctionBroadcaster conflating = context.getBean(ConflatingAuctionBroadcaster.class);
+
+            long maxLagNanos = 0;
+            try {
+                for (int i = 0; i < UPDATES; i++) {
+                    long submittedAt = System.nanoTime();
+                    conflating.submit(AUCTION_ID, sequence.next(AUCTION_ID), Map.of("currentBid", 1_000 + i));
+                    Long delivered = deliveredAt.poll(MAX_LAG_MS * 2, TimeUnit.MILLISECONDS);
+                    assertNotNull(delivered, "기본 스케줄러 스레드가 막혀 가격 갱신이 전송되지 않았습니다.");
+                    maxLagNanos = Math.max(maxLagNanos, delivered - submittedAt);
+                }
+            } finally {
+                blockingJob.release.countDown();
+            }
+
+            long maxLagMillis = TimeUnit.NANOSECONDS.toMillis(maxLagNanos);
+            System.out.printf("📊 최대 flush 지연: %d ms (주기 %d ms, 한도 %d ms)%n", maxLagMillis, FLUSH_INTERVAL_MS, MAX_LAG_MS);
+            assertTrue(maxLagMillis <= MAX_LAG_MS, "다른 주기 작업이 막혀도 flush 지연은 주기 근처여야 합니다.");
+        } finally {
+            executors.destroy();
+        }
+        System.out.println("✅ 병합 전송 스케줄 분리 테스트 완료");
+    }
+
+    @Configuration
+    @EnableScheduling
+    static class SchedulingConfig {
+
+        @Bean
+        BlockingJob blockingJob() {
+            return new BlockingJob();
+        }
+    }
+
+    /**
+     * 기본 스케줄러 스레드를 붙잡는 주기 작업 (느린 DB 조회 / Redis 장애 중인 다른 @Scheduled 작업 흉내)
+     */
+    static class BlockingJob {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Scheduled(fixedDelay = 10)
+        public void block() throws InterruptedException {
+            entered.countDown();
+            release.await();
+        }
+    }
+}
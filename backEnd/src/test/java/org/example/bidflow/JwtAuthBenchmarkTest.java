@@ -0,0 +1,322 @@
+package org.example.bidflow;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.example.bidflow.domain.user.service.JwtBlacklistService;
+import org.example.bidflow.global.app.NodeIdentity;
+import org.example.bidflow.global.config.RateLimitingConfig;
+import org.example.bidflow.global.filter.JwtAuthentication;
+import org.example.bidflow.global.filter.JwtAuthenticationFilter;
+import org.example.bidflow.global.service.PenaltyBox;
+import org.example.bidflow.global.service.TokenRevocationRegistry;
+import org.example.bidflow.global.utils.ClientIpUtil;
+import org.example.bidflow.global.utils.CookieUtil;
+import org.example.bidflow.global.utils.DigestBloomFilter;
+import org.example.bidflow.global.utils.JwtProvider;
+import org.example.bidflow.global.utils.TokenDigest;
+import org.example.bidflow.global.utils.VerifiedClaims;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JWT 인증 비용 벤치마크 테스트 클래스
+ *
+ * 목적:
+ * - 요청마다 JwtParser 를 새로 만들고 같은 토큰을 3번 검증하던 기존 필터 방식
+ *   (validateToken → getUsername → parseRole)과 검증 캐시(findVerifiedClaims 1회)의 요청당 비용 비교
+ * - 캐시가 돌려준 클레임이 직접 검증한 값과 같은지, 만료된 토큰은 캐시에 있어도 거부되는지 확인
+ * - 블랙리스트 블룸 필터: 폐기 토큰 누락(false negative)이 없는지, 정상 토큰 중 Redis 조회가 필요한 비율(오탐률)
+ * - JWT 필터 요청당 비용: 기존 필터(3회 검증 + UserDetails / UsernamePasswordAuthenticationToken 생성)와
+ *   현재 필터(검증 캐시 + 불변 JwtAuthentication), 공개 조회 GET 경로 비교
+ *
+ * 측정 방법:
+ * - 사용자 1,000명의 토큰을 만들고, 매 요청마다 무작위 토큰 하나로 인증 (로그인 사용자들이 반복 요청하는 상황)
+ * - 워밍업 후 요청당 평균 시간(ns)과 처리량(ops/s)을 출력
+ *
+ * ⚠️ 중요: 단일 스레드 측정이며 JIT / GC 영향을 받습니다. 방식 간 상대 비교용으로만 사용하세요.
+ */
+public class JwtAuthBenchmarkTest {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-auth-0123456789abcdef";
+    private static final long EXPIRATION_MILLIS = 60 * 60 * 1000L;
+
+    private static final int USERS = 1_000;
+    private static final int WARMUP_REQUESTS = 20_000;
+    private static final int REQUESTS = 100_000;
+
+    @Tag("benchmark")
+    @Test
+    public void benchmarkFilterAuthentication() {
+        System.out.println("🚀 JWT 인증 벤치마크 시작...");
+        System.out.printf("   사용자(토큰): %,d, 요청: %,d (워밍업 %,d)%n", USERS, REQUESTS, WARMUP_REQUESTS);
+
+        JwtProvider jwtProvider = jwtProvider(EXPIRATION_MILLIS);
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        List<String> tokens = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            tokens.add(jwtProvider.generateToken(Map.of(
+                    "userUUID", "user-" + i,
+                    "nickname", "bidder" + i,
+                    "role", "ROLE_USER"), "user" + i + "@bidflow.test"));
+        }
+
+        // 기존 방식: 호출마다 파서 생성 + 같은 토큰 3회 검증
+        Function<String, Object> legacy = token -> {
+            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+            String username = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+            String role = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().get("role", String.class);
+            return username.length() + role.length();
+        };
+        // 재사용 파서 1회 검증 (캐시 없음)
+        Function<String, Object> reusedParser = token -> {
+            Claims claims = jwtProvider.parseClaims(token);
+            return claims.getSubject().length() + claims.get("role", String.class).length();
+        };
+        // 검증 캐시 (토큰당 첫 요청만 서명 검증)
+        Function<String, Object> cached = token -> {
+            VerifiedClaims claims = jwtProvider.findVerifiedClaims(token);
+            return claims.subject().length() + claims.role().length();
+        };
+
+        double legacyNanos = measure("기존 (파서 생성 + 3회 검증)", legacy, tokens);
+        double reusedNanos = measure("재사용 파서 (1회 검증)", reusedParser, tokens);
+        double cachedNanos = measure("검증 캐시", cached, tokens);
+
+        System.out.printf("📊 기존 대비: 재사용 파서 %.1f배, 검증 캐시 %.1f배%n",
+                legacyNanos / reusedNanos, legacyNanos / cachedNanos);
+
+        // 캐시 결과가 직접 검증한 값과 같아야 함
+        for (String token : tokens) {
+            Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+            VerifiedClaims verified = jwtProvider.verify(token);
+            assertEquals(claims.getSubject(), verified.subject());
+            assertEquals(claims.get("userUUID", String.class), verified.userUUID());
+            assertEquals(claims.get("nickname", String.class), verified.nickname());
+            assertEquals(claims.get("role", String.class), verified.role());
+            assertEquals(claims.getExpiration().getTime(), verified.expiresAtMillis());
+        }
+        assertTrue(cachedNanos < legacyNanos, "검증 캐시가 기존 방식보다 빨라야 합니다.");
+        System.out.println("✅ JWT 인증 벤치마크 완료!");
+    }
+
+    @Test
+    public void cachedClaimsExpireWithToken() throws InterruptedException {
+        JwtProvider jwtProvider = jwtProvider(1_500);
+        String token = jwtProvider.generateToken(Map.of("userUUID", "user-1", "role", "ROLE_USER"), "user1@bidflow.test");
+
+        assertNotNull(jwtProvider.findVerifiedClaims(token), "유효한 토큰은 검증되어야 합니다.");
+        assertNotNull(jwtProvider.findVerifiedClaims(token), "캐시된 토큰도 만료 전에는 유효해야 합니다.");
+
+        Thread.sleep(2_000);
+        assertNull(jwtProvider.findVerifiedClaims(token), "만료된 토큰은 캐시에 있어도 거부되어야 합니다.");
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        assertNull(jwtProvider.findVerifiedClaims(tampered), "서명이 다른 토큰은 거부되어야 합니다.");
+        System.out.println("✅ 검증 캐시 만료 / 위조 토큰 거부 확인 완료!");
+    }
+
+    @Test
+    public void fullCachePurgesExpiredClaimsOncePerInterval() throws InterruptedException {
+        JwtProvider jwtProvider = jwtProvider(1_500);
+        ReflectionTestUtils.setField(jwtProvider, "claimsCacheMaxEntries", 2);
+        ReflectionTestUtils.setField(jwtProvider, "claimsCachePurgeIntervalMillis", 60_000L);
+        Map<?, ?> cache = (Map<?, ?>) ReflectionTestUtils.getField(jwtProvider, "verifiedClaims");
+
+        jwtProvider.verify(jwtProvider.generateToken(Map.of("userUUID", "user-1"), "user1@bidflow.test"));
+        jwtProvider.verify(jwtProvider.generateToken(Map.of("userUUID", "user-2"), "user2@bidflow.test"));
+        assertEquals(2, cache.size());
+
+        Thread.sleep(2_000);
+        ReflectionTestUtils.setField(jwtProvider, "EXPIRATION_TIME", EXPIRATION_MILLIS);
+        jwtProvider.verify(jwtProvider.generateToken(Map.of("userUUID", "user-3"), "user3@bidflow.test"));
+        assertEquals(1, cache.size(), "가득 찬 캐시는 첫 저장 시 만료 항목을 정리해야 합니다.");
+
+        jwtProvider.verify(jwtProvider.generateToken(Map.of("userUUID", "user-4"), "user4@bidflow.test"));
+        assertNotNull(jwtProvider.findVerifiedClaims(
+                jwtProvider.generateToken(Map.of("userUUID", "user-5"), "user5@bidflow.test")), "캐시에 못 넣어도 검증은 되어야 합니다.");
+        assertEquals(2, cache.size(), "정리 간격 안에서는 다시 정리하지 않고 저장만 생략해야 합니다.");
+        System.out.println("✅ 가득 찬 검증 캐시 정리 간격 확인 완료!");
+    }
+
+    /**
+     * 블랙리스트 블룸 필터: 폐기 토큰 10만 개를 넣고 정상 토큰 100만 개의 Redis 조회 필요 비율 측정
+     */
+    @Tag("benchmark")
+    @Test
+    public void benchmarkRevocationFilter() {
+        int revokedCount = 100_000;
+        int validCount = 1_000_000;
+        double targetRate = 0.001;
+        System.out.println("🚀 블랙리스트 블룸 필터 벤치마크 시작...");
+
+        DigestBloomFilter filter = new DigestBloomFilter(revokedCount, targetRate);
+        List<String> revoked = new ArrayList<>(revokedCount);
+        for (int i = 0; i < revokedCount; i++) {
+            revoked.add(TokenDigest.sha256("revoked-token-" + i));
+        }
+        revoked.forEach(filter::put);
+
+        List<String> valid = new ArrayList<>(validCount);
+        for (int i = 0; i < validCount; i++) {
+            valid.add(TokenDigest.sha256("valid-token-" + i));
+        }
+
+        long start = System.nanoTime();
+        int redisLookups = 0;
+        for (String digest : valid) {
+            if (filter.mightContain(digest)) {
+                redisLookups++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long missed = revoked.stream().filter(digest -> !filter.mightContain(digest)).count();
+        double falsePositiveRate = (double) redisLookups / validCount;
+        System.out.printf("📊 필터 크기: %,d bit (%,d KB), 해시: %d%n",
+                filter.bitCount(), filter.bitCount() / 8 / 1024, filter.hashCount());
+        System.out.printf("📊 정상 토큰 Redis 조회: %,d / %,d (%.4f%%), 확인당 %,.0f ns%n",
+                redisLookups, validCount, falsePositiveRate * 100, (double) elapsed / validCount);
+
+        assertEquals(0, missed, "폐기된 토큰은 항상 필터에 있어야 합니다.");
+        assertTrue(falsePositiveRate < targetRate * 2, "오탐률이 목표의 2배를 넘으면 안 됩니다.");
+        System.out.println("✅ 블랙리스트 블룸 필터 벤치마크 완료!");
+    }
+
+    /**
+     * JWT 필터 요청당 비용 (블랙리스트는 두 방식 모두 같은 블룸 필터 경로 사용, Redis 왕복 제외)
+     */
+    @Tag("benchmark")
+    @Test
+    public void benchmarkFilterChainOverhead() throws Exception {
+        System.out.println("🚀 JWT 필터 요청당 비용 벤치마크 시작...");
+
+        JwtProvider jwtProvider = jwtProvider(EXPIRATION_MILLIS);
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        NodeIdentity nodeIdentity = new NodeIdentity();
+        PenaltyBox penaltyBox = new PenaltyBox(new RateLimitingConfig(), null, null, nodeIdentity, new SimpleMeterRegistry());
+        TokenRevocationRegistry registry = new TokenRevocationRegistry(null, nodeIdentity, 100_000, 0.001);
+        registry.rebuildFilter(List.of());
+        JwtBlacklistService blacklistService = new JwtBlacklistService(null, null, jwtProvider, registry);
+        CookieUtil cookieUtil = new CookieUtil();
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtProvider, blacklistService, cookieUtil, penaltyBox);
+
+        List<MockHttpServletRequest> privateRequests = new ArrayList<>(USERS);
+        List<MockHttpServletRequest> publicRequests = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            String token = jwtProvider.generateToken(Map.of(
+                    "userUUID", "user-" + i,
+                    "nickname", "bidder" + i,
+                    "role", "ROLE_USER"), "user" + i + "@bidflow.test");
+            privateRequests.add(request("/api/auth/mypage/auctions", token));
+            publicRequests.add(request("/api/auctions/" + i, token));
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> { };
+
+        // 기존 필터 본문: 블랙리스트 확인 → validateToken / getUsername / parseRole 3회 검증 → UserDetails + 인증 토큰 생성
+        Function<MockHttpServletRequest, Object> legacy = request -> {
+            penaltyBox.isPenalized(ClientIpUtil.getClientIp(request));
+            String token = cookieUtil.getJwtFromCookie(request);
+            blacklistService.isBlacklisted(token);
+            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+            String username = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+            String role = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().get("role", String.class);
+            UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
+                    .username(username)
+                    .password("")
+                    .authorities(new SimpleGrantedAuthority(role))
+                    .build();
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            SecurityContextHolder.clearContext();
+            return authentication.getName();
+        };
+        Function<MockHttpServletRequest, Object> current = request -> {
+            try {
+                filter.doFilter(request, response, chain);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            SecurityContextHolder.clearContext();
+            return authentication.getName();
+        };
+
+        double legacyNanos = measure("기존 필터 (인증 API)", legacy, privateRequests);
+        double currentNanos = measure("현재 필터 (인증 API)", current, privateRequests);
+        double publicNanos = measure("현재 필터 (공개 조회 GET)", current, publicRequests);
+        System.out.printf("📊 기존 대비: 인증 API %.1f배, 공개 조회 %.1f배%n",
+                legacyNanos / currentNanos, legacyNanos / publicNanos);
+
+        // 현재 필터가 등록한 인증 정보가 기존과 같은 이름 / 권한이어야 함 (Rate Limiting / @HasRole 호환)
+        filter.doFilter(privateRequests.get(0), response, chain);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        assertTrue(authentication instanceof JwtAuthentication);
+        assertEquals("user0@bidflow.test", authentication.getName());
+        assertEquals("ROLE_USER", authentication.getAuthorities().iterator().next().getAuthority());
+        assertTrue(currentNanos < legacyNanos, "현재 필터가 기존 필터보다 빨라야 합니다.");
+        System.out.println("✅ JWT 필터 요청당 비용 벤치마크 완료!");
+    }
+
+    private static MockHttpServletRequest request(String uri, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setCookies(new Cookie("jwt-token", token));
+        return request;
+    }
+
+    private static JwtProvider jwtProvider(long expirationMillis) {
+        JwtProvider jwtProvider = new JwtProvider();
+        ReflectionTestUtils.setField(jwtProvider, "SECRET_KEY", SECRET);
+        ReflectionTestUtils.setField(jwtProvider, "EXPIRATION_TIME", expirationMillis);
+        ReflectionTestUtils.setField(jwtProvider, "claimsCacheMaxEntries", 10_000);
+        return jwtProvider;
+    }
+
+    private static <T> double measure(String label, Function<T, Object> authenticate, List<T> inputs) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            sink += authenticate.apply(random(inputs)).hashCode();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            sink += authenticate.apply(random(inputs)).hashCode();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double nanosPerRequest = (double) elapsed / REQUESTS;
+        System.out.printf("📊 %s: 요청당 %,.0f ns, 처리량 %,.0f ops/s (sink %d)%n",
+                label, nanosPerRequest, REQUESTS * 1_000_000_000.0 / elapsed, sink & 1);
+        return nanosPerRequest;
+    }
+
+    private static <T> T random(List<T> inputs) {
+        return inputs.get(ThreadLocalRandom.current().nextInt(inputs.size()));
+    }
+}
@@ -0,0 +1,239 @@
+package org.example.bidflow;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.bidflow.domain.user.service.PasswordHasher;
+import org.example.bidflow.global.app.ApplicationExecutors;
+import org.example.bidflow.global.exception.ServiceException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 로그인 BCrypt 검증 격리 벤치마크 테스트 클래스
+ *
+ * 목적:
+ * - 로그인이 몰릴 때 요청 스레드에서 직접 BCrypt 를 실행하던 기존 방식과
+ *   해시 전용 실행기(PasswordHasher, 코어 수 스레드 + 대기열 제한)의 동시 해시 수 / 처리 결과 비교
+ * - 대기열이 가득 차면 요청 스레드를 붙잡지 않고 즉시 503 으로 거부되는지 확인
+ * - 저장된 해시의 cost 가 설정보다 낮으면 로그인 성공 시 새 cost 해시가 만들어지는지 확인
+ *
+ * 측정 방법:
+ * - Tomcat 요청 스레드를 흉내 낸 고정 스레드 풀(200)에서 동시에 로그인 검증을 요청
+ * - 전체 소요 시간, 성공 / 거부 수, 같은 시각 최대 동시 해시 수를 출력
+ *
+ * ⚠️ 중요: 실행 환경의 코어 수에 따라 결과가 크게 달라집니다. 방식 간 상대 비교용으로만 사용하세요.
+ */
+public class PasswordHashBenchmarkTest {
+
+    private static final int REQUEST_THREADS = 200;
+    private static final int LOGINS = 400;
+    private static final int STRENGTH = 10;
+    private static final String RAW_PASSWORD = "benchmark-password";
+
+    @Tag("benchmark")
+    @Test
+    public void benchmarkLoginBurst() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("🚀 로그인 BCrypt 격리 벤치마크 시작...");
+        System.out.printf("   코어: %d, 요청 스레드: %d, 로그인: %,d (cost %d)%n", cores, REQUEST_THREADS, LOGINS, STRENGTH);
+
+        CountingEncoder encoder = new CountingEncoder(new BCryptPasswordEncoder(STRENGTH));
+        String encoded = encoder.encode(RAW_PASSWORD);
+
+        // 기존 방식: 요청 스레드에서 직접 검증
+        encoder.resetPeak();
+        BurstResult direct = burst(() -> {
+            if (!encoder.matches(RAW_PASSWORD, encoded)) {
+                throw new IllegalStateException("비밀번호 불일치");
+            }
+        });
+        print("요청 스레드에서 직접 검증", direct, encoder.peak());
+
+        // 현재 방식: 해시 전용 실행기 (대기열은 전체 요청을 받을 만큼 크게)
+        encoder.resetPeak();
+        ApplicationExecutors executors = new ApplicationExecutors();
+        PasswordHasher hasher = new PasswordHasher(encoder, new SimpleMeterRegistry(), executors, 0, LOGINS, 60_000);
+        BurstResult isolated;
+        try {
+            isolated = burst(() -> {
+                if (!hasher.verify(RAW_PASSWORD, encoded).matched()) {
+                    throw new IllegalStateException("비밀번호 불일치");
+                }
+            });
+        } finally {
+            executors.destroy();
+        }
+        print("해시 전용 실행기", isolated, encoder.peak());
+
+        assertEquals(LOGINS, direct.succeeded());
+        assertEquals(LOGINS, isolated.succeeded());
+        assertTrue(encoder.peak() <= cores, "동시 해시 수가 코어 수를 넘으면 안 됩니다.");
+        System.out.println("✅ 로그인 BCrypt 격리 벤치마크 완료");
+    }
+
+    @Test
+    public void rejectsWhenQueueIsFull() throws Exception {
+        System.out.println("🚀 해시 대기열 초과 거부 테스트 시작...");
+
+        // 스레드 1개, 대기열 2개 → 동시에 몰린 요청 대부분은 해시 없이 즉시 거부
+        CountingEncoder encoder = new CountingEncoder(new BCryptPasswordEncoder(12));
+        String encoded = encoder.encode(RAW_PASSWORD);
+        ApplicationExecutors executors = new ApplicationExecutors();
+        PasswordHasher hasher = new PasswordHasher(encoder, new SimpleMeterRegistry(), executors, 1, 2, 60_000);
+        BurstResult result;
+        try {
+            result = burst(() -> hasher.verify(RAW_PASSWORD, encoded));
+        } finally {
+            executors.destroy();
+        }
+
+        System.out.println("📊 결과:");
+        System.out.printf("   성공: %,d, 거부(503): %,d%n", result.succeeded(), result.rejected());
+        System.out.printf("   최대 거부 응답 시간: %,d ms%n", result.maxRejectMillis());
+
+        assertTrue(result.rejected() > 0, "대기열이 가득 차면 거부되어야 합니다.");
+        assertEquals(LOGINS, result.succeeded() + result.rejected());
+        assertEquals(1, encoder.peak());
+        System.out.println("✅ 해시 대기열 초과 거부 테스트 완료");
+    }
+
+    @Test
+    public void upgradesWeakerHashOnSuccessfulLogin() {
+        System.out.println("🚀 비밀번호 재해시 테스트 시작...");
+
+        String weakHash = new BCryptPasswordEncoder(4).encode(RAW_PASSWORD);
+        ApplicationExecutors executors = new ApplicationExecutors();
+        PasswordHasher hasher = new PasswordHasher(new BCryptPasswordEncoder(STRENGTH), new SimpleMeterRegistry(), executors, 1, 4, 60_000);
+        try {
+            PasswordHasher.Verification upgraded = hasher.verify(RAW_PASSWORD, weakHash);
+            assertTrue(upgraded.matched());
+            assertNotNull(upgraded.upgradedHash(), "cost 가 낮은 해시는 새 해시를 만들어야 합니다.");
+            assertTrue(upgraded.upgradedHash().startsWith("$2a$" + STRENGTH + "$"));
+
+            PasswordHasher.Verification current = hasher.verify(RAW_PASSWORD, upgraded.upgradedHash());
+            assertTrue(current.matched());
+            assertNull(current.upgradedHash(), "설정된 cost 의 해시는 다시 만들지 않아야 합니다.");
+
+            PasswordHasher.Verification wrong = hasher.verify("wrong-password", weakHash);
+            assertFalse(wrong.matched());
+            assertNull(wrong.upgradedHash(), "비밀번호가 틀리면 새 해시를 만들지 않아야 합니다.");
+
+            System.out.printf("   %s → %s%n", weakHash.substring(0, 7), upgraded.upgradedHash().substring(0, 7));
+        } finally {
+            executors.destroy();
+        }
+        System.out.println("✅ 비밀번호 재해시 테스트 완료");
+    }
+
+    private BurstResult burst(Runnable login) throws InterruptedException {
+        ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(LOGINS);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger maxRejectMillis = new AtomicInteger();
+        List<Throwable> failures = new ArrayList<>();
+
+        for (int i = 0; i < LOGINS; i++) {
+            requestThreads.execute(() -> {
+                long requestStart = System.nanoTime();
+                try {
+                    start.await();
+                    login.run();
+                    succeeded.incrementAndGet();
+                } catch (ServiceException e) {
+                    rejected.incrementAndGet();
+                    maxRejectMillis.accumulateAndGet((int) ((System.nanoTime() - requestStart) / 1_000_000), Math::max);
+                } catch (Throwable e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startTime = System.nanoTime();
+        start.countDown();
+        assertTrue(done.await(5, TimeUnit.MINUTES), "로그인 요청이 제한 시간 안에 끝나지 않았습니다.");
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        requestThreads.shutdownNow();
+
+        assertTrue(failures.isEmpty(), "예상하지 못한 오류: " + failures);
+        return new BurstResult(succeeded.get(), rejected.get(), elapsedMillis, maxRejectMillis.get());
+    }
+
+    private void print(String label, BurstResult result, int peak) {
+        System.out.println("📊 " + label + ":");
+        System.out.printf("   소요 시간: %,d ms (%,.1f logins/s)%n", result.elapsedMillis(), result.succeeded() * 1000.0 / Math.max(1, result.elapsedMillis()));
+        System.out.printf("   성공: %,d, 거부: %,d, 최대 동시 해시: %d%n", result.succeeded(), result.rejected(), peak);
+    }
+
+    private record BurstResult(int succeeded, int rejected, long elapsedMillis, int maxRejectMillis) {
+    }
+
+    // 동시에 실행 중인 해시 수를 세는 인코더
+    private static class CountingEncoder implements PasswordEncoder {
+
+        private final PasswordEncoder delegate;
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+
+        CountingEncoder(PasswordEncoder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            enter();
+            try {
+                return delegate.encode(rawPassword);
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            enter();
+            try {
+                return delegate.matches(rawPassword, encodedPassword);
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return delegate.upgradeEncoding(encodedPassword);
+        }
+
+        int peak() {
+            return peak.get();
+        }
+
+        void resetPeak() {
+            peak.set(0);
+        }
+
+        private void enter() {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package org.example.bidflow;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.quartz.Job;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.scheduling.quartz.SchedulerFactoryBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.quartz.JobBuilder.newJob;
+import static org.quartz.SimpleScheduleBuilder.simpleSchedule;
+import static org.quartz.TriggerBuilder.newTrigger;
+
+/**
+ * Quartz 클러스터 정각 마감 몰림 벤치마크 테스트 클래스
+ *
+ * 목적:
+ * - 같은 초에 종료되는 경매 수천 개를 Quartz 클러스터 노드 2개가 나눠 실행할 때의 실행 지연 측정
+ * - Quartz 기본값(스레드 10, 트리거 1개씩 획득)과 application.yml 설정(스레드 12, 일괄 획득 20) 비교
+ * - 클러스터 모드에서 모든 마감이 정확히 한 번씩만 실행되는지 확인 (낙찰 처리 중복 방지)
+ *
+ * 측정 방법:
+ * - 공유 H2 인메모리 DB에 QRTZ_ 테이블을 만들고, 운영과 같은 LocalDataSourceJobStore(SchedulerFactoryBean) 노드 2개를 같은 instanceName 으로 실행
+ * - 트리거 등록 후 두 노드를 시작하고, Job 시작 시각 - 예정 시각을 지연으로 기록 (Job 은 전환 트랜잭션 대신 짧게 대기)
+ *
+ * ⚠️ 중요: 한 JVM 안의 두 노드가 같은 H2 를 쓰므로 MySQL 네트워크 왕복 / 잠금 대기 비용은 실제보다 작습니다.
+ */
+public class QuartzClusterBurstBenchmarkTest {
+
+    private static final int AUCTIONS = 3_000;
+    private static final long JOB_WORK_MILLIS = 5;
+    private static final long REGISTER_MARGIN_MILLIS = 10_000;
+    private static final long DRAIN_TIMEOUT_SECONDS = 120;
+
+    private static final Map<Long, AtomicInteger> FIRES = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicInteger> NODE_FIRES = new ConcurrentHashMap<>();
+    private static final ConcurrentLinkedQueue<Long> LAGS = new ConcurrentLinkedQueue<>();
+    private static volatile CountDownLatch remaining;
+
+    /**
+     * Quartz 기본값: 스레드 10, 트리거 1개씩 획득
+     */
+    @Tag("benchmark")
+    @Test
+    public void benchmarkDefaultSettings() throws Exception {
+        runBurst("quartz-default", 10, 1);
+    }
+
+    /**
+     * application.yml 설정: 스레드 12, 잠금 1회에 최대 20개 획득
+     */
+    @Tag("benchmark")
+    @Test
+    public void benchmarkBurstSettings() throws Exception {
+        runBurst("quartz-burst", 12, 20);
+    }
+
+    private void runBurst(String label, int threadCount, int batchMaxCount) throws Exception {
+        System.out.println("🚀 Quartz 클러스터 정각 마감 벤치마크 시작... [" + label + "]");
+        System.out.printf("   노드: 2, 같은 초 마감: %,d, 스레드: %d, 일괄 획득: %d, Job 작업: %dms%n",
+                AUCTIONS, threadCount, batchMaxCount, JOB_WORK_MILLIS);
+
+        FIRES.clear();
+        NODE_FIRES.clear();
+        LAGS.clear();
+        remaining = new CountDownLatch(AUCTIONS);
+
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + label + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(2 * threadCount + 10);
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("org/quartz/impl/jdbcjobstore/tables_h2.sql"));
+        }
+
+        SchedulerFactoryBean nodeA = node(dataSource, "node-a", threadCount, batchMaxCount);
+        SchedulerFactoryBean nodeB = node(dataSource, "node-b", threadCount, batchMaxCount);
+        try {
+            // 같은 초(정각)에 끝나는 경매 등록 (운영과 같이 트랜잭션 안에서 일괄 등록)
+            long fireAt = ((System.currentTimeMillis() + REGISTER_MARGIN_MILLIS) / 1000 + 1) * 1000;
+            Map<JobDetail, Set<? extends Trigger>> jobs = new HashMap<>(AUCTIONS * 2);
+            for (long auctionId = 1; auctionId <= AUCTIONS; auctionId++) {
+                jobs.put(newJob(BurstEndJob.class)
+                                .withIdentity("auction-end-" + auctionId, "auction-jobs")
+                                .usingJobData("auctionId", auctionId)
+                                .storeDurably()
+                                .requestRecovery()
+                                .build(),
+                        Set.of(newTrigger()
+                                .withIdentity("auction-end-trigger-" + auctionId, "auction-triggers")
+                                .startAt(new Date(fireAt))
+                                .withSchedule(simpleSchedule().withMisfireHandlingInstructionFireNow())
+                                .build()));
+            }
+            long registerStart = System.nanoTime();
+            new TransactionTemplate(new DataSourceTransactionManager(dataSource)).executeWithoutResult(status -> {
+                try {
+                    nodeA.getScheduler().scheduleJobs(jobs, true);
+                } catch (SchedulerException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            long registerMillis = (System.nanoTime() - registerStart) / 1_000_000;
+            assertTrue(System.currentTimeMillis() < fireAt, "등록이 마감 시각 전에 끝나야 지연을 측정할 수 있습니다.");
+
+            nodeA.getScheduler().start();
+            nodeB.getScheduler().start();
+
+            boolean drained = remaining.await(DRAIN_TIMEOUT_SECONDS + REGISTER_MARGIN_MILLIS / 1000, TimeUnit.SECONDS);
+            long drainMillis = System.currentTimeMillis() - fireAt;
+
+            long[] lags = LAGS.stream().mapToLong(Long::longValue).sorted().toArray();
+            System.out.printf("📊 등록: %,d ms (일괄 등록 1회)%n", registerMillis);
+            System.out.printf("📊 실행 지연: p50 %,d ms / p99 %,d ms / 최대 %,d ms, 전체 처리: %,d ms%n",
+                    percentile(lags, 0.50), percentile(lags, 0.99), percentile(lags, 1.0), drainMillis);
+            System.out.printf("📊 노드별 실행: %s%n", NODE_FIRES);
+
+            assertTrue(drained, "제한 시간 안에 모든 마감이 실행되어야 합니다.");
+            assertEquals(AUCTIONS, FIRES.size(), "모든 경매 마감이 실행되어야 합니다.");
+            long duplicates = FIRES.values().stream().filter(count -> count.get() > 1).count();
+            assertEquals(0, duplicates, "클러스터 모드에서는 같은 마감이 두 번 실행되면 안 됩니다.");
+        } finally {
+            nodeA.destroy();
+            nodeB.destroy();
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute("SHUTDOWN");
+            }
+            dataSource.close();
+        }
+        System.out.println("✅ Quartz 클러스터 정각 마감 벤치마크 완료! [" + label + "]");
+    }
+
+    /**
+     * 운영 설정(application.yml spring.quartz.properties)과 같은 클러스터 노드 생성 (시작 전 대기 상태)
+     * SchedulerFactoryBean 은 스케줄러를 저장소에 노출하지 않으므로 같은 instanceName 노드를 한 JVM 에 둘 수 있음
+     */
+    private static SchedulerFactoryBean node(HikariDataSource dataSource, String instanceId,
+                                             int threadCount, int batchMaxCount) throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty("org.quartz.scheduler.instanceName", "AuctionScheduler");
+        properties.setProperty("org.quartz.scheduler.instanceId", instanceId);
+        properties.setProperty("org.quartz.scheduler.batchTriggerAcquisitionMaxCount", String.valueOf(batchMaxCount));
+        properties.setProperty("org.quartz.scheduler.batchTriggerAcquisitionFireAheadTimeWindow", "0");
+        properties.setProperty("org.quartz.threadPool.threadCount", String.valueOf(threadCount));
+        properties.setProperty("org.quartz.jobStore.driverDelegateClass", "org.quartz.impl.jdbcjobstore.StdJDBCDelegate");
+        properties.setProperty("org.quartz.jobStore.tablePrefix", "QRTZ_");
+        properties.setProperty("org.quartz.jobStore.isClustered", "true");
+        properties.setProperty("org.quartz.jobStore.clusterCheckinInterval", "5000");
+        properties.setProperty("org.quartz.jobStore.acquireTriggersWithinLock", "true");
+        properties.setProperty("org.quartz.jobStore.misfireThreshold", "30000");
+
+        // jobStore.class 를 지정하지 않고 DataSource / 트랜잭션 관리자를 넘겨 운영(Spring Boot 자동 설정)과 같은 LocalDataSourceJobStore 사용
+        SchedulerFactoryBean factory = new SchedulerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setTransactionManager(new DataSourceTransactionManager(dataSource));
+        factory.setQuartzProperties(properties);
+        factory.setAutoStartup(false);
+        factory.setWaitForJobsToCompleteOnShutdown(true);
+        factory.afterPropertiesSet();
+        return factory;
+    }
+
+    private static long percentile(long[] sorted, double ratio) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(ratio * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * 경매 종료 Job 대역 (실행 지연 / 노드 / 중복 실행 기록 후 전환 트랜잭션만큼 대기)
+     */
+    public static class BurstEndJob implements Job {
+        @Override
+        public void execute(JobExecutionContext context) {
+            long lag = System.currentTimeMillis() - context.getScheduledFireTime().getTime();
+            long auctionId = context.getJobDetail().getJobDataMap().getLong("auctionId");
+            try {
+                NODE_FIRES.computeIfAbsent(context.getScheduler().getSchedulerInstanceId(), id -> new AtomicInteger())
+                        .incrementAndGet();
+                Thread.sleep(JOB_WORK_MILLIS);
+            } catch (SchedulerException e) {
+                throw new IllegalStateException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            LAGS.add(lag);
+            if (FIRES.computeIfAbsent(auctionId, id -> new AtomicInteger()).incrementAndGet() == 1) {
+                remaining.countDown();
+            }
+        }
+    }
+}
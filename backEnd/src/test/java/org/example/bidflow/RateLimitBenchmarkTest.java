@@ -0,0 +1,293 @@
+package org.example.bidflow;
+
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import org.example.bidflow.global.annotation.RateLimit;
+import org.example.bidflow.global.aspect.RateLimitDescriptor;
+import org.example.bidflow.global.config.RateLimitingConfig;
+import org.example.bidflow.global.config.RateLimitingConfig.RateLimitAlgorithm;
+import org.example.bidflow.global.service.RateLimitingService;
+import org.example.bidflow.global.service.SlidingWindowRateLimiter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Rate Limiting 알고리즘 벤치마크 테스트 클래스
+ *
+ * 목적:
+ * - 하나의 키에 요청이 몰리는 상황(NAT 뒤의 동일 IP)에서
+ *   Bucket4j 토큰 버킷(Redis CAS)과 슬라이딩 윈도우 카운터(Lua 1회)의 처리량/지연을 비교
+ *
+ * 측정 방법:
+ * - 32개 스레드가 동일한 IP 로 checkIpLimit 을 반복 호출
+ * - 제한값을 충분히 크게 두어 거부 없이 순수 검사 비용만 측정
+ * - 워밍업 후 처리량(ops/s)과 p50/p99 지연(µs)을 출력
+ * - @RateLimit 키 생성 비용: 호출마다 SpEL 파싱(기존 방식) vs 시작 시 생성한 설정(RateLimitDescriptor)
+ *
+ * ⚠️ 중요: Redis 를 사용하는 테스트는 로컬 Redis(localhost:6379)가 실행 중이어야 합니다. 없으면 건너뜁니다.
+ */
+public class RateLimitBenchmarkTest {
+
+    private static final String REDIS_HOST = "localhost";
+    private static final int REDIS_PORT = 6379;
+
+    private static final int THREADS = 32;
+    private static final int REQUESTS_PER_THREAD = 500;
+
+    private static final int KEY_ITERATIONS = 200_000;
+
+    private static boolean redisAvailable;
+
+    private static RedisClient redisClient;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private static LettuceBasedProxyManager proxyManager;
+
+    @BeforeAll
+    static void setUp() {
+        redisAvailable = isRedisRunning();
+        if (!redisAvailable) {
+            return;
+        }
+
+        redisClient = RedisClient.create(RedisURI.Builder.redis(REDIS_HOST, REDIS_PORT).build());
+        proxyManager = LettuceBasedProxyManager.builderFor(redisClient)
+                .withExpirationStrategy(ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ofMinutes(5)))
+                .build();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS_HOST, REDIS_PORT));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redisClient != null) {
+            redisClient.shutdown();
+        }
+    }
+
+    /**
+     * 단일 키 경합 벤치마크 (토큰 버킷 vs 슬라이딩 윈도우)
+     */
+    @Tag("benchmark")
+    @Test
+    public void benchmarkAlgorithmsUnderContention() throws Exception {
+        assumeTrue(redisAvailable, "로컬 Redis 가 실행 중이 아니므로 벤치마크를 건너뜁니다.");
+        System.out.println("🚀 Rate Limiting 알고리즘 경합 벤치마크 시작...");
+        System.out.printf("   스레드: %d, 스레드당 요청: %d, 동일 키 사용%n", THREADS, REQUESTS_PER_THREAD);
+
+        for (RateLimitAlgorithm algorithm : RateLimitAlgorithm.values()) {
+            RateLimitingService service = createService(algorithm);
+            String ip = "bench-" + algorithm.name().toLowerCase() + "-" + System.nanoTime();
+
+            // 워밍업 (커넥션, 스크립트 캐시, JIT)
+            run(service, ip + "-warmup", 4, 200);
+
+            BenchmarkResult result = run(service, ip, THREADS, REQUESTS_PER_THREAD);
+            print(algorithm, result);
+        }
+
+        System.out.println("✅ Rate Limiting 알고리즘 경합 벤치마크 완료!");
+    }
+
+    /**
+     * 슬라이딩 윈도우 제한 정확성 확인 (초당 제한 초과분은 거부되어야 함)
+     */
+    @Test
+    public void slidingWindowRejectsOverLimit() throws InterruptedException {
+        assumeTrue(redisAvailable, "로컬 Redis 가 실행 중이 아니므로 테스트를 건너뜁니다.");
+        RateLimitingConfig config = new RateLimitingConfig();
+        config.getDefaultIpLimit().setAlgorithm(RateLimitAlgorithm.SLIDING_WINDOW);
+        config.getDefaultIpLimit().setRequestsPerSecond(5);
+        config.getDefaultIpLimit().setRequestsPerMinute(1000);
+        config.getDefaultIpLimit().setRequestsPerHour(10000);
+        RateLimitingService service = new RateLimitingService(proxyManager, config,
+                new SlidingWindowRateLimiter(stringRedisTemplate));
+
+        String ip = "bench-accuracy-" + System.nanoTime();
+        // 초 윈도우 경계에 걸리지 않도록 새 초가 시작된 직후에 요청
+        Thread.sleep(1000 - System.currentTimeMillis() % 1000);
+        int allowed = 0;
+        for (int i = 0; i < 20; i++) {
+            if (service.checkIpLimit(ip).isAllowed()) {
+                allowed++;
+            }
+        }
+
+        // 같은 초 안에서 20회 요청 → 초당 제한(5)만 허용
+        System.out.println("📊 슬라이딩 윈도우 허용 수: " + allowed + " / 20 (제한: 5회/초)");
+        assertTrue(allowed > 0 && allowed <= 5);
+    }
+
+    /**
+     * @RateLimit 키 생성 비용 벤치마크 (Redis 불필요)
+     * 기존 방식: 호출마다 SpelExpressionParser 로 파싱 + 평가 컨텍스트 생성 + 파라미터 변수 등록
+     * 개선 방식: 시작 시 생성한 설정으로 키 생성 (컴파일된 SpEL / 단일 파라미터 직접 추출)
+     */
+    @Tag("benchmark")
+    @Test
+    public void benchmarkRateLimitKeyResolution() throws NoSuchMethodException {
+        System.out.println("🚀 @RateLimit 키 생성 비용 벤치마크 시작...");
+
+        Method compositeMethod = SampleBidApi.class.getMethod("placeBid", Long.class, String.class);
+        Method singleMethod = SampleBidApi.class.getMethod("getAuction", Long.class);
+        DefaultParameterNameDiscoverer discoverer = new DefaultParameterNameDiscoverer();
+        RateLimitDescriptor compiled = RateLimitDescriptor.create(compositeMethod,
+                compositeMethod.getAnnotation(RateLimit.class), discoverer);
+        RateLimitDescriptor direct = RateLimitDescriptor.create(singleMethod,
+                singleMethod.getAnnotation(RateLimit.class), discoverer);
+
+        Object[] args = {42L, "user-1"};
+        String expression = compositeMethod.getAnnotation(RateLimit.class).keyExpression();
+
+        // 결과 동일성 확인
+        assertEquals("42:user-1", legacyKey(expression, args));
+        assertTrue(compiled.resolveKey(args).endsWith(":custom:42:user-1"));
+        assertTrue(direct.resolveKey(args).endsWith(":custom:42"));
+
+        long legacyNanos = measure(() -> legacyKey(expression, args));
+        long compiledNanos = measure(() -> compiled.resolveKey(args));
+        long directNanos = measure(() -> direct.resolveKey(args));
+
+        System.out.printf("📊 %-28s %,8d ns/op%n", "호출마다 SpEL 파싱 (기존)", legacyNanos);
+        System.out.printf("📊 %-28s %,8d ns/op%n", "컴파일된 SpEL 설정", compiledNanos);
+        System.out.printf("📊 %-28s %,8d ns/op%n", "단일 파라미터 직접 추출", directNanos);
+        System.out.println("✅ @RateLimit 키 생성 비용 벤치마크 완료!");
+    }
+
+    /** 기존 RateLimitingAspect.evaluateKeyExpression 과 동일한 호출별 처리 */
+    private static String legacyKey(String keyExpression, Object[] args) {
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        for (int i = 0; i < args.length; i++) {
+            context.setVariable("arg" + i, args[i]);
+            context.setVariable("p" + i, args[i]);
+        }
+        Object value = new SpelExpressionParser().parseExpression(keyExpression).getValue(context);
+        return String.valueOf(value);
+    }
+
+    /** 워밍업 후 평균 소요 시간(ns/op) 측정 */
+    private static long measure(Supplier<String> task) {
+        long blackhole = 0;
+        for (int i = 0; i < KEY_ITERATIONS / 4; i++) {
+            blackhole += task.get().length();
+        }
+        long begin = System.nanoTime();
+        for (int i = 0; i < KEY_ITERATIONS; i++) {
+            blackhole += task.get().length();
+        }
+        long elapsed = System.nanoTime() - begin;
+        assertTrue(blackhole > 0);
+        return elapsed / KEY_ITERATIONS;
+    }
+
+    /** 키 생성 벤치마크용 @RateLimit 메서드 */
+    public static class SampleBidApi {
+        @RateLimit(requests = 10, keyType = RateLimit.KeyType.CUSTOM, keyExpression = "#p0 + ':' + #p1")
+        public void placeBid(Long auctionId, String userUUID) {
+        }
+
+        @RateLimit(requests = 10, keyType = RateLimit.KeyType.CUSTOM, keyExpression = "#p0")
+        public void getAuction(Long auctionId) {
+        }
+    }
+
+    private RateLimitingService createService(RateLimitAlgorithm algorithm) {
+        RateLimitingConfig config = new RateLimitingConfig();
+        config.getDefaultIpLimit().setAlgorithm(algorithm);
+        config.getDefaultIpLimit().setRequestsPerSecond(1_000_000);
+        config.getDefaultIpLimit().setRequestsPerMinute(1_000_000);
+        config.getDefaultIpLimit().setRequestsPerHour(1_000_000);
+        return new RateLimitingService(proxyManager, config, new SlidingWindowRateLimiter(stringRedisTemplate));
+    }
+
+    private BenchmarkResult run(RateLimitingService service, String ip, int threads, int requestsPerThread) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long[] latencies = new long[threads * requestsPerThread];
+        AtomicLong index = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < requestsPerThread; i++) {
+                        long begin = System.nanoTime();
+                        service.checkIpLimit(ip);
+                        latencies[(int) index.getAndIncrement()] = System.nanoTime() - begin;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await(2, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+
+        return new BenchmarkResult(latencies, elapsed);
+    }
+
+    private void print(RateLimitAlgorithm algorithm, BenchmarkResult result) {
+        long[] latencies = result.latencies();
+        Arrays.sort(latencies);
+
+        double throughput = latencies.length / (result.elapsedNanos() / 1_000_000_000.0);
+        long p50 = latencies[(int) (latencies.length * 0.50)] / 1000;
+        long p99 = latencies[(int) (latencies.length * 0.99)] / 1000;
+
+        System.out.printf("📊 %-15s 처리량: %,10.0f ops/s | p50: %,6d µs | p99: %,7d µs%n",
+                algorithm, throughput, p50, p99);
+    }
+
+    /** 요청별 지연(ns)과 전체 소요 시간(ns) */
+    private record BenchmarkResult(long[] latencies, long elapsedNanos) {
+    }
+
+    private static boolean isRedisRunning() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(REDIS_HOST, REDIS_PORT), 500);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
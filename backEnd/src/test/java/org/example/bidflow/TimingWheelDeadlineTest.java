@@ -0,0 +1,404 @@
+package org.example.bidflow;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.bidflow.global.app.AuctionLifecycleService;
+import org.example.bidflow.global.app.NodeIdentity;
+import org.example.bidflow.global.app.deadline.AuctionDeadline;
+import org.example.bidflow.global.app.deadline.HierarchicalTimingWheel;
+import org.example.bidflow.global.app.deadline.HierarchicalTimingWheel.Timeout;
+import org.example.bidflow.global.app.deadline.TimingWheelAuctionDeadlineScheduler;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 타이밍 휠 마감 실행 테스트 클래스
+ *
+ * 목적:
+ * - HierarchicalTimingWheel 이 레벨 간 재배치(cascade) / 취소 / 지난 마감 / 표현 범위를 넘는 마감을
+ *   마감 틱보다 일찍 만료시키지 않고 정확히 그 틱에 만료시키는지 확인
+ * - TimingWheelAuctionDeadlineScheduler 의 선점(claim) → 상태 전환 → 완료(complete) 경로와
+ *   전환 실패 / 노드 종료로 남은 선점 점수가 만료되면 다시 실행되는 경로 확인
+ *
+ * 측정 방법:
+ * - 휠: 1ms 틱, 레벨당 4칸, 3레벨(64틱) 휠에 마감을 넣고 1ms 씩 진행하며 만료 시각 기록
+ * - 스케줄러: 짧은 틱 / 적재 주기 / 선점 시간으로 시작하고, 상태 전환 호출과 정렬 집합 점수 확인
+ *
+ * ⚠️ 중요: 휠 테스트는 Redis 없이 실행합니다.
+ * 스케줄러 테스트는 로컬 Redis(localhost:6379)의 DB 15 를 사용하며, Redis 가 없으면 건너뜁니다.
+ */
+public class TimingWheelDeadlineTest {
+
+    private static final String REDIS_HOST = "localhost";
+    private static final int REDIS_PORT = 6379;
+    private static final int REDIS_DATABASE = 15;
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final long TICK_MS = 10;
+    private static final long REFILL_INTERVAL_MS = 50;
+    private static final long RETRY_DELAY_MS = 300;
+    private static final long WAIT_MS = 5_000;
+
+    private static boolean redisAvailable;
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        redisAvailable = isRedisRunning();
+        if (!redisAvailable) {
+            return;
+        }
+
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(REDIS_HOST, REDIS_PORT);
+        configuration.setDatabase(REDIS_DATABASE);
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (connectionFactory != null) {
+            stringRedisTemplate.delete(List.of(TimingWheelAuctionDeadlineScheduler.DEADLINES_KEY,
+                    TimingWheelAuctionDeadlineScheduler.LEADER_KEY));
+            connectionFactory.destroy();
+        }
+    }
+
+    @BeforeEach
+    void clearDeadlines() {
+        if (redisAvailable) {
+            stringRedisTemplate.delete(List.of(TimingWheelAuctionDeadlineScheduler.DEADLINES_KEY,
+                    TimingWheelAuctionDeadlineScheduler.LEADER_KEY));
+        }
+    }
+
+    /**
+     * 레벨 0 / 1 / 2 에 배치된 마감이 재배치를 거쳐 정확히 마감 틱에 만료
+     */
+    @Test
+    public void wheelCascadesAcrossLevelsAndFiresOnDeadlineTick() {
+        System.out.println("🚀 타이밍 휠 재배치 테스트 시작...");
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1, 2, 3, 0);
+        long[] deadlines = {1, 3, 4, 5, 15, 16, 17, 40, 63};
+        for (long deadline : deadlines) {
+            wheel.add(deadline, deadline);
+        }
+
+        Map<Long, Long> firedAt = advanceStepwise(wheel, 0, 70);
+
+        assertEquals(deadlines.length, firedAt.size(), "모든 마감이 한 번씩 만료되어야 합니다.");
+        for (long deadline : deadlines) {
+            assertEquals(Long.valueOf(deadline), firedAt.get(deadline), "마감 틱에 정확히 만료되어야 합니다. 마감: " + deadline);
+        }
+        assertEquals(0, wheel.size());
+        System.out.println("✅ 타이밍 휠 재배치 테스트 완료");
+    }
+
+    /**
+     * 취소한 마감은 (상위 레벨에서 재배치된 뒤라도) 만료되지 않음, 두 번째 취소는 false
+     */
+    @Test
+    public void wheelCancelRemovesDeadlineEvenAfterCascade() {
+        System.out.println("🚀 타이밍 휠 취소 테스트 시작...");
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1, 2, 3, 0);
+        Timeout<Long> early = wheel.add(2L, 2);
+        Timeout<Long> cascaded = wheel.add(30L, 30);
+        wheel.add(31L, 31);
+        assertEquals(3, wheel.size());
+
+        assertTrue(wheel.cancel(early));
+        assertFalse(wheel.cancel(early), "이미 취소된 마감은 false 여야 합니다.");
+
+        List<Long> fired = new ArrayList<>();
+        wheel.advanceTo(20, timeout -> fired.add(timeout.task())); // 30 은 레벨 2 → 1 → 0 으로 내려오는 중
+        assertTrue(wheel.cancel(cascaded));
+        wheel.advanceTo(40, timeout -> fired.add(timeout.task()));
+
+        assertEquals(List.of(31L), fired, "취소한 마감은 만료되지 않아야 합니다.");
+        assertFalse(wheel.cancel(cascaded));
+        assertEquals(0, wheel.size());
+        System.out.println("✅ 타이밍 휠 취소 테스트 완료");
+    }
+
+    /**
+     * 이미 지난 마감은 다음 틱에 만료 (등록 시점 틱에서는 만료되지 않음)
+     */
+    @Test
+    public void wheelFiresPastDueDeadlineOnNextTick() {
+        System.out.println("🚀 타이밍 휠 지난 마감 테스트 시작...");
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 2, 3, 1_000);
+        wheel.add(1L, 500);
+
+        List<Long> fired = new ArrayList<>();
+        assertEquals(0, wheel.advanceTo(1_009, timeout -> fired.add(timeout.task())));
+        assertEquals(1, wheel.advanceTo(1_010, timeout -> fired.add(timeout.task())));
+        assertEquals(List.of(1L), fired);
+        assertEquals(0, wheel.size());
+        System.out.println("✅ 타이밍 휠 지난 마감 테스트 완료");
+    }
+
+    /**
+     * 휠 표현 범위(64틱)를 넘는 마감은 최상위 레벨 끝에 두었다가 다시 배치되어 마감 틱에 만료
+     */
+    @Test
+    public void wheelHoldsDeadlinesBeyondSpanUntilTheirTick() {
+        System.out.println("🚀 타이밍 휠 범위 초과 마감 테스트 시작...");
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1, 2, 3, 0);
+        long[] deadlines = {64, 100, 200, 1_000};
+        for (long deadline : deadlines) {
+            wheel.add(deadline, deadline);
+        }
+
+        Map<Long, Long> firedAt = advanceStepwise(wheel, 0, 1_010);
+
+        for (long deadline : deadlines) {
+            assertEquals(Long.valueOf(deadline), firedAt.get(deadline), "범위를 넘는 마감도 마감 틱에 만료되어야 합니다. 마감: " + deadline);
+        }
+        System.out.println("✅ 타이밍 휠 범위 초과 마감 테스트 완료");
+    }
+
+    /**
+     * 무작위 마감 / 무작위 진행 폭에서도 마감 시각 이후 첫 진행에서 만료 (일찍 / 늦게 만료 없음)
+     */
+    @Test
+    public void wheelNeverFiresEarlyOrLateUnderRandomAdvance() {
+        System.out.println("🚀 타이밍 휠 무작위 진행 테스트 시작...");
+        Random random = new Random(42);
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1, 2, 3, 0);
+        Map<Long, Long> deadlines = new HashMap<>();
+        for (long id = 0; id < 2_000; id++) {
+            long deadline = 1 + random.nextInt(500);
+            deadlines.put(id, deadline);
+            wheel.add(id, deadline);
+        }
+
+        Map<Long, long[]> firedWindow = new HashMap<>();
+        long previous = 0;
+        long now = 0;
+        while (now < 520) {
+            now += 1 + random.nextInt(20);
+            long from = previous;
+            long to = now;
+            wheel.advanceTo(now, timeout -> firedWindow.put(timeout.task(), new long[]{from, to}));
+            previous = now;
+        }
+
+        assertEquals(deadlines.size(), firedWindow.size(), "모든 마감이 한 번씩 만료되어야 합니다.");
+        deadlines.forEach((id, deadline) -> {
+            long[] window = firedWindow.get(id);
+            assertTrue(window[0] < deadline && deadline <= window[1],
+                    "마감 시각이 지난 뒤 첫 진행에서 만료되어야 합니다. 마감: " + deadline);
+        });
+        System.out.println("✅ 타이밍 휠 무작위 진행 테스트 완료");
+    }
+
+    /**
+     * 선점 → 상태 전환 → 완료 후 정렬 집합에서 제거
+     */
+    @Test
+    public void schedulerClaimsFiresAndCompletesDeadline() {
+        assumeTrue(redisAvailable, "로컬 Redis 가 실행 중이 아니므로 테스트를 건너뜁니다.");
+        System.out.println("🚀 타이밍 휠 스케줄러 실행 테스트 시작...");
+        RecordingLifecycle lifecycle = new RecordingLifecycle(0);
+        TimingWheelAuctionDeadlineScheduler scheduler = startScheduler(lifecycle);
+        try {
+            scheduler.schedule(AuctionDeadline.end(1L), LocalDateTime.now(ZONE).plusNanos(200_000_000L));
+
+            assertTrue(awaitUntil(() -> lifecycle.fired.size() == 1 && score("END:1") == null),
+                    "마감이 실행되고 정렬 집합에서 제거되어야 합니다.");
+            assertEquals(List.of("END:1"), List.copyOf(lifecycle.fired));
+        } finally {
+            scheduler.stop();
+        }
+        System.out.println("✅ 타이밍 휠 스케줄러 실행 테스트 완료");
+    }
+
+    /**
+     * 상태 전환 실패 시 선점 점수가 남고, 선점 만료 시각에 다시 실행되어 완료
+     */
+    @Test
+    public void schedulerRefiresAfterClaimLeaseExpires() {
+        assumeTrue(redisAvailable, "로컬 Redis 가 실행 중이 아니므로 테스트를 건너뜁니다.");
+        System.out.println("🚀 타이밍 휠 스케줄러 재실행 테스트 시작...");
+        RecordingLifecycle lifecycle = new RecordingLifecycle(1);
+        TimingWheelAuctionDeadlineScheduler scheduler = startScheduler(lifecycle);
+        try {
+            scheduler.schedule(AuctionDeadline.end(2L), LocalDateTime.now(ZONE).plusNanos(100_000_000L));
+
+            assertTrue(awaitUntil(() -> lifecycle.attempts.get() == 1), "첫 실행이 시작되어야 합니다.");
+            Double leaseScore = score("END:2");
+            assertTrue(leaseScore != null && leaseScore > lifecycle.firstAttemptAt,
+                    "실패한 마감은 선점 만료 시각 점수로 남아 있어야 합니다.");
+
+            assertTrue(awaitUntil(() -> lifecycle.fired.size() == 1 && score("END:2") == null),
+                    "선점 만료 후 다시 실행되어 완료되어야 합니다.");
+            long retriedAfter = lifecycle.lastAttemptAt - lifecycle.firstAttemptAt;
+            System.out.printf("📊 재실행까지: %d ms (선점 시간 %d ms)%n", retriedAfter, RETRY_DELAY_MS);
+            assertTrue(retriedAfter >= RETRY_DELAY_MS - 50, "선점 만료 전에 다시 실행되면 안 됩니다.");
+            assertEquals(2, lifecycle.attempts.get());
+        } finally {
+            scheduler.stop();
+        }
+        System.out.println("✅ 타이밍 휠 스케줄러 재실행 테스트 완료");
+    }
+
+    /**
+     * 다른 노드가 선점한 채 종료되어 남은(이미 지난) 점수는 새 리더가 적재하여 실행
+     */
+    @Test
+    public void schedulerRefiresDeadlineLeftClaimedByDeadNode() {
+        assumeTrue(redisAvailable, "로컬 Redis 가 실행 중이 아니므로 테스트를 건너뜁니다.");
+        System.out.println("🚀 타이밍 휠 스케줄러 리더 교체 테스트 시작...");
+        stringRedisTemplate.opsForZSet().add(TimingWheelAuctionDeadlineScheduler.DEADLINES_KEY, "END:3",
+                System.currentTimeMillis() - 1_000);
+
+        RecordingLifecycle lifecycle = new RecordingLifecycle(0);
+        TimingWheelAuctionDeadlineScheduler scheduler = startScheduler(lifecycle);
+        try {
+            assertTrue(awaitUntil(() -> lifecycle.fired.size() == 1 && score("END:3") == null),
+                    "지난 선점 점수의 마감이 다시 실행되어야 합니다.");
+            assertEquals(List.of("END:3"), List.copyOf(lifecycle.fired));
+        } finally {
+            scheduler.stop();
+        }
+        System.out.println("✅ 타이밍 휠 스케줄러 리더 교체 테스트 완료");
+    }
+
+    /**
+     * 마감 전에 해제한 경매는 실행되지 않음
+     */
+    @Test
+    public void schedulerSkipsCancelledDeadline() throws InterruptedException {
+        assumeTrue(redisAvailable, "로컬 Redis 가 실행 중이 아니므로 테스트를 건너뜁니다.");
+        System.out.println("🚀 타이밍 휠 스케줄러 해제 테스트 시작...");
+        RecordingLifecycle lifecycle = new RecordingLifecycle(0);
+        TimingWheelAuctionDeadlineScheduler scheduler = startScheduler(lifecycle);
+        try {
+            scheduler.schedule(AuctionDeadline.end(4L), LocalDateTime.now(ZONE).plusNanos(300_000_000L));
+            scheduler.cancel(4L);
+
+            Thread.sleep(800);
+            assertEquals(0, lifecycle.attempts.get(), "해제한 마감은 실행되지 않아야 합니다.");
+            assertNull(score("END:4"));
+        } finally {
+            scheduler.stop();
+        }
+        System.out.println("✅ 타이밍 휠 스케줄러 해제 테스트 완료");
+    }
+
+    /**
+     * 1틱(1ms)씩 진행하며 마감별 만료 시각 기록
+     */
+    private static Map<Long, Long> advanceStepwise(HierarchicalTimingWheel<Long> wheel, long from, long to) {
+        Map<Long, Long> firedAt = new HashMap<>();
+        for (long now = from + 1; now <= to; now++) {
+            long tick = now;
+            wheel.advanceTo(now, timeout -> assertNull(firedAt.put(timeout.task(), tick), "마감이 두 번 만료되었습니다."));
+        }
+        return firedAt;
+    }
+
+    private static TimingWheelAuctionDeadlineScheduler startScheduler(AuctionLifecycleService lifecycle) {
+        TimingWheelAuctionDeadlineScheduler scheduler = new TimingWheelAuctionDeadlineScheduler(stringRedisTemplate,
+                lifecycle, new NodeIdentity(), new SimpleMeterRegistry(),
+                TICK_MS, 60_000, REFILL_INTERVAL_MS, 1_000, 2_000, RETRY_DELAY_MS, 4);
+        scheduler.start();
+        return scheduler;
+    }
+
+    private static Double score(String member) {
+        return stringRedisTemplate.opsForZSet().score(TimingWheelAuctionDeadlineScheduler.DEADLINES_KEY, member);
+    }
+
+    private static boolean awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + WAIT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return condition.getAsBoolean();
+    }
+
+    private static boolean isRedisRunning() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(REDIS_HOST, REDIS_PORT), 500);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 상태 전환 기록 (처음 failures 번은 실패)
+     */
+    static class RecordingLifecycle extends AuctionLifecycleService {
+        private final ConcurrentLinkedQueue<String> fired = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final AtomicInteger failures;
+        private volatile long firstAttemptAt;
+        private volatile long lastAttemptAt;
+
+        RecordingLifecycle(int failures) {
+            super(null, null);
+            this.failures = new AtomicInteger(failures);
+        }
+
+        @Override
+        public boolean startAuction(Long auctionId) {
+            return record(AuctionDeadline.start(auctionId));
+        }
+
+        @Override
+        public boolean endAuction(Long auctionId) {
+            return record(AuctionDeadline.end(auctionId));
+        }
+
+        private boolean record(AuctionDeadline deadline) {
+            lastAttemptAt = System.currentTimeMillis();
+            if (attempts.incrementAndGet() == 1) {
+                firstAttemptAt = lastAttemptAt;
+            }
+            if (failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("상태 전환 실패 (테스트)");
+            }
+            fired.add(deadline.member());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,909 @@
+package org.example.bidflow;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.bidflow.domain.bid.dto.model.response.webSocket.WebSocketResponse;
+import org.example.bidflow.global.app.ApplicationExecutors;
+import org.example.bidflow.global.app.NodeIdentity;
+import org.example.bidflow.global.messaging.broadcast.AuctionBroadcaster;
+import org.example.bidflow.global.messaging.broadcast.ConflatingAuctionBroadcaster;
+import org.example.bidflow.global.messaging.broadcast.OutboundBackpressurePolicy;
+import org.example.bidflow.global.messaging.broadcast.StompFrameFanout;
+import org.example.bidflow.global.messaging.broker.ExactDestinationSubscriptionRegistry;
+import org.example.bidflow.global.messaging.publisher.RedisMessagePublisher;
+import org.example.bidflow.global.messaging.replay.AuctionCatchUp;
+import org.example.bidflow.global.messaging.replay.AuctionReplayBuffer;
+import org.example.bidflow.global.messaging.replay.AuctionResumeHandler;
+import org.example.bidflow.global.messaging.replay.AuctionSequence;
+import org.example.bidflow.global.messaging.subscriber.RedisMessageSubscriber;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.DefaultSubscriptionRegistry;
+import org.springframework.messaging.simp.broker.SubscriptionRegistry;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * WebSocket 브로드캐스트 팬아웃 벤치마크 테스트 클래스
+ *
+ * 목적:
+ * - 여러 노드(인스턴스) 환경에서 경매 브로드캐스트가 Redis Pub/Sub 릴레이를 거쳐
+ *   모든 노드의 로컬 브로커까지 전달되는 처리량 측정
+ * - 발행 노드에는 정확히 한 번만 전달되는지(자기 메시지 중복 제거) 확인
+ * - 입찰 폭주 시 가격 갱신 병합(Conflation)으로 전송 프레임 수가 입찰 수와 무관하게 제한되는지 확인
+ * - 세션 1만 개 팬아웃 시 브로드캐스트 1회당 CPU 시간 / 메모리 할당량 비교
+ *   (SimpleBroker 경로: 세션마다 메시지 복사 + STOMP 인코딩 vs 사전 인코딩 프레임 공유)
+ * - 대량 재연결 시 last-seq 이후 누락분만 재전송 버퍼에서 보내는지 (REST 재조회 없이) 확인
+ * - 세션 수 증가에 따른 구독 조회 비용 비교 (DefaultSubscriptionRegistry vs 정확한 목적지 저장소)
+ * - 느린 세션 격리: 송신이 막힌 세션은 가격 갱신을 최신 프레임으로 대체하고, 송신 시간 한도를 넘으면 종료
+ * - 송신 스레드보다 많은 세션이 막혀도 감시 스레드가 종료하여 송신 스레드를 돌려받는지 확인 (기본 test 에서 실행)
+ *
+ * 측정 방법:
+ * - 한 JVM 안에 노드 3개를 구성 (노드마다 별도 Redis 커넥션 / 구독 컨테이너 / 노드 ID)
+ * - 로컬 브로커 대신 전달 횟수를 세는 채널을 사용
+ * - 노드 0 에서 메시지를 발행하고, 모든 노드가 전부 전달할 때까지의 처리량(msg/s) 출력
+ *
+ * ⚠️ 중요: 릴레이 벤치마크는 로컬 Redis(localhost:6379)가 실행 중이어야 합니다. 없으면 해당 테스트를 건너뜁니다.
+ *          (병합 벤치마크는 Redis 없이 로컬 전달만 측정합니다)
+ */
+public class WebSocketFanoutBenchmarkTest {
+
+    private static final String REDIS_HOST = "localhost";
+    private static final int REDIS_PORT = 6379;
+
+    private static final int NODES = 3;
+    private static final int MESSAGES = 20_000;
+    private static final int AUCTIONS = 10;
+    private static final long WARMUP_AUCTION_ID = -1L;
+    private static final String WARMUP_DESTINATION = "/sub/auction/" + WARMUP_AUCTION_ID;
+
+    private static final int STORM_BIDS = 200_000;
+    private static final int STORM_THREADS = 4;
+    private static final long FLUSH_INTERVAL_MS = 100;
+
+    private static final int FANOUT_SESSIONS = 10_000;
+    private static final int FANOUT_WARMUP = 20;
+    private static final int FANOUT_ITERATIONS = 50;
+    private static final String FANOUT_DESTINATION = "/sub/auction/1";
+
+    private static final int RESUME_SESSIONS = 10_000;
+    private static final int RESUME_BROADCASTS = 200;
+    private static final int RESUME_MAX_MISSED = 50;
+
+    private static final int[] REGISTRY_SESSIONS = {1_000, 10_000, 50_000};
+    private static final int REGISTRY_AUCTIONS = 1_000;
+    private static final int REGISTRY_OPERATIONS = 100_000;
+
+    private static final int SLOW_FAST_SESSIONS = 1_000;
+    private static final int SLOW_BROADCASTS = 500;
+    private static final int SLOW_SEND_TIME_LIMIT_MS = 2_000; // 정상 세션 전달이 끝나기 전에 감시 스레드가 닫지 않도록 여유
+
+    private static final int STALL_WRITER_THREADS = 2;
+    private static final int STALLED_SESSIONS = STALL_WRITER_THREADS * 2;
+    private static final int STALL_FAST_SESSIONS = 50;
+    private static final int STALL_SEND_TIME_LIMIT_MS = 300;
+    private static final String STALL_DESTINATION = "/sub/auction/2";
+
+    private static final ApplicationExecutors executors = new ApplicationExecutors();
+    private static boolean redisAvailable;
+    private static ObjectMapper objectMapper;
+    private static final List<RelayNode> nodes = new ArrayList<>();
+
+    @BeforeAll
+    static void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        redisAvailable = isRedisRunning();
+        if (!redisAvailable) {
+            return;
+        }
+
+        for (int i = 0; i < NODES; i++) {
+            nodes.add(new RelayNode(objectMapper));
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        nodes.forEach(RelayNode::close);
+        executors.destroy();
+    }
+
+    /**
+     * 다중 노드 Redis 릴레이 팬아웃 처리량
+     */
+    @Tag("benchmark")
+    @Test
+    public void benchmarkCrossNodeRelay() throws InterruptedException {
+        assumeTrue(redisAvailable, "로컬 Redis 가 실행 중이 아니므로 벤치마크를 건너뜁니다.");
+        System.out.println("🚀 다중 노드 브로드캐스트 릴레이 벤치마크 시작...");
+        System.out.printf("   노드: %d, 메시지: %,d, 경매 수: %d%n", NODES, MESSAGES, AUCTIONS);
+
+        RelayNode origin = nodes.get(0);
+        waitForSubscriptions(origin);
+
+        long begin = System.nanoTime();
+        for (int i = 0; i < MESSAGES; i++) {
+            origin.broadcaster.broadcast((long) (i % AUCTIONS), i / AUCTIONS + 1, WebSocketResponse.builder()
+                    .message("입찰 성공")
+                    .localDateTime(LocalDateTime.now())
+                    .nickname("bidder-" + i)
+                    .currentBid(10_000 + i)
+                    .userUUID("user-" + i)
+                    .build());
+        }
+        long publishNanos = System.nanoTime() - begin;
+
+        for (RelayNode node : nodes) {
+            awaitDeliveries(node, MESSAGES, 60);
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        // 발행 노드가 자기 메시지를 Redis 에서 다시 받아도 중복 전달하지 않아야 함
+        Thread.sleep(500);
+        for (int i = 0; i < NODES; i++) {
+            System.out.printf("📊 노드 %d 전달 수: %,d%n", i, nodes.get(i).delivered.sum());
+            assertEquals(MESSAGES, nodes.get(i).delivered.sum());
+        }
+
+        double seconds = elapsed / 1_000_000_000.0;
+        System.out.printf("📊 발행 처리량: %,.0f msg/s (발행 노드 기준)%n", MESSAGES / (publishNanos / 1_000_000_000.0));
+        System.out.printf("📊 전체 전달 처리량: %,.0f deliveries/s (모든 노드 합산)%n", MESSAGES * NODES / seconds);
+        System.out.printf("📊 마지막 노드까지 전달 완료: %,d ms%n", TimeUnit.NANOSECONDS.toMillis(elapsed));
+        System.out.println("✅ 다중 노드 브로드캐스트 릴레이 벤치마크 완료!");
+    }
+
+    /**
+     * 입찰 폭주 시 가격 갱신 병합 효과 (전송 프레임 수 / 마지막 메시지 보장)
+     */
+    @Tag("benchmark")
+    @Test
+    public void benchmarkConflatedBidStorm() throws InterruptedException {
+        System.out.println("🚀 가격 갱신 병합(Conflation) 벤치마크 시작...");
+        System.out.printf("   입찰: %,d, 스레드: %d, 경매 수: %d, flush 주기: %d ms%n",
+                STORM_BIDS, STORM_THREADS, AUCTIONS, FLUSH_INTERVAL_MS);
+
+        // Redis 발행 없이 로컬 전달 프레임 수와 경매별 마지막 메시지만 기록
+        LongAdder frames = new LongAdder();
+        Map<String, String> lastFrames = new ConcurrentHashMap<>();
+        MessageChannel localBroker = (message, timeout) -> {
+            frames.increment();
+            lastFrames.put(SimpMessageHeaderAccessor.getDestination(message.getHeaders()),
+                    new String((byte[]) message.getPayload(), StandardCharsets.UTF_8));
+            return true;
+        };
+        // 입찰 저장 시 순번 발급을 흉내 (입찰마다 next, 종료 메시지도 같은 순번 공간)
+        AuctionSequence sequence = AuctionSequence.local();
+        AuctionBroadcaster broadcaster = new AuctionBroadcaster(new SimpMessagingTemplate(localBroker),
+                new StompFrameFanout(false, outboundPolicy(10_000, 512 * 1024)), (topic, message) -> { }, objectMapper,
+                sequence, new AuctionReplayBuffer(256), List.of(), new NodeIdentity());
+        ConflatingAuctionBroadcaster conflating =
+                new ConflatingAuctionBroadcaster(broadcaster, new SimpleMeterRegistry(), executors, true, FLUSH_INTERVAL_MS);
+
+        // 스케줄러 대신 flush 주기 스레드
+        LongAdder flushes = new LongAdder();
+        Thread flusher = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    Thread.sleep(FLUSH_INTERVAL_MS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                conflating.flush();
+                flushes.increment();
+            }
+        });
+        flusher.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(STORM_THREADS);
+        CountDownLatch done = new CountDownLatch(STORM_THREADS);
+        long begin = System.nanoTime();
+        for (int t = 0; t < STORM_THREADS; t++) {
+            int offset = t;
+            executor.submit(() -> {
+                for (int i = offset; i < STORM_BIDS; i += STORM_THREADS) {
+                    long auctionId = i % AUCTIONS;
+                    conflating.submit(auctionId, sequence.next(auctionId), WebSocketResponse.builder()
+                            .message("입찰 성공")
+                            .localDateTime(LocalDateTime.now())
+                            .nickname("bidder-" + i)
+                            .currentBid(10_000 + i)
+                            .userUUID("user-" + i)
+                            .build());
+                }
+                done.countDown();
+            });
+        }
+        done.await(60, TimeUnit.SECONDS);
+        long elapsed = System.nanoTime() - begin;
+
+        // 종료 메시지는 대기 중인 갱신 이후 반드시 마지막으로 전달되어야 함
+        for (long auctionId = 0; auctionId < AUCTIONS; auctionId++) {
+            conflating.broadcastFinal(auctionId, Map.of("auctionId", auctionId, "winnerNickname", "final"));
+        }
+        // 종료 직전에 수락된 입찰이 종료 메시지 뒤에 도착해도 다음 flush 에서 전송되지 않아야 함
+        for (long auctionId = 0; auctionId < AUCTIONS; auctionId++) {
+            conflating.submit(auctionId, sequence.next(auctionId), Map.of("auctionId", auctionId, "nickname", "late"));
+        }
+        flusher.interrupt();
+        flusher.join();
+        conflating.flush();
+        executor.shutdown();
+
+        long maxFrames = (flushes.sum() + 2) * AUCTIONS + AUCTIONS;
+        System.out.printf("📊 입찰 처리량: %,.0f bids/s%n", STORM_BIDS / (elapsed / 1_000_000_000.0));
+        System.out.printf("📊 전송 프레임: %,d (입찰 %,d 건, 상한 %,d)%n", frames.sum(), STORM_BIDS, maxFrames);
+        System.out.printf("📊 프레임 감소율: %.2f%%%n", 100.0 * (1 - (double) frames.sum() / STORM_BIDS));
+
+        assertTrue(frames.sum() <= maxFrames, "전송 프레임 수는 flush 횟수 × 경매 수 이하여야 합니다.");
+        for (long auctionId = 0; auctionId < AUCTIONS; auctionId++) {
+            assertTrue(lastFrames.get("/sub/auction/" + auctionId).contains("final"),
+                    "경매 " + auctionId + " 의 마지막 메시지는 종료 메시지여야 합니다.");
+        }
+        System.out.println("✅ 가격 갱신 병합 벤치마크 완료!");
+    }
+
+    /**
+     * 세션 1만 개 팬아웃: 브로드캐스트 1회당 CPU 시간 / 할당량
+     */
+    @Tag("benchmark")
+    @Test
+    public void benchmarkPreEncodedFanout() throws Exception {
+        System.out.println("🚀 세션 팬아웃 벤치마크 시작...");
+        System.out.printf("   세션: %,d, 측정 반복: %d회%n", FANOUT_SESSIONS, FANOUT_ITERATIONS);
+
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        // 1. SimpleBroker 경로 재현: 변환 1회 + 세션마다 헤더 복사 / STOMP 인코딩 / 텍스트 메시지 생성
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        StompEncoder encoder = new StompEncoder();
+        List<WebSocketSession> legacySessions = new ArrayList<>();
+        for (int i = 0; i < FANOUT_SESSIONS; i++) {
+            legacySessions.add(new ConcurrentWebSocketSessionDecorator(new CountingSession("legacy-" + i), 10_000, 512 * 1024));
+        }
+        FanoutRun legacy = () -> {
+            Message<?> converted = converter.toMessage(createBidResponse(), null);
+            byte[] payload = (byte[]) converted.getPayload();
+            for (int i = 0; i < legacySessions.size(); i++) {
+                WebSocketSession session = legacySessions.get(i);
+                StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+                accessor.setSessionId(session.getId());
+                accessor.setSubscriptionId("sub-" + (i % 3));
+                accessor.setDestination(FANOUT_DESTINATION);
+                accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+                accessor.setMessageId(session.getId() + "-" + i);
+                byte[] frame = encoder.encode(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+                session.sendMessage(new TextMessage(frame));
+            }
+            return legacySessions.size();
+        };
+
+        // 2. 사전 인코딩 경로: 직렬화 1회 + 구독 ID 종류별 프레임 1회 인코딩 + 공유 프레임 전달
+        StompFrameFanout fanout = new StompFrameFanout(true, outboundPolicy(10_000, 512 * 1024));
+        WebSocketHandler handler = fanout.decorate(new TextWebSocketHandler());
+        for (int i = 0; i < FANOUT_SESSIONS; i++) {
+            CountingSession session = new CountingSession("fanout-" + i);
+            handler.afterConnectionEstablished(session);
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            accessor.setSessionId(session.getId());
+            accessor.setSubscriptionId("sub-" + (i % 3));
+            accessor.setDestination(FANOUT_DESTINATION);
+            fanout.onSubscribe(new SessionSubscribeEvent(this,
+                    MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+        }
+        FanoutRun preEncoded = () -> fanout.broadcast(FANOUT_DESTINATION,
+                objectMapper.writeValueAsBytes(createBidResponse()), MimeTypeUtils.APPLICATION_JSON_VALUE,
+                AuctionSequence.UNKNOWN, true);
+
+        long[] legacyResult = measureFanout(threadMXBean, legacy);
+        long[] fanoutResult = measureFanout(threadMXBean, preEncoded);
+
+        System.out.printf("📊 SimpleBroker 경로: CPU %.3f ms / 할당 %,d KB (브로드캐스트 1회당)%n",
+                legacyResult[0] / 1_000_000.0, legacyResult[1] / 1024);
+        System.out.printf("📊 사전 인코딩 경로: CPU %.3f ms / 할당 %,d KB (브로드캐스트 1회당)%n",
+                fanoutResult[0] / 1_000_000.0, fanoutResult[1] / 1024);
+        System.out.printf("📊 할당 감소율: %.2f%%%n", 100.0 * (1 - (double) fanoutResult[1] / legacyResult[1]));
+
+        assertEquals(FANOUT_SESSIONS, preEncoded.run(), "모든 구독 세션에 전달되어야 합니다.");
+        assertTrue(fanoutResult[1] < legacyResult[1], "사전 인코딩 경로의 할당량이 더 적어야 합니다.");
+        System.out.println("✅ 세션 팬아웃 벤치마크 완료!");
+    }
+
+    /**
+     * 대량 재연결 시 누락분 재전송 (스냅샷 + 순번 재개 프로토콜)
+     * 모든 세션이 재전송 버퍼 범위 안의 last-seq 로 다시 구독하므로 Redis(스냅샷) 조회 없이 처리됩니다.
+     */
+    @Tag("benchmark")
+    @Test
+    public void benchmarkReconnectResume() throws Exception {
+        System.out.println("🚀 재연결 누락분 재전송 벤치마크 시작...");
+        System.out.printf("   세션: %,d, 브로드캐스트: %d, 세션당 최대 누락: %d%n",
+                RESUME_SESSIONS, RESUME_BROADCASTS, RESUME_MAX_MISSED);
+
+        StompFrameFanout fanout = new StompFrameFanout(true, outboundPolicy(10_000, 512 * 1024));
+        AuctionSequence sequence = AuctionSequence.local();
+        AuctionReplayBuffer replayBuffer = new AuctionReplayBuffer(256);
+        AuctionBroadcaster broadcaster = new AuctionBroadcaster(new SimpMessagingTemplate((message, timeout) -> true),
+                fanout, (topic, message) -> { }, objectMapper, sequence, replayBuffer, List.of(), new NodeIdentity());
+        // 스냅샷 경로(Redis / 사용자 큐)는 사용하지 않으므로 주입하지 않음
+        AuctionResumeHandler resumeHandler = new AuctionResumeHandler(fanout,
+                new AuctionCatchUp(replayBuffer, sequence, null, objectMapper), null, executors, 2, Integer.MAX_VALUE);
+
+        for (int i = 0; i < RESUME_BROADCASTS; i++) {
+            broadcaster.broadcast(1L, sequence.next(1L), createBidResponse());
+        }
+
+        WebSocketHandler handler = fanout.decorate(new TextWebSocketHandler());
+        List<CountingSession> sessions = new ArrayList<>(RESUME_SESSIONS);
+        long expectedFrames = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < RESUME_SESSIONS; i++) {
+            CountingSession session = new CountingSession("resume-" + i);
+            handler.afterConnectionEstablished(session);
+            sessions.add(session);
+
+            int missed = i % (RESUME_MAX_MISSED + 1);
+            expectedFrames += missed;
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            accessor.setSessionId(session.getId());
+            accessor.setSubscriptionId("sub-0");
+            accessor.setDestination(FANOUT_DESTINATION);
+            accessor.setNativeHeader(AuctionResumeHandler.LAST_SEQUENCE_HEADER,
+                    Long.toString(RESUME_BROADCASTS - missed));
+            SessionSubscribeEvent event = new SessionSubscribeEvent(this,
+                    MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+            fanout.onSubscribe(event);
+            resumeHandler.onSubscribe(event);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        // 재전송 프레임은 송신 스레드에서 전송되므로 전부 나갈 때까지 대기
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (sessions.stream().mapToLong(session -> session.sentFrames).sum() < expectedFrames
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        long sentFrames = sessions.stream().mapToLong(session -> session.sentFrames).sum();
+        long sentBytes = sessions.stream().mapToLong(session -> session.sentBytes).sum();
+        System.out.printf("📊 재구독 처리 시간: %.2f ms (세션당 %.1f µs)%n",
+                elapsedNanos / 1_000_000.0, elapsedNanos / 1_000.0 / RESUME_SESSIONS);
+        System.out.printf("📊 재전송 프레임: %,d / 전송량: %,d KB%n", sentFrames, sentBytes / 1024);
+
+        assertEquals(expectedFrames, sentFrames, "세션마다 누락된 브로드캐스트만 재전송되어야 합니다.");
+        System.out.println("✅ 재연결 누락분 재전송 벤치마크 완료!");
+    }
+
+    /**
+     * 구독 조회 비용 (세션 수 증가 + 구독 변경이 섞인 상황)
+     * 매 연산마다 세션 하나가 다른 경매로 다시 구독하고, 임의 경매 하나의 구독자를 조회합니다.
+     */
+    @Tag("benchmark")
+    @Test
+    public void benchmarkSubscriptionRegistryResolve() {
+        System.out.println("🚀 구독 저장소 조회 벤치마크 시작...");
+        System.out.printf("   경매 수: %,d, 연산: %,d (재구독 1회 + 조회 1회)%n", REGISTRY_AUCTIONS, REGISTRY_OPERATIONS);
+
+        for (int sessions : REGISTRY_SESSIONS) {
+            SubscriptionRegistry defaultRegistry = new DefaultSubscriptionRegistry();
+            SubscriptionRegistry exactRegistry = new ExactDestinationSubscriptionRegistry();
+
+            long defaultNanos = measureRegistry(defaultRegistry, sessions);
+            long exactNanos = measureRegistry(exactRegistry, sessions);
+            System.out.printf("📊 세션 %,6d: Default %,8d ns/op, Exact %,8d ns/op%n",
+                    sessions, defaultNanos, exactNanos);
+
+            for (int auction = 0; auction < 10; auction++) {
+                Message<?> message = registryMessage(SimpMessageType.MESSAGE, null, null, "/sub/auction/" + auction);
+                assertEquals(defaultRegistry.findSubscriptions(message), exactRegistry.findSubscriptions(message),
+                        "두 저장소의 조회 결과가 같아야 합니다.");
+            }
+        }
+        System.out.println("✅ 구독 저장소 조회 벤치마크 완료!");
+    }
+
+    /** 세션 등록 후 (재구독 + 조회) 연산 1회당 평균 ns 반환 */
+    private long measureRegistry(SubscriptionRegistry registry, int sessions) {
+        for (int i = 0; i < sessions; i++) {
+            registry.registerSubscription(registryMessage(SimpMessageType.SUBSCRIBE,
+                    "session-" + i, "sub-0", "/sub/auction/" + (i % REGISTRY_AUCTIONS)));
+        }
+
+        long sink = 0;
+        long start = 0;
+        for (int op = -REGISTRY_OPERATIONS / 10; op < REGISTRY_OPERATIONS; op++) {
+            if (op == 0) {
+                start = System.nanoTime(); // 앞의 10% 는 워밍업
+            }
+            String sessionId = "session-" + Math.floorMod(op * 31, sessions);
+            registry.unregisterSubscription(registryMessage(SimpMessageType.UNSUBSCRIBE, sessionId, "sub-0", null));
+            registry.registerSubscription(registryMessage(SimpMessageType.SUBSCRIBE,
+                    sessionId, "sub-0", "/sub/auction/" + Math.floorMod(op * 17, REGISTRY_AUCTIONS)));
+
+            String destination = "/sub/auction/" + Math.floorMod(op * 7, REGISTRY_AUCTIONS);
+            sink += registry.findSubscriptions(registryMessage(SimpMessageType.MESSAGE, null, null, destination)).size();
+        }
+        long elapsed = System.nanoTime() - start;
+        assertTrue(sink > 0, "조회 결과가 있어야 합니다.");
+        return elapsed / REGISTRY_OPERATIONS;
+    }
+
+    private static Message<byte[]> registryMessage(SimpMessageType type, String sessionId,
+                                                   String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    /**
+     * 느린 세션 격리 (송신이 막힌 세션 1개 + 정상 세션 다수)
+     * - 브로드캐스트 스레드가 느린 세션에 처음 전송해도 막히지 않음 (소켓 쓰기는 송신 스레드에서 처리)
+     * - 정상 세션은 모든 가격 갱신을 받음
+     * - 막힌 세션의 대기 버퍼는 구독당 최신 프레임 1개로 유지 (나머지는 병합 폐기)
+     * - 반드시 전달할 메시지는 폐기되지 않고 대기, 송신 시간 한도를 넘으면 세션 종료
+     */
+    @Tag("benchmark")
+    @Test
+    public void benchmarkSlowConsumerIsolation() throws Exception {
+        System.out.println("🚀 느린 세션 격리 벤치마크 시작...");
+        System.out.printf("   정상 세션: %,d, 느린 세션: 1, 가격 갱신: %d%n", SLOW_FAST_SESSIONS, SLOW_BROADCASTS);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OutboundBackpressurePolicy policy =
+                new OutboundBackpressurePolicy(meterRegistry, executors, SLOW_SEND_TIME_LIMIT_MS, 64 * 1024, 10_000, 30_000, 0, 2);
+        StompFrameFanout fanout = new StompFrameFanout(true, policy);
+        WebSocketHandler handler = fanout.decorate(new TextWebSocketHandler());
+
+        List<CountingSession> fastSessions = new ArrayList<>(SLOW_FAST_SESSIONS);
+        for (int i = 0; i < SLOW_FAST_SESSIONS; i++) {
+            CountingSession session = new CountingSession("fast-" + i);
+            fastSessions.add(session);
+            connectAndSubscribe(fanout, handler, session);
+        }
+        CountDownLatch gate = new CountDownLatch(1);
+        CountingSession slowSession = new CountingSession("slow", gate);
+        connectAndSubscribe(fanout, handler, slowSession);
+
+        // 브로드캐스트 스레드가 느린 세션의 첫 전송을 시작 (다른 스레드가 미리 막아 두지 않음)
+        byte[] body = objectMapper.writeValueAsBytes(createBidResponse());
+        ExecutorService broadcastThread = Executors.newSingleThreadExecutor();
+        long elapsedNanos;
+        try {
+            elapsedNanos = broadcastThread.submit(() -> {
+                long start = System.nanoTime();
+                fanout.broadcast(FANOUT_DESTINATION, body, MimeTypeUtils.APPLICATION_JSON_VALUE, 1, true);
+                // 첫 프레임이 느린 세션 소켓 쓰기에서 막힐 때까지 대기 (이후 프레임은 모두 버퍼에 적재)
+                assertTrue(slowSession.sendEntered.await(5, TimeUnit.SECONDS), "느린 세션 전송이 시작되지 않았습니다.");
+                for (int i = 2; i <= SLOW_BROADCASTS; i++) {
+                    fanout.broadcast(FANOUT_DESTINATION, body, MimeTypeUtils.APPLICATION_JSON_VALUE, i, true);
+                }
+                fanout.broadcast(FANOUT_DESTINATION, body, MimeTypeUtils.APPLICATION_JSON_VALUE, SLOW_BROADCASTS + 1, false);
+                return System.nanoTime() - start;
+            }).get(10, TimeUnit.SECONDS); // 느린 세션에 막히면 시간 초과로 실패
+        } finally {
+            broadcastThread.shutdownNow();
+        }
+
+        awaitFrames(fastSessions, SLOW_BROADCASTS + 1, 10);
+
+        double conflated = meterRegistry.get("websocket.outbound.dropped").tag("reason", "conflated").counter().count();
+        double bufferedBytes = meterRegistry.get("websocket.outbound.buffered_bytes").gauge().value();
+        System.out.printf("📊 브로드캐스트 %d회 처리 시간: %.2f ms (느린 세션에 막히지 않음)%n",
+                SLOW_BROADCASTS + 1, elapsedNanos / 1_000_000.0);
+        System.out.printf("📊 병합 폐기 프레임: %,.0f / 느린 세션 대기 바이트: %,.0f%n", conflated, bufferedBytes);
+
+        for (CountingSession session : fastSessions) {
+            assertEquals(SLOW_BROADCASTS + 1, session.sentFrames, "정상 세션은 모든 프레임을 받아야 합니다.");
+        }
+        assertEquals(0, slowSession.sentFrames, "느린 세션은 첫 프레임 전송에서 막혀 있어야 합니다.");
+        // 1번은 전송 중, 2 ~ SLOW_BROADCASTS 번은 하나로 병합, 마지막 보장 메시지는 대기
+        assertEquals(SLOW_BROADCASTS - 2, conflated, "느린 세션의 가격 갱신은 최신 1개만 남아야 합니다.");
+        assertTrue(bufferedBytes < (body.length + 512) * 2, "느린 세션 대기 버퍼는 최신 가격 + 보장 메시지만 가져야 합니다.");
+
+        // 송신 시간 한도가 지나면 송신 감시 스레드가 느린 세션 종료 (다음 전송이 없어도, 종료는 종료 전용 스레드에서 처리)
+        long closeDeadline = System.currentTimeMillis() + SLOW_SEND_TIME_LIMIT_MS + 5_000;
+        while (!slowSession.closed && System.currentTimeMillis() < closeDeadline) {
+            Thread.sleep(5);
+        }
+        gate.countDown();
+
+        assertTrue(slowSession.closed, "송신 시간 한도를 넘은 세션은 종료되어야 합니다.");
+        assertEquals(1.0, meterRegistry.get("websocket.outbound.slow_disconnects").counter().count());
+        fanout.broadcast(FANOUT_DESTINATION, body, MimeTypeUtils.APPLICATION_JSON_VALUE, SLOW_BROADCASTS + 2, true);
+        awaitFrames(fastSessions, SLOW_BROADCASTS + 2, 10);
+        for (CountingSession session : fastSessions) {
+            assertEquals(SLOW_BROADCASTS + 2, session.sentFrames, "느린 세션 종료와 관계없이 정상 세션은 계속 받아야 합니다.");
+        }
+        System.out.println("✅ 느린 세션 격리 벤치마크 완료!");
+    }
+
+    /**
+     * 송신 스레드보다 많은 세션이 막힌 경우 (송신 스레드 2개, 막힌 세션 4개 + 정상 세션)
+     * - 막힌 세션이 송신 스레드를 모두 붙잡아도 송신 감시 스레드가 한도를 넘긴 세션을 종료
+     * - 종료는 종료 전용 스레드에서 실행되어 막힌 송신 스레드 뒤에서 대기하지 않음
+     * - 송신 스레드가 반환되어 정상 세션이 다른 목적지의 프레임을 받음
+     */
+    @Test
+    public void stalledSessionsDoNotStarveWriterThreads() throws Exception {
+        System.out.println("🚀 송신 스레드 고갈 방지 테스트 시작...");
+        System.out.printf("   송신 스레드: %d, 막힌 세션: %d, 정상 세션: %d%n",
+                STALL_WRITER_THREADS, STALLED_SESSIONS, STALL_FAST_SESSIONS);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OutboundBackpressurePolicy policy = new OutboundBackpressurePolicy(meterRegistry, executors,
+                STALL_SEND_TIME_LIMIT_MS, 64 * 1024, 10_000, 30_000, STALL_WRITER_THREADS, 2);
+        StompFrameFanout fanout = new StompFrameFanout(true, policy);
+        WebSocketHandler handler = fanout.decorate(new TextWebSocketHandler());
+
+        List<CountingSession> stalledSessions = new ArrayList<>(STALLED_SESSIONS);
+        for (int i = 0; i < STALLED_SESSIONS; i++) {
+            CountingSession session = new CountingSession("stalled-" + i, new CountDownLatch(1)); // 닫힐 때까지 전송 막힘
+            stalledSessions.add(session);
+            connectAndSubscribe(fanout, handler, session, STALL_DESTINATION);
+        }
+        List<CountingSession> fastSessions = new ArrayList<>(STALL_FAST_SESSIONS);
+        for (int i = 0; i < STALL_FAST_SESSIONS; i++) {
+            CountingSession session = new CountingSession("fast-" + i);
+            fastSessions.add(session);
+            connectAndSubscribe(fanout, handler, session, FANOUT_DESTINATION);
+        }
+
+        // 막힌 세션들이 송신 스레드를 모두 붙잡을 때까지 대기
+        byte[] body = objectMapper.writeValueAsBytes(createBidResponse());
+        fanout.broadcast(STALL_DESTINATION, body, MimeTypeUtils.APPLICATION_JSON_VALUE, 1, false);
+        long stallDeadline = System.currentTimeMillis() + 5_000;
+        while (stalledSessions.stream().filter(session -> session.sendEntered.getCount() == 0).count() < STALL_WRITER_THREADS
+                && System.currentTimeMillis() < stallDeadline) {
+            Thread.sleep(5);
+        }
+
+        long start = System.nanoTime();
+        fanout.broadcast(FANOUT_DESTINATION, body, MimeTypeUtils.APPLICATION_JSON_VALUE, 1, false);
+        awaitFrames(fastSessions, 1, 5);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        long closeDeadline = System.currentTimeMillis() + 5_000;
+        while (stalledSessions.stream().anyMatch(session -> !session.closed) && System.currentTimeMillis() < closeDeadline) {
+            Thread.sleep(5);
+        }
+
+        double slowDisconnects = meterRegistry.get("websocket.outbound.slow_disconnects").counter().count();
+        System.out.printf("📊 정상 세션 전달 시간: %d ms (송신 시간 한도 %d ms) / 느린 세션 종료: %.0f%n",
+                elapsedMillis, STALL_SEND_TIME_LIMIT_MS, slowDisconnects);
+
+        for (CountingSession session : fastSessions) {
+            assertEquals(1, session.sentFrames, "송신 스레드가 모두 막혀도 정상 세션은 프레임을 받아야 합니다.");
+        }
+        for (CountingSession session : stalledSessions) {
+            assertTrue(session.closed, "송신 시간 한도를 넘은 세션은 다음 프레임 없이도 종료되어야 합니다.");
+            assertEquals(0, session.sentFrames);
+        }
+        assertEquals(STALLED_SESSIONS, slowDisconnects, "막힌 세션은 한 번씩만 느린 세션으로 기록");
+        System.out.println("✅ 송신 스레드 고갈 방지 테스트 완료");
+    }
+
+    private void connectAndSubscribe(StompFrameFanout fanout, WebSocketHandler handler,
+                                     CountingSession session) throws Exception {
+        connectAndSubscribe(fanout, handler, session, FANOUT_DESTINATION);
+    }
+
+    private void connectAndSubscribe(StompFrameFanout fanout, WebSocketHandler handler,
+                                     CountingSession session, String destination) throws Exception {
+        handler.afterConnectionEstablished(session);
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(session.getId());
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(destination);
+        fanout.onSubscribe(new SessionSubscribeEvent(this,
+                MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+    }
+
+    private static OutboundBackpressurePolicy outboundPolicy(int sendTimeLimitMillis, int bufferSizeLimitBytes) {
+        return new OutboundBackpressurePolicy(new SimpleMeterRegistry(), executors, sendTimeLimitMillis, bufferSizeLimitBytes,
+                Integer.MAX_VALUE, 30_000, 0, 2);
+    }
+
+    /** 워밍업 후 반복 측정하여 브로드캐스트 1회당 [CPU ns, 할당 bytes] 반환 */
+    private long[] measureFanout(com.sun.management.ThreadMXBean threadMXBean, FanoutRun run) throws Exception {
+        for (int i = 0; i < FANOUT_WARMUP; i++) {
+            run.run();
+        }
+
+        long cpuBegin = threadMXBean.getCurrentThreadCpuTime();
+        long allocBegin = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < FANOUT_ITERATIONS; i++) {
+            run.run();
+        }
+        long cpu = threadMXBean.getCurrentThreadCpuTime() - cpuBegin;
+        long alloc = threadMXBean.getCurrentThreadAllocatedBytes() - allocBegin;
+        return new long[]{cpu / FANOUT_ITERATIONS, alloc / FANOUT_ITERATIONS};
+    }
+
+    private static WebSocketResponse createBidResponse() {
+        return WebSocketResponse.builder()
+                .message("입찰 성공")
+                .localDateTime(LocalDateTime.now())
+                .nickname("bidder")
+                .currentBid(10_000)
+                .userUUID("user-uuid")
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface FanoutRun {
+        int run() throws Exception;
+    }
+
+    /** 모든 노드의 구독이 활성화될 때까지 발행 (구독 등록은 비동기) */
+    private void waitForSubscriptions(RelayNode origin) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            origin.broadcaster.broadcast(WARMUP_AUCTION_ID, AuctionSequence.UNKNOWN, "warmup");
+            Thread.sleep(100);
+            if (nodes.stream().allMatch(node -> node.warmup.sum() > 0)) {
+                return;
+            }
+        }
+    }
+
+    /** 세션 송신은 송신 스레드에서 처리되므로 모든 세션이 expected 개를 받을 때까지 대기 */
+    private void awaitFrames(List<CountingSession> sessions, long expected, int timeoutSeconds) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(timeoutSeconds);
+        while (sessions.stream().anyMatch(session -> session.sentFrames < expected)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private void awaitDeliveries(RelayNode node, long expected, int timeoutSeconds) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(timeoutSeconds);
+        while (node.delivered.sum() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * 테스트용 노드 (독립된 Redis 커넥션, 구독 컨테이너, 노드 ID, 로컬 전달 카운터)
+     */
+    private static final class RelayNode {
+        private final LettuceConnectionFactory connectionFactory;
+        private final RedisMessageListenerContainer container;
+        private final AuctionBroadcaster broadcaster;
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder warmup = new LongAdder();
+
+        private RelayNode(ObjectMapper objectMapper) {
+            connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS_HOST, REDIS_PORT));
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+
+            RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+            redisTemplate.setConnectionFactory(connectionFactory);
+            redisTemplate.setKeySerializer(new StringRedisSerializer());
+            redisTemplate.setValueSerializer(new StringRedisSerializer());
+            redisTemplate.afterPropertiesSet();
+
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(1);
+            executor.setMaxPoolSize(1);
+            executor.initialize();
+
+            container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.setTaskExecutor(executor);
+            container.afterPropertiesSet();
+            container.start();
+
+            // 로컬 SimpleBroker 대신 전달 횟수만 집계 (워밍업 경매는 제외)
+            MessageChannel localBroker = (message, timeout) -> {
+                if (WARMUP_DESTINATION.equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders()))) {
+                    warmup.increment();
+                } else {
+                    delivered.increment();
+                }
+                return true;
+            };
+            broadcaster = new AuctionBroadcaster(new SimpMessagingTemplate(localBroker), new StompFrameFanout(false, outboundPolicy(10_000, 512 * 1024)),
+                    new RedisMessagePublisher(redisTemplate, objectMapper), objectMapper,
+                    AuctionSequence.local(), new AuctionReplayBuffer(256), List.of(), new NodeIdentity());
+            new RedisMessageSubscriber(container, objectMapper, List.of(broadcaster)).subscribeAll();
+        }
+
+        private void close() {
+            try {
+                container.destroy();
+            } catch (Exception ignored) {
+                // 테스트 종료 정리
+            }
+            connectionFactory.destroy();
+        }
+    }
+
+    /**
+     * 전송 바이트 수만 세는 테스트용 WebSocket 세션
+     */
+    private static final class CountingSession implements WebSocketSession {
+        private final String id;
+        private final Map<String, Object> attributes = new HashMap<>();
+        private volatile long sentBytes;
+        private volatile long sentFrames;
+        private volatile boolean closed;
+
+        /** 첫 전송을 막아 둘 게이트 (TCP 송신 버퍼가 가득 찬 느린 클라이언트 흉내, null 이면 즉시 전송, 세션을 닫으면 열림) */
+        private final CountDownLatch sendGate;
+
+        /** 전송이 시작되어 게이트에서 대기 중인지 */
+        private final CountDownLatch sendEntered = new CountDownLatch(1);
+
+        private CountingSession(String id) {
+            this(id, null);
+        }
+
+        private CountingSession(String id, CountDownLatch sendGate) {
+            this.id = id;
+            this.sendGate = sendGate;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public URI getUri() {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return HttpHeaders.EMPTY;
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return "v12.stomp";
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return 64 * 1024;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return 64 * 1024;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return List.of();
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            if (sendGate != null) {
+                sendEntered.countDown();
+                try {
+                    sendGate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("전송 중단", e);
+                }
+                if (closed) {
+                    throw new IOException("연결 종료"); // 소켓이 닫히면 막혀 있던 쓰기는 실패
+                }
+            }
+            sentBytes += message.getPayloadLength();
+            sentFrames++;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !closed;
+        }
+
+        @Override
+        public void close() {
+            close(CloseStatus.NORMAL);
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+            closed = true;
+            if (sendGate != null) {
+                sendGate.countDown();
+            }
+        }
+    }
+
+    private static boolean isRedisRunning() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(REDIS_HOST, REDIS_PORT), 500);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}